@@ -11,9 +11,13 @@ require_once "common_header.php";
 if (isset($_GET[$updateQuery])) {
     $response = $dbManager->queryUpdateFields();
 } elseif (isset($_GET[$above]) && isset($_GET[$id])) {
-    $response = $dbManager->queryAbove(($_GET[$id]));
+    $response = $dbManager->queryAbove($_GET[$id], $_GET[$max] ?? PHP_INT_MAX);
+} elseif (isset($_GET[$bounds])) {
+    $response = $dbManager->queryBounds();
 } elseif (isset($_GET[$new]) && isset($_GET[$update])) {
     $response = $dbManager->queryNewer(($_GET[$update]));
+} elseif (isset($_GET[$ids])) {
+    $response = $dbManager->queryIds($_GET[$ids]);
 } elseif (isset($_GET[$id])) {
     $response = $dbManager->getCity($_GET[$id]);
 } elseif (isset($_GET[$name])) {
@@ -26,11 +26,91 @@ $end = "end";
 $start = "start";
 $count = "count";
 $max = "max";
+$bounds = "bounds";
 $above = "above";
 $new = "new";
+$ids = "ids";
 $updateQuery = "update_query";
 $test = "test";
 
+// Sends the synchronization queries (update fields, entities newer or above a mark) as compressed responses, the
+// update fields query being also conditional (see sendSyncResponse).
+if ($_SERVER['REQUEST_METHOD'] == 'GET' && (isset($_GET[$updateQuery]) || isset($_GET[$new]) || isset($_GET[$above])))
+{
+    ob_start("sendSyncResponse");
+}
+
+/**
+ * Output callback of the synchronization queries: compresses the body with gzip if accepted and long enough. The
+ * update fields query is also conditional: tagged with its ETag (hash of the body) and the last update of the table
+ * (Last-Modified), it is answered 304 without body if the client already has it (If-None-Match, or If-Modified-Since
+ * if no ETag is sent).
+ * @param string $buffer The body of the response.
+ * @param int $phase The phase of the output buffer.
+ * @return string|false The body to send (false to send the body as is).
+ */
+function sendSyncResponse(string $buffer, int $phase)
+{
+    global $dbManager, $updateQuery;
+
+    if (http_response_code() != 200)
+    {
+        return $buffer;
+    }
+
+    if (!isset($_GET[$updateQuery]))
+    {
+        return compressResponse($buffer, $phase);
+    }
+
+    $etag = '"' . md5($buffer) . '"';
+    $lastModified = $dbManager->queryLastModified();
+
+    header("ETag: " . $etag);
+    header("Cache-Control: no-cache");
+
+    if ($lastModified != null)
+    {
+        header("Last-Modified: " . gmdate("D, d M Y H:i:s", $lastModified) . " GMT");
+    }
+
+    if (isset($_SERVER['HTTP_IF_NONE_MATCH']))
+    {
+        $notModified = in_array($etag, array_map("trim", explode(",", $_SERVER['HTTP_IF_NONE_MATCH'])));
+    }
+    else
+    {
+        $notModified = isset($_SERVER['HTTP_IF_MODIFIED_SINCE']) && $lastModified != null &&
+            strtotime($_SERVER['HTTP_IF_MODIFIED_SINCE']) >= $lastModified;
+    }
+
+    if ($notModified)
+    {
+        http_response_code(304);
+
+        return "";
+    }
+
+    return compressResponse($buffer, $phase);
+}
+
+/**
+ * Compresses the body of a response with gzip if accepted by the client and long enough (a gzip stream of a short
+ * body, as an empty delta, would be longer than the body itself).
+ * @param string $buffer The body of the response.
+ * @param int $phase The phase of the output buffer.
+ * @return string|false The body to send (false to send the body as is).
+ */
+function compressResponse(string $buffer, int $phase)
+{
+    if (strlen($buffer) < 1024)
+    {
+        return $buffer;
+    }
+
+    return ob_gzhandler($buffer, $phase);
+}
+
 // Gets the parameters inside a $_PUT array if PUT method.
 $_PUT = [];
 
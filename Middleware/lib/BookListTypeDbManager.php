@@ -230,17 +230,19 @@ class BookListTypeDbManager extends DbManager
     }
 
     /**
-     * Get the entries greater than the id value given in parameter.
+     * Get the entries above the id value and up to the max value given in parameters, ordered by id.
      * @param int $id The id which query the entries above.
+     * @param int $max The id which query the entries below or equal (no upper bound by default).
      * @return null|string The json response if found else null.
      */
-    public function queryAbove(int $id) {
-        $statement = sprintf("SELECT %s, %s, %s, %s FROM %s WHERE %s > %s AND deleted = 0",
+    public function queryAbove(int $id, int $max = PHP_INT_MAX) {
+        $statement = sprintf("SELECT %s, %s, %s, %s FROM %s WHERE %s > %s AND %s <= :max AND deleted = 0 ORDER BY %s",
             static::FIELDS[0], static::FIELDS[1], static::FIELDS[2], static::FIELDS[3], static::TABLE, static::FIELDS[0],
-            static::PLACEHOLDERS[0]);
+            static::PLACEHOLDERS[0], static::FIELDS[0], static::FIELDS[0]);
         $req = $this->db->prepare($statement);
 
         $req->bindValue(static::PLACEHOLDERS[0], $id, PDO::PARAM_INT);
+        $req->bindValue(":max", $max, PDO::PARAM_INT);
         $req->execute();
 
         $response = $req->fetchAll(PDO::FETCH_ASSOC);
@@ -255,8 +257,8 @@ class BookListTypeDbManager extends DbManager
      */
     public function queryNewer(string $date) {
         $statement = sprintf("SELECT %s, %s, %s, %s FROM %s WHERE %s > %s AND deleted = 0",
-            static::FIELDS[0], static::FIELDS[1], static::FIELDS[2], static::FIELDS[3], static::TABLE, static::FIELDS[2],
-            static::PLACEHOLDERS[2]);
+            static::FIELDS[0], static::FIELDS[1], static::FIELDS[2], static::FIELDS[3], static::TABLE, static::FIELDS[3],
+            static::PLACEHOLDERS[3]);
         $req = $this->db->prepare($statement);
 
         $req->bindValue(static::PLACEHOLDERS[3], $date, PDO::PARAM_STR);
@@ -23,6 +23,21 @@ abstract class DbManager
      */
     protected const COUNT = "count";
 
+    /**
+     * Defines the min id alias.
+     */
+    protected const MIN = "min";
+
+    /**
+     * Defines the max id alias.
+     */
+    protected const MAX = "max";
+
+    /**
+     * Defines the maximum number of ids queried at once.
+     */
+    protected const MAX_IDS = 500;
+
     /**
      * DbManager default constructor.
      */
@@ -31,4 +46,63 @@ abstract class DbManager
         $connector = new DbConnector();
         $this->db = $connector->getConnector();
     }
+
+    /**
+     * Gets the entities (single id entities) associated to the comma separated ids given in parameter, with the fields
+     * returned by the synchronization queries (see syncFields). Only the MAX_IDS first ids are queried.
+     * @param string $ids The comma separated ids.
+     * @return null|string The json response if found else null.
+     */
+    public function queryIds(string $ids)
+    {
+        $values = array_slice(array_map("intval", explode(",", $ids)), 0, static::MAX_IDS);
+        $statement = sprintf("SELECT %s FROM %s WHERE %s IN (%s) AND deleted = 0",
+            implode(", ", $this->syncFields()), static::TABLE, static::FIELDS[0],
+            implode(", ", array_fill(0, count($values), "?")));
+        $req = $this->db->prepare($statement);
+
+        $req->execute($values);
+
+        $response = $req->fetchAll(PDO::FETCH_ASSOC);
+
+        return json_encode($response);
+    }
+
+    /**
+     * Gets the fields returned by the synchronization queries: all the fields but the deleted one, the managers of
+     * entities with private fields return only their public ones.
+     * @return array The fields.
+     */
+    protected function syncFields(): array
+    {
+        return array_slice(static::FIELDS, 0, -1);
+    }
+
+    /**
+     * Gets the lowest and the highest ids of the entities (single id entities), used to split the entities into id
+     * ranges queried separately.
+     * @return null|string The json response if found else null.
+     */
+    public function queryBounds()
+    {
+        $statement = sprintf("SELECT MIN(%s) AS %s, MAX(%s) AS %s FROM %s WHERE deleted = 0", static::FIELDS[0],
+            static::MIN, static::FIELDS[0], static::MAX, static::TABLE);
+        $req = $this->db->query($statement);
+        $response = $req->fetchAll(PDO::FETCH_ASSOC);
+
+        return json_encode($response);
+    }
+
+    /**
+     * Gets the date of the last update of the entities (the soft deleted ones included), sent as the Last-Modified
+     * date of the synchronization queries.
+     * @return int|null The timestamp of the last update (null if there is no entity).
+     */
+    public function queryLastModified()
+    {
+        $statement = sprintf("SELECT MAX(last_update) FROM %s", static::TABLE);
+        $lastUpdate = $this->db->query($statement)->fetchColumn();
+
+        return ($lastUpdate != null) ? strtotime($lastUpdate) : null;
+    }
 }
\ No newline at end of file
@@ -142,9 +142,9 @@ class ReviewDbManager extends DbManager
      */
     public function getUserReviews(int $idUser)
     {
-        $statement = sprintf("SELECT %s, %s, %s, %s FROM %s WHERE %s = %s AND deleted = 0",
-            static::FIELDS[1], static::FIELDS[2], static::FIELDS[3], static::FIELDS[4], static::TABLE, static::FIELDS[0],
-            static::PLACEHOLDERS[0]);
+        $statement = sprintf("SELECT %s, %s, %s, %s, %s FROM %s WHERE %s = %s AND deleted = 0",
+            static::FIELDS[0], static::FIELDS[1], static::FIELDS[2], static::FIELDS[3], static::FIELDS[4],
+            static::TABLE, static::FIELDS[0], static::PLACEHOLDERS[0]);
         $req = $this->db->prepare($statement);
 
         $req->bindValue(static::PLACEHOLDERS[0], $idUser, PDO::PARAM_INT);
@@ -511,8 +511,8 @@ class ReviewDbManager extends DbManager
      */
     public function queryUpdateFields()
     {
-        $statement = sprintf("SELECT %s, %s, %s FROM %s WHERE deleted = 0 ORDER BY %s",
-            static::FIELDS[0], static::FIELDS[1], static::FIELDS[4], static::TABLE, static::FIELDS[0]);
+        $statement = sprintf("SELECT %s, %s, %s FROM %s WHERE deleted = 0 ORDER BY %s, %s",
+            static::FIELDS[0], static::FIELDS[1], static::FIELDS[4], static::TABLE, static::FIELDS[0], static::FIELDS[1]);
         $req = $this->db->query($statement);
         $response = $req->fetchAll(PDO::FETCH_ASSOC);
 
@@ -525,8 +525,9 @@ class ReviewDbManager extends DbManager
      */
     public function querySharedUpdateFields()
     {
-        $statement = sprintf("SELECT %s, %s, %s FROM %s WHERE %s = 1 AND deleted = 0 ORDER BY %s",
-            static::FIELDS[0], static::FIELDS[1], static::FIELDS[4], static::TABLE, static::FIELDS[3], static::FIELDS[0]);
+        $statement = sprintf("SELECT %s, %s, %s FROM %s WHERE %s = 1 AND deleted = 0 ORDER BY %s, %s",
+            static::FIELDS[0], static::FIELDS[1], static::FIELDS[4], static::TABLE, static::FIELDS[3], static::FIELDS[0],
+            static::FIELDS[1]);
         $req = $this->db->query($statement);
         $response = $req->fetchAll(PDO::FETCH_ASSOC);
 
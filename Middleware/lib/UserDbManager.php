@@ -7,6 +7,14 @@
  */
 
 require_once "DbManager.php";
+require_once "BookDbManager.php";
+require_once "BookListDbManager.php";
+require_once "BookListTypeDbManager.php";
+require_once "CategoryDbManager.php";
+require_once "CityDbManager.php";
+require_once "CountryDbManager.php";
+require_once "ProfileDbManager.php";
+require_once "ReviewDbManager.php";
 
 /**
  * DAO Class UserDbManager, used to manage categories in database (CRUD).
@@ -28,6 +36,12 @@ class UserDbManager extends DbManager
      */
     public const TABLE = "User";
 
+    /**
+     * Stores the keys of the user bundle parts.
+     */
+    public const BUNDLE = ["user", "profile", "country", "city", "reviews", "book_lists", "book_list_types", "books",
+        "categories"];
+
     /**
      * Creates a user into the database.
      * @param string $pseudo The pseudo of the user.
@@ -112,6 +126,40 @@ class UserDbManager extends DbManager
         return json_encode($response);
     }
 
+    /**
+     * From an id, gets the user info with everything needed to hydrate it at login in a single response: its
+     * profile, country, city, reviews, book lists and the book list types, books and categories of the lists (each
+     * one as returned by its own getter).
+     * @param int $id The id of the wished user.
+     * @return null|string The json response if the id match else null.
+     */
+    public function getUserBundle(int $id)
+    {
+        $user = json_decode($this->getUser($id), true);
+
+        if (empty($user)) {
+            return null;
+        }
+
+        $bookLists = json_decode((new BookListDbManager())->getUserBookLists($id), true);
+        $books = $this->queryAllIds(new BookDbManager(), array_column($bookLists, BookListDbManager::FIELDS[2]));
+
+        $response = [
+            static::BUNDLE[0] => $user,
+            static::BUNDLE[1] => json_decode((new ProfileDbManager())->getProfile($user[0][static::FIELDS[4]]), true),
+            static::BUNDLE[2] => json_decode((new CountryDbManager())->getCountry($user[0][static::FIELDS[6]]), true),
+            static::BUNDLE[3] => json_decode((new CityDbManager())->getCity($user[0][static::FIELDS[5]]), true),
+            static::BUNDLE[4] => json_decode((new ReviewDbManager())->getUserReviews($id), true),
+            static::BUNDLE[5] => $bookLists,
+            static::BUNDLE[6] => json_decode((new BookListTypeDbManager())->queryAll(), true),
+            static::BUNDLE[7] => $books,
+            static::BUNDLE[8] => $this->queryAllIds(new CategoryDbManager(),
+                array_column($books, BookDbManager::FIELDS[1]))
+        ];
+
+        return json_encode($response);
+    }
+
     /**
      * From a pseudo, gets the associated user info.
      * @param string $pseudo The pseudo of the wished user's info.
@@ -567,17 +615,19 @@ class UserDbManager extends DbManager
     }
 
     /**
-     * Get the public entries greater than the id value given in parameter.
+     * Get the public entries above the id value and up to the max value given in parameters, ordered by id.
      * @param int $id The id which query the entries above.
+     * @param int $max The id which query the entries below or equal (no upper bound by default).
      * @return null|string The json response if found else null.
      */
-    public function queryAbove(int $id) {
-        $statement = sprintf("SELECT %s, %s, %s, %s FROM %s WHERE %s > %s AND deleted = 0",
+    public function queryAbove(int $id, int $max = PHP_INT_MAX) {
+        $statement = sprintf("SELECT %s, %s, %s, %s FROM %s WHERE %s > %s AND %s <= :max AND deleted = 0 ORDER BY %s",
             static::FIELDS[0], static::FIELDS[1], static::FIELDS[4], static::FIELDS[7], static::TABLE, static::FIELDS[0],
-            static::PLACEHOLDERS[0]);
+            static::PLACEHOLDERS[0], static::FIELDS[0], static::FIELDS[0]);
         $req = $this->db->prepare($statement);
 
         $req->bindValue(static::PLACEHOLDERS[0], $id, PDO::PARAM_INT);
+        $req->bindValue(":max", $max, PDO::PARAM_INT);
         $req->execute();
 
         $response = $req->fetchAll(PDO::FETCH_ASSOC);
@@ -585,6 +635,15 @@ class UserDbManager extends DbManager
         return json_encode($response);
     }
 
+    /**
+     * Gets the public fields returned by the synchronization queries (the password and the email are not shared).
+     * @return array The fields.
+     */
+    protected function syncFields(): array
+    {
+        return [static::FIELDS[0], static::FIELDS[1], static::FIELDS[4], static::FIELDS[7]];
+    }
+
     /**
      * Get the entries that has been updated after than the date value given in parameter.
      * @param string $date The date to query entities.
@@ -644,4 +703,22 @@ class UserDbManager extends DbManager
 
         return (!empty($response)) ? $response[0][static::FIELDS[2]] : null;
     }
+
+    /**
+     * Gets the entities of another manager associated to the ids given in parameter (duplicates removed), queried by
+     * chunks of MAX_IDS ids.
+     * @param DbManager $dbManager The manager of the entities.
+     * @param array $ids The ids of the entities.
+     * @return array The entities.
+     */
+    private function queryAllIds(DbManager $dbManager, array $ids)
+    {
+        $entities = [];
+
+        foreach (array_chunk(array_unique($ids), static::MAX_IDS) as $chunk) {
+            $entities = array_merge($entities, json_decode($dbManager->queryIds(implode(",", $chunk)), true));
+        }
+
+        return $entities;
+    }
 }
\ No newline at end of file
@@ -13,9 +13,13 @@ if (isset($_GET[$updateQuery])) {
 } elseif (isset($_GET[$idUser]) && isset($_GET[$idBook])) {
     $response = $dbManager->getUserBookQuotes($_GET[$idUser], $_GET[$idBook]);
 } elseif (isset($_GET[$above]) && isset($_GET[$id])) {
-    $response = $dbManager->queryAbove(($_GET[$id]));
+    $response = $dbManager->queryAbove($_GET[$id], $_GET[$max] ?? PHP_INT_MAX);
+} elseif (isset($_GET[$bounds])) {
+    $response = $dbManager->queryBounds();
 } elseif (isset($_GET[$new]) && isset($_GET[$update])) {
     $response = $dbManager->queryNewer(($_GET[$update]));
+} elseif (isset($_GET[$ids])) {
+    $response = $dbManager->queryIds($_GET[$ids]);
 } elseif (isset($_GET[$id])) {
     $response = $dbManager->getQuote($_GET[$id]);
 } elseif (isset($_GET[$idUser])) {
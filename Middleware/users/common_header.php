@@ -18,4 +18,5 @@ $idProfile = UserDbManager::FIELDS[4];
 $idCity = UserDbManager::FIELDS[5];
 $idCountry = UserDbManager::FIELDS[6];
 $publicMode = "public";
+$bundle = "bundle";
 $update = UserDbManager::FIELDS[7];
\ No newline at end of file
@@ -17,7 +17,13 @@ if (isset($_GET[$updateQuery])) {
         $response = $dbManager->getUserFromEmail($_GET[$email]);
     }
 } elseif (isset($_GET[$above]) && isset($_GET[$id])) {
-    $response = $dbManager->queryAbove(($_GET[$id]));
+    $response = $dbManager->queryAbove($_GET[$id], $_GET[$max] ?? PHP_INT_MAX);
+} elseif (isset($_GET[$bounds])) {
+    $response = $dbManager->queryBounds();
+} elseif (isset($_GET[$ids])) {
+    $response = $dbManager->queryIds($_GET[$ids]);
+} elseif (isset($_GET[$bundle]) && isset($_GET[$id])) {
+    $response = $dbManager->getUserBundle($_GET[$id]);
 } elseif (isset($_GET[$id])) {
     $response = $dbManager->getUser($_GET[$id]);
 } elseif (isset($_GET[$pseudo]) && isset($_GET[$publicMode])) {
@@ -10,6 +10,7 @@ import static org.junit.Assert.assertTrue;
 import com.imie.a2dev.teamculte.readeo.APIManager;
 import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Author;
 
+import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.junit.After;
@@ -91,6 +92,20 @@ public final class AuthorDBManagerTest extends CommonDBManagerTest {
         assertEquals(TEST_NAME, this.manager.loadSQLite(ENTITY_NB).getName());
     }
 
+    @Test
+    public void testImportSQLite() throws JSONException {
+        JSONArray jsonArray = new JSONArray();
+
+        jsonArray.put(new JSONObject().put(ID, ENTITY_NB).put(NAME, TEST_NAME));
+        jsonArray.put(new JSONObject().put(ID, MYSQL_TEST_ID).put(NAME, TEST_NAME + MYSQL_TEST_ID));
+        jsonArray.put(new JSONObject().put(ID, MYSQL_TEST_ID - 1));
+
+        assertEquals(2, this.manager.importSQLite(jsonArray));
+        assertEquals(ENTITY_NB + 1, this.manager.countSQLite());
+        assertEquals(TEST_NAME, this.manager.loadSQLite(ENTITY_NB).getName());
+        assertEquals(TEST_NAME + MYSQL_TEST_ID, this.manager.loadSQLite(MYSQL_TEST_ID).getName());
+    }
+
     @Test
     public void testLoadSQLite() {
         Author loaded = this.manager.loadSQLite(ENTITY_NB);
@@ -1,8 +1,14 @@
 package com.imie.a2dev.teamculte.readeo.DBManagers;
 
+import android.database.sqlite.SQLiteDatabase;
+
 import com.imie.a2dev.teamculte.readeo.APIManager;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.AuthorDBSchema;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.BookSearchDBSchema;
 import com.imie.a2dev.teamculte.readeo.DBSchemas.CategoryDBSchema;
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Author;
 import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Book;
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.BookCard;
 import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Category;
 
 import org.json.JSONException;
@@ -11,11 +17,15 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import static com.imie.a2dev.teamculte.readeo.DBManagers.DBManager.KEYSET_START;
 import static com.imie.a2dev.teamculte.readeo.DBManagers.DBManager.MYSQL_TEST_ID;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.BookDBSchema.*;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
@@ -217,6 +227,208 @@ public final class BookDBManagerTest extends CommonDBManagerTest {
         assertEquals(ENTITY_NB, this.manager.queryAllSQLite().size());
     }
 
+    @Test
+    public void testQueryAllSQLiteRelations() {
+        List<Book> books = this.manager.queryAllSQLite();
+
+        for (Book book : books) {
+            assertTrue(book.isAuthorsLoaded());
+            assertFalse(book.isReviewsLoaded());
+            assertFalse(book.isQuotesLoaded());
+        }
+
+        this.manager.prefetchReviewsSQLite(books);
+        this.manager.prefetchQuotesSQLite(books);
+
+        for (Book batchLoaded : books) {
+            Book loaded = new Book(this.manager.loadCursorSQLite(batchLoaded.getId()));
+
+            assertTrue(batchLoaded.isReviewsLoaded());
+            assertTrue(batchLoaded.isQuotesLoaded());
+
+            assertEquals(loaded.getCategory(), batchLoaded.getCategory());
+            assertEquals(loaded.getAuthors(), batchLoaded.getAuthors());
+            assertEquals(loaded.getReviews(), batchLoaded.getReviews());
+            assertEquals(loaded.getQuotes(), batchLoaded.getQuotes());
+        }
+    }
+
+    @Test
+    public void testQueryAllCardsPaginatedSQLite() {
+        List<BookCard> cards = this.manager.queryAllCardsPaginatedSQLite(ENTITY_NB, 0);
+
+        assertEquals(ENTITY_NB, cards.size());
+
+        for (BookCard card : cards) {
+            Book book = this.manager.loadSQLite(card.getId());
+            StringBuilder authorNames = new StringBuilder();
+
+            for (Author author : book.getAuthors()) {
+                if (authorNames.length() > 0) {
+                    authorNames.append("\n");
+                }
+
+                authorNames.append(author.getName());
+            }
+
+            assertEquals(book.getTitle(), card.getTitle());
+            assertEquals(book.getCover(), card.getCover());
+            assertEquals(book.getDatePublished(), card.getDatePublished());
+            assertEquals(authorNames.toString(), card.getAuthorNames());
+        }
+    }
+
+    @Test
+    public void testLoadFilteredCardsPaginatedSQLite() {
+        int authorFilterResults = 4;
+
+        assertEquals(ENTITY_NB, this.manager.loadFilteredCardsPaginatedSQLite(CategoryDBSchema.NAME, "category",
+                                                                              ENTITY_NB, 0).size());
+        assertEquals(authorFilterResults, this.manager.loadFilteredCardsPaginatedSQLite(AuthorDBSchema.NAME, "author",
+                                                                                        ENTITY_NB, 0).size());
+        assertEquals(1, this.manager.loadFilteredCardsPaginatedSQLite(TITLE, "title1", ENTITY_NB, 0).size());
+    }
+
+    @Test
+    public void testQueryAllKeysetSQLite() {
+        int pageSize = 2;
+        List<Book> firstPage = this.manager.queryAllKeysetSQLite(KEYSET_START, pageSize);
+        List<Book> secondPage = this.manager.queryAllKeysetSQLite(firstPage.get(pageSize - 1).getId(), pageSize);
+
+        assertEquals(pageSize, firstPage.size());
+        assertEquals(pageSize, secondPage.size());
+        assertTrue(firstPage.get(pageSize - 1).getId() < secondPage.get(0).getId());
+        assertNotNull(secondPage.get(0).getCategory());
+    }
+
+    @Test
+    public void testQueryAllCardsKeysetSQLite() {
+        int pageSize = 2;
+        List<BookCard> cards = new ArrayList<>();
+        List<BookCard> page = this.manager.queryAllCardsKeysetSQLite(KEYSET_START, pageSize);
+
+        while (!page.isEmpty()) {
+            cards.addAll(page);
+            page = this.manager.queryAllCardsKeysetSQLite(page.get(page.size() - 1).getId(), pageSize);
+        }
+
+        assertEquals(ENTITY_NB, cards.size());
+
+        for (int i = 1; i < cards.size(); i++) {
+            assertTrue(cards.get(i - 1).getId() < cards.get(i).getId());
+        }
+    }
+
+    @Test
+    public void testLoadFilteredCardsKeysetSQLite() {
+        int authorFilterResults = 4;
+        int pageSize = 2;
+        List<BookCard> cards = new ArrayList<>();
+        List<BookCard> page = this.manager.loadFilteredCardsKeysetSQLite(TITLE, "title", "", KEYSET_START, pageSize);
+
+        while (!page.isEmpty()) {
+            BookCard last = page.get(page.size() - 1);
+
+            cards.addAll(page);
+            page = this.manager.loadFilteredCardsKeysetSQLite(TITLE, "title", last.getTitle(), last.getId(),
+                                                              pageSize);
+        }
+
+        assertEquals(ENTITY_NB, cards.size());
+
+        for (int i = 1; i < cards.size(); i++) {
+            assertTrue(cards.get(i - 1).getTitle().compareToIgnoreCase(cards.get(i).getTitle()) <= 0);
+        }
+
+        List<BookCard> firstPage = this.manager.loadFilteredCardsKeysetSQLite(AuthorDBSchema.NAME, "author", "",
+                                                                              KEYSET_START, pageSize);
+        List<BookCard> secondPage = this.manager.loadFilteredCardsKeysetSQLite(AuthorDBSchema.NAME, "author", "",
+                                                                               firstPage.get(pageSize - 1).getId(),
+                                                                               authorFilterResults);
+
+        assertEquals(pageSize, firstPage.size());
+        assertEquals(authorFilterResults - pageSize, secondPage.size());
+        assertEquals(ENTITY_NB, this.manager.loadFilteredKeysetSQLite(CategoryDBSchema.NAME, "category", "",
+                                                                      KEYSET_START, ENTITY_NB).size());
+    }
+
+    @Test
+    public void testSearchIdsSQLite() {
+        assertEquals(Arrays.asList(3), this.manager.searchIdsSQLite("Title3", null));
+        assertEquals(Arrays.asList(3, 4), this.manager.searchIdsSQLite("author3", BookSearchDBSchema.AUTHORS));
+        assertEquals(Arrays.asList(1, 2), this.manager.searchIdsSQLite("categ category1", null));
+        assertEquals(4, this.manager.searchIdsSQLite("auth", null).size());
+        assertEquals(Arrays.asList(1), this.manager.searchIdsSQLite("authors:author2 tit", null));
+        assertTrue(this.manager.searchIdsSQLite("title", BookSearchDBSchema.AUTHORS).isEmpty());
+        assertTrue(this.manager.searchIdsSQLite(" \"* ", null).isEmpty());
+    }
+
+    @Test
+    public void testSearchIdsSQLiteShortWords() {
+        SQLiteDatabase database = this.manager.getDatabase();
+        Category category = new CategoryDBManager(this.context).loadSQLite(TEST_CATEGORY);
+        int id = ENTITY_NB + 1;
+
+        database.beginTransaction();
+
+        try {
+            assertTrue(this.manager.createSQLite(new Book(id, "author saga", null, TEST_COVER, TEST_SUMMARY,
+                                                          TEST_DATE, category, null, null)));
+
+            // The title match is ranked first, unless the search is made of short words only (ordered by id).
+            assertEquals(id, (int) this.manager.searchIdsSQLite("aut", null).get(0));
+
+            List<Integer> unranked = this.manager.searchIdsSQLite("au", null);
+
+            assertEquals(id, (int) unranked.get(unranked.size() - 1));
+
+            for (int i = 1; i < unranked.size(); i++) {
+                assertTrue(unranked.get(i - 1) < unranked.get(i));
+            }
+        } finally {
+            database.endTransaction();
+        }
+    }
+
+    @Test
+    public void testSearchIdsSQLiteSync() {
+        SQLiteDatabase database = this.manager.getDatabase();
+        Category category = new CategoryDBManager(this.context).loadSQLite(TEST_CATEGORY);
+        Book toCreate = new Book(MYSQL_TEST_ID, "author3 saga", null, TEST_COVER, TEST_SUMMARY, TEST_DATE, category,
+                                 null, null);
+
+        database.beginTransaction();
+
+        try {
+            assertTrue(this.manager.createSQLite(toCreate));
+
+            // A title match is more relevant than an author match.
+            assertEquals(Arrays.asList(MYSQL_TEST_ID, 3, 4), this.manager.searchIdsSQLite("author3", null));
+
+            toCreate.setTitle(TEST_TITLE);
+
+            assertTrue(this.manager.updateSQLite(toCreate));
+            assertEquals(Arrays.asList(3, 4), this.manager.searchIdsSQLite("author3", null));
+            assertEquals(Arrays.asList(MYSQL_TEST_ID), this.manager.searchIdsSQLite(TEST_TITLE, null));
+
+            this.manager.deleteSQLite(MYSQL_TEST_ID);
+
+            assertTrue(this.manager.searchIdsSQLite(TEST_TITLE, null).isEmpty());
+        } finally {
+            database.endTransaction();
+        }
+    }
+
+    @Test
+    public void testLoadCardsSQLite() {
+        List<BookCard> cards = this.manager.loadCardsSQLite(Arrays.asList(4, 1, MYSQL_TEST_ID, 2));
+
+        assertEquals(3, cards.size());
+        assertEquals(4, cards.get(0).getId());
+        assertEquals(1, cards.get(1).getId());
+        assertEquals(2, cards.get(2).getId());
+    }
+
     @Test
     public void testImportFromMySQL() {
         Book book = this.initTestEntityMySQL();
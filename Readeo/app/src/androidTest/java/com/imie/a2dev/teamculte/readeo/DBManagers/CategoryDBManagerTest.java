@@ -3,17 +3,27 @@ package com.imie.a2dev.teamculte.readeo.DBManagers;
 import com.imie.a2dev.teamculte.readeo.APIManager;
 import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Category;
 
+import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import static com.imie.a2dev.teamculte.readeo.DBManagers.DBManager.MYSQL_TEST_ID;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.CategoryDBSchema.ID;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.CategoryDBSchema.NAME;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
 public final class CategoryDBManagerTest extends CommonDBManagerTest {
@@ -79,6 +89,65 @@ public final class CategoryDBManagerTest extends CommonDBManagerTest {
         assertNotNull(loaded);
     }
 
+    @Test
+    public void testLoadSQLiteCached() {
+        Category loaded = this.manager.loadSQLite(ENTITY_NB);
+        long hits = EntityCache.getInstance().getHits();
+
+        assertSame(loaded, this.manager.loadSQLite(ENTITY_NB));
+        assertEquals(hits + 1, EntityCache.getInstance().getHits());
+
+        this.manager.updateSQLite(loaded);
+
+        assertNotSame(loaded, this.manager.loadSQLite(ENTITY_NB));
+    }
+
+    @Test
+    public void testImportSQLiteCached() throws JSONException {
+        Category loaded = this.manager.loadSQLite(ENTITY_NB);
+
+        this.manager.importSQLite(new JSONArray().put(new JSONObject().put(ID, ENTITY_NB).put(NAME, TEST_NAME)));
+
+        assertNotSame(loaded, this.manager.loadSQLite(ENTITY_NB));
+        assertEquals(TEST_NAME, this.manager.loadSQLite(ENTITY_NB).getName());
+    }
+
+    @Test
+    public void testConcurrentCreateSQLite() throws Exception {
+        final CountDownLatch inTransaction = new CountDownLatch(1);
+        ExecutorService writers = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<?> importing = writers.submit(() -> {
+                this.manager.getDatabase().beginTransaction();
+
+                try {
+                    this.manager.createSQLite(new JSONObject().put(ID, ENTITY_NB + 1).put(NAME, TEST_NAME));
+                    inTransaction.countDown();
+                    Thread.sleep(200);
+                    this.manager.createSQLite(new JSONObject().put(ID, ENTITY_NB + 2).put(NAME, TEST_NAME));
+                    this.manager.getDatabase().setTransactionSuccessful();
+                } finally {
+                    this.manager.getDatabase().endTransaction();
+                }
+
+                return null;
+            });
+            Future<?> writing = writers.submit(() -> {
+                inTransaction.await();
+
+                return this.manager.createSQLite(new JSONObject().put(ID, ENTITY_NB + 3).put(NAME, TEST_NAME));
+            });
+
+            importing.get(10, TimeUnit.SECONDS);
+            writing.get(10, TimeUnit.SECONDS);
+        } finally {
+            writers.shutdownNow();
+        }
+
+        assertEquals(ENTITY_NB + 3, this.manager.countSQLite());
+    }
+
     @Test
     public void testQueryAllSQLite() {
         assertEquals(ENTITY_NB, this.manager.queryAllSQLite().size());
@@ -121,6 +190,18 @@ public final class CategoryDBManagerTest extends CommonDBManagerTest {
         assertEquals(created.getName(), loaded.getName());
     }
 
+    @Test
+    public void testLoadMySQLAsync() throws Exception {
+        Category created = this.initTestEntityMySQL();
+        Category loaded = this.manager.loadMySQLAsync(created.getId()).get(DBManager.REQUEST_TIMEOUT,
+                                                                           TimeUnit.SECONDS);
+
+        assertNotNull(loaded);
+        assertEquals(created.getId(), loaded.getId());
+        assertEquals(created.getName(), loaded.getName());
+        assertNull(this.manager.loadMySQLAsync(MYSQL_TEST_ID - 1).get(DBManager.REQUEST_TIMEOUT, TimeUnit.SECONDS));
+    }
+
     @Test
     public void testGetFieldSQLite() {
         Category category = this.manager.loadSQLite(ENTITY_NB);
@@ -0,0 +1,133 @@
+package com.imie.a2dev.teamculte.readeo.DBManagers;
+
+import android.content.ContentValues;
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.util.Log;
+
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Category;
+
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.imie.a2dev.teamculte.readeo.DBSchemas.CategoryDBSchema.ID;
+import static com.imie.a2dev.teamculte.readeo.DBSchemas.CategoryDBSchema.NAME;
+import static com.imie.a2dev.teamculte.readeo.DBSchemas.CategoryDBSchema.TABLE;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Micro-benchmark comparing the former formatted SQL / ContentValues paths with the pre-rendered SQL and compiled
+ * statements paths (results are logged, all the writes are rolled back).
+ */
+public final class CompiledStatementBenchmarkTest extends CommonDBManagerTest {
+    /**
+     * Defines the log tag of the results.
+     */
+    private static final String TAG = "StatementBenchmark";
+
+    /**
+     * Defines the number of iterations of each measure.
+     */
+    private final int ITERATIONS = 2000;
+
+    /**
+     * Defines the first id of the created entities (far from the test entities ids).
+     */
+    private final int FIRST_ID = 100000;
+
+    /**
+     * Stores the associated manager used to interact with the database.
+     */
+    private CategoryDBManager manager = new CategoryDBManager(this.context);
+
+    @Test
+    public void benchmarkCreateSQLite() throws JSONException {
+        SQLiteDatabase database = this.manager.getDatabase();
+        List<JSONObject> entities = new ArrayList<>();
+
+        for (int i = 0; i < ITERATIONS * 2; i++) {
+            JSONObject entity = new JSONObject();
+
+            entity.put(ID, FIRST_ID + i);
+            entity.put(NAME, "benchmark" + i);
+            entities.add(entity);
+        }
+
+        database.beginTransaction();
+
+        try {
+            long start = System.nanoTime();
+
+            for (int i = 0; i < ITERATIONS; i++) {
+                ContentValues data = new ContentValues();
+
+                data.put(ID, entities.get(i).getInt(ID));
+                data.put(NAME, entities.get(i).getString(NAME));
+
+                database.insertOrThrow(TABLE, null, data);
+            }
+
+            long contentValuesTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+
+            for (int i = ITERATIONS; i < ITERATIONS * 2; i++) {
+                this.manager.createSQLite(entities.get(i));
+            }
+
+            long compiledTime = System.nanoTime() - start;
+
+            assertEquals(ENTITY_NB + ITERATIONS * 2, this.manager.countSQLite());
+
+            this.log("createSQLite(JSONObject)", contentValuesTime, compiledTime);
+        } finally {
+            database.endTransaction();
+        }
+    }
+
+    @Test
+    public void benchmarkLoadSQLite() {
+        SQLiteDatabase database = this.manager.getDatabase();
+        long start = System.nanoTime();
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            String[] selectArgs = {String.valueOf(i % ENTITY_NB + 1)};
+            String query = String.format("SELECT * FROM %s WHERE %s = ?", TABLE, ID);
+
+            new Category(database.rawQuery(query, selectArgs));
+        }
+
+        long formattedTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            Cursor result = this.manager.loadCursorSQLite(i % ENTITY_NB + 1);
+
+            new Category(result);
+        }
+
+        long preRenderedTime = System.nanoTime() - start;
+
+        this.log("loadSQLite(int) without entity cache", formattedTime, preRenderedTime);
+    }
+
+    /**
+     * Logs the results of a benchmark.
+     * @param operation The benchmarked operation.
+     * @param formerTime The total time of the former path (ns).
+     * @param newTime The total time of the new path (ns).
+     */
+    private void log(String operation, long formerTime, long newTime) {
+        Log.i(TAG, String.format("%s: former %.1f us/op, compiled %.1f us/op", operation,
+                                 formerTime / 1000.0 / ITERATIONS, newTime / 1000.0 / ITERATIONS));
+    }
+
+    @Override
+    protected void deleteMySQLTestEntities() {
+    }
+}
@@ -0,0 +1,154 @@
+package com.imie.a2dev.teamculte.readeo.DBManagers;
+
+import android.database.sqlite.SQLiteDatabase;
+import android.util.Log;
+
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.BookCard;
+import com.imie.a2dev.teamculte.readeo.Utils.BookFixtures;
+
+import org.json.JSONException;
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.imie.a2dev.teamculte.readeo.DBManagers.DBManager.KEYSET_START;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Micro-benchmark measuring the latency of the library paged reads (run by several threads as while scrolling) during
+ * a full sync of the books (pages imported by another thread), with and without the write-ahead-log mode. The read
+ * latencies percentiles are logged.
+ */
+public final class ConcurrentReadBenchmarkTest extends CommonDBManagerTest {
+    /**
+     * Defines the log tag of the results.
+     */
+    private static final String TAG = "ConcurrentReadBenchmark";
+
+    /**
+     * Defines the number of imported pages.
+     */
+    private final int PAGES = 25;
+
+    /**
+     * Defines the number of books of an imported page (the API pagination).
+     */
+    private final int PAGE_SIZE = 2000;
+
+    /**
+     * Defines the number of books of a read page.
+     */
+    private final int READ_SIZE = 20;
+
+    /**
+     * Defines the number of reading threads.
+     */
+    private final int READERS = 3;
+
+    /**
+     * Defines the first id of the imported books (far from the test entities ids).
+     */
+    private final int FIRST_ID = 100000;
+
+    /**
+     * Stores the associated manager used to interact with the database.
+     */
+    private BookDBManager manager = new BookDBManager(this.context);
+
+    @After
+    public void tearDown() {
+        this.manager.getDatabase().enableWriteAheadLogging();
+        this.context.deleteDatabase(TEST_DB);
+    }
+
+    @Test
+    public void benchmarkReadsDuringSync() throws Exception {
+        SQLiteDatabase database = this.manager.getDatabase();
+
+        database.disableWriteAheadLogging();
+        this.log("rollback journal", this.measure());
+        BookFixtures.deleteFrom(this.manager, FIRST_ID);
+
+        assertTrue(database.enableWriteAheadLogging());
+        this.log("write-ahead log", this.measure());
+    }
+
+    /**
+     * Runs a sync (the import of all the pages) while the readers read pages of book cards.
+     * @return The sorted latencies of the reads (ns).
+     * @throws Exception If a thread is interrupted or a page can not be built.
+     */
+    private List<Long> measure() throws Exception {
+        final List<Long> latencies = Collections.synchronizedList(new ArrayList<Long>());
+        final AtomicBoolean syncing = new AtomicBoolean(true);
+        List<Thread> readers = new ArrayList<>();
+
+        for (int i = 0; i < READERS; i++) {
+            Thread reader = new Thread(() -> {
+                int afterId = KEYSET_START;
+
+                while (syncing.get()) {
+                    long start = System.nanoTime();
+                    List<BookCard> cards = this.manager.queryAllCardsKeysetSQLite(afterId, READ_SIZE);
+
+                    latencies.add(System.nanoTime() - start);
+
+                    afterId = (cards.size() < READ_SIZE) ? KEYSET_START : cards.get(cards.size() - 1).getId();
+                }
+            });
+
+            readers.add(reader);
+            reader.start();
+        }
+
+        for (int i = 0; i < PAGES; i++) {
+            this.manager.importSQLite(BookFixtures.page(FIRST_ID + i * PAGE_SIZE, PAGE_SIZE, "benchmark"));
+        }
+
+        syncing.set(false);
+
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertEquals(ENTITY_NB + PAGES * PAGE_SIZE, this.manager.countSQLite());
+
+        List<Long> sorted = new ArrayList<>(latencies);
+
+        Collections.sort(sorted);
+
+        return sorted;
+    }
+
+    /**
+     * Logs the read latencies percentiles of a run.
+     * @param mode The journal mode of the run.
+     * @param latencies The sorted latencies (ns).
+     */
+    private void log(String mode, List<Long> latencies) {
+        Log.i(TAG, String.format("%s: %d reads, p50 %.2f ms, p99 %.2f ms, max %.2f ms", mode, latencies.size(),
+                                 this.percentile(latencies, 50), this.percentile(latencies, 99),
+                                 this.percentile(latencies, 100)));
+    }
+
+    /**
+     * Gets a percentile of sorted latencies.
+     * @param latencies The sorted latencies (ns).
+     * @param percent The percentile.
+     * @return The latency (ms).
+     */
+    private double percentile(List<Long> latencies, int percent) {
+        int index = (int) Math.ceil(percent / 100.0 * latencies.size()) - 1;
+
+        return latencies.get(Math.max(index, 0)) / 1e6;
+    }
+
+    @Override
+    protected void deleteMySQLTestEntities() {
+    }
+}
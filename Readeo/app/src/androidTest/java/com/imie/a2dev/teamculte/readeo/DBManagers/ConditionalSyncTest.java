@@ -0,0 +1,416 @@
+package com.imie.a2dev.teamculte.readeo.DBManagers;
+
+import android.util.Log;
+
+import com.android.volley.Request;
+import com.imie.a2dev.teamculte.readeo.APIManager;
+import com.imie.a2dev.teamculte.readeo.Utils.HTTPRequestQueueSingleton;
+import com.imie.a2dev.teamculte.readeo.Utils.PreferencesUtils;
+import com.imie.a2dev.teamculte.readeo.Utils.StandInServer;
+import com.imie.a2dev.teamculte.readeo.Utils.SyncSnapshot;
+import com.imie.a2dev.teamculte.readeo.Utils.SyncValidators;
+import com.imie.a2dev.teamculte.readeo.Utils.UpdaterUtils;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.GZIPOutputStream;
+
+import static com.imie.a2dev.teamculte.readeo.DBSchemas.CityDBSchema.ID;
+import static com.imie.a2dev.teamculte.readeo.DBSchemas.CityDBSchema.NAME;
+import static com.imie.a2dev.teamculte.readeo.DBSchemas.CityDBSchema.TABLE;
+import static com.imie.a2dev.teamculte.readeo.DBSchemas.CommonDBSchema.UPDATE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Class used to test the conditional and compressed synchronization queries (UpdaterUtils) against a local stand-in
+ * server implementing the ETags (304 if If-None-Match matches) and gzip as the API, the bytes of an idle sync cycle
+ * of the seven synchronized tables with the former and the conditional requests are logged.
+ */
+public final class ConditionalSyncTest extends CommonDBManagerTest {
+    /**
+     * Defines the log tag of the results.
+     */
+    private static final String TAG = "ConditionalSync";
+
+    /**
+     * Defines the number of entities of each update list of the stand-in server.
+     */
+    private final int ROWS = 1000;
+
+    /**
+     * Defines the first id of the cities created for the tests (far from the test entities ids).
+     */
+    private final int FIRST_ID = 50000;
+
+    /**
+     * Defines the last update of the entities of the stand-in server.
+     */
+    private final String DATE = "2019-01-01 00:00:00";
+
+    /**
+     * Defines the Last-Modified date of the stand-in server responses.
+     */
+    private final String LAST_MODIFIED = "Tue, 01 Jan 2019 00:00:00 GMT";
+
+    /**
+     * Defines the minimum length of a body compressed by the stand-in server (as the API).
+     */
+    private final int GZIP_MIN_LENGTH = 1024;
+
+    /**
+     * Defines the timeout of a synchronization (s).
+     */
+    private final int TIMEOUT = 30;
+
+    /**
+     * Stores the associated manager used to interact with the database.
+     */
+    private CityDBManager manager = new CityDBManager(this.context);
+
+    /**
+     * Stores the stand-in server (see answer).
+     */
+    private StandInServer server;
+
+    /**
+     * Stores the update lists of the stand-in server by table.
+     */
+    private Map<String, byte[]> lists = new ConcurrentHashMap<>();
+
+    /**
+     * Stores if the stand-in server answers as the former API (no ETag nor gzip).
+     */
+    private volatile boolean former;
+
+    /**
+     * Stores the number of 304 responses of the stand-in server.
+     */
+    private AtomicInteger notModified = new AtomicInteger();
+
+    /**
+     * Stores the number of gzip responses of the stand-in server.
+     */
+    private AtomicInteger gzipped = new AtomicInteger();
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+
+        this.server = new StandInServer(0, this::answer);
+        this.manager.baseUrl = this.url(TABLE);
+
+        for (int i = FIRST_ID; i < FIRST_ID + ROWS; i++) {
+            this.manager.createSQLite(new JSONObject().put(ID, i).put(NAME, "conditional" + i));
+        }
+
+        PreferencesUtils.clearSyncValidators(TABLE);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        this.server.close();
+        PreferencesUtils.clearSyncValidators(TABLE);
+        this.context.deleteDatabase(TEST_DB);
+    }
+
+    @Test
+    public void testNotModifiedSync() throws Exception {
+        this.lists.put(TABLE, this.localCities(0));
+
+        this.fullSync();
+
+        assertNotNull(PreferencesUtils.loadSyncValidators(TABLE));
+        assertEquals(1, this.gzipped.get());
+        assertEquals(0, this.notModified.get());
+
+        long start = System.currentTimeMillis();
+
+        this.fullSync();
+
+        assertEquals(1, this.notModified.get());
+        assertTrue(PreferencesUtils.loadSyncMark(TABLE).getLastFullSync() >= start);
+    }
+
+    @Test
+    public void testChangedListSynced() throws Exception {
+        int created = FIRST_ID + ROWS;
+
+        this.lists.put(TABLE, this.localCities(created));
+
+        this.fullSync();
+
+        assertNotNull(this.manager.loadSQLite(created));
+        assertNull(PreferencesUtils.loadSyncValidators(TABLE));
+
+        this.fullSync();
+
+        assertNotNull(PreferencesUtils.loadSyncValidators(TABLE));
+        assertEquals(0, this.notModified.get());
+
+        this.fullSync();
+
+        assertEquals(1, this.notModified.get());
+    }
+
+    @Test
+    public void measureIdleSyncBytes() throws Exception {
+        DBManager[] managers = {new CityDBManager(this.context), new ProfileDBManager(this.context),
+                                new BookListTypeDBManager(this.context), new UserDBManager(this.context),
+                                new BookListDBManager(this.context), new QuoteDBManager(this.context),
+                                new ReviewDBManager(this.context)};
+        long[] totals = new long[4];
+
+        for (DBManager table : managers) {
+            table.baseUrl = this.url(table.getTable());
+
+            this.lists.put(table.getTable(), this.updateList(table.getIds()));
+
+            String full = table.getBaseUrl() + APIManager.READ_UPDATE;
+            String[] deltas = this.deltaUrls(table);
+
+            this.former = true;
+
+            long fullBefore = this.measure(table, () -> table.requestJsonArray(Request.Method.GET, full, null, null));
+            long deltaBefore = this.measure(table, () -> {
+                for (String delta : deltas) {
+                    table.requestJsonArray(Request.Method.GET, delta, null, null);
+                }
+            });
+
+            this.former = false;
+
+            AtomicReference<SyncValidators> validators = new AtomicReference<>();
+
+            this.measure(table, () -> table.requestSync(full, null, DBManager::readPage,
+                                                        result -> validators.set(result.getValidators()), null));
+
+            long fullAfter = this.measure(table, () -> table.requestSync(full, validators.get(), DBManager::readPage,
+                                                                         null, null));
+            long deltaAfter = this.measure(table, () -> {
+                for (String delta : deltas) {
+                    table.requestSync(delta, null, DBManager::readPage, null, null);
+                }
+            });
+
+            totals[0] += fullBefore;
+            totals[1] += fullAfter;
+            totals[2] += deltaBefore;
+            totals[3] += deltaAfter;
+
+            Log.i(TAG, String.format(Locale.US, "%s : full sync %d -> %d bytes, delta sync %d -> %d bytes",
+                                     table.getTable(), fullBefore, fullAfter, deltaBefore, deltaAfter));
+        }
+
+        Log.i(TAG, String.format(Locale.US, "7 tables of %d entities : full sync %d -> %d bytes, delta sync %d -> %d " +
+                                            "bytes", ROWS, totals[0], totals[1], totals[2], totals[3]));
+
+        assertEquals(managers.length, this.notModified.get());
+        assertTrue(totals[1] < totals[0]);
+    }
+
+    @Override
+    protected void deleteMySQLTestEntities() {
+    }
+
+    /**
+     * Runs a full synchronization of the cities and waits for all its requests.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    private void fullSync() throws InterruptedException {
+        UpdaterUtils.getUpdateFromMySQL(this.manager);
+
+        assertTrue(HTTPRequestQueueSingleton.getInstance(this.context).awaitRequests(TABLE, TIMEOUT,
+                                                                                      TimeUnit.SECONDS));
+    }
+
+    /**
+     * Sends requests of a manager and waits for them.
+     * @param table The manager sending the requests.
+     * @param requests The requests to send.
+     * @return The number of bytes exchanged with the stand-in server.
+     * @throws InterruptedException If interrupted while waiting.
+     */
+    private long measure(DBManager table, Runnable requests) throws InterruptedException {
+        long start = this.server.getBytes();
+
+        requests.run();
+
+        assertTrue(HTTPRequestQueueSingleton.getInstance(this.context).awaitRequests(table.getTable(), TIMEOUT,
+                                                                                      TimeUnit.SECONDS));
+
+        return this.server.getBytes() - start;
+    }
+
+    /**
+     * Gets the url of a table of the stand-in server.
+     * @param table The table.
+     * @return The url.
+     */
+    private String url(String table) {
+        return this.server.url(table + "/");
+    }
+
+    /**
+     * Gets the urls of the delta synchronization of a manager (as UpdaterUtils.getNewerFromMySQL).
+     * @param table The manager.
+     * @return The urls.
+     */
+    private String[] deltaUrls(DBManager table) {
+        String newer = table.getBaseUrl() + APIManager.READ + APIManager.NEW + "&" + UPDATE + "=2019-01-01%2000:00:00";
+        String above = table.getBaseUrl() + APIManager.READ + APIManager.ABOVE + "&" + table.getIds()[0] + "=" + ROWS;
+
+        return (table.getIds().length == 1) ? new String[]{newer, above} : new String[]{newer};
+    }
+
+    /**
+     * Builds the update list of the local cities (as the API, ids and dates as strings).
+     * @param extraId The id of a city only on the stand-in server (0 if none).
+     * @return The update list.
+     * @throws JSONException If a value can not be put.
+     */
+    private byte[] localCities(int extraId) throws JSONException {
+        SyncSnapshot local = UpdaterUtils.getUpdateFieldsSQLite(this.manager);
+        JSONArray list = new JSONArray();
+
+        for (int i = 0; i < local.size(); i++) {
+            list.put(new JSONObject().put(ID, String.valueOf(local.getId(i, 0))).put(UPDATE, DATE));
+        }
+
+        if (extraId != 0) {
+            list.put(new JSONObject().put(ID, String.valueOf(extraId)).put(UPDATE, DATE));
+        }
+
+        return list.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Builds an update list of ROWS entities (as the API, ids and dates as strings).
+     * @param ids The id fields of the entities.
+     * @return The update list.
+     * @throws JSONException If a value can not be put.
+     */
+    private byte[] updateList(String[] ids) throws JSONException {
+        JSONArray list = new JSONArray();
+
+        for (int i = 1; i <= ROWS; i++) {
+            JSONObject entity = new JSONObject();
+
+            for (String id : ids) {
+                entity.put(id, String.valueOf(i));
+            }
+
+            list.put(entity.put(UPDATE, DATE));
+        }
+
+        return list.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Answers a request of the stand-in server: the update list of its table, the cities of its ids or an empty list
+     * (delta queries). Unless answering as the former API, the update lists are tagged with the ETag of their body
+     * and answered 304 if it matches If-None-Match, the bodies of GZIP_MIN_LENGTH bytes or more are compressed if gzip
+     * is accepted.
+     * @param query The received request.
+     * @return The response.
+     * @throws Exception If the body can not be built.
+     */
+    private StandInServer.Reply answer(StandInServer.Query query) throws Exception {
+        String path = query.getPath();
+        String table = path.substring(1, path.indexOf('/', 1));
+        String queryString = query.getQueryString();
+        boolean conditional = !this.former && queryString.startsWith("update_query");
+        byte[] body = (conditional) ? this.lists.get(table) : (queryString.startsWith(APIManager.IDS)) ?
+                this.cities(queryString) : "[]".getBytes(StandardCharsets.UTF_8);
+        String etag = "\"" + this.md5(body) + "\"";
+        StandInServer.Reply reply;
+
+        if (conditional && etag.equals(query.getHeader("If-None-Match"))) {
+            this.notModified.incrementAndGet();
+
+            reply = new StandInServer.Reply(StandInServer.NOT_MODIFIED, new byte[0]);
+        } else {
+            String encoding = query.getHeader("Accept-Encoding");
+
+            if (!this.former && encoding != null && encoding.contains("gzip") && body.length >= GZIP_MIN_LENGTH) {
+                this.gzipped.incrementAndGet();
+
+                reply = StandInServer.Reply.json(StandInServer.OK, this.gzip(body)).header("Content-Encoding", "gzip");
+            } else {
+                reply = StandInServer.Reply.json(StandInServer.OK, body);
+            }
+        }
+
+        if (conditional) {
+            reply.header("ETag", etag).header("Last-Modified", LAST_MODIFIED).header("Cache-Control", "no-cache");
+        }
+
+        return reply;
+    }
+
+    /**
+     * Builds the cities of an ids query (ids=1,2...).
+     * @param query The query.
+     * @return The cities.
+     * @throws JSONException If a value can not be put.
+     */
+    private byte[] cities(String query) throws JSONException {
+        JSONArray cities = new JSONArray();
+
+        for (String id : query.substring(query.indexOf('=') + 1).split(",")) {
+            cities.put(new JSONObject().put(ID, id).put(NAME, "remote" + id).put(UPDATE, DATE));
+        }
+
+        return cities.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Computes the md5 hash of a body (as the ETags of the API).
+     * @param body The body.
+     * @return The hexadecimal hash.
+     * @throws NoSuchAlgorithmException If md5 is not available.
+     */
+    private String md5(byte[] body) throws NoSuchAlgorithmException {
+        StringBuilder hash = new StringBuilder();
+
+        for (byte value : MessageDigest.getInstance("MD5").digest(body)) {
+            hash.append(String.format("%02x", value));
+        }
+
+        return hash.toString();
+    }
+
+    /**
+     * Compresses a body with gzip.
+     * @param body The body.
+     * @return The compressed body.
+     * @throws IOException If the body can not be compressed.
+     */
+    private byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+
+        try (GZIPOutputStream output = new GZIPOutputStream(compressed)) {
+            output.write(body);
+        }
+
+        return compressed.toByteArray();
+    }
+}
@@ -0,0 +1,147 @@
+package com.imie.a2dev.teamculte.readeo.DBManagers;
+
+import android.database.Cursor;
+import android.database.DatabaseUtils;
+import android.database.sqlite.SQLiteDatabase;
+
+import com.imie.a2dev.teamculte.readeo.DBSchemas.BookDBSchema;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.BookSearchDBSchema;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
+
+/**
+ * Class used to test the schema migrations: a copy of the test database (first version) is upgraded through every
+ * version, its row counts are checked after each migration.
+ */
+public final class DBMigratorTest extends CommonDBManagerTest {
+    /**
+     * Defines the name of the migrated copy of the test database.
+     */
+    private static final String MIGRATED_DB = "readeo.migration.test.db";
+
+    /**
+     * Stores the migrated database.
+     */
+    private SQLiteDatabase database;
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+
+        File file = this.context.getDatabasePath(MIGRATED_DB);
+        InputStream input = this.context.getAssets().open("databases/" + TEST_DB);
+        OutputStream output = new FileOutputStream(file);
+        byte[] buffer = new byte[1024];
+        int length;
+
+        while ((length = input.read(buffer)) > 0) {
+            output.write(buffer, 0, length);
+        }
+
+        output.close();
+        input.close();
+
+        this.database = SQLiteDatabase.openDatabase(file.getAbsolutePath(), null, SQLiteDatabase.OPEN_READWRITE);
+    }
+
+    @After
+    public void tearDown() {
+        this.database.close();
+        SQLiteDatabase.deleteDatabase(this.context.getDatabasePath(MIGRATED_DB));
+    }
+
+    @Test
+    public void testMigrationsOrder() {
+        List<DBMigration> migrations = DBMigrator.getMigrations();
+
+        for (int i = 0; i < migrations.size(); i++) {
+            assertEquals(DBMigrator.FIRST_VERSION + i + 1, migrations.get(i).getVersion());
+        }
+    }
+
+    @Test
+    public void testMigrateEveryVersion() {
+        Map<String, Long> counts = this.countRows();
+
+        assertEquals(DBMigrator.FIRST_VERSION, this.database.getVersion());
+
+        for (int version = DBMigrator.FIRST_VERSION + 1; version <= DBMigrator.getLatestVersion(); version++) {
+            DBMigrator.migrate(this.database, version - 1, version);
+
+            assertEquals(version, this.database.getVersion());
+
+            Map<String, Long> migratedCounts = this.countRows();
+
+            for (String table : counts.keySet()) {
+                assertEquals(table, counts.get(table), migratedCounts.get(table));
+            }
+        }
+
+        assertEquals(DatabaseUtils.queryNumEntries(this.database, BookDBSchema.TABLE),
+                     DatabaseUtils.queryNumEntries(this.database, BookSearchDBSchema.TABLE));
+    }
+
+    @Test
+    public void testMigrateTwice() {
+        DBMigrator.migrate(this.database, DBMigrator.FIRST_VERSION, DBMigrator.getLatestVersion());
+
+        Map<String, Long> counts = this.countRows();
+
+        // Replays all the migrations as if the upgrade had been interrupted before setting the version.
+        DBMigrator.migrate(this.database, DBMigrator.FIRST_VERSION, DBMigrator.getLatestVersion());
+
+        assertEquals(DBMigrator.getLatestVersion(), this.database.getVersion());
+        assertEquals(counts, this.countRows());
+    }
+
+    @Test
+    public void testMigrateRollback() {
+        // Without the book table the search index migration fails and must leave the database untouched.
+        this.database.execSQL("DROP TABLE " + BookDBSchema.TABLE);
+
+        try {
+            DBMigrator.migrate(this.database, DBMigrator.FIRST_VERSION, DBMigrator.getLatestVersion());
+            fail();
+        } catch (RuntimeException e) {
+            assertEquals(DBMigrator.FIRST_VERSION, this.database.getVersion());
+            assertFalse(this.countRows().containsKey(BookSearchDBSchema.TABLE));
+        }
+    }
+
+    /**
+     * Counts the rows of each table of the migrated database.
+     * @return The row counts by table name.
+     */
+    private Map<String, Long> countRows() {
+        Map<String, Long> counts = new HashMap<>();
+        Cursor result = this.database.rawQuery("SELECT name FROM sqlite_master WHERE type = 'table' AND name NOT " +
+                                               "LIKE 'sqlite_%' AND name NOT LIKE '" + BookSearchDBSchema.TABLE +
+                                               "_%'", null);
+
+        while (result.moveToNext()) {
+            counts.put(result.getString(0), DatabaseUtils.queryNumEntries(this.database, result.getString(0)));
+        }
+
+        result.close();
+
+        return counts;
+    }
+
+    @Override
+    protected void deleteMySQLTestEntities() {
+    }
+}
@@ -0,0 +1,127 @@
+package com.imie.a2dev.teamculte.readeo.DBManagers;
+
+import android.util.JsonReader;
+import android.util.Log;
+
+import com.imie.a2dev.teamculte.readeo.Utils.BookFixtures;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.junit.After;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Micro-benchmark comparing the import of a 2000 books page (the API pagination) row by row (one implicit
+ * transaction per insert) and through importSQLite (one transaction for the page, from a JSONArray or streamed),
+ * results are logged in rows/s.
+ */
+public final class ImportBenchmarkTest extends CommonDBManagerTest {
+    /**
+     * Defines the log tag of the results.
+     */
+    private static final String TAG = "ImportBenchmark";
+
+    /**
+     * Defines the number of books of the imported page.
+     */
+    private final int PAGE_SIZE = 2000;
+
+    /**
+     * Defines the first id of the imported books (far from the test entities ids).
+     */
+    private final int FIRST_ID = 100000;
+
+    /**
+     * Stores the associated manager used to interact with the database.
+     */
+    private BookDBManager manager = new BookDBManager(this.context);
+
+    @After
+    public void tearDown() {
+        this.context.deleteDatabase(TEST_DB);
+    }
+
+    @Test
+    public void benchmarkImportPage() throws JSONException {
+        JSONArray page = BookFixtures.page(FIRST_ID, PAGE_SIZE, "benchmark");
+        long start = System.nanoTime();
+
+        for (int i = 0; i < page.length(); i++) {
+            this.manager.createSQLite(page.getJSONObject(i));
+        }
+
+        long rowTime = System.nanoTime() - start;
+
+        assertEquals(ENTITY_NB + PAGE_SIZE, this.manager.countSQLite());
+
+        BookFixtures.deleteFrom(this.manager, FIRST_ID);
+
+        assertEquals(ENTITY_NB, this.manager.countSQLite());
+
+        start = System.nanoTime();
+
+        assertEquals(PAGE_SIZE, this.manager.importSQLite(page));
+
+        long insertTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+
+        assertEquals(PAGE_SIZE, this.manager.importSQLite(page));
+
+        long updateTime = System.nanoTime() - start;
+
+        assertEquals(ENTITY_NB + PAGE_SIZE, this.manager.countSQLite());
+
+        Log.i(TAG, String.format("row by row %.0f rows/s, importSQLite (inserts) %.0f rows/s, importSQLite " +
+                                 "(updates) %.0f rows/s", this.rate(rowTime), this.rate(insertTime),
+                                 this.rate(updateTime)));
+    }
+
+    @Test
+    public void benchmarkStreamImport() throws JSONException, IOException {
+        byte[] body = BookFixtures.page(FIRST_ID, PAGE_SIZE, "benchmark").toString().getBytes(StandardCharsets.UTF_8);
+        long start = System.nanoTime();
+
+        assertEquals(PAGE_SIZE, this.manager.importSQLite(new JSONArray(new String(body, StandardCharsets.UTF_8))));
+
+        long treeTime = System.nanoTime() - start;
+
+        BookFixtures.deleteFrom(this.manager, FIRST_ID);
+
+        assertEquals(ENTITY_NB, this.manager.countSQLite());
+
+        start = System.nanoTime();
+
+        try (JsonReader reader = new JsonReader(new InputStreamReader(new ByteArrayInputStream(body),
+                                                                      StandardCharsets.UTF_8))) {
+            assertEquals(PAGE_SIZE, this.manager.importSQLite(reader));
+        }
+
+        long streamTime = System.nanoTime() - start;
+
+        assertEquals(ENTITY_NB + PAGE_SIZE, this.manager.countSQLite());
+
+        Log.i(TAG, String.format("JSONArray page %.0f rows/s, streamed page %.0f rows/s", this.rate(treeTime),
+                                 this.rate(streamTime)));
+    }
+
+    /**
+     * Converts the time of a page import into a rate.
+     * @param time The import time (ns).
+     * @return The number of rows imported by second.
+     */
+    private double rate(long time) {
+        return PAGE_SIZE * 1e9 / time;
+    }
+
+    @Override
+    protected void deleteMySQLTestEntities() {
+    }
+}
@@ -0,0 +1,200 @@
+package com.imie.a2dev.teamculte.readeo.DBManagers;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+import android.util.Log;
+
+import org.junit.Test;
+
+import static com.imie.a2dev.teamculte.readeo.DBManagers.DBManager.KEYSET_START;
+import static com.imie.a2dev.teamculte.readeo.DBSchemas.BookDBSchema.CATEGORY;
+import static com.imie.a2dev.teamculte.readeo.DBSchemas.BookDBSchema.DATE;
+import static com.imie.a2dev.teamculte.readeo.DBSchemas.BookDBSchema.ID;
+import static com.imie.a2dev.teamculte.readeo.DBSchemas.BookDBSchema.TABLE;
+import static com.imie.a2dev.teamculte.readeo.DBSchemas.BookDBSchema.TITLE;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Micro-benchmark comparing the offset and keyset paginations of the library on page 1 and page 500 of a 100k books
+ * table (results are logged, all the writes are rolled back).
+ */
+public final class KeysetPaginationBenchmarkTest extends CommonDBManagerTest {
+    /**
+     * Defines the log tag of the results.
+     */
+    private static final String TAG = "KeysetBenchmark";
+
+    /**
+     * Defines the number of books of the benchmarked table.
+     */
+    private final int TABLE_SIZE = 100000;
+
+    /**
+     * Defines the number of books of a page.
+     */
+    private final int PAGE_SIZE = 20;
+
+    /**
+     * Defines the number of iterations of each measure.
+     */
+    private final int ITERATIONS = 50;
+
+    /**
+     * Defines the first id of the created books (far from the test entities ids).
+     */
+    private final int FIRST_ID = 100000;
+
+    /**
+     * Stores the associated manager used to interact with the database.
+     */
+    private BookDBManager manager = new BookDBManager(this.context);
+
+    @Test
+    public void benchmarkQueryAllCards() {
+        SQLiteDatabase database = this.manager.getDatabase();
+
+        database.beginTransaction();
+
+        try {
+            this.fill(database);
+
+            for (int page : new int[]{1, 500}) {
+                int offset = (page - 1) * PAGE_SIZE;
+                int afterId = (offset == 0) ? KEYSET_START : this.idAt(database, offset - 1);
+                long start = System.nanoTime();
+
+                for (int i = 0; i < ITERATIONS; i++) {
+                    this.manager.queryAllCardsPaginatedSQLite(PAGE_SIZE, offset);
+                }
+
+                long offsetTime = System.nanoTime() - start;
+
+                start = System.nanoTime();
+
+                for (int i = 0; i < ITERATIONS; i++) {
+                    this.manager.queryAllCardsKeysetSQLite(afterId, PAGE_SIZE);
+                }
+
+                long keysetTime = System.nanoTime() - start;
+
+                this.log("queryAllCards page " + page, offsetTime, keysetTime);
+            }
+        } finally {
+            database.endTransaction();
+        }
+    }
+
+    @Test
+    public void benchmarkLoadTitleFilteredCards() {
+        SQLiteDatabase database = this.manager.getDatabase();
+
+        database.beginTransaction();
+
+        try {
+            this.fill(database);
+
+            for (int page : new int[]{1, 500}) {
+                int offset = (page - 1) * PAGE_SIZE;
+                String afterTitle = "";
+                int afterId = KEYSET_START;
+
+                if (offset != 0) {
+                    Cursor result = database.rawQuery(String.format("SELECT %s, %s FROM %s ORDER BY %s, %s LIMIT 1 " +
+                                                                    "OFFSET %d",
+                                                                    TITLE,
+                                                                    ID,
+                                                                    TABLE,
+                                                                    TITLE,
+                                                                    ID,
+                                                                    offset - 1), null);
+
+                    result.moveToFirst();
+
+                    afterTitle = result.getString(0);
+                    afterId = result.getInt(1);
+
+                    result.close();
+                }
+
+                long start = System.nanoTime();
+
+                for (int i = 0; i < ITERATIONS; i++) {
+                    this.manager.loadFilteredCardsPaginatedSQLite(TITLE, "", PAGE_SIZE, offset);
+                }
+
+                long offsetTime = System.nanoTime() - start;
+
+                start = System.nanoTime();
+
+                for (int i = 0; i < ITERATIONS; i++) {
+                    this.manager.loadFilteredCardsKeysetSQLite(TITLE, "", afterTitle, afterId, PAGE_SIZE);
+                }
+
+                long keysetTime = System.nanoTime() - start;
+
+                this.log("loadTitleFilteredCards page " + page, offsetTime, keysetTime);
+            }
+        } finally {
+            database.endTransaction();
+        }
+    }
+
+    /**
+     * Fills the book table up to the benchmarked size (must be called inside a transaction).
+     * @param database The database to fill.
+     */
+    private void fill(SQLiteDatabase database) {
+        SQLiteStatement statement = database.compileStatement(String.format("INSERT INTO %s (%s, %s, %s, %s) " +
+                                                                            "VALUES (?, ?, 1, 2000)",
+                                                                            TABLE,
+                                                                            ID,
+                                                                            TITLE,
+                                                                            CATEGORY,
+                                                                            DATE));
+
+        for (int i = 0; i < TABLE_SIZE - ENTITY_NB; i++) {
+            statement.bindLong(1, FIRST_ID + i);
+            statement.bindString(2, String.format("benchmark%06d", (i * 7919) % TABLE_SIZE));
+            statement.executeInsert();
+        }
+
+        statement.close();
+
+        assertEquals(TABLE_SIZE, this.manager.countSQLite());
+    }
+
+    /**
+     * Gets the id of the book at the given position (ordered by id).
+     * @param database The database to query.
+     * @param position The position of the book.
+     * @return The id of the book.
+     */
+    private int idAt(SQLiteDatabase database, int position) {
+        Cursor result = database.rawQuery(String.format("SELECT %s FROM %s ORDER BY %s LIMIT 1 OFFSET %d", ID, TABLE,
+                                                        ID, position), null);
+
+        result.moveToFirst();
+
+        int id = result.getInt(0);
+
+        result.close();
+
+        return id;
+    }
+
+    /**
+     * Logs the results of a benchmark.
+     * @param operation The benchmarked operation.
+     * @param offsetTime The total time of the offset pagination (ns).
+     * @param keysetTime The total time of the keyset pagination (ns).
+     */
+    private void log(String operation, long offsetTime, long keysetTime) {
+        Log.i(TAG, String.format("%s: offset %.1f us/op, keyset %.1f us/op", operation,
+                                 offsetTime / 1000.0 / ITERATIONS, keysetTime / 1000.0 / ITERATIONS));
+    }
+
+    @Override
+    protected void deleteMySQLTestEntities() {
+    }
+}
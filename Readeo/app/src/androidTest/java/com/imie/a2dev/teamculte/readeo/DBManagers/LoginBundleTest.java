@@ -0,0 +1,184 @@
+package com.imie.a2dev.teamculte.readeo.DBManagers;
+
+import android.util.Log;
+
+import com.imie.a2dev.teamculte.readeo.DBSchemas.BookListDBSchema;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.BookListTypeDBSchema;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.CategoryDBSchema;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.CityDBSchema;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.CountryDBSchema;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.ProfileDBSchema;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.ReviewDBSchema;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.UserDBSchema;
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Book;
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.PrivateUser;
+import com.imie.a2dev.teamculte.readeo.Utils.BookFixtures;
+import com.imie.a2dev.teamculte.readeo.Utils.StandInServer;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Measures the login hydration of a user (loadMySQL) from a local stand-in server answering the user bundle after a
+ * fixed latency: the user must be loaded with a single request, in about the latency of one request, results are
+ * logged.
+ */
+public final class LoginBundleTest extends CommonDBManagerTest {
+    /**
+     * Defines the log tag of the results.
+     */
+    private static final String TAG = "LoginBundle";
+
+    /**
+     * Defines the latency of the stand-in server (ms).
+     */
+    private final int LATENCY = 200;
+
+    /**
+     * Defines the id of the loaded user.
+     */
+    private final int USER_ID = 1;
+
+    /**
+     * Defines the number of book list types of the bundle.
+     */
+    private final int TYPES = 3;
+
+    /**
+     * Defines the number of books by book list of the bundle.
+     */
+    private final int BOOKS = 20;
+
+    /**
+     * Stores the associated manager used to interact with the database.
+     */
+    private UserDBManager manager = new UserDBManager(this.context);
+
+    /**
+     * Stores the stand-in server answering the user bundle after LATENCY (404 if the bundle is not asked).
+     */
+    private StandInServer server;
+
+    /**
+     * Stores the body of the user bundle.
+     */
+    private byte[] bundle;
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+
+        this.bundle = this.bundle().toString().getBytes(StandardCharsets.UTF_8);
+        this.server = new StandInServer(LATENCY, query -> {
+            boolean found = query.getPath().contains("bundle&" + UserDBSchema.ID + "=" + USER_ID);
+
+            return StandInServer.Reply.json((found) ? StandInServer.OK : StandInServer.NOT_FOUND,
+                                            (found) ? this.bundle : new byte[0]);
+        });
+        this.manager.baseUrl = this.server.url("users/");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        this.server.close();
+        this.context.deleteDatabase(TEST_DB);
+    }
+
+    @Test
+    public void testLoadMySQL() {
+        long start = System.nanoTime();
+        PrivateUser user = this.manager.loadMySQL(USER_ID);
+        long time = (System.nanoTime() - start) / 1000000;
+
+        assertNotNull(user);
+        assertEquals(USER_ID, user.getId());
+        assertNotNull(user.getProfile());
+        assertNotNull(user.getCountry());
+        assertNotNull(user.getCity());
+        assertEquals(BOOKS, user.getReviews().size());
+        assertEquals(TYPES, user.getBookLists().size());
+
+        for (int i = 0; i < TYPES; i++) {
+            assertEquals(BOOKS, user.getBookLists().get("type" + i).getBooks().size());
+
+            for (Book book : user.getBookLists().get("type" + i).getBooks()) {
+                assertNotNull(book.getCategory());
+            }
+        }
+
+        assertEquals(1, this.server.getRequests());
+        assertTrue(time < 2 * LATENCY);
+
+        Log.i(TAG, String.format("user loaded with %d request in %d ms (stand-in latency %d ms)",
+                                 this.server.getRequests(), time, LATENCY));
+    }
+
+    @Override
+    protected void deleteMySQLTestEntities() {
+    }
+
+    /**
+     * Builds the JSON of the user bundle (TYPES book lists of BOOKS books, the books of the first list reviewed).
+     * @return The bundle.
+     * @throws JSONException If a value can not be put.
+     */
+    private JSONObject bundle() throws JSONException {
+        JSONArray types = new JSONArray();
+        JSONArray bookLists = new JSONArray();
+        JSONArray books = new JSONArray();
+        JSONArray reviews = new JSONArray();
+
+        for (int i = 0; i < TYPES; i++) {
+            types.put(new JSONObject().put(BookListTypeDBSchema.ID, i + 1)
+                                      .put(BookListTypeDBSchema.NAME, "type" + i)
+                                      .put(BookListTypeDBSchema.IMAGE, "http://www.type.fr/" + i));
+
+            for (int j = i * BOOKS; j < (i + 1) * BOOKS; j++) {
+                bookLists.put(new JSONObject().put(BookListDBSchema.USER, USER_ID)
+                                              .put(BookListDBSchema.TYPE, i + 1)
+                                              .put(BookListDBSchema.BOOK, j + 1));
+                books.put(BookFixtures.book(j + 1, "login"));
+            }
+        }
+
+        for (int i = 0; i < BOOKS; i++) {
+            reviews.put(new JSONObject().put(ReviewDBSchema.USER, USER_ID)
+                                        .put(ReviewDBSchema.BOOK, i + 1)
+                                        .put(ReviewDBSchema.REVIEW, "review" + i)
+                                        .put(ReviewDBSchema.SHARED, 1));
+        }
+
+        return new JSONObject()
+                .put("user", new JSONArray().put(new JSONObject().put(UserDBSchema.ID, USER_ID)
+                                                                 .put(UserDBSchema.PSEUDO, "login")
+                                                                 .put(UserDBSchema.PASSWORD, "password")
+                                                                 .put(UserDBSchema.EMAIL, "login@login.fr")
+                                                                 .put(UserDBSchema.KEY, "key")
+                                                                 .put(UserDBSchema.PROFILE, 1)
+                                                                 .put(UserDBSchema.CITY, 1)
+                                                                 .put(UserDBSchema.COUNTRY, 1)))
+                .put("profile", new JSONArray().put(new JSONObject().put(ProfileDBSchema.ID, 1)
+                                                                    .put(ProfileDBSchema.AVATAR, "avatar")
+                                                                    .put(ProfileDBSchema.DESCRIPTION, "description")))
+                .put("country", new JSONArray().put(new JSONObject().put(CountryDBSchema.ID, 1)
+                                                                    .put(CountryDBSchema.NAME, "country")))
+                .put("city", new JSONArray().put(new JSONObject().put(CityDBSchema.ID, 1)
+                                                                 .put(CityDBSchema.NAME, "city")))
+                .put("reviews", reviews)
+                .put("book_lists", bookLists)
+                .put("book_list_types", types)
+                .put("books", books)
+                .put("categories", new JSONArray().put(new JSONObject().put(CategoryDBSchema.ID, 1)
+                                                                       .put(CategoryDBSchema.NAME, "category")));
+    }
+}
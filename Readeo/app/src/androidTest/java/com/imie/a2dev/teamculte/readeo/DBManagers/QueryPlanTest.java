@@ -0,0 +1,269 @@
+package com.imie.a2dev.teamculte.readeo.DBManagers;
+
+import android.database.Cursor;
+import android.database.DatabaseUtils;
+import android.database.sqlite.SQLiteDatabase;
+import android.database.sqlite.SQLiteStatement;
+
+import com.imie.a2dev.teamculte.readeo.DBSchemas.AuthorDBSchema;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.BookDBSchema;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.BookListDBSchema;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.CategoryDBSchema;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.QuoteDBSchema;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.ReviewDBSchema;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.UserDBSchema;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.WriterDBSchema;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.imie.a2dev.teamculte.readeo.DBManagers.DBManager.likeStart;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Class used to check the query plans of the managers lookups: the test fails if a query does a full scan of a table
+ * over MAX_SCANNED_ROWS rows (the hot tables are filled over this size, all the writes are rolled back).
+ */
+public final class QueryPlanTest extends CommonDBManagerTest {
+    /**
+     * Defines the maximum number of rows of a table which can be fully scanned.
+     */
+    private final int MAX_SCANNED_ROWS = 100;
+
+    /**
+     * Defines the first id of the created rows (far from the test entities ids).
+     */
+    private final int FIRST_ID = 100000;
+
+    /**
+     * Defines the pattern of a full scan in the query plan details (SCAN TABLE x before SQLite 3.36, SCAN x after).
+     */
+    private final Pattern SCAN_PATTERN = Pattern.compile("^SCAN (?:TABLE )?(\\w+)");
+
+    /**
+     * Defines the start of the query plan details of a sort done after reading the rows.
+     */
+    private final String TEMP_SORT = "USE TEMP B-TREE FOR";
+
+    /**
+     * Stores the associated manager used to interact with the database.
+     */
+    private BookDBManager manager;
+
+    /**
+     * Stores the checked database.
+     */
+    private SQLiteDatabase database;
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+
+        this.manager = new BookDBManager(this.context);
+        this.database = this.manager.getDatabase();
+
+        this.database.beginTransaction();
+        this.fill();
+    }
+
+    @After
+    public void tearDown() {
+        this.database.endTransaction();
+    }
+
+    @Test
+    public void testIndexesCreated() {
+        assertTrue(DBHandler.getMissingIndexes(this.database).isEmpty());
+    }
+
+    @Test
+    public void testLikeStartQueries() {
+        String id = String.valueOf(FIRST_ID);
+
+        this.checkPlan(String.format(this.manager.SIMPLE_QUERY_ALL_LIKE_START, UserDBSchema.TABLE,
+                                     UserDBSchema.PSEUDO), likeStart("plan"));
+        this.checkPlan(String.format(this.manager.SIMPLE_QUERY_ALL_LIKE_START, BookDBSchema.TABLE,
+                                     BookDBSchema.TITLE), likeStart("plan"));
+        this.checkPlan(String.format("SELECT %s.* FROM %s INNER JOIN %s ON %s.%s = %s.%s WHERE %s LIKE ? AND %s.%s " +
+                                     "> ? ORDER BY %s.%s",
+                                     BookDBSchema.TABLE,
+                                     BookDBSchema.TABLE,
+                                     CategoryDBSchema.TABLE,
+                                     BookDBSchema.TABLE,
+                                     BookDBSchema.CATEGORY,
+                                     CategoryDBSchema.TABLE,
+                                     CategoryDBSchema.ID,
+                                     CategoryDBSchema.NAME,
+                                     BookDBSchema.TABLE,
+                                     BookDBSchema.ID,
+                                     BookDBSchema.TABLE,
+                                     BookDBSchema.ID), likeStart("plan"), id);
+        this.checkPlan(String.format("SELECT %s.* FROM %s WHERE %s.%s IN (SELECT %s.%s FROM %s INNER JOIN %s ON " +
+                                     "%s.%s = %s.%s WHERE %s.%s LIKE ?) AND %s.%s > ? ORDER BY %s.%s",
+                                     BookDBSchema.TABLE,
+                                     BookDBSchema.TABLE,
+                                     BookDBSchema.TABLE,
+                                     BookDBSchema.ID,
+                                     WriterDBSchema.TABLE,
+                                     WriterDBSchema.BOOK,
+                                     WriterDBSchema.TABLE,
+                                     AuthorDBSchema.TABLE,
+                                     AuthorDBSchema.TABLE,
+                                     AuthorDBSchema.ID,
+                                     WriterDBSchema.TABLE,
+                                     WriterDBSchema.AUTHOR,
+                                     AuthorDBSchema.TABLE,
+                                     AuthorDBSchema.NAME,
+                                     BookDBSchema.TABLE,
+                                     BookDBSchema.ID,
+                                     BookDBSchema.TABLE,
+                                     BookDBSchema.ID), likeStart("plan"), id);
+    }
+
+    @Test
+    public void testKeysetQueryOrderedByIndex() {
+        String query = String.format("SELECT * FROM %s WHERE %s LIKE ? AND %s COLLATE NOCASE >= ? AND (%s COLLATE " +
+                                     "NOCASE > ? OR %s > ?) ORDER BY %s COLLATE NOCASE, %s",
+                                     BookDBSchema.TABLE,
+                                     BookDBSchema.TITLE,
+                                     BookDBSchema.TITLE,
+                                     BookDBSchema.TITLE,
+                                     BookDBSchema.ID,
+                                     BookDBSchema.TITLE,
+                                     BookDBSchema.ID);
+        String[] args = {likeStart("plan"), "plan5", "plan5", String.valueOf(FIRST_ID)};
+
+        this.checkPlan(query, args);
+        this.checkNotSorted(query, args);
+    }
+
+    @Test
+    public void testForeignKeyQueries() {
+        String id = String.valueOf(FIRST_ID);
+        String[][] lookups = {
+                {ReviewDBSchema.TABLE, ReviewDBSchema.BOOK},
+                {ReviewDBSchema.TABLE, ReviewDBSchema.USER},
+                {QuoteDBSchema.TABLE, QuoteDBSchema.BOOK},
+                {QuoteDBSchema.TABLE, QuoteDBSchema.USER},
+                {WriterDBSchema.TABLE, WriterDBSchema.BOOK},
+                {WriterDBSchema.TABLE, WriterDBSchema.AUTHOR},
+                {BookListDBSchema.TABLE, BookListDBSchema.USER},
+                {BookDBSchema.TABLE, BookDBSchema.CATEGORY},
+                {UserDBSchema.TABLE, UserDBSchema.PSEUDO}
+        };
+
+        for (String[] lookup : lookups) {
+            this.checkPlan(String.format(this.manager.SIMPLE_QUERY_ALL, lookup[0], lookup[1]), id);
+        }
+
+        this.checkPlan(String.format(this.manager.DOUBLE_QUERY_ALL, BookListDBSchema.TABLE, BookListDBSchema.USER,
+                                     BookListDBSchema.TYPE), id, "1");
+        this.checkPlan(String.format(this.manager.DOUBLE_QUERY_ALL, ReviewDBSchema.TABLE, ReviewDBSchema.USER,
+                                     ReviewDBSchema.BOOK), id, id);
+    }
+
+    /**
+     * Checks that a query does not fully scan a table over MAX_SCANNED_ROWS rows.
+     * @param query The query to check.
+     * @param args The query arguments (bound so that the LIKE patterns can be optimized).
+     */
+    private void checkPlan(String query, String... args) {
+        Cursor result = this.database.rawQuery("EXPLAIN QUERY PLAN " + query, args);
+        int detailColumn = result.getColumnIndexOrThrow("detail");
+
+        while (result.moveToNext()) {
+            String detail = result.getString(detailColumn);
+            Matcher matcher = SCAN_PATTERN.matcher(detail);
+
+            if (matcher.find() && this.isTable(matcher.group(1)) &&
+                DatabaseUtils.queryNumEntries(this.database, matcher.group(1)) > MAX_SCANNED_ROWS) {
+                result.close();
+                fail(String.format("%s: %s", detail, query));
+            }
+        }
+
+        result.close();
+    }
+
+    /**
+     * Checks that the rows of a query are read in the order of an index instead of being sorted afterwards.
+     * @param query The query to check.
+     * @param args The query arguments.
+     */
+    private void checkNotSorted(String query, String... args) {
+        Cursor result = this.database.rawQuery("EXPLAIN QUERY PLAN " + query, args);
+        int detailColumn = result.getColumnIndexOrThrow("detail");
+
+        while (result.moveToNext()) {
+            String detail = result.getString(detailColumn);
+
+            if (detail.startsWith(TEMP_SORT)) {
+                result.close();
+                fail(String.format("%s: %s", detail, query));
+            }
+        }
+
+        result.close();
+    }
+
+    /**
+     * Checks if a name is the name of a table (the plans also scan subqueries and constant rows).
+     * @param name The name to check.
+     * @return true if the table exists else false.
+     */
+    private boolean isTable(String name) {
+        return DatabaseUtils.queryNumEntries(this.database, "sqlite_master", "type = 'table' AND name = ?",
+                                             new String[]{name}) != 0;
+    }
+
+    /**
+     * Fills the looked up tables over MAX_SCANNED_ROWS rows (must be called inside a transaction).
+     */
+    private void fill() {
+        this.fill(String.format("INSERT INTO %s (%s, %s) VALUES (?, 'plan' || ?)", AuthorDBSchema.TABLE,
+                                AuthorDBSchema.ID, AuthorDBSchema.NAME), 2);
+        this.fill(String.format("INSERT INTO %s (%s, %s) VALUES (?, 'plan' || ?)", CategoryDBSchema.TABLE,
+                                CategoryDBSchema.ID, CategoryDBSchema.NAME), 2);
+        this.fill(String.format("INSERT INTO %s (%s, %s, %s, %s) VALUES (?, 1, 'plan' || ?, 2000)",
+                                BookDBSchema.TABLE, BookDBSchema.ID, BookDBSchema.CATEGORY, BookDBSchema.TITLE,
+                                BookDBSchema.DATE), 2);
+        this.fill(String.format("INSERT INTO %s (%s, %s, %s) VALUES (?, 'plan' || ?, 1)", UserDBSchema.TABLE,
+                                UserDBSchema.ID, UserDBSchema.PSEUDO, UserDBSchema.PROFILE), 2);
+        this.fill(String.format("INSERT INTO %s (%s, %s) VALUES (?, ?)", WriterDBSchema.TABLE, WriterDBSchema.AUTHOR,
+                                WriterDBSchema.BOOK), 2);
+        this.fill(String.format("INSERT INTO %s (%s, %s, %s) VALUES (?, ?, 'plan')", ReviewDBSchema.TABLE,
+                                ReviewDBSchema.USER, ReviewDBSchema.BOOK, ReviewDBSchema.REVIEW), 2);
+        this.fill(String.format("INSERT INTO %s (%s, %s, %s, %s) VALUES (?, ?, ?, 'plan')", QuoteDBSchema.TABLE,
+                                QuoteDBSchema.ID, QuoteDBSchema.USER, QuoteDBSchema.BOOK, QuoteDBSchema.QUOTE), 3);
+        this.fill(String.format("INSERT INTO %s (%s, %s, %s) VALUES (?, 1, ?)", BookListDBSchema.TABLE,
+                                BookListDBSchema.USER, BookListDBSchema.TYPE, BookListDBSchema.BOOK), 2);
+    }
+
+    /**
+     * Inserts MAX_SCANNED_ROWS + 1 rows, all the parameters of a row being bound to the same id.
+     * @param insert The insert statement.
+     * @param params The number of parameters of the statement.
+     */
+    private void fill(String insert, int params) {
+        SQLiteStatement statement = this.database.compileStatement(insert);
+
+        for (int i = 0; i <= MAX_SCANNED_ROWS; i++) {
+            for (int j = 1; j <= params; j++) {
+                statement.bindLong(j, FIRST_ID + i);
+            }
+
+            statement.executeInsert();
+        }
+
+        statement.close();
+    }
+
+    @Override
+    protected void deleteMySQLTestEntities() {
+    }
+}
@@ -0,0 +1,194 @@
+package com.imie.a2dev.teamculte.readeo.DBManagers;
+
+import android.net.Uri;
+import android.util.Log;
+
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.City;
+import com.imie.a2dev.teamculte.readeo.Utils.HTTPRequestFuture;
+import com.imie.a2dev.teamculte.readeo.Utils.StandInServer;
+
+import org.joda.time.DateTimeZone;
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.imie.a2dev.teamculte.readeo.DBSchemas.CityDBSchema.ID;
+import static com.imie.a2dev.teamculte.readeo.DBSchemas.CityDBSchema.NAME;
+import static com.imie.a2dev.teamculte.readeo.DBSchemas.CityDBSchema.TABLE;
+import static com.imie.a2dev.teamculte.readeo.DBSchemas.CommonDBSchema.UPDATE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Class used to test ReadThroughRepository methods (on the cities, against a local stand-in server counting the
+ * requests), the requests of the sign-up lookups (city and country by name) with and without repository are logged.
+ */
+public final class ReadThroughRepositoryTest extends CommonDBManagerTest {
+    /**
+     * Defines the log tag of the results.
+     */
+    private static final String TAG = "ReadThrough";
+
+    /**
+     * Defines the latency of the stand-in server (ms).
+     */
+    private final int LATENCY = 200;
+
+    /**
+     * Defines the id of the cities created by the stand-in server from their name.
+     */
+    private final int NAMED_ID = 9000;
+
+    /**
+     * Stores the associated manager used to interact with the database.
+     */
+    private CityDBManager manager = new CityDBManager(this.context);
+
+    /**
+     * Stores the tested repository.
+     */
+    private ReadThroughRepository<City> repository;
+
+    /**
+     * Stores the stand-in server answering the city of the requested query after LATENCY.
+     */
+    private StandInServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+
+        this.server = new StandInServer(LATENCY, this::answer);
+        this.manager.baseUrl = this.server.url("cities/");
+        this.repository = new ReadThroughRepository<>(this.manager, City::new);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        this.server.close();
+        this.context.deleteDatabase(TEST_DB);
+    }
+
+    @Test
+    public void testLoadFresh() throws JSONException {
+        this.manager.createSQLite(new JSONObject().put(ID, 1000).put(NAME, "local"));
+
+        City city = this.repository.load(1000);
+
+        assertEquals("local", city.getName());
+        assertEquals(0, this.server.getRequests());
+        assertEquals(1, this.repository.getLocalLoads());
+    }
+
+    @Test
+    public void testLoadMissing() {
+        City city = this.repository.load(2000);
+
+        assertEquals("remote2000", city.getName());
+        assertEquals(1, this.server.getRequests());
+        assertNotNull(this.manager.loadSQLite(2000));
+
+        this.repository.load(2000);
+
+        assertEquals(1, this.server.getRequests());
+        assertEquals(1, this.repository.getLocalLoads());
+    }
+
+    @Test
+    public void testLoadStale() throws JSONException {
+        this.manager.createSQLite(new JSONObject().put(ID, 3000).put(NAME, "stale"));
+        this.manager.getDatabase().execSQL(String.format("UPDATE %s SET %s = '2000-01-01 00:00:00' WHERE %s = 3000",
+                                                         TABLE, UPDATE, ID));
+
+        City city = this.repository.load(3000);
+
+        assertEquals("remote3000", city.getName());
+        assertEquals(1, this.server.getRequests());
+    }
+
+    @Test
+    public void testLoadUpdatedBehindUTC() throws JSONException {
+        DateTimeZone zone = DateTimeZone.getDefault();
+        ReadThroughRepository<City> repository = new ReadThroughRepository<>(this.manager, City::new,
+                                                                             TimeUnit.HOURS.toMillis(1));
+
+        DateTimeZone.setDefault(DateTimeZone.forOffsetHours(-10));
+
+        try {
+            this.manager.createSQLite(new JSONObject().put(ID, 5000).put(NAME, "created"));
+            this.manager.updateSQLite(new JSONObject().put(ID, 5000).put(NAME, "updated"));
+
+            City city = repository.load(5000);
+
+            assertEquals("updated", city.getName());
+            assertEquals(0, this.server.getRequests());
+        } finally {
+            DateTimeZone.setDefault(zone);
+        }
+    }
+
+    @Test
+    public void testLoadCoalesced() throws Exception {
+        List<HTTPRequestFuture<City>> loads = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            loads.add(this.repository.loadAsync(4000));
+        }
+
+        for (HTTPRequestFuture<City> load : loads) {
+            assertSame(loads.get(0), load);
+            assertEquals("remote4000", load.get(10, TimeUnit.SECONDS).getName());
+        }
+
+        assertEquals(1, this.server.getRequests());
+        assertEquals(9, this.repository.getCoalescedLoads());
+    }
+
+    @Test
+    public void measureSignUpLookups() throws JSONException {
+        this.manager.createSQLite(new JSONObject().put(ID, NAMED_ID + 1).put(NAME, "Nantes"));
+
+        this.manager.loadMySQL("Nantes");
+
+        int before = this.server.resetRequests();
+        City city = this.repository.load(NAME, "Nantes");
+        int after = this.server.getRequests();
+
+        assertEquals(NAMED_ID + 1, city.getId());
+        assertEquals(0, after);
+
+        Log.i(TAG, String.format("city lookup by name : %d request(s) with loadMySQL, %d with the repository",
+                                 before, after));
+    }
+
+    @Override
+    protected void deleteMySQLTestEntities() {
+    }
+
+    /**
+     * Answers a request of the stand-in server with the city of its query (the city of an id is named remote + id,
+     * the city of a name has the id NAMED_ID + 1).
+     * @param query The received request.
+     * @return The response.
+     * @throws JSONException If a value can not be put.
+     */
+    private StandInServer.Reply answer(StandInServer.Query query) throws JSONException {
+        Uri uri = Uri.parse(query.getPath());
+        String id = uri.getQueryParameter(ID);
+        JSONObject city = (id != null) ?
+                new JSONObject().put(ID, Integer.parseInt(id)).put(NAME, "remote" + id) :
+                new JSONObject().put(ID, NAMED_ID + 1).put(NAME, uri.getQueryParameter(NAME));
+
+        return StandInServer.Reply.json(StandInServer.OK,
+                                        new JSONArray().put(city).toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,149 @@
+package com.imie.a2dev.teamculte.readeo.DBManagers;
+
+import android.support.test.InstrumentationRegistry;
+import android.util.Log;
+
+import com.android.volley.Request;
+import com.imie.a2dev.teamculte.readeo.Utils.BookFixtures;
+import com.imie.a2dev.teamculte.readeo.Utils.FrameMonitor;
+import com.imie.a2dev.teamculte.readeo.Utils.HTTPRequestQueueSingleton;
+import com.imie.a2dev.teamculte.readeo.Utils.StandInServer;
+
+import org.json.JSONException;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Measures the frame times of the main thread while a 50k books sync is received from a local stand-in server (pages
+ * of 2000 books imported by the response listeners), with the listeners run on the database thread (the request queue
+ * delivery) and, for comparison, marshalled to the main thread (the former delivery), results are logged.
+ */
+public final class SyncFrameTimeTest extends CommonDBManagerTest {
+    /**
+     * Defines the log tag of the results.
+     */
+    private static final String TAG = "FrameTime";
+
+    /**
+     * Defines the number of pages of the sync.
+     */
+    private final int PAGES = 25;
+
+    /**
+     * Defines the number of books of a page.
+     */
+    private final int PAGE_SIZE = 2000;
+
+    /**
+     * Defines the first id of the synchronized books (far from the test entities ids).
+     */
+    private final int FIRST_ID = 100000;
+
+    /**
+     * Defines the timeout of a sync (s).
+     */
+    private final int TIMEOUT = 120;
+
+    /**
+     * Stores the associated manager used to interact with the database.
+     */
+    private BookDBManager manager = new BookDBManager(this.context);
+
+    /**
+     * Stores the stand-in server answering the page of the requested path.
+     */
+    private StandInServer server;
+
+    /**
+     * Stores the bodies of the pages.
+     */
+    private byte[][] pages = new byte[PAGES][];
+
+    @Before
+    public void setUp() throws Exception {
+        super.setUp();
+
+        for (int i = 0; i < PAGES; i++) {
+            this.pages[i] = BookFixtures.page(FIRST_ID + i * PAGE_SIZE, PAGE_SIZE, "frame").toString()
+                                        .getBytes(StandardCharsets.UTF_8);
+        }
+
+        this.server = new StandInServer(0, query -> {
+            int page = Integer.parseInt(query.getPath().substring(1));
+
+            return StandInServer.Reply.json(StandInServer.OK, this.pages[page]);
+        });
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        this.server.close();
+        this.context.deleteDatabase(TEST_DB);
+    }
+
+    @Test
+    public void measureSyncFrames() throws Exception {
+        FrameMonitor mainDelivery = this.sync(true);
+
+        BookFixtures.deleteFrom(this.manager, FIRST_ID);
+
+        assertEquals(ENTITY_NB, this.manager.countSQLite());
+
+        FrameMonitor dbDelivery = this.sync(false);
+
+        assertEquals(ENTITY_NB + PAGES * PAGE_SIZE, this.manager.countSQLite());
+
+        Log.i(TAG, "listeners on the main thread : " + mainDelivery);
+        Log.i(TAG, "listeners on the database thread : " + dbDelivery);
+
+        assertEquals(0, dbDelivery.getStalls());
+    }
+
+    @Override
+    protected void deleteMySQLTestEntities() {
+    }
+
+    /**
+     * Requests all the pages and imports them from the response listeners while measuring the main thread frames.
+     * @param onMainThread true to run the imports on the main thread else false (database thread).
+     * @return The frame monitor of the sync.
+     * @throws InterruptedException If interrupted while waiting for the sync.
+     */
+    private FrameMonitor sync(final boolean onMainThread) throws InterruptedException {
+        final FrameMonitor monitor = new FrameMonitor();
+        final CountDownLatch imported = new CountDownLatch(PAGES);
+
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(monitor::start);
+
+        for (int i = 0; i < PAGES; i++) {
+            String url = this.server.url(String.valueOf(i));
+
+            this.manager.requestJsonArray(Request.Method.GET, url, response -> {
+                Runnable task = () -> {
+                    this.manager.importSQLite(response);
+                    imported.countDown();
+                };
+
+                if (onMainThread) {
+                    HTTPRequestQueueSingleton.runOnMainThread(task);
+                } else {
+                    task.run();
+                }
+            }, null);
+        }
+
+        assertTrue(imported.await(TIMEOUT, TimeUnit.SECONDS));
+        InstrumentationRegistry.getInstrumentation().runOnMainSync(monitor::stop);
+
+        return monitor;
+    }
+
+}
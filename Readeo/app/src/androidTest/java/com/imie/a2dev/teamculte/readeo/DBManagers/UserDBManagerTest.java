@@ -18,6 +18,7 @@ import org.junit.Test;
 
 import java.util.List;
 
+import static com.imie.a2dev.teamculte.readeo.DBManagers.DBManager.KEYSET_START;
 import static com.imie.a2dev.teamculte.readeo.DBManagers.DBManager.MYSQL_TEST_ID;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.UserDBSchema.*;
 import static org.junit.Assert.*;
@@ -143,6 +144,18 @@ public final class UserDBManagerTest extends CommonDBManagerTest {
         assertEquals(ENTITY_NB, this.manager.queryAllSQLite().size());
     }
 
+    @Test
+    public void testQueryAllKeysetSQLite() {
+        int pageSize = 2;
+        List<PublicUser> firstPage = this.manager.queryAllKeysetSQLite(KEYSET_START, pageSize);
+        List<PublicUser> nextPages = this.manager.queryAllKeysetSQLite(firstPage.get(pageSize - 1).getId(),
+                                                                       ENTITY_NB);
+
+        assertEquals(pageSize, firstPage.size());
+        assertEquals(ENTITY_NB - pageSize, nextPages.size());
+        assertTrue(firstPage.get(pageSize - 1).getId() < nextPages.get(0).getId());
+    }
+
     @Test
     public void testImportFromMySQL() {
         PrivateUser user = this.initTestEntityMySQL();
@@ -68,6 +68,18 @@ public final class WriterDBManagerTest extends CommonDBManagerTest {
         assertEquals(ENTITY_NB + 1, this.manager.countSQLite());
     }
 
+    @Test
+    public void testUpsertSQLite() throws JSONException {
+        JSONObject jsonObject = new JSONObject();
+
+        jsonObject.put(AUTHOR, TEST_LOAD_AUTHOR);
+        jsonObject.put(BOOK, TEST_CREATE_BOOK);
+
+        assertTrue(this.manager.upsertSQLite(jsonObject));
+        assertTrue(this.manager.upsertSQLite(jsonObject));
+        assertEquals(ENTITY_NB + 1, this.manager.countSQLite());
+    }
+
     @Test
     public void testCreateSQLiteBook() {
         Book created = this.bookDBManager.loadSQLite(TEST_CREATE_BOOK);
@@ -0,0 +1,71 @@
+package com.imie.a2dev.teamculte.readeo.Utils;
+
+import com.imie.a2dev.teamculte.readeo.DBManagers.DBManager;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+import static com.imie.a2dev.teamculte.readeo.DBSchemas.BookDBSchema.CATEGORY;
+import static com.imie.a2dev.teamculte.readeo.DBSchemas.BookDBSchema.COVER;
+import static com.imie.a2dev.teamculte.readeo.DBSchemas.BookDBSchema.DATE;
+import static com.imie.a2dev.teamculte.readeo.DBSchemas.BookDBSchema.ID;
+import static com.imie.a2dev.teamculte.readeo.DBSchemas.BookDBSchema.SUMMARY;
+import static com.imie.a2dev.teamculte.readeo.DBSchemas.BookDBSchema.TITLE;
+
+/**
+ * Factory of the generated books shared by the instrumented tests and benchmarks (in the API JSON format, all in the
+ * first category).
+ */
+public final class BookFixtures {
+    /**
+     * BookFixtures's private constructor (static factory only).
+     */
+    private BookFixtures() {
+    }
+
+    /**
+     * Builds the JSON of a generated book.
+     * @param id The id of the book.
+     * @param name The name prefixing the title, the cover and the summary of the book.
+     * @return The book.
+     * @throws JSONException If a value can not be put.
+     */
+    public static JSONObject book(int id, String name) throws JSONException {
+        return new JSONObject().put(ID, id)
+                               .put(TITLE, name + id)
+                               .put(CATEGORY, 1)
+                               .put(COVER, "http://www." + name + ".fr/" + id)
+                               .put(SUMMARY, name + " summary " + id)
+                               .put(DATE, 2000);
+    }
+
+    /**
+     * Builds the JSON page of the generated books of consecutive ids.
+     * @param firstId The id of the first book.
+     * @param count The number of books.
+     * @param name The name prefixing the title, the cover and the summary of the books.
+     * @return The page.
+     * @throws JSONException If a value can not be put.
+     */
+    public static JSONArray page(int firstId, int count, String name) throws JSONException {
+        JSONArray page = new JSONArray();
+
+        for (int id = firstId; id < firstId + count; id++) {
+            page.put(book(id, name));
+        }
+
+        return page;
+    }
+
+    /**
+     * Deletes the books from an id onwards (the generated books imported by a test).
+     * @param manager The book manager.
+     * @param firstId The id of the first deleted book.
+     */
+    public static void deleteFrom(DBManager manager, int firstId) {
+        String[] whereArgs = {String.valueOf(firstId)};
+
+        manager.getDatabase().delete(manager.getTable(), ID + " >= ?", whereArgs);
+    }
+}
@@ -0,0 +1,133 @@
+package com.imie.a2dev.teamculte.readeo.Utils;
+
+import android.content.Context;
+import android.support.test.InstrumentationRegistry;
+
+import com.android.volley.Request;
+import com.android.volley.toolbox.StringRequest;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Class used to test the sharing of the responses of the identical requests by the HTTPRequestQueueSingleton against a
+ * local stand-in HTTP server counting the requests.
+ */
+public final class HTTPRequestCoalescingTest {
+    /**
+     * Defines the sender of the requests.
+     */
+    private final String SENDER = "coalescing";
+
+    /**
+     * Defines the number of identical requests sent.
+     */
+    private final int REQUESTS = 10;
+
+    /**
+     * Defines the latency of the stand-in server (ms).
+     */
+    private final int LATENCY = 200;
+
+    /**
+     * Defines the timeout of a test (s).
+     */
+    private final int TIMEOUT = 30;
+
+    /**
+     * Stores the context used to get the request queue.
+     */
+    private Context context = InstrumentationRegistry.getTargetContext();
+
+    /**
+     * Stores the tested request queue.
+     */
+    private HTTPRequestQueueSingleton queue;
+
+    /**
+     * Stores the stand-in server answering ok after LATENCY.
+     */
+    private StandInServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        this.queue = HTTPRequestQueueSingleton.getInstance(this.context);
+        this.server = new StandInServer(LATENCY, query -> StandInServer.Reply.text(StandInServer.OK, "ok"));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        this.server.close();
+        this.queue.clearResponseCache();
+    }
+
+    @Test
+    public void testIdenticalRequestsShared() throws Exception {
+        long shared = this.queue.getCoalescedRequests() + this.queue.getResponseCacheHits();
+        AtomicInteger responses = new AtomicInteger();
+
+        this.send(Request.Method.GET, "shared", REQUESTS, true, responses);
+
+        assertEquals(1, this.server.getRequests());
+        assertEquals(REQUESTS, responses.get());
+        assertEquals(REQUESTS - 1, this.queue.getCoalescedRequests() + this.queue.getResponseCacheHits() - shared);
+    }
+
+    @Test
+    public void testWriteClearsCache() throws Exception {
+        AtomicInteger responses = new AtomicInteger();
+
+        this.send(Request.Method.GET, "written", 1, true, responses);
+        this.send(Request.Method.GET, "written", 1, true, responses);
+
+        assertEquals(1, this.server.getRequests());
+
+        this.send(Request.Method.POST, "written", 1, true, responses);
+        this.send(Request.Method.GET, "written", 1, true, responses);
+
+        assertEquals(3, this.server.getRequests());
+        assertEquals(4, responses.get());
+    }
+
+    @Test
+    public void testNotCacheableRequestsSent() throws Exception {
+        AtomicInteger responses = new AtomicInteger();
+
+        this.send(Request.Method.GET, "not_cacheable", REQUESTS, false, responses);
+
+        assertEquals(REQUESTS, this.server.getRequests());
+        assertEquals(REQUESTS, responses.get());
+    }
+
+    /**
+     * Sends identical requests to a path of the stand-in server at the same time and waits for them.
+     * @param method The method of the requests.
+     * @param path The path.
+     * @param count The number of requests.
+     * @param cacheable true if the requests are cacheable else false.
+     * @param responses The counter of the received responses.
+     * @throws Exception If the requests are not finished before the timeout.
+     */
+    private void send(int method, String path, int count, boolean cacheable, final AtomicInteger responses)
+            throws Exception {
+        List<HTTPRequestFuture<?>> handles = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            StringRequest request = new StringRequest(method, this.server.url(path),
+                                                      response -> responses.incrementAndGet(), null);
+
+            request.setShouldCache(cacheable);
+            handles.add(this.queue.addToRequestQueue(SENDER, request));
+        }
+
+        HTTPRequestFuture.all(handles).get(TIMEOUT, TimeUnit.SECONDS);
+    }
+}
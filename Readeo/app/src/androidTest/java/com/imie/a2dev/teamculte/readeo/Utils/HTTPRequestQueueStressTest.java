@@ -0,0 +1,197 @@
+package com.imie.a2dev.teamculte.readeo.Utils;
+
+import android.content.Context;
+import android.support.test.InstrumentationRegistry;
+
+import com.android.volley.DefaultRetryPolicy;
+import com.android.volley.Request;
+import com.android.volley.toolbox.StringRequest;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Stress test firing thousands of concurrent requests (from several threads and for several senders) against a local
+ * stand-in HTTP server, checking that every request is accounted exactly once.
+ */
+public final class HTTPRequestQueueStressTest {
+    /**
+     * Defines the number of requests sent by each sender.
+     */
+    private final int REQUESTS = 1000;
+
+    /**
+     * Defines the senders of the requests.
+     */
+    private final String[] SENDERS = {"stress_a", "stress_b", "stress_c"};
+
+    /**
+     * Defines the number of threads adding the requests of a sender.
+     */
+    private final int PRODUCERS = 4;
+
+    /**
+     * Defines one request out of ERROR_RATE answered with an error.
+     */
+    private final int ERROR_RATE = 10;
+
+    /**
+     * Defines the timeout of the test (s).
+     */
+    private final int TIMEOUT = 120;
+
+    /**
+     * Stores the context used to get the request queue.
+     */
+    private Context context = InstrumentationRegistry.getTargetContext();
+
+    /**
+     * Stores the stand-in server answering 404 for the error path, else 200.
+     */
+    private StandInServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        this.server = new StandInServer(0, query -> (query.getPath().contains("/error")) ?
+                StandInServer.Reply.text(StandInServer.NOT_FOUND, "error") :
+                StandInServer.Reply.text(StandInServer.OK, "ok"));
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        this.server.close();
+    }
+
+    @Test
+    public void testCompletionAccounting() throws Exception {
+        final HTTPRequestQueueSingleton queue = HTTPRequestQueueSingleton.getInstance(this.context);
+        final List<HTTPRequestFuture<?>> handles = Collections.synchronizedList(new ArrayList<HTTPRequestFuture<?>>());
+        final AtomicInteger successes = new AtomicInteger();
+        final AtomicInteger errors = new AtomicInteger();
+        List<CountingListener> firstListeners = new ArrayList<>();
+        List<CountingListener> secondListeners = new ArrayList<>();
+        List<Thread> producers = new ArrayList<>();
+
+        for (String sender : SENDERS) {
+            CountingListener first = new CountingListener();
+            CountingListener second = new CountingListener();
+
+            queue.addListener(sender, first);
+            queue.addListener(sender, second);
+            queue.addListener(sender, second);
+            firstListeners.add(first);
+            secondListeners.add(second);
+
+            for (int p = 0; p < PRODUCERS; p++) {
+                final int producer = p;
+
+                producers.add(new Thread(() -> {
+                    for (int i = producer; i < REQUESTS; i += PRODUCERS) {
+                        String path = (i % ERROR_RATE == 0) ? "error" : "ok";
+                        StringRequest request = new StringRequest(Request.Method.GET, this.server.url(path),
+                                                                  response -> successes.incrementAndGet(),
+                                                                  error -> errors.incrementAndGet());
+
+                        request.setRetryPolicy(new DefaultRetryPolicy(TIMEOUT * 1000, 0, 1f));
+                        request.setShouldCache(false);
+                        handles.add(queue.addToRequestQueue(sender, request));
+                    }
+                }));
+            }
+        }
+
+        for (Thread producer : producers) {
+            producer.start();
+        }
+
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        HTTPRequestFuture.all(handles).get(TIMEOUT, TimeUnit.SECONDS);
+
+        int total = SENDERS.length * REQUESTS;
+        int expectedErrors = SENDERS.length * (REQUESTS / ERROR_RATE);
+
+        assertEquals(total, handles.size());
+        assertEquals(total, this.server.getRequests());
+        assertEquals(expectedErrors, errors.get());
+        assertEquals(total - expectedErrors, successes.get());
+
+        for (int i = 0; i < SENDERS.length; i++) {
+            assertTrue(queue.awaitRequests(SENDERS[i], 0, TimeUnit.SECONDS));
+            assertFalse(queue.hasRequestPending(SENDERS[i]));
+            assertEquals(REQUESTS, firstListeners.get(i).finished.get());
+            assertEquals(REQUESTS, secondListeners.get(i).finished.get());
+            assertTrue(firstListeners.get(i).allFinished.get() >= 1);
+            assertEquals(firstListeners.get(i).allFinished.get(), secondListeners.get(i).allFinished.get());
+
+            queue.removeListener(SENDERS[i], firstListeners.get(i));
+            queue.removeListener(SENDERS[i], secondListeners.get(i));
+        }
+
+        for (HTTPRequestFuture<?> handle : handles) {
+            assertTrue(handle.isDone());
+            assertFalse(handle.isCancelled());
+        }
+    }
+
+    @Test
+    public void testCancelledRequest() throws Exception {
+        HTTPRequestQueueSingleton queue = HTTPRequestQueueSingleton.getInstance(this.context);
+        StringRequest request = new StringRequest(Request.Method.GET, this.server.url("ok"), null, null);
+        HTTPRequestFuture<Void> handle = queue.addToRequestQueue(SENDERS[0], request);
+
+        request.cancel();
+
+        assertTrue(queue.awaitRequests(SENDERS[0], TIMEOUT, TimeUnit.SECONDS));
+        assertEquals(0, queue.getRequestsPending(SENDERS[0]));
+
+        try {
+            handle.get(TIMEOUT, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            assertTrue(handle.isCancelled());
+        }
+    }
+
+    /**
+     * Listener counting the notifications of the queue.
+     */
+    private static final class CountingListener implements HTTPRequestQueueSingleton.HTTPRequestQueueListener {
+        /**
+         * Stores the number of finished requests.
+         */
+        private final AtomicInteger finished = new AtomicInteger();
+
+        /**
+         * Stores the number of times all the requests were finished.
+         */
+        private final AtomicInteger allFinished = new AtomicInteger();
+
+        @Override
+        public void onRequestsFinished() {
+            this.allFinished.incrementAndGet();
+        }
+
+        @Override
+        public void onRequestFinished() {
+            this.finished.incrementAndGet();
+        }
+
+        @Override
+        public void onRequestError() {
+            // Nothing to do.
+        }
+    }
+}
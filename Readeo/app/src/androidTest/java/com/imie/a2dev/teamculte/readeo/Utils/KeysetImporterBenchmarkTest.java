@@ -0,0 +1,174 @@
+package com.imie.a2dev.teamculte.readeo.Utils;
+
+import android.util.Log;
+
+import com.google.gson.stream.JsonReader;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.CommonDBSchema;
+
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Micro-benchmark of the import of 1M ids paginated by a local stand-in server with 1, 3 and 6 pages in flight
+ * (results are logged).
+ */
+public final class KeysetImporterBenchmarkTest {
+    /**
+     * Defines the log tag of the results.
+     */
+    private static final String TAG = "KeysetImporterBenchmark";
+
+    /**
+     * Defines the number of imported ids.
+     */
+    private final int IDS = 1000000;
+
+    /**
+     * Defines the number of ids of a page (the API pagination).
+     */
+    private final int PAGE_SIZE = 2000;
+
+    /**
+     * Defines the latency of the stand-in server (ms).
+     */
+    private final int LATENCY = 5;
+
+    /**
+     * Defines the number of threads fetching the pages (as the request queue network threads).
+     */
+    private final int NETWORK_THREADS = 4;
+
+    @Test
+    public void benchmarkImport() throws Exception {
+        try (StandInServer server = new StandInServer(LATENCY, this::answer)) {
+            String url = server.url("read.php?above&id=%s&max=%s");
+
+            for (int pagesInFlight : new int[]{1, 3, 6}) {
+                this.benchmark(url, pagesInFlight);
+            }
+        }
+    }
+
+    /**
+     * Imports the ids of the stand-in server and logs the import time.
+     * @param url The url format of the pages.
+     * @param pagesInFlight The maximum number of pages fetched and not committed yet.
+     * @throws InterruptedException If interrupted while waiting for the import.
+     */
+    private void benchmark(final String url, int pagesInFlight) throws InterruptedException {
+        final ExecutorService network = Executors.newFixedThreadPool(NETWORK_THREADS);
+        final CountDownLatch done = new CountDownLatch(1);
+        final long[] lastId = {0};
+        long start = System.nanoTime();
+
+        KeysetImporter<List<Integer>> importer = new KeysetImporter<>(new KeysetImporter.PageSource<List<Integer>>() {
+            @Override
+            public void fetch(final KeysetImporter<List<Integer>> importer, final int page, final long after,
+                              final long to) {
+                network.execute(() -> {
+                    try {
+                        importer.onPageFetched(page, KeysetImporterBenchmarkTest.this.read(String.format(url, after,
+                                                                                                          to)));
+                    } catch (IOException e) {
+                        importer.onPageFailed(page);
+                    }
+                });
+            }
+
+            @Override
+            public int commit(List<Integer> rows, long to) {
+                for (int id : rows) {
+                    assertTrue(id > lastId[0]);
+
+                    lastId[0] = id;
+                }
+
+                return rows.size();
+            }
+        }, pagesInFlight, PAGE_SIZE, finished -> done.countDown());
+
+        importer.start(0, IDS);
+
+        assertTrue(done.await(5, TimeUnit.MINUTES));
+
+        network.shutdown();
+
+        assertTrue(importer.isFinished());
+        assertEquals(IDS - IDS / 50, importer.getCommittedRows());
+
+        Log.i(TAG, String.format("%d rows, %d pages in flight in %.0f ms", importer.getCommittedRows(),
+                                 pagesInFlight, (System.nanoTime() - start) / 1e6));
+    }
+
+    /**
+     * Stand-in server handler returning the rows of the ids above the id parameter and up to the max parameter (the
+     * ids multiple of 50 being deleted).
+     * @param query The received request.
+     * @return The response.
+     * @throws JSONException If a value can not be put.
+     */
+    private StandInServer.Reply answer(StandInServer.Query query) throws JSONException {
+        String[] params = query.getQueryString().split("&");
+        long after = Long.parseLong(params[1].substring(params[1].indexOf('=') + 1));
+        long to = Long.parseLong(params[2].substring(params[2].indexOf('=') + 1));
+        JSONArray rows = new JSONArray();
+
+        for (long id = after + 1; id <= to; id++) {
+            if (id % 50 != 0) {
+                rows.put(BookFixtures.book((int) id, "benchmark").put(CommonDBSchema.UPDATE, "2019-01-01 00:00:00"));
+            }
+        }
+
+        return StandInServer.Reply.json(StandInServer.OK, rows.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Requests a page of the stand-in server and reads the ids of its rows with a pull parser.
+     * @param url The url of the page.
+     * @return The ids of the rows.
+     * @throws IOException If the request failed.
+     */
+    private List<Integer> read(String url) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        List<Integer> ids = new ArrayList<>();
+
+        try (JsonReader reader = new JsonReader(new InputStreamReader(connection.getInputStream(),
+                                                                      StandardCharsets.UTF_8))) {
+            reader.beginArray();
+
+            while (reader.hasNext()) {
+                reader.beginObject();
+
+                while (reader.hasNext()) {
+                    if (reader.nextName().equals("id_book")) {
+                        ids.add(Integer.parseInt(reader.nextString()));
+                    } else {
+                        reader.skipValue();
+                    }
+                }
+
+                reader.endObject();
+            }
+
+            reader.endArray();
+        }
+
+        return ids;
+    }
+}
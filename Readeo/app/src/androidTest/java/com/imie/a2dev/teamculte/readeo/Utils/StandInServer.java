@@ -0,0 +1,361 @@
+package com.imie.a2dev.teamculte.readeo.Utils;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Local stand-in HTTP server used by the instrumented tests instead of the API: each request is answered by the
+ * handler after a fixed latency (one connection by request), the received requests and the exchanged bytes are
+ * counted.
+ */
+public final class StandInServer implements Closeable {
+    /**
+     * Defines the status of a successful response.
+     */
+    public static final String OK = "200 OK";
+
+    /**
+     * Defines the status of a not modified response.
+     */
+    public static final String NOT_MODIFIED = "304 Not Modified";
+
+    /**
+     * Defines the status of a not found response.
+     */
+    public static final String NOT_FOUND = "404 Not Found";
+
+    /**
+     * Defines the status of a response whose handler failed.
+     */
+    public static final String SERVER_ERROR = "500 Internal Server Error";
+
+    /**
+     * Defines the maximum number of connections waiting to be accepted.
+     */
+    private static final int BACKLOG = 1024;
+
+    /**
+     * Defines the number of threads answering the requests.
+     */
+    private static final int THREADS = 8;
+
+    /**
+     * Stores the latency of the responses (ms).
+     */
+    private final int latency;
+
+    /**
+     * Stores the handler answering the requests.
+     */
+    private final Handler handler;
+
+    /**
+     * Stores the server socket.
+     */
+    private final ServerSocket server;
+
+    /**
+     * Stores the threads answering the requests.
+     */
+    private final ExecutorService workers = Executors.newFixedThreadPool(THREADS);
+
+    /**
+     * Stores the number of received requests.
+     */
+    private final AtomicInteger requests = new AtomicInteger();
+
+    /**
+     * Stores the number of bytes exchanged (requests and responses heads and bodies).
+     */
+    private final AtomicLong bytes = new AtomicLong();
+
+    /**
+     * StandInServer's full filled constructor, starts the server on a free local port.
+     * @param latency The latency of the responses (ms).
+     * @param handler The handler answering the requests.
+     * @throws IOException If the server socket can not be opened.
+     */
+    public StandInServer(int latency, Handler handler) throws IOException {
+        this.latency = latency;
+        this.handler = handler;
+        this.server = new ServerSocket(0, BACKLOG, InetAddress.getByName("127.0.0.1"));
+
+        Thread acceptor = new Thread(() -> {
+            while (!this.server.isClosed()) {
+                try {
+                    Socket socket = this.server.accept();
+
+                    this.workers.execute(() -> this.answer(socket));
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        });
+
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    /**
+     * Gets the url of a path of the server.
+     * @param path The path (without leading slash).
+     * @return The url.
+     */
+    public String url(String path) {
+        return "http://127.0.0.1:" + this.server.getLocalPort() + "/" + path;
+    }
+
+    /**
+     * Gets the number of received requests.
+     * @return The number of requests.
+     */
+    public int getRequests() {
+        return this.requests.get();
+    }
+
+    /**
+     * Resets the number of received requests.
+     * @return The number of requests before the reset.
+     */
+    public int resetRequests() {
+        return this.requests.getAndSet(0);
+    }
+
+    /**
+     * Gets the number of bytes exchanged, counted before each response is written.
+     * @return The number of bytes.
+     */
+    public long getBytes() {
+        return this.bytes.get();
+    }
+
+    /**
+     * Stops the server.
+     * @throws IOException If the server socket can not be closed.
+     */
+    @Override
+    public void close() throws IOException {
+        this.server.close();
+        this.workers.shutdownNow();
+    }
+
+    /**
+     * Reads a request, waits for the latency then writes the response of the handler (500 if it failed).
+     * @param socket The socket of the request.
+     */
+    private void answer(Socket socket) {
+        try (Socket client = socket) {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(client.getInputStream(),
+                                                                             StandardCharsets.UTF_8));
+            String requestLine = reader.readLine();
+
+            if (requestLine == null) {
+                return;
+            }
+
+            Map<String, String> headers = new HashMap<>();
+            String header = reader.readLine();
+            long received = requestLine.length() + 2;
+
+            while (header != null && !header.isEmpty()) {
+                int separator = header.indexOf(':');
+
+                headers.put(header.substring(0, separator).trim().toLowerCase(Locale.US),
+                            header.substring(separator + 1).trim());
+
+                received += header.length() + 2;
+                header = reader.readLine();
+            }
+
+            this.requests.incrementAndGet();
+            Thread.sleep(this.latency);
+
+            String[] parts = requestLine.split(" ");
+            Reply reply;
+
+            try {
+                reply = this.handler.answer(new Query(parts[0], parts[1], headers));
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Exception e) {
+                reply = Reply.text(SERVER_ERROR, e.toString());
+            }
+
+            StringBuilder head = new StringBuilder("HTTP/1.1 ").append(reply.status).append("\r\n");
+
+            for (Map.Entry<String, String> entry : reply.headers.entrySet()) {
+                head.append(entry.getKey()).append(": ").append(entry.getValue()).append("\r\n");
+            }
+
+            head.append(String.format(Locale.US, "Content-Length: %d\r\nConnection: close\r\n\r\n",
+                                      reply.body.length));
+
+            byte[] headBytes = head.toString().getBytes(StandardCharsets.UTF_8);
+            OutputStream output = client.getOutputStream();
+
+            this.bytes.addAndGet(received + headBytes.length + reply.body.length);
+            output.write(headBytes);
+            output.write(reply.body);
+            output.flush();
+        } catch (IOException | InterruptedException e) {
+            // The client closed the connection or the server is stopped.
+        }
+    }
+
+    /**
+     * Interface used to answer the requests of the server (called on the server threads).
+     */
+    public interface Handler {
+        /**
+         * Answers a request.
+         * @param query The received request.
+         * @return The response.
+         * @throws Exception If the request can not be answered (answered 500).
+         */
+        Reply answer(Query query) throws Exception;
+    }
+
+    /**
+     * Class used to hold a request received by the server.
+     */
+    public static final class Query {
+        /**
+         * Stores the method of the request.
+         */
+        private final String method;
+
+        /**
+         * Stores the path of the request (with its query string).
+         */
+        private final String path;
+
+        /**
+         * Stores the headers of the request by lower case name.
+         */
+        private final Map<String, String> headers;
+
+        /**
+         * Query's full filled constructor.
+         * @param method The method of the request.
+         * @param path The path of the request (with its query string).
+         * @param headers The headers of the request by lower case name.
+         */
+        private Query(String method, String path, Map<String, String> headers) {
+            this.method = method;
+            this.path = path;
+            this.headers = headers;
+        }
+
+        /**
+         * Gets the method of the request.
+         * @return The method.
+         */
+        public String getMethod() {
+            return this.method;
+        }
+
+        /**
+         * Gets the path of the request (with its query string).
+         * @return The path.
+         */
+        public String getPath() {
+            return this.path;
+        }
+
+        /**
+         * Gets the query string of the request.
+         * @return The query string (empty if none).
+         */
+        public String getQueryString() {
+            int start = this.path.indexOf('?');
+
+            return (start != -1) ? this.path.substring(start + 1) : "";
+        }
+
+        /**
+         * Gets a header of the request.
+         * @param name The name of the header (case insensitive).
+         * @return The value of the header (null if not sent).
+         */
+        public String getHeader(String name) {
+            return this.headers.get(name.toLowerCase(Locale.US));
+        }
+    }
+
+    /**
+     * Class used to build a response of the server.
+     */
+    public static final class Reply {
+        /**
+         * Stores the status of the response.
+         */
+        private final String status;
+
+        /**
+         * Stores the headers of the response by name.
+         */
+        private final Map<String, String> headers = new LinkedHashMap<>();
+
+        /**
+         * Stores the body of the response.
+         */
+        private final byte[] body;
+
+        /**
+         * Reply's full filled constructor.
+         * @param status The status of the response (as OK).
+         * @param body The body of the response.
+         */
+        public Reply(String status, byte[] body) {
+            this.status = status;
+            this.body = body;
+        }
+
+        /**
+         * Builds a plain text response.
+         * @param status The status of the response.
+         * @param body The body of the response.
+         * @return The response.
+         */
+        public static Reply text(String status, String body) {
+            return new Reply(status, body.getBytes(StandardCharsets.UTF_8)).header("Content-Type", "text/plain");
+        }
+
+        /**
+         * Builds a JSON response.
+         * @param status The status of the response.
+         * @param body The body of the response.
+         * @return The response.
+         */
+        public static Reply json(String status, byte[] body) {
+            return new Reply(status, body).header("Content-Type", "application/json; charset=UTF-8");
+        }
+
+        /**
+         * Adds a header to the response.
+         * @param name The name of the header.
+         * @param value The value of the header.
+         * @return The response.
+         */
+        public Reply header(String name, String value) {
+            this.headers.put(name, value);
+
+            return this;
+        }
+    }
+}
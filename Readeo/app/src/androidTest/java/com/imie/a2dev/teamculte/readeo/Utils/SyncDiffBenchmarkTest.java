@@ -0,0 +1,77 @@
+package com.imie.a2dev.teamculte.readeo.Utils;
+
+import android.util.Log;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * Micro-benchmark of the diff of random local and distant snapshots of about 1M keys each, for keys of 1 to 3 ids
+ * (results are logged).
+ */
+public final class SyncDiffBenchmarkTest {
+    /**
+     * Defines the log tag of the results.
+     */
+    private static final String TAG = "SyncDiffBenchmark";
+
+    /**
+     * Defines the number of possible keys (about half of them in each snapshot).
+     */
+    private final int UNIVERSE = 2000000;
+
+    /**
+     * Defines the number of values of each id of a composite key.
+     */
+    private final int ID_RANGE = 200;
+
+    /**
+     * Defines the last update of the entities (ms).
+     */
+    private final long UPDATE = 1546300800000L;
+
+    @Test
+    public void benchmarkCompute() {
+        for (int width = 1; width <= 3; width++) {
+            Random random = new Random(width);
+            SyncSnapshot local = new SyncSnapshot(width, UNIVERSE / 2);
+            SyncSnapshot distant = new SyncSnapshot(width, UNIVERSE / 2);
+
+            for (int key = 0; key < UNIVERSE; key++) {
+                if (random.nextBoolean()) {
+                    local.add(this.decode(key, width), UPDATE);
+                }
+
+                if (random.nextBoolean()) {
+                    distant.add(this.decode(key, width), UPDATE + ((random.nextInt(10) == 0) ? 1000 : 0));
+                }
+            }
+
+            long start = System.nanoTime();
+            SyncDiff diff = SyncDiff.compute(local, distant);
+            long elapsed = System.nanoTime() - start;
+
+            Log.i(TAG, String.format("width %d: %d local / %d distant keys -> %d create, %d update, %d delete in " +
+                                     "%.1f ms", width, local.size(), distant.size(), diff.getToCreate().size(),
+                                     diff.getToUpdate().size(), diff.getToDelete().size(), elapsed / 1e6));
+        }
+    }
+
+    /**
+     * Decodes a key number into its ids (ordered as the key numbers).
+     * @param key The key number.
+     * @param width The number of ids of a key.
+     * @return The ids.
+     */
+    private int[] decode(int key, int width) {
+        int[] ids = new int[width];
+
+        for (int k = width - 1; k >= 0; k--) {
+            ids[k] = (k == 0) ? key : key % ID_RANGE;
+            key /= ID_RANGE;
+        }
+
+        return ids;
+    }
+}
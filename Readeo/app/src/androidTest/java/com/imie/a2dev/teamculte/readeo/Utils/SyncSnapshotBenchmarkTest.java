@@ -0,0 +1,46 @@
+package com.imie.a2dev.teamculte.readeo.Utils;
+
+import android.util.Log;
+
+import com.imie.a2dev.teamculte.readeo.DBSchemas.CommonDBSchema;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.junit.Test;
+
+/**
+ * Micro-benchmark of the parsing of the last updates of 100k rows into a snapshot (results are logged).
+ */
+public final class SyncSnapshotBenchmarkTest {
+    /**
+     * Defines the log tag of the results.
+     */
+    private static final String TAG = "SyncSnapshotBenchmark";
+
+    /**
+     * Defines the number of parsed rows.
+     */
+    private final int ROWS = 100000;
+
+    @Test
+    public void benchmarkParse() {
+        String[] dates = new String[ROWS];
+        int[] key = new int[2];
+
+        for (int i = 0; i < ROWS; i++) {
+            dates[i] = new DateTime(1546300800000L + i * 1000L, DateTimeZone.UTC)
+                    .toString(CommonDBSchema.DEFAULT_FORMAT);
+        }
+
+        long start = System.nanoTime();
+        SyncSnapshot snapshot = new SyncSnapshot(2, ROWS);
+
+        for (int i = 0; i < ROWS; i++) {
+            key[0] = i;
+            key[1] = i;
+            snapshot.add(key, SyncSnapshot.parseMillis(dates[i]));
+        }
+
+        Log.i(TAG, String.format("%d rows in %.1f ms", snapshot.size(), (System.nanoTime() - start) / 1e6));
+    }
+}
@@ -125,4 +125,34 @@ public abstract class APIManager {
      */
     public static final String TEST = "test";
 
+    /**
+     * Defines the parameter name for querying the entities updated after a date (given as last update parameter).
+     */
+    public static final String NEW = "new";
+
+    /**
+     * Defines the parameter name for querying the entities having an id above the given one (given as id parameter).
+     */
+    public static final String ABOVE = "above";
+
+    /**
+     * Defines the parameter name for querying the entities from a comma separated list of ids.
+     */
+    public static final String IDS = "ids";
+
+    /**
+     * Defines the parameter name of the highest id queried with the above parameter (no upper bound if not given).
+     */
+    public static final String MAX = "max";
+
+    /**
+     * Defines the parameter name for querying the lowest and the highest ids of the entities (json values min and max).
+     */
+    public static final String BOUNDS = "bounds";
+
+    /**
+     * Defines the parameter name for querying a user with everything needed at login (users only, with the id).
+     */
+    public static final String BUNDLE = "bundle";
+
 }
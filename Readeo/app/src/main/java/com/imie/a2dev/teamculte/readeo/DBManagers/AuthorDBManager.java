@@ -4,6 +4,7 @@ import android.content.ContentValues;
 import android.content.Context;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteException;
+import android.database.sqlite.SQLiteStatement;
 import android.support.annotation.NonNull;
 
 import com.android.volley.NetworkResponse;
@@ -15,9 +16,9 @@ import com.android.volley.toolbox.JsonArrayRequest;
 import com.android.volley.toolbox.StringRequest;
 import com.imie.a2dev.teamculte.readeo.APIManager;
 import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Author;
+import com.imie.a2dev.teamculte.readeo.Utils.HTTPRequestFuture;
 import com.imie.a2dev.teamculte.readeo.Utils.HTTPRequestQueueSingleton;
 
-import org.joda.time.DateTime;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
@@ -31,13 +32,29 @@ import java.util.regex.Pattern;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.AuthorDBSchema.TABLE;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.AuthorDBSchema.ID;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.AuthorDBSchema.NAME;
-import static com.imie.a2dev.teamculte.readeo.DBSchemas.CommonDBSchema.DEFAULT_FORMAT;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.CommonDBSchema.UPDATE;
 
 /**
  * Manager class used to manage the author entities from databases.
  */
 public final class AuthorDBManager extends SimpleDBManager {
+    /**
+     * Defines the compiled insert statement.
+     */
+    private static final String INSERT_STATEMENT = String.format("INSERT INTO %s (%s, %s) VALUES (?, ?)",
+                                                                 TABLE,
+                                                                 ID,
+                                                                 NAME);
+
+    /**
+     * Defines the compiled update statement.
+     */
+    private static final String UPDATE_STATEMENT = String.format("UPDATE %s SET %s = ?, %s = ? WHERE %s = ?",
+                                                                 TABLE,
+                                                                 NAME,
+                                                                 UPDATE,
+                                                                 ID);
+
     /**
      * AuthorDBManager's constructor.
      * @param context The associated context.
@@ -84,7 +101,7 @@ public final class AuthorDBManager extends SimpleDBManager {
             String[] whereArgs = new String[]{String.valueOf(entity.getId())};
 
             data.put(NAME, entity.getName());
-            data.put(UPDATE, new DateTime().toString(DEFAULT_FORMAT));
+            data.put(UPDATE, currentUpdate());
 
             return this.database.update(this.table, data, whereClause, whereArgs) != 0;
         } catch (SQLiteException e) {
@@ -146,6 +163,16 @@ public final class AuthorDBManager extends SimpleDBManager {
      * @param author The author to create.
      */
     public void createMySQL(final Author author) {
+        this.await(this.createMySQLAsync(author), null, "createMySQL");
+    }
+
+    /**
+     * Creates a author entity in MySQL database.
+     * @param author The author to create.
+     * @return The future of the author (completed once created, with the id given by the API).
+     */
+    public HTTPRequestFuture<Author> createMySQLAsync(final Author author) {
+        final HTTPRequestFuture<Author> future = new HTTPRequestFuture<>();
         String url = this.baseUrl + APIManager.CREATE;
         Map<String, String> param = new HashMap<>();
 
@@ -163,8 +190,7 @@ public final class AuthorDBManager extends SimpleDBManager {
 
             @Override
             protected VolleyError parseNetworkError(VolleyError volleyError) {
-                HTTPRequestQueueSingleton.getInstance(AuthorDBManager.this.getContext())
-                                         .finishRequest(AuthorDBManager.this.table);
+                future.fail(volleyError);
 
                 return super.parseNetworkError(volleyError);
             }
@@ -178,11 +204,12 @@ public final class AuthorDBManager extends SimpleDBManager {
                     if (pattern.matcher(resp).find()) {
                         author.setId(Integer.valueOf(resp));
                     }
+
+                    future.complete(author);
                 } catch (IOException e) {
                     AuthorDBManager.this.logError("createMySQL", e);
-                } finally {
-                    HTTPRequestQueueSingleton.getInstance(AuthorDBManager.this.getContext())
-                                             .finishRequest(AuthorDBManager.this.table);
+
+                    future.fail(e);
                 }
 
                 return super.parseNetworkResponse(response);
@@ -190,7 +217,8 @@ public final class AuthorDBManager extends SimpleDBManager {
         };
 
         HTTPRequestQueueSingleton.getInstance(this.getContext()).addToRequestQueue(this.table, request);
-        this.waitForResponse();
+
+        return future;
     }
 
     /**
@@ -199,6 +227,16 @@ public final class AuthorDBManager extends SimpleDBManager {
      * @return The loaded author.
      */
     public Author loadMySQL(int idAuthor) {
+        return this.await(this.loadMySQLAsync(idAuthor), null, "loadMySQL");
+    }
+
+    /**
+     * Loads an author from MySQL database.
+     * @param idAuthor The id of the author.
+     * @return The future of the loaded author (null if not found).
+     */
+    public HTTPRequestFuture<Author> loadMySQLAsync(int idAuthor) {
+        final HTTPRequestFuture<Author> future = new HTTPRequestFuture<>();
         final Author author = new Author();
         String url = this.baseUrl + APIManager.READ + ID + "=" + idAuthor;
 
@@ -213,38 +251,34 @@ public final class AuthorDBManager extends SimpleDBManager {
                     author.init(object);
                 } catch (Exception e) {
                     AuthorDBManager.this.logError("loadMySQL", e);
-                } finally {
-                    HTTPRequestQueueSingleton.getInstance(AuthorDBManager.this.getContext())
-                                             .finishRequest(AuthorDBManager.this.table);
                 }
 
+                future.complete((author.isEmpty()) ? null : author);
+
                 return super.parseNetworkResponse(response);
             }
 
             @Override
             protected VolleyError parseNetworkError(VolleyError volleyError) {
-                HTTPRequestQueueSingleton.getInstance(AuthorDBManager.this.getContext())
-                                         .finishRequest(AuthorDBManager.this.table);
+                future.fail(volleyError);
 
                 return super.parseNetworkError(volleyError);
             }
         };
 
         HTTPRequestQueueSingleton.getInstance(this.getContext()).addToRequestQueue(this.table, request);
-        this.waitForResponse();
 
-        return (author.isEmpty()) ? null : author;
+        return future;
     }
 
     @Override
     public boolean createSQLite(@NonNull JSONObject entity) {
         try {
-            ContentValues data = new ContentValues();
+            SQLiteStatement statement = this.getStatement(INSERT_STATEMENT);
 
-            data.put(ID, entity.getInt(ID));
-            data.put(NAME, entity.getString(NAME));
-
-            this.database.insertOrThrow(this.table, null, data);
+            statement.bindLong(1, entity.getInt(ID));
+            statement.bindString(2, entity.getString(NAME));
+            statement.executeInsert();
 
             return true;
         } catch (Exception e) {
@@ -257,14 +291,13 @@ public final class AuthorDBManager extends SimpleDBManager {
     @Override
     public boolean updateSQLite(@NonNull JSONObject entity) {
         try {
-            ContentValues data = new ContentValues();
-            String whereClause = String.format("%s = ?", ID);
-            String[] whereArgs = new String[]{entity.getString(ID)};
+            SQLiteStatement statement = this.getStatement(UPDATE_STATEMENT);
 
-            data.put(NAME, entity.getString(NAME));
-            data.put(UPDATE, new DateTime().toString(DEFAULT_FORMAT));
+            statement.bindString(1, entity.getString(NAME));
+            statement.bindString(2, currentUpdate());
+            statement.bindLong(3, entity.getInt(ID));
 
-            return this.database.update(this.table, data, whereClause, whereArgs) != 0;
+            return statement.executeUpdateDelete() != 0;
         } catch (Exception e) {
             this.logError("updateSQLite", e);
 
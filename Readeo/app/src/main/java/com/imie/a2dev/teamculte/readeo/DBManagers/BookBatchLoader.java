@@ -0,0 +1,309 @@
+package com.imie.a2dev.teamculte.readeo.DBManagers;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteDatabase;
+import android.support.annotation.NonNull;
+import android.util.SparseArray;
+
+import com.imie.a2dev.teamculte.readeo.DBSchemas.AuthorDBSchema;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.BookDBSchema;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.CategoryDBSchema;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.QuoteDBSchema;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.ReviewDBSchema;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.WriterDBSchema;
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Author;
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Book;
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Category;
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Quote;
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Review;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Class used to load a page of books with a fixed number of queries: the book rows are read first, then each
+ * relation is fetched for the whole page with a single IN query and dispatched to its books in memory. The reviews
+ * and quotes are only fetched on demand through the prefetch methods.
+ */
+public final class BookBatchLoader {
+    /**
+     * Defines the maximum number of ids bound into a single IN clause (SQLite limits the bound arguments to 999).
+     */
+    static final int MAX_IN_IDS = 500;
+
+    /**
+     * Defines the categories query (the IN clause is appended).
+     */
+    private static final String CATEGORIES_QUERY = String.format("SELECT * FROM %s WHERE %s IN ",
+                                                                 CategoryDBSchema.TABLE,
+                                                                 CategoryDBSchema.ID);
+
+    /**
+     * Defines the authors query joined with the book ids (the IN clause is appended).
+     */
+    private static final String AUTHORS_QUERY = String.format("SELECT %s.%s, %s.* FROM %s INNER JOIN %s ON %s.%s = " +
+                                                              "%s.%s WHERE %s.%s IN ",
+                                                              WriterDBSchema.TABLE,
+                                                              WriterDBSchema.BOOK,
+                                                              AuthorDBSchema.TABLE,
+                                                              WriterDBSchema.TABLE,
+                                                              AuthorDBSchema.TABLE,
+                                                              AuthorDBSchema.TABLE,
+                                                              AuthorDBSchema.ID,
+                                                              WriterDBSchema.TABLE,
+                                                              WriterDBSchema.AUTHOR,
+                                                              WriterDBSchema.TABLE,
+                                                              WriterDBSchema.BOOK);
+
+    /**
+     * Defines the reviews query (the IN clause is appended).
+     */
+    private static final String REVIEWS_QUERY = String.format("SELECT * FROM %s WHERE %s IN ",
+                                                              ReviewDBSchema.TABLE,
+                                                              ReviewDBSchema.BOOK);
+
+    /**
+     * Defines the quotes query (the IN clause is appended).
+     */
+    private static final String QUOTES_QUERY = String.format("SELECT * FROM %s WHERE %s IN ",
+                                                             QuoteDBSchema.TABLE,
+                                                             QuoteDBSchema.BOOK);
+
+    /**
+     * Stores the database to query.
+     */
+    private SQLiteDatabase database;
+
+    /**
+     * BookBatchLoader's constructor.
+     * @param database The database to query.
+     */
+    public BookBatchLoader(@NonNull SQLiteDatabase database) {
+        this.database = database;
+    }
+
+    /**
+     * Reads all the book rows of a cursor (from its first row, the cursor is not closed) and loads their categories
+     * and authors with one query per relation (the reviews and quotes are loaded on first access unless prefetched).
+     * @param result The cursor containing the book rows.
+     * @return The list of loaded books.
+     */
+    public List<Book> load(@NonNull Cursor result) {
+        List<Book> books = new ArrayList<>();
+        List<Integer> categoryIds = new ArrayList<>();
+        int categoryColumn = result.getColumnIndexOrThrow(BookDBSchema.CATEGORY);
+
+        result.moveToPosition(-1);
+
+        while (result.moveToNext()) {
+            books.add(new Book(result, false, false));
+            categoryIds.add(result.getInt(categoryColumn));
+        }
+
+        this.loadCategories(books, categoryIds);
+        this.prefetchAuthors(books);
+
+        return books;
+    }
+
+    /**
+     * Loads the authors of all the given books not having them loaded yet, with one query per page of ids.
+     * @param books The books to prefetch.
+     */
+    public void prefetchAuthors(@NonNull List<Book> books) {
+        SparseArray<List<Book>> booksById = new SparseArray<>();
+
+        for (Book book : books) {
+            if (!book.isAuthorsLoaded()) {
+                book.setAuthors(new ArrayList<>());
+                this.index(booksById, book);
+            }
+        }
+
+        for (List<Integer> chunk : this.chunk(booksById)) {
+            Cursor result = this.database.rawQuery(AUTHORS_QUERY + BookBatchLoader.inClause(chunk.size()),
+                                                   BookBatchLoader.toArgs(chunk));
+            int bookColumn = result.getColumnIndexOrThrow(WriterDBSchema.BOOK);
+
+            while (result.moveToNext()) {
+                Author author = new Author(result, false);
+
+                for (Book book : booksById.get(result.getInt(bookColumn))) {
+                    book.getAuthors().add(author);
+                }
+            }
+
+            result.close();
+        }
+    }
+
+    /**
+     * Loads the reviews of all the given books not having them loaded yet, with one query per page of ids.
+     * @param books The books to prefetch.
+     */
+    public void prefetchReviews(@NonNull List<Book> books) {
+        SparseArray<List<Book>> booksById = new SparseArray<>();
+
+        for (Book book : books) {
+            if (!book.isReviewsLoaded()) {
+                book.setReviews(new ArrayList<>());
+                this.index(booksById, book);
+            }
+        }
+
+        for (List<Integer> chunk : this.chunk(booksById)) {
+            Cursor result = this.database.rawQuery(REVIEWS_QUERY + BookBatchLoader.inClause(chunk.size()),
+                                                   BookBatchLoader.toArgs(chunk));
+
+            while (result.moveToNext()) {
+                Review review = new Review(result, false);
+
+                for (Book book : booksById.get(review.getId())) {
+                    book.getReviews().add(review);
+                }
+            }
+
+            result.close();
+        }
+    }
+
+    /**
+     * Loads the quotes of all the given books not having them loaded yet, with one query per page of ids.
+     * @param books The books to prefetch.
+     */
+    public void prefetchQuotes(@NonNull List<Book> books) {
+        SparseArray<List<Book>> booksById = new SparseArray<>();
+
+        for (Book book : books) {
+            if (!book.isQuotesLoaded()) {
+                book.setQuotes(new ArrayList<>());
+                this.index(booksById, book);
+            }
+        }
+
+        for (List<Integer> chunk : this.chunk(booksById)) {
+            Cursor result = this.database.rawQuery(QUOTES_QUERY + BookBatchLoader.inClause(chunk.size()),
+                                                   BookBatchLoader.toArgs(chunk));
+            int bookColumn = result.getColumnIndexOrThrow(QuoteDBSchema.BOOK);
+
+            while (result.moveToNext()) {
+                Quote quote = new Quote(result, false);
+
+                for (Book book : booksById.get(result.getInt(bookColumn))) {
+                    book.getQuotes().add(quote);
+                }
+            }
+
+            result.close();
+        }
+    }
+
+    /**
+     * Loads the categories of the given books from the entity cache, the missing ones with one query per page of ids.
+     * @param books The books to set the category to.
+     * @param categoryIds The category ids of the books (in the same order).
+     */
+    private void loadCategories(List<Book> books, List<Integer> categoryIds) {
+        EntityCache cache = EntityCache.getInstance();
+        SparseArray<Category> categories = new SparseArray<>();
+        List<Integer> distinctIds = new ArrayList<>();
+
+        for (Integer id : new LinkedHashSet<>(categoryIds)) {
+            Category cached = (Category) cache.get(CategoryDBSchema.TABLE, id);
+
+            if (cached == null) {
+                distinctIds.add(id);
+            } else {
+                categories.put(id, cached);
+            }
+        }
+
+        for (int i = 0; i < distinctIds.size(); i += MAX_IN_IDS) {
+            List<Integer> chunk = distinctIds.subList(i, Math.min(distinctIds.size(), i + MAX_IN_IDS));
+            Cursor result = this.database.rawQuery(CATEGORIES_QUERY + BookBatchLoader.inClause(chunk.size()),
+                                                   BookBatchLoader.toArgs(chunk));
+
+            while (result.moveToNext()) {
+                Category category = new Category(result, false);
+
+                categories.put(category.getId(), category);
+                cache.put(CategoryDBSchema.TABLE, category);
+            }
+
+            result.close();
+        }
+
+        for (int i = 0; i < books.size(); i++) {
+            books.get(i).setCategory(categories.get(categoryIds.get(i)));
+        }
+    }
+
+    /**
+     * Indexes a book by its id (a book can appear more than once when a join query matched several rows).
+     * @param booksById The books indexed by id.
+     * @param book The book to index.
+     */
+    private void index(SparseArray<List<Book>> booksById, Book book) {
+        List<Book> sameId = booksById.get(book.getId());
+
+        if (sameId == null) {
+            sameId = new ArrayList<>();
+
+            booksById.put(book.getId(), sameId);
+        }
+
+        sameId.add(book);
+    }
+
+    /**
+     * Splits the indexed book ids into chunks small enough to be bound into an IN clause.
+     * @param booksById The books indexed by id.
+     * @return The list of chunks.
+     */
+    private List<List<Integer>> chunk(SparseArray<List<Book>> booksById) {
+        List<List<Integer>> chunks = new ArrayList<>();
+
+        for (int i = 0; i < booksById.size(); i += MAX_IN_IDS) {
+            List<Integer> chunk = new ArrayList<>();
+
+            for (int j = i; j < Math.min(booksById.size(), i + MAX_IN_IDS); j++) {
+                chunk.add(booksById.keyAt(j));
+            }
+
+            chunks.add(chunk);
+        }
+
+        return chunks;
+    }
+
+    /**
+     * Builds an IN clause with the given number of arguments.
+     * @param size The number of arguments.
+     * @return The IN clause.
+     */
+    static String inClause(int size) {
+        StringBuilder builder = new StringBuilder("(");
+
+        for (int i = 0; i < size; i++) {
+            builder.append((i == 0) ? "?" : ",?");
+        }
+
+        return builder.append(")").toString();
+    }
+
+    /**
+     * Converts a list of ids into query arguments.
+     * @param ids The ids to convert.
+     * @return The query arguments.
+     */
+    static String[] toArgs(List<Integer> ids) {
+        String[] args = new String[ids.size()];
+
+        for (int i = 0; i < ids.size(); i++) {
+            args[i] = String.valueOf(ids.get(i));
+        }
+
+        return args;
+    }
+}
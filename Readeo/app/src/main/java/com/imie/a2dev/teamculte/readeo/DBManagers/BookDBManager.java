@@ -4,7 +4,9 @@ import android.content.ContentValues;
 import android.content.Context;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteException;
+import android.database.sqlite.SQLiteStatement;
 import android.support.annotation.NonNull;
+import android.util.SparseArray;
 
 import com.android.volley.NetworkResponse;
 import com.android.volley.Request;
@@ -15,22 +17,29 @@ import com.android.volley.toolbox.JsonArrayRequest;
 import com.android.volley.toolbox.StringRequest;
 import com.imie.a2dev.teamculte.readeo.APIManager;
 import com.imie.a2dev.teamculte.readeo.DBSchemas.AuthorDBSchema;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.BookSearchDBSchema;
 import com.imie.a2dev.teamculte.readeo.DBSchemas.CategoryDBSchema;
 import com.imie.a2dev.teamculte.readeo.DBSchemas.WriterDBSchema;
 import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Book;
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.BookCard;
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Category;
+import com.imie.a2dev.teamculte.readeo.Utils.HTTPRequestFuture;
 import com.imie.a2dev.teamculte.readeo.Utils.HTTPRequestQueueSingleton;
+import com.imie.a2dev.teamculte.readeo.Utils.ManagerHolderUtils;
+import com.imie.a2dev.teamculte.readeo.Utils.SearchUtils;
 
-import org.joda.time.DateTime;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
 import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
 
+import static com.imie.a2dev.teamculte.readeo.DBSchemas.BookDBSchema.AUTHOR_NAMES;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.BookDBSchema.ID;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.BookDBSchema.TABLE;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.BookDBSchema.TITLE;
@@ -38,13 +47,100 @@ import static com.imie.a2dev.teamculte.readeo.DBSchemas.BookDBSchema.CATEGORY;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.BookDBSchema.COVER;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.BookDBSchema.SUMMARY;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.BookDBSchema.DATE;
-import static com.imie.a2dev.teamculte.readeo.DBSchemas.CommonDBSchema.DEFAULT_FORMAT;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.CommonDBSchema.UPDATE;
 
 /**
  * Manager class used to manage the book entities from databases.
  */
 public final class BookDBManager extends SimpleDBManager {
+    /**
+     * Defines the compiled insert statement.
+     */
+    private static final String INSERT_STATEMENT = String.format("INSERT INTO %s (%s, %s, %s, %s, %s, %s) VALUES " +
+                                                                 "(?, ?, ?, ?, ?, ?)",
+                                                                 TABLE,
+                                                                 ID,
+                                                                 TITLE,
+                                                                 CATEGORY,
+                                                                 COVER,
+                                                                 SUMMARY,
+                                                                 DATE);
+
+    /**
+     * Defines the compiled update statement.
+     */
+    private static final String UPDATE_STATEMENT = String.format("UPDATE %s SET %s = ?, %s = ?, %s = ?, %s = ?, " +
+                                                                 "%s = ?, %s = ? WHERE %s = ?",
+                                                                 TABLE,
+                                                                 TITLE,
+                                                                 CATEGORY,
+                                                                 COVER,
+                                                                 SUMMARY,
+                                                                 DATE,
+                                                                 UPDATE,
+                                                                 ID);
+
+    /**
+     * Defines the projection of the book card queries (book fields and the concatenated names of its authors).
+     */
+    private static final String CARD_COLUMNS = String.format("%s.%s, %s.%s, %s.%s, %s.%s, (SELECT " +
+                                                             "GROUP_CONCAT(%s.%s, '\n') FROM %s INNER JOIN %s ON " +
+                                                             "%s.%s = %s.%s WHERE %s.%s = %s.%s) AS %s",
+                                                             TABLE,
+                                                             ID,
+                                                             TABLE,
+                                                             TITLE,
+                                                             TABLE,
+                                                             COVER,
+                                                             TABLE,
+                                                             DATE,
+                                                             AuthorDBSchema.TABLE,
+                                                             AuthorDBSchema.NAME,
+                                                             WriterDBSchema.TABLE,
+                                                             AuthorDBSchema.TABLE,
+                                                             AuthorDBSchema.TABLE,
+                                                             AuthorDBSchema.ID,
+                                                             WriterDBSchema.TABLE,
+                                                             WriterDBSchema.AUTHOR,
+                                                             WriterDBSchema.TABLE,
+                                                             WriterDBSchema.BOOK,
+                                                             TABLE,
+                                                             ID,
+                                                             AUTHOR_NAMES);
+
+    /**
+     * Defines the book cards query (the IN clause of the ids is appended).
+     */
+    private static final String CARDS_QUERY = String.format("SELECT %s FROM %s WHERE %s.%s IN ",
+                                                            CARD_COLUMNS,
+                                                            TABLE,
+                                                            TABLE,
+                                                            ID);
+
+    /**
+     * Defines the full-text search query returning the matching book ids and their match info.
+     */
+    private static final String SEARCH_QUERY = String.format("SELECT %s, matchinfo(%s, '%s') FROM %s WHERE %s MATCH ?",
+                                                             BookSearchDBSchema.ID,
+                                                             BookSearchDBSchema.TABLE,
+                                                             SearchUtils.MATCH_INFO_FORMAT,
+                                                             BookSearchDBSchema.TABLE,
+                                                             BookSearchDBSchema.TABLE);
+
+    /**
+     * Defines the full-text search query returning the matching book ids in id order (unranked searches).
+     */
+    private static final String UNRANKED_SEARCH_QUERY = String.format("SELECT %s FROM %s WHERE %s MATCH ? ORDER BY %s",
+                                                                      BookSearchDBSchema.ID,
+                                                                      BookSearchDBSchema.TABLE,
+                                                                      BookSearchDBSchema.TABLE,
+                                                                      BookSearchDBSchema.ID);
+
+    /**
+     * Stores the loader used to hydrate the books relations with a fixed number of queries.
+     */
+    private BookBatchLoader batchLoader;
+
     /**
      * BookDBManager's constructor.
      * @param context The associated context.
@@ -55,6 +151,7 @@ public final class BookDBManager extends SimpleDBManager {
         this.table = TABLE;
         this.ids = new String[]{ID};
         this.baseUrl = APIManager.API_URL + APIManager.BOOKS;
+        this.batchLoader = new BookBatchLoader(this.database);
     }
 
     /**
@@ -99,7 +196,7 @@ public final class BookDBManager extends SimpleDBManager {
             data.put(COVER, entity.getCover());
             data.put(SUMMARY, entity.getSummary());
             data.put(DATE, entity.getDatePublished());
-            data.put(UPDATE, new DateTime().toString(DEFAULT_FORMAT));
+            data.put(UPDATE, currentUpdate());
 
             return this.database.update(this.table, data, whereClause, whereArgs) != 0;
         } catch (SQLiteException e) {
@@ -117,11 +214,21 @@ public final class BookDBManager extends SimpleDBManager {
     public Book loadSQLite(int id) {
         Cursor result = this.loadCursorSQLite(id);
 
-        if (result == null || result.getCount() == 0) {
+        if (result == null) {
             return null;
         }
 
-        return new Book(result);
+        try {
+            List<Book> books = this.batchLoader.load(result);
+
+            return (books.isEmpty()) ? null : books.get(0);
+        } catch (SQLiteException e) {
+            this.logError("loadSQLite", e);
+
+            return null;
+        } finally {
+            result.close();
+        }
     }
 
     /**
@@ -134,13 +241,11 @@ public final class BookDBManager extends SimpleDBManager {
         List<Book> books = new ArrayList<>();
 
         try {
-            String[] selectArgs = {filter};
+            String[] selectArgs = {likeStart(filter)};
             String query = String.format(this.SIMPLE_QUERY_ALL_LIKE_START, this.table, field);
             Cursor result = this.database.rawQuery(query, selectArgs);
 
-            while (result.moveToNext()) {
-                books.add(new Book(result, false));
-            }
+            books.addAll(this.batchLoader.load(result));
 
             result.close();
         } catch (SQLiteException e) {
@@ -163,13 +268,11 @@ public final class BookDBManager extends SimpleDBManager {
         List<Book> books = new ArrayList<>();
 
         try {
-            String[] selectArgs = {filter};
+            String[] selectArgs = {likeStart(filter)};
             String query = String.format(this.SIMPLE_QUERY_ALL_LIKE_START_PAGINATED, this.table, field, limit, offset);
             Cursor result = this.database.rawQuery(query, selectArgs);
 
-            while (result.moveToNext()) {
-                books.add(new Book(result, false));
-            }
+            books.addAll(this.batchLoader.load(result));
 
             result.close();
         } catch (SQLiteException e) {
@@ -188,8 +291,8 @@ public final class BookDBManager extends SimpleDBManager {
         List<Book> books = new ArrayList<>();
 
         try {
-            String[] selectArgs = {filter};
-            String query = String.format("SELECT %s.* FROM %s INNER JOIN %s ON %s.%s = %s.%s WHERE %s LIKE ?||'%%'",
+            String[] selectArgs = {likeStart(filter)};
+            String query = String.format("SELECT %s.* FROM %s INNER JOIN %s ON %s.%s = %s.%s WHERE %s LIKE ?",
                                          this.table,
                                          this.table,
                                          CategoryDBSchema.TABLE,
@@ -200,9 +303,7 @@ public final class BookDBManager extends SimpleDBManager {
                                          CategoryDBSchema.NAME);
             Cursor result = this.database.rawQuery(query, selectArgs);
 
-            while (result.moveToNext()) {
-                books.add(new Book(result, false));
-            }
+            books.addAll(this.batchLoader.load(result));
 
             result.close();
         } catch (SQLiteException e) {
@@ -223,8 +324,8 @@ public final class BookDBManager extends SimpleDBManager {
         List<Book> books = new ArrayList<>();
 
         try {
-            String[] selectArgs = {filter};
-            String query = String.format("SELECT %s.* FROM %s INNER JOIN %s ON %s.%s = %s.%s WHERE %s LIKE ?||'%%' " +
+            String[] selectArgs = {likeStart(filter)};
+            String query = String.format("SELECT %s.* FROM %s INNER JOIN %s ON %s.%s = %s.%s WHERE %s LIKE ? " +
                                          "LIMIT %d OFFSET %d",
                                          this.table,
                                          this.table,
@@ -238,9 +339,7 @@ public final class BookDBManager extends SimpleDBManager {
                                          offset);
             Cursor result = this.database.rawQuery(query, selectArgs);
 
-            while (result.moveToNext()) {
-                books.add(new Book(result, false));
-            }
+            books.addAll(this.batchLoader.load(result));
 
             result.close();
         } catch (SQLiteException e) {
@@ -259,9 +358,9 @@ public final class BookDBManager extends SimpleDBManager {
         List<Book> books = new ArrayList<>();
 
         try {
-            String[] selectArgs = {filter};
+            String[] selectArgs = {likeStart(filter)};
             String query = String.format("SELECT %s.* FROM %s INNER JOIN %s ON %s.%s = %s.%s " +
-                                         "INNER JOIN %s ON %s.%s = %s.%s WHERE %s.%s LIKE ?||'%%'",
+                                         "INNER JOIN %s ON %s.%s = %s.%s WHERE %s.%s LIKE ?",
                                          this.table,
                                          this.table,
                                          WriterDBSchema.TABLE,
@@ -278,9 +377,7 @@ public final class BookDBManager extends SimpleDBManager {
                                          AuthorDBSchema.NAME);
             Cursor result = this.database.rawQuery(query, selectArgs);
 
-            while (result.moveToNext()) {
-                books.add(new Book(result, false));
-            }
+            books.addAll(this.batchLoader.load(result));
 
             result.close();
         } catch (SQLiteException e) {
@@ -301,9 +398,9 @@ public final class BookDBManager extends SimpleDBManager {
         List<Book> books = new ArrayList<>();
 
         try {
-            String[] selectArgs = {filter};
+            String[] selectArgs = {likeStart(filter)};
             String query = String.format("SELECT %s.* FROM %s INNER JOIN %s ON %s.%s = %s.%s " +
-                                         "INNER JOIN %s ON %s.%s = %s.%s WHERE %s.%s LIKE ?||'%%' LIMIT %d OFFSET %s",
+                                         "INNER JOIN %s ON %s.%s = %s.%s WHERE %s.%s LIKE ? LIMIT %d OFFSET %s",
                                          this.table,
                                          this.table,
                                          WriterDBSchema.TABLE,
@@ -322,9 +419,7 @@ public final class BookDBManager extends SimpleDBManager {
                                          offset);
             Cursor result = this.database.rawQuery(query, selectArgs);
 
-            while (result.moveToNext()) {
-                books.add(new Book(result, false));
-            }
+            books.addAll(this.batchLoader.load(result));
 
             result.close();
         } catch (SQLiteException e) {
@@ -385,9 +480,7 @@ public final class BookDBManager extends SimpleDBManager {
             String query = String.format(this.SIMPLE_QUERY_ALL, this.table, CATEGORY);
             Cursor result = this.database.rawQuery(query, selectArgs);
 
-            while (result.moveToNext()) {
-                books.add(new Book(result, false));
-            }
+            books.addAll(this.batchLoader.load(result));
 
             result.close();
         } catch (SQLiteException e) {
@@ -402,17 +495,12 @@ public final class BookDBManager extends SimpleDBManager {
      * @return The list of books.
      */
     public List<Book> queryAllSQLite() {
-        //TODO : Make the query better to improve loading time...
         List<Book> books = new ArrayList<>();
 
         try {
             Cursor result = this.database.rawQuery(String.format(this.QUERY_ALL, this.table), null);
 
-            if (result.getCount() > 0) {
-                do {
-                    books.add(new Book(result, false));
-                } while (result.moveToNext());
-            }
+            books.addAll(this.batchLoader.load(result));
 
             result.close();
         } catch (SQLiteException e) {
@@ -435,11 +523,7 @@ public final class BookDBManager extends SimpleDBManager {
             Cursor result = this.database.rawQuery(String.format(this.QUERY_ALL_PAGINATED, this.table, limit, offset),
                                                    null);
 
-            if (result.getCount() > 0) {
-                do {
-                    books.add(new Book(result, false));
-                } while (result.moveToNext());
-            }
+            books.addAll(this.batchLoader.load(result));
 
             result.close();
         } catch (SQLiteException e) {
@@ -449,6 +533,298 @@ public final class BookDBManager extends SimpleDBManager {
         return books;
     }
 
+    /**
+     * Queries all the book cards (summaries displayed in lists) from the database paginated.
+     * @param limit The limit index.
+     * @param offset The offset.
+     * @return The list of book cards.
+     */
+    public List<BookCard> queryAllCardsPaginatedSQLite(int limit, int offset) {
+        String query = String.format("SELECT %s FROM %s LIMIT %d OFFSET %d", CARD_COLUMNS, this.table, limit, offset);
+
+        return this.loadCardsSQLite(query, null, "queryAllCardsPaginatedSQLite");
+    }
+
+    /**
+     * From a string filter and a value, returns the associated book cards where the value matches in the filter values.
+     * Uses the common filter fields (Author, Category, or inner Book fields) with pagination.
+     * @param filter The filter to filter on (matching to database inner or joined fields).
+     * @param value The string value that should match.
+     * @param limit The limit to the query.
+     * @param offset The offset of the query.
+     * @return The loaded book cards.
+     */
+    public List<BookCard> loadFilteredCardsPaginatedSQLite(String filter, String value, int limit, int offset) {
+        String[] selectArgs = {likeStart(value)};
+        String query;
+
+        switch (filter) {
+            case CategoryDBSchema.NAME:
+                query = String.format("SELECT %s FROM %s INNER JOIN %s ON %s.%s = %s.%s WHERE %s LIKE ? " +
+                                      "LIMIT %d OFFSET %d",
+                                      CARD_COLUMNS,
+                                      this.table,
+                                      CategoryDBSchema.TABLE,
+                                      this.table,
+                                      CATEGORY,
+                                      CategoryDBSchema.TABLE,
+                                      CategoryDBSchema.ID,
+                                      CategoryDBSchema.NAME,
+                                      limit,
+                                      offset);
+                break;
+            case AuthorDBSchema.NAME:
+                query = String.format("SELECT %s FROM %s WHERE %s IN (SELECT %s.%s FROM %s INNER JOIN %s ON %s.%s = " +
+                                      "%s.%s WHERE %s.%s LIKE ?) LIMIT %d OFFSET %d",
+                                      CARD_COLUMNS,
+                                      this.table,
+                                      ID,
+                                      WriterDBSchema.TABLE,
+                                      WriterDBSchema.BOOK,
+                                      WriterDBSchema.TABLE,
+                                      AuthorDBSchema.TABLE,
+                                      AuthorDBSchema.TABLE,
+                                      AuthorDBSchema.ID,
+                                      WriterDBSchema.TABLE,
+                                      WriterDBSchema.AUTHOR,
+                                      AuthorDBSchema.TABLE,
+                                      AuthorDBSchema.NAME,
+                                      limit,
+                                      offset);
+                break;
+            default:
+                query = String.format("SELECT %s FROM %s WHERE %s.%s LIKE ? LIMIT %d OFFSET %d",
+                                      CARD_COLUMNS,
+                                      this.table,
+                                      this.table,
+                                      filter,
+                                      limit,
+                                      offset);
+        }
+
+        return this.loadCardsSQLite(query, selectArgs, "loadFilteredCardsPaginatedSQLite");
+    }
+
+    /**
+     * Queries the books following the given id (ordered by id) from the database. Unlike the offset pagination, the
+     * page is read through a range scan of the primary key, whatever its position in the table.
+     * @param afterId The id of the last loaded book (KEYSET_START to get the first page).
+     * @param limit The number of books to load.
+     * @return The list of books.
+     */
+    public List<Book> queryAllKeysetSQLite(int afterId, int limit) {
+        List<Book> books = new ArrayList<>();
+
+        try {
+            String[] selectArgs = {String.valueOf(afterId)};
+            Cursor result = this.database.rawQuery(String.format(this.QUERY_ALL_KEYSET, this.table, ID, ID, limit),
+                                                   selectArgs);
+
+            books.addAll(this.batchLoader.load(result));
+
+            result.close();
+        } catch (SQLiteException e) {
+            this.logError("queryAllKeysetSQLite", e);
+        }
+
+        return books;
+    }
+
+    /**
+     * Queries the book cards (summaries displayed in lists) following the given id (ordered by id) from the database.
+     * @param afterId The id of the last loaded book card (KEYSET_START to get the first page).
+     * @param limit The number of book cards to load.
+     * @return The list of book cards.
+     */
+    public List<BookCard> queryAllCardsKeysetSQLite(int afterId, int limit) {
+        String[] selectArgs = {String.valueOf(afterId)};
+        String query = String.format("SELECT %s FROM %s WHERE %s.%s > ? ORDER BY %s.%s LIMIT %d",
+                                     CARD_COLUMNS,
+                                     this.table,
+                                     this.table,
+                                     ID,
+                                     this.table,
+                                     ID,
+                                     limit);
+
+        return this.loadCardsSQLite(query, selectArgs, "queryAllCardsKeysetSQLite");
+    }
+
+    /**
+     * From a string filter and a value, returns the books following the given sort key where the value matches in the
+     * filter values. The books filtered on an inner field are ordered by this field (case insensitive) then by id, the
+     * books filtered on their author or category are ordered by id.
+     * @param filter The filter to filter on (matching to database inner or joined fields).
+     * @param value The string value that should match.
+     * @param afterValue The filtered field value of the last loaded book (empty to get the first page, ignored when
+     * filtering on author or category).
+     * @param afterId The id of the last loaded book (KEYSET_START to get the first page).
+     * @param limit The number of books to load.
+     * @return The loaded books.
+     */
+    public List<Book> loadFilteredKeysetSQLite(String filter, String value, String afterValue, int afterId,
+                                               int limit) {
+        List<Book> books = new ArrayList<>();
+
+        try {
+            String query = this.filteredKeysetQuery(this.table + ".*", filter, limit);
+            Cursor result = this.database.rawQuery(query, this.filteredKeysetArgs(filter, value, afterValue, afterId));
+
+            books.addAll(this.batchLoader.load(result));
+
+            result.close();
+        } catch (SQLiteException e) {
+            this.logError("loadFilteredKeysetSQLite", e);
+        }
+
+        return books;
+    }
+
+    /**
+     * From a string filter and a value, returns the book cards following the given sort key where the value matches
+     * in the filter values (same ordering as loadFilteredKeysetSQLite).
+     * @param filter The filter to filter on (matching to database inner or joined fields).
+     * @param value The string value that should match.
+     * @param afterValue The filtered field value of the last loaded book card (empty to get the first page, ignored
+     * when filtering on author or category).
+     * @param afterId The id of the last loaded book card (KEYSET_START to get the first page).
+     * @param limit The number of book cards to load.
+     * @return The loaded book cards.
+     */
+    public List<BookCard> loadFilteredCardsKeysetSQLite(String filter, String value, String afterValue, int afterId,
+                                                        int limit) {
+        return this.loadCardsSQLite(this.filteredKeysetQuery(CARD_COLUMNS, filter, limit),
+                                    this.filteredKeysetArgs(filter, value, afterValue, afterId),
+                                    "loadFilteredCardsKeysetSQLite");
+    }
+
+    /**
+     * Searches the books matching the user's input through the full-text index: each word is searched as a prefix in
+     * the titles, author names and category names (or only in the given field), a word can also be restricted to a
+     * field with the "field:word" syntax. The results are ranked by relevance, a title match being worth more than an
+     * author match, itself worth more than a category match. The results of a search made of short words only (see
+     * SearchUtils.isRanked) are not ranked but ordered by id.
+     * @param input The user's input.
+     * @param field The search field to search in (one of BookSearchDBSchema.FIELDS, null to search in all fields).
+     * @return The ids of the matching books from the most to the least relevant.
+     */
+    public List<Integer> searchIdsSQLite(String input, String field) {
+        List<Integer> ids = new ArrayList<>();
+        String match = SearchUtils.buildMatchQuery(input, field, BookSearchDBSchema.FIELDS);
+
+        if (match == null) {
+            return ids;
+        }
+
+        try {
+            String[] selectArgs = {match};
+
+            if (!SearchUtils.isRanked(match)) {
+                Cursor result = this.database.rawQuery(UNRANKED_SEARCH_QUERY, selectArgs);
+
+                while (result.moveToNext()) {
+                    ids.add(result.getInt(0));
+                }
+
+                result.close();
+
+                return ids;
+            }
+
+            Cursor result = this.database.rawQuery(SEARCH_QUERY, selectArgs);
+            List<Integer> matches = new ArrayList<>();
+            List<Double> ranks = new ArrayList<>();
+
+            while (result.moveToNext()) {
+                matches.add(result.getInt(0));
+                ranks.add(SearchUtils.rank(result.getBlob(1), BookSearchDBSchema.WEIGHTS));
+            }
+
+            result.close();
+
+            Integer[] order = new Integer[matches.size()];
+
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+
+            // The sort is stable, the results having the same relevance stay ordered by id.
+            Arrays.sort(order, (first, second) -> Double.compare(ranks.get(second), ranks.get(first)));
+
+            for (Integer index : order) {
+                ids.add(matches.get(index));
+            }
+        } catch (SQLiteException e) {
+            this.logError("searchIdsSQLite", e);
+        }
+
+        return ids;
+    }
+
+    /**
+     * Loads the book cards (summaries displayed in lists) of the given books, in the order of the given ids (used to
+     * display a page of search results).
+     * @param ids The ids of the books.
+     * @return The list of book cards.
+     */
+    public List<BookCard> loadCardsSQLite(List<Integer> ids) {
+        SparseArray<BookCard> cardsById = new SparseArray<>();
+        List<BookCard> cards = new ArrayList<>();
+
+        for (int i = 0; i < ids.size(); i += BookBatchLoader.MAX_IN_IDS) {
+            List<Integer> chunk = ids.subList(i, Math.min(ids.size(), i + BookBatchLoader.MAX_IN_IDS));
+
+            for (BookCard card : this.loadCardsSQLite(CARDS_QUERY + BookBatchLoader.inClause(chunk.size()),
+                                                      BookBatchLoader.toArgs(chunk), "loadCardsSQLite")) {
+                cardsById.put(card.getId(), card);
+            }
+        }
+
+        for (Integer id : ids) {
+            if (cardsById.get(id) != null) {
+                cards.add(cardsById.get(id));
+            }
+        }
+
+        return cards;
+    }
+
+    /**
+     * Loads the reviews of a list of books with a fixed number of queries instead of one per book.
+     * @param books The books to prefetch the reviews of.
+     */
+    public void prefetchReviewsSQLite(@NonNull List<Book> books) {
+        try {
+            this.batchLoader.prefetchReviews(books);
+        } catch (SQLiteException e) {
+            this.logError("prefetchReviewsSQLite", e);
+        }
+    }
+
+    /**
+     * Loads the quotes of a list of books with a fixed number of queries instead of one per book.
+     * @param books The books to prefetch the quotes of.
+     */
+    public void prefetchQuotesSQLite(@NonNull List<Book> books) {
+        try {
+            this.batchLoader.prefetchQuotes(books);
+        } catch (SQLiteException e) {
+            this.logError("prefetchQuotesSQLite", e);
+        }
+    }
+
+    /**
+     * Loads the authors of a list of books with a fixed number of queries instead of one per book.
+     * @param books The books to prefetch the authors of.
+     */
+    public void prefetchAuthorsSQLite(@NonNull List<Book> books) {
+        try {
+            this.batchLoader.prefetchAuthors(books);
+        } catch (SQLiteException e) {
+            this.logError("prefetchAuthorsSQLite", e);
+        }
+    }
+
     /**
      * From the API, query the list of all books from the MySQL database in order to stores it into the SQLite
      * database.
@@ -462,6 +838,16 @@ public final class BookDBManager extends SimpleDBManager {
      * @param book The book to create.
      */
     public void createMySQL(final Book book) {
+        this.await(this.createMySQLAsync(book), null, "createMySQL");
+    }
+
+    /**
+     * Creates a book entity in MySQL database.
+     * @param book The book to create.
+     * @return The future of the book (completed once created, with the id given by the API).
+     */
+    public HTTPRequestFuture<Book> createMySQLAsync(final Book book) {
+        final HTTPRequestFuture<Book> future = new HTTPRequestFuture<>();
         String url = this.baseUrl + APIManager.CREATE;
         Map<String, String> param = new HashMap<>();
 
@@ -483,8 +869,7 @@ public final class BookDBManager extends SimpleDBManager {
 
             @Override
             protected VolleyError parseNetworkError(VolleyError volleyError) {
-                HTTPRequestQueueSingleton.getInstance(BookDBManager.this.getContext())
-                                         .finishRequest(BookDBManager.this.table);
+                future.fail(volleyError);
 
                 return super.parseNetworkError(volleyError);
             }
@@ -498,11 +883,12 @@ public final class BookDBManager extends SimpleDBManager {
                     if (pattern.matcher(resp).find()) {
                         book.setId(Integer.valueOf(resp));
                     }
+
+                    future.complete(book);
                 } catch (IOException e) {
                     BookDBManager.this.logError("createMySQL", e);
-                } finally {
-                    HTTPRequestQueueSingleton.getInstance(BookDBManager.this.getContext())
-                                             .finishRequest(BookDBManager.this.table);
+
+                    future.fail(e);
                 }
 
                 return super.parseNetworkResponse(response);
@@ -510,7 +896,8 @@ public final class BookDBManager extends SimpleDBManager {
         };
 
         HTTPRequestQueueSingleton.getInstance(this.getContext()).addToRequestQueue(this.table, request);
-        this.waitForResponse();
+
+        return future;
     }
 
     /**
@@ -519,6 +906,16 @@ public final class BookDBManager extends SimpleDBManager {
      * @return The loaded book.
      */
     public Book loadMySQL(int idBook) {
+        return this.await(this.loadMySQLAsync(idBook), null, "loadMySQL");
+    }
+
+    /**
+     * Loads a book from MySQL database.
+     * @param idBook The id of the book.
+     * @return The future of the loaded book with its category (null if not found).
+     */
+    public HTTPRequestFuture<Book> loadMySQLAsync(int idBook) {
+        final HTTPRequestFuture<Book> future = new HTTPRequestFuture<>();
         final Book book = new Book();
         final int idCategory[] = new int[1];
 
@@ -536,43 +933,43 @@ public final class BookDBManager extends SimpleDBManager {
                     book.init(object);
                 } catch (Exception e) {
                     BookDBManager.this.logError("loadMySQL", e);
-                } finally {
-                    HTTPRequestQueueSingleton.getInstance(BookDBManager.this.getContext())
-                                             .finishRequest(BookDBManager.this.table);
                 }
 
+                ReadThroughRepository<Category> categories = ManagerHolderUtils.getInstance().getCategoryRepository();
+
+                categories.loadAsync(idCategory[0]).then((category, error) -> {
+                    book.setCategory(category);
+                    future.complete((book.isEmpty()) ? null : book);
+                });
+
                 return super.parseNetworkResponse(response);
             }
 
             @Override
             protected VolleyError parseNetworkError(VolleyError volleyError) {
-                HTTPRequestQueueSingleton.getInstance(BookDBManager.this.getContext())
-                                         .finishRequest(BookDBManager.this.table);
+                future.fail(volleyError);
 
                 return super.parseNetworkError(volleyError);
             }
         };
 
         HTTPRequestQueueSingleton.getInstance(this.getContext()).addToRequestQueue(this.table, request);
-        this.waitForResponse();
-        book.setCategory(new CategoryDBManager(this.getContext()).loadMySQL(idCategory[0]));
 
-        return (book.isEmpty()) ? null : book;
+        return future;
     }
 
     @Override
     public boolean createSQLite(@NonNull JSONObject entity) {
         try {
-            ContentValues data = new ContentValues();
-
-            data.put(ID, entity.getInt(ID));
-            data.put(TITLE, entity.getString(TITLE));
-            data.put(CATEGORY, entity.getInt(CATEGORY));
-            data.put(COVER, entity.getString(COVER));
-            data.put(SUMMARY, entity.getString(SUMMARY));
-            data.put(DATE, entity.getInt(DATE));
+            SQLiteStatement statement = this.getStatement(INSERT_STATEMENT);
 
-            this.database.insertOrThrow(this.table, null, data);
+            statement.bindLong(1, entity.getInt(ID));
+            statement.bindString(2, entity.getString(TITLE));
+            statement.bindLong(3, entity.getInt(CATEGORY));
+            statement.bindString(4, entity.getString(COVER));
+            statement.bindString(5, entity.getString(SUMMARY));
+            statement.bindLong(6, entity.getInt(DATE));
+            statement.executeInsert();
 
             return true;
         } catch (Exception e) {
@@ -585,22 +982,137 @@ public final class BookDBManager extends SimpleDBManager {
     @Override
     public boolean updateSQLite(@NonNull JSONObject entity) {
         try {
-            ContentValues data = new ContentValues();
-            String whereClause = String.format("%s = ?", ID);
-            String[] whereArgs = new String[]{entity.getString(ID)};
+            SQLiteStatement statement = this.getStatement(UPDATE_STATEMENT);
 
-            data.put(TITLE, entity.getString(TITLE));
-            data.put(CATEGORY, entity.getInt(CATEGORY));
-            data.put(COVER, entity.getString(COVER));
-            data.put(SUMMARY, entity.getString(SUMMARY));
-            data.put(DATE, entity.getInt(DATE));
-            data.put(UPDATE, new DateTime().toString(DEFAULT_FORMAT));
+            statement.bindString(1, entity.getString(TITLE));
+            statement.bindLong(2, entity.getInt(CATEGORY));
+            statement.bindString(3, entity.getString(COVER));
+            statement.bindString(4, entity.getString(SUMMARY));
+            statement.bindLong(5, entity.getInt(DATE));
+            statement.bindString(6, currentUpdate());
+            statement.bindLong(7, entity.getInt(ID));
 
-            return this.database.update(this.table, data, whereClause, whereArgs) != 0;
+            return statement.executeUpdateDelete() != 0;
         } catch (Exception e) {
             this.logError("updateSQLite", e);
 
             return false;
         }
     }
+
+    /**
+     * Builds the keyset paginated query of a filter (the arguments are given by filteredKeysetArgs).
+     * @param columns The projected columns.
+     * @param filter The filter to filter on (matching to database inner or joined fields).
+     * @param limit The number of rows to load.
+     * @return The query.
+     */
+    private String filteredKeysetQuery(String columns, String filter, int limit) {
+        switch (filter) {
+            case CategoryDBSchema.NAME:
+                return String.format("SELECT %s FROM %s INNER JOIN %s ON %s.%s = %s.%s WHERE %s.%s LIKE ? AND " +
+                                     "%s.%s > ? ORDER BY %s.%s LIMIT %d",
+                                     columns,
+                                     this.table,
+                                     CategoryDBSchema.TABLE,
+                                     this.table,
+                                     CATEGORY,
+                                     CategoryDBSchema.TABLE,
+                                     CategoryDBSchema.ID,
+                                     CategoryDBSchema.TABLE,
+                                     CategoryDBSchema.NAME,
+                                     this.table,
+                                     ID,
+                                     this.table,
+                                     ID,
+                                     limit);
+            case AuthorDBSchema.NAME:
+                return String.format("SELECT %s FROM %s WHERE %s.%s IN (SELECT %s.%s FROM %s INNER JOIN %s ON %s.%s " +
+                                     "= %s.%s WHERE %s.%s LIKE ?) AND %s.%s > ? ORDER BY %s.%s LIMIT %d",
+                                     columns,
+                                     this.table,
+                                     this.table,
+                                     ID,
+                                     WriterDBSchema.TABLE,
+                                     WriterDBSchema.BOOK,
+                                     WriterDBSchema.TABLE,
+                                     AuthorDBSchema.TABLE,
+                                     AuthorDBSchema.TABLE,
+                                     AuthorDBSchema.ID,
+                                     WriterDBSchema.TABLE,
+                                     WriterDBSchema.AUTHOR,
+                                     AuthorDBSchema.TABLE,
+                                     AuthorDBSchema.NAME,
+                                     this.table,
+                                     ID,
+                                     this.table,
+                                     ID,
+                                     limit);
+            default:
+                // Row values comparisons are not available before Android 8, the (field, id) > (?, ?) is expanded
+                // keeping a lower bound on the field so that an index on it can start the scan at the last row. The
+                // bound and the ordering are case insensitive as the LIKE, so that they use the same NOCASE index.
+                return String.format("SELECT %s FROM %s WHERE %s.%s LIKE ? AND %s.%s COLLATE NOCASE >= ? AND " +
+                                     "(%s.%s COLLATE NOCASE > ? OR %s.%s > ?) ORDER BY %s.%s COLLATE NOCASE, %s.%s " +
+                                     "LIMIT %d",
+                                     columns,
+                                     this.table,
+                                     this.table,
+                                     filter,
+                                     this.table,
+                                     filter,
+                                     this.table,
+                                     filter,
+                                     this.table,
+                                     ID,
+                                     this.table,
+                                     filter,
+                                     this.table,
+                                     ID,
+                                     limit);
+        }
+    }
+
+    /**
+     * Builds the arguments of a keyset paginated query built by filteredKeysetQuery.
+     * @param filter The filter to filter on (matching to database inner or joined fields).
+     * @param value The string value that should match.
+     * @param afterValue The filtered field value of the last loaded row.
+     * @param afterId The id of the last loaded row.
+     * @return The query arguments.
+     */
+    private String[] filteredKeysetArgs(String filter, String value, String afterValue, int afterId) {
+        switch (filter) {
+            case CategoryDBSchema.NAME:
+            case AuthorDBSchema.NAME:
+                return new String[]{likeStart(value), String.valueOf(afterId)};
+            default:
+                return new String[]{likeStart(value), afterValue, afterValue, String.valueOf(afterId)};
+        }
+    }
+
+    /**
+     * Executes a book card query and returns the associated book cards.
+     * @param query The query to execute (projecting the book card columns).
+     * @param selectArgs The query arguments.
+     * @param methodName The name of the calling method (used to log errors).
+     * @return The list of book cards.
+     */
+    private List<BookCard> loadCardsSQLite(String query, String[] selectArgs, String methodName) {
+        List<BookCard> cards = new ArrayList<>();
+
+        try {
+            Cursor result = this.database.rawQuery(query, selectArgs);
+
+            while (result.moveToNext()) {
+                cards.add(new BookCard(result, false));
+            }
+
+            result.close();
+        } catch (SQLiteException e) {
+            this.logError(methodName, e);
+        }
+
+        return cards;
+    }
 }
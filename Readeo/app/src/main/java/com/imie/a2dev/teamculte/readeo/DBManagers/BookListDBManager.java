@@ -4,6 +4,7 @@ import android.content.ContentValues;
 import android.content.Context;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteException;
+import android.database.sqlite.SQLiteStatement;
 import android.support.annotation.NonNull;
 
 import com.android.volley.NetworkResponse;
@@ -17,7 +18,9 @@ import com.imie.a2dev.teamculte.readeo.DBSchemas.BookListDBSchema;
 import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Book;
 import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.BookList;
 import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.BookListType;
+import com.imie.a2dev.teamculte.readeo.Utils.HTTPRequestFuture;
 import com.imie.a2dev.teamculte.readeo.Utils.HTTPRequestQueueSingleton;
+import com.imie.a2dev.teamculte.readeo.Utils.ManagerHolderUtils;
 
 import org.json.JSONArray;
 import org.json.JSONException;
@@ -38,6 +41,25 @@ import static com.imie.a2dev.teamculte.readeo.DBSchemas.CommonDBSchema.UPDATE;
  * Manager class used to manage the book list entities from databases.
  */
 public final class BookListDBManager extends RelationDBManager {
+    /**
+     * Defines the compiled insert statement.
+     */
+    private static final String INSERT_STATEMENT = String.format("INSERT INTO %s (%s, %s, %s) VALUES (?, ?, ?)",
+                                                                 TABLE,
+                                                                 USER,
+                                                                 BOOK,
+                                                                 TYPE);
+
+    /**
+     * Defines the compiled upsert statement (the relation has no other field to update).
+     */
+    private static final String UPSERT_STATEMENT = String.format("INSERT OR IGNORE INTO %s (%s, %s, %s) VALUES (?, ?, " +
+                                                                 "?)",
+                                                                 TABLE,
+                                                                 USER,
+                                                                 BOOK,
+                                                                 TYPE);
+
     /**
      * BookListDBManager's constructor.
      * @param context The associated context.
@@ -139,8 +161,11 @@ public final class BookListDBManager extends RelationDBManager {
     /**
      * Creates a book lists entity in MySQL database.
      * @param bookList The book list to create.
+     * @return The future completed once all the books of the list have been created.
      */
-    public void createMySQL(BookList bookList) {
+    public HTTPRequestFuture<Void> createMySQL(BookList bookList) {
+        List<HTTPRequestFuture<String>> futures = new ArrayList<>();
+
         for (Book book : bookList.getBooks()) {
             String url = this.baseUrl + APIManager.CREATE;
             Map<String, String> param = new HashMap<>();
@@ -149,8 +174,10 @@ public final class BookListDBManager extends RelationDBManager {
             param.put(TYPE, String.valueOf(bookList.getType().getId()));
             param.put(BOOK, String.valueOf(book.getId()));
 
-            super.requestString(Request.Method.POST, url, null, param);
+            futures.add(super.requestString(Request.Method.POST, url, null, param));
         }
+
+        return HTTPRequestFuture.all(futures);
     }
 
     /**
@@ -158,8 +185,9 @@ public final class BookListDBManager extends RelationDBManager {
      * @param idUser The id of the user who owns the book list.
      * @param idBook The id of the book to add in the book list.
      * @param idType The id of the book list type.
+     * @return The future of the API response.
      */
-    public void createMySQL(int idUser, int idBook, int idType) {
+    public HTTPRequestFuture<String> createMySQL(int idUser, int idBook, int idType) {
         String url = this.baseUrl + APIManager.CREATE;
         Map<String, String> param = new HashMap<>();
 
@@ -167,7 +195,7 @@ public final class BookListDBManager extends RelationDBManager {
         param.put(TYPE, String.valueOf(idType));
         param.put(BOOK, String.valueOf(idBook));
 
-        super.requestString(Request.Method.POST, url, null, param);
+        return super.requestString(Request.Method.POST, url, null, param);
     }
 
     /**
@@ -177,7 +205,19 @@ public final class BookListDBManager extends RelationDBManager {
      * @return The loaded book list.
      */
     public BookList loadMySQL(int idUser, int idType) {
+        return this.await(this.loadMySQLAsync(idUser, idType), null, "loadMySQL");
+    }
+
+    /**
+     * Loads a book list from MySQL database, the missing books and type are loaded in parallel once the list is
+     * received.
+     * @param idUser The id of the user from which load the book list.
+     * @param idType The id of the book list type.
+     * @return The future of the loaded book list (null if not found).
+     */
+    public HTTPRequestFuture<BookList> loadMySQLAsync(int idUser, int idType) {
         // TODO : See refactor here.
+        final HTTPRequestFuture<BookList> future = new HTTPRequestFuture<>();
         final BookList bookList = new BookList();
         final List<Integer> bookIds = new ArrayList<>();
         final int typeId[] = new int[1];
@@ -211,39 +251,24 @@ public final class BookListDBManager extends RelationDBManager {
                     }
                 } catch (Exception e) {
                     BookListDBManager.this.logError("loadMySQL", e);
-                } finally {
-                    HTTPRequestQueueSingleton.getInstance(BookListDBManager.this.getContext()).finishRequest(
-                            BookListDBManager.this.table);
                 }
 
+                BookListDBManager.this.loadContentMySQL(bookList, bookIds, typeId[0], future);
+
                 return super.parseNetworkResponse(response);
             }
 
             @Override
             protected VolleyError parseNetworkError(VolleyError volleyError) {
-                HTTPRequestQueueSingleton.getInstance(BookListDBManager.this.getContext()).finishRequest(
-                        BookListDBManager.this.table);
+                future.fail(volleyError);
 
                 return super.parseNetworkError(volleyError);
             }
         };
 
         HTTPRequestQueueSingleton.getInstance(this.getContext()).addToRequestQueue(this.table, request);
-        this.waitForResponse();
 
-        if (bookIds.size() > 0) {
-            BookDBManager bookDBManager = new BookDBManager(this.getContext());
-
-            for (int id : bookIds) {
-                bookList.getBooks().add(bookDBManager.loadMySQL(id));
-            }
-        }
-
-        if (bookList.getType() == null) {
-            bookList.setType(new BookListTypeDBManager(this.getContext()).loadMySQL(typeId[0]));
-        }
-
-        return (bookList.isEmpty()) ? null : bookList;
+        return future;
     }
 
     /**
@@ -252,104 +277,71 @@ public final class BookListDBManager extends RelationDBManager {
      * @return The loaded book lists.
      */
     public Map<String, BookList> loadUserMySQL(int idUser) {
-        // TODO : See refactor here.
-        BookList bookList;
-        final Map<String, BookList> bookLists = new HashMap<>();
-        BookListTypeDBManager bookListTypeDBManager = new BookListTypeDBManager(this.getContext());
+        return this.await(this.loadUserMySQLAsync(idUser), null, "loadUserMySQL");
+    }
 
-        for (BookListType type : bookListTypeDBManager.queryAllSQLite()) {
-            bookList = this.loadMySQL(idUser, type.getId());
+    /**
+     * Loads the book lists from MySQL database from a specific user (one request by local book list type, sent in
+     * parallel), if none is found the types are requested from the user's book lists.
+     * @param idUser The id of the user who owns the book lists to load.
+     * @return The future of the loaded book lists by type name (null if none found).
+     */
+    public HTTPRequestFuture<Map<String, BookList>> loadUserMySQLAsync(final int idUser) {
+        // TODO : See refactor here.
+        final HTTPRequestFuture<Map<String, BookList>> future = new HTTPRequestFuture<>();
+        final List<HTTPRequestFuture<BookList>> loads = new ArrayList<>();
 
-            if (bookList != null) {
-                bookLists.put(bookList.getType().getName(), bookList);
-            }
+        for (BookListType type : new BookListTypeDBManager(this.getContext()).queryAllSQLite()) {
+            loads.add(this.loadMySQLAsync(idUser, type.getId()));
         }
 
-        if (bookLists.size() == 0) {
-            final List<Integer> typeIds = new ArrayList<>();
-            String url = this.baseUrl + APIManager.READ + USER + "=" + idUser;
-            JsonArrayRequest request = new JsonArrayRequest(Request.Method.GET, url, null, null,
-                                                            new OnRequestError()) {
-                @Override
-                protected Response<JSONArray> parseNetworkResponse(NetworkResponse response) {
-                    try {
-                        int idType;
-
-                        JSONArray jsonArray = new JSONArray(new String(response.data,
-                                                                       HttpHeaderParser
-                                                                               .parseCharset(response.headers)));
-                        int previous = 0;
+        HTTPRequestFuture.all(loads).then((result, error) -> {
+            Map<String, BookList> bookLists = new HashMap<>();
 
-                        for (int i = 0; i < jsonArray.length(); i++) {
-                            idType = jsonArray.getJSONObject(i).getInt(BookListDBSchema.TYPE);
+            for (HTTPRequestFuture<BookList> load : loads) {
+                BookList bookList = load.getNow(null);
 
-                            if (idType != previous) {
-                                typeIds.add(idType);
-
-                                previous = idType;
-                            }
-                        }
-                    } catch (Exception e) {
-                        BookListDBManager.this.logError("loadUserMySQL", e);
-                    } finally {
-                        HTTPRequestQueueSingleton.getInstance(BookListDBManager.this.getContext()).finishRequest(
-                                BookListDBManager.this.table);
-                    }
-
-                    return super.parseNetworkResponse(response);
-                }
-
-                @Override
-                protected VolleyError parseNetworkError(VolleyError volleyError) {
-                    HTTPRequestQueueSingleton.getInstance(BookListDBManager.this.getContext()).finishRequest(
-                            BookListDBManager.this.table);
-
-                    return super.parseNetworkError(volleyError);
+                if (bookList != null && bookList.getType() != null) {
+                    bookLists.put(bookList.getType().getName(), bookList);
                 }
-            };
-
-            HTTPRequestQueueSingleton.getInstance(this.getContext()).addToRequestQueue(this.table, request);
-            this.waitForResponse();
-
-            BookListType type;
-
-            for (int id : typeIds) {
-                type = bookListTypeDBManager.loadMySQL(id);
-                bookList = BookListDBManager.this.loadMySQL(idUser, id);
+            }
 
-                if (type != null && bookList != null) {
-                    bookLists.put(type.getName(), bookList);
-                }
+            if (bookLists.size() > 0) {
+                future.complete(bookLists);
+            } else {
+                this.loadUserTypesMySQL(idUser, future);
             }
-        }
+        });
 
-        return (bookLists.size() > 0) ? bookLists : null;
+        return future;
     }
 
     /**
      * Deletes all book lists entities associated to a user in MySQL database.
      * @param idUser The id of the user.
+     * @return The future of the API response.
      */
-    public void deleteUserMySQL(int idUser) {
+    public HTTPRequestFuture<String> deleteUserMySQL(int idUser) {
         String url = this.baseUrl + APIManager.DELETE;
         Map<String, String> param = new HashMap<>();
 
         param.put(USER, String.valueOf(idUser));
 
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     /**
      * Soft deletes all book lists entities associated to a user in MySQL database.
      * @param idUser The id of the user.
+     * @return The future of the API response.
      */
-    public void softDeleteUserMySQL(int idUser) {
+    public HTTPRequestFuture<String> softDeleteUserMySQL(int idUser) {
         String url = this.baseUrl + APIManager.SOFT_DELETE;
         Map<String, String> param = new HashMap<>();
 
         param.put(USER, String.valueOf(idUser));
 
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     /**
@@ -357,8 +349,9 @@ public final class BookListDBManager extends RelationDBManager {
      * @param idUser The id of the user who owns the book list.
      * @param idBook The id of the book to delete from the book list.
      * @param idType The id of the book list type.
+     * @return The future of the API response.
      */
-    public void deleteMySQL(int idUser, int idBook, int idType) {
+    public HTTPRequestFuture<String> deleteMySQL(int idUser, int idBook, int idType) {
         String url = this.baseUrl + APIManager.DELETE;
         Map<String, String> param = new HashMap<>();
 
@@ -366,7 +359,7 @@ public final class BookListDBManager extends RelationDBManager {
         param.put(BOOK, String.valueOf(idBook));
         param.put(TYPE, String.valueOf(idType));
 
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     /**
@@ -374,8 +367,9 @@ public final class BookListDBManager extends RelationDBManager {
      * @param idUser The id of the user who owns the book list.
      * @param idBook The id of the book to delete from the book list.
      * @param idType The id of the book list type.
+     * @return The future of the API response.
      */
-    public void softDeleteMySQL(int idUser, int idBook, int idType) {
+    public HTTPRequestFuture<String> softDeleteMySQL(int idUser, int idBook, int idType) {
         String url = this.baseUrl + APIManager.SOFT_DELETE;
         Map<String, String> param = new HashMap<>();
 
@@ -383,20 +377,21 @@ public final class BookListDBManager extends RelationDBManager {
         param.put(BOOK, String.valueOf(idBook));
         param.put(TYPE, String.valueOf(idType));
 
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     /**
      * Restores all book lists entities associated to a user in MySQL database.
      * @param idUser The id of the user.
+     * @return The future of the API response.
      */
-    public void restoreUserMySQL(int idUser) {
+    public HTTPRequestFuture<String> restoreUserMySQL(int idUser) {
         String url = this.baseUrl + APIManager.RESTORE;
         Map<String, String> param = new HashMap<>();
 
         param.put(USER, String.valueOf(idUser));
 
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     /**
@@ -404,8 +399,9 @@ public final class BookListDBManager extends RelationDBManager {
      * @param idUser The id of the user who owns the book list.
      * @param idBook The id of the book to restore from the book list.
      * @param idType The id of the book list type.
+     * @return The future of the API response.
      */
-    public void restoreMySQL(int idUser, int idBook, int idType) {
+    public HTTPRequestFuture<String> restoreMySQL(int idUser, int idBook, int idType) {
         String url = this.baseUrl + APIManager.RESTORE;
         Map<String, String> param = new HashMap<>();
 
@@ -413,19 +409,18 @@ public final class BookListDBManager extends RelationDBManager {
         param.put(BOOK, String.valueOf(idBook));
         param.put(TYPE, String.valueOf(idType));
 
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     @Override
     public boolean createSQLite(@NonNull JSONObject entity) {
         try {
-            ContentValues data = new ContentValues();
-
-            data.put(USER, entity.getInt(USER));
-            data.put(BOOK, entity.getInt(BOOK));
-            data.put(TYPE, entity.getInt(TYPE));
+            SQLiteStatement statement = this.getStatement(INSERT_STATEMENT);
 
-            this.database.insertOrThrow(this.table, null, data);
+            statement.bindLong(1, entity.getInt(USER));
+            statement.bindLong(2, entity.getInt(BOOK));
+            statement.bindLong(3, entity.getInt(TYPE));
+            statement.executeInsert();
 
             return true;
         } catch (Exception e) {
@@ -435,9 +430,150 @@ public final class BookListDBManager extends RelationDBManager {
         }
     }
 
+    @Override
+    public boolean upsertSQLite(@NonNull JSONObject entity) {
+        try {
+            SQLiteStatement statement = this.getStatement(UPSERT_STATEMENT);
+
+            statement.bindLong(1, entity.getInt(USER));
+            statement.bindLong(2, entity.getInt(BOOK));
+            statement.bindLong(3, entity.getInt(TYPE));
+            statement.executeInsert();
+
+            return true;
+        } catch (Exception e) {
+            this.logError("upsertSQLite", e);
+
+            return false;
+        }
+    }
+
     @Override
     public boolean updateSQLite(@NonNull JSONObject entity) {
         // Nothing to do as the entity is not supposed to be updated..
         return false;
     }
+
+    /**
+     * Loads the missing books and type of a received book list in parallel, then completes its future.
+     * @param bookList The received book list.
+     * @param bookIds The ids of the books to load.
+     * @param typeId The id of the type to load if missing.
+     * @param future The future of the book list.
+     */
+    private void loadContentMySQL(final BookList bookList,
+                                  List<Integer> bookIds,
+                                  int typeId,
+                                  final HTTPRequestFuture<BookList> future) {
+        final List<HTTPRequestFuture<Book>> books = new ArrayList<>();
+        final HTTPRequestFuture<BookListType> type = (bookList.getType() == null) ?
+                ManagerHolderUtils.getInstance().getBookListTypeRepository().loadAsync(typeId) :
+                HTTPRequestFuture.completed(bookList.getType());
+        ReadThroughRepository<Book> bookRepository = ManagerHolderUtils.getInstance().getBookRepository();
+
+        for (int id : bookIds) {
+            books.add(bookRepository.loadAsync(id));
+        }
+
+        List<HTTPRequestFuture<?>> loads = new ArrayList<>(books);
+
+        loads.add(type);
+
+        HTTPRequestFuture.all(loads).then((result, error) -> {
+            for (HTTPRequestFuture<Book> book : books) {
+                bookList.getBooks().add(book.getNow(null));
+            }
+
+            bookList.setType(type.getNow(null));
+
+            future.complete((bookList.isEmpty()) ? null : bookList);
+        });
+    }
+
+    /**
+     * Loads the book lists of a user from the types of its book lists in MySQL database (used when the local types
+     * do not match), the types and the lists are loaded in parallel.
+     * @param idUser The id of the user who owns the book lists to load.
+     * @param future The future of the loaded book lists to complete.
+     */
+    private void loadUserTypesMySQL(final int idUser, final HTTPRequestFuture<Map<String, BookList>> future) {
+        final List<Integer> typeIds = new ArrayList<>();
+        String url = this.baseUrl + APIManager.READ + USER + "=" + idUser;
+        JsonArrayRequest request = new JsonArrayRequest(Request.Method.GET, url, null, null, new OnRequestError()) {
+            @Override
+            protected Response<JSONArray> parseNetworkResponse(NetworkResponse response) {
+                try {
+                    int idType;
+
+                    JSONArray jsonArray = new JSONArray(new String(response.data,
+                                                                   HttpHeaderParser.parseCharset(response.headers)));
+                    int previous = 0;
+
+                    for (int i = 0; i < jsonArray.length(); i++) {
+                        idType = jsonArray.getJSONObject(i).getInt(BookListDBSchema.TYPE);
+
+                        if (idType != previous) {
+                            typeIds.add(idType);
+
+                            previous = idType;
+                        }
+                    }
+                } catch (Exception e) {
+                    BookListDBManager.this.logError("loadUserMySQL", e);
+                }
+
+                BookListDBManager.this.loadTypedListsMySQL(idUser, typeIds, future);
+
+                return super.parseNetworkResponse(response);
+            }
+
+            @Override
+            protected VolleyError parseNetworkError(VolleyError volleyError) {
+                future.fail(volleyError);
+
+                return super.parseNetworkError(volleyError);
+            }
+        };
+
+        HTTPRequestQueueSingleton.getInstance(this.getContext()).addToRequestQueue(this.table, request);
+    }
+
+    /**
+     * Loads the book lists of a user for the given types in parallel, then completes the future of the lists.
+     * @param idUser The id of the user who owns the book lists to load.
+     * @param typeIds The ids of the types of the lists.
+     * @param future The future of the loaded book lists to complete.
+     */
+    private void loadTypedListsMySQL(int idUser,
+                                     List<Integer> typeIds,
+                                     final HTTPRequestFuture<Map<String, BookList>> future) {
+        final List<HTTPRequestFuture<BookListType>> types = new ArrayList<>();
+        final List<HTTPRequestFuture<BookList>> lists = new ArrayList<>();
+        ReadThroughRepository<BookListType> typeRepository =
+                ManagerHolderUtils.getInstance().getBookListTypeRepository();
+
+        for (int id : typeIds) {
+            types.add(typeRepository.loadAsync(id));
+            lists.add(this.loadMySQLAsync(idUser, id));
+        }
+
+        List<HTTPRequestFuture<?>> loads = new ArrayList<>(types);
+
+        loads.addAll(lists);
+
+        HTTPRequestFuture.all(loads).then((result, error) -> {
+            Map<String, BookList> bookLists = new HashMap<>();
+
+            for (int i = 0; i < types.size(); i++) {
+                BookListType type = types.get(i).getNow(null);
+                BookList bookList = lists.get(i).getNow(null);
+
+                if (type != null && bookList != null) {
+                    bookLists.put(type.getName(), bookList);
+                }
+            }
+
+            future.complete((bookLists.size() > 0) ? bookLists : null);
+        });
+    }
 }
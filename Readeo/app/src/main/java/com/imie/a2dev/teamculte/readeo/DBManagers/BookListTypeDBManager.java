@@ -4,6 +4,7 @@ import android.content.ContentValues;
 import android.content.Context;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteException;
+import android.database.sqlite.SQLiteStatement;
 import android.support.annotation.NonNull;
 
 import com.android.volley.NetworkResponse;
@@ -15,9 +16,9 @@ import com.android.volley.toolbox.JsonArrayRequest;
 import com.android.volley.toolbox.StringRequest;
 import com.imie.a2dev.teamculte.readeo.APIManager;
 import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.BookListType;
+import com.imie.a2dev.teamculte.readeo.Utils.HTTPRequestFuture;
 import com.imie.a2dev.teamculte.readeo.Utils.HTTPRequestQueueSingleton;
 
-import org.joda.time.DateTime;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
@@ -32,13 +33,31 @@ import static com.imie.a2dev.teamculte.readeo.DBSchemas.BookListTypeDBSchema.ID;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.BookListTypeDBSchema.IMAGE;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.BookListTypeDBSchema.NAME;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.BookListTypeDBSchema.TABLE;
-import static com.imie.a2dev.teamculte.readeo.DBSchemas.CommonDBSchema.DEFAULT_FORMAT;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.CommonDBSchema.UPDATE;
 
 /**
  * Manager class used to manage the book list type entities from databases.
  */
 public final class BookListTypeDBManager extends SimpleDBManager {
+    /**
+     * Defines the compiled insert statement.
+     */
+    private static final String INSERT_STATEMENT = String.format("INSERT INTO %s (%s, %s, %s) VALUES (?, ?, ?)",
+                                                                 TABLE,
+                                                                 ID,
+                                                                 NAME,
+                                                                 IMAGE);
+
+    /**
+     * Defines the compiled update statement.
+     */
+    private static final String UPDATE_STATEMENT = String.format("UPDATE %s SET %s = ?, %s = ?, %s = ? WHERE %s = ?",
+                                                                 TABLE,
+                                                                 NAME,
+                                                                 IMAGE,
+                                                                 UPDATE,
+                                                                 ID);
+
     /**
      * BookListTypeDBManager's constructor.
      * @param context The associated context.
@@ -65,6 +84,7 @@ public final class BookListTypeDBManager extends SimpleDBManager {
             data.put(IMAGE, entity.getImage());
 
             this.database.insertOrThrow(this.table, null, data);
+            this.invalidateCache(entity.getId());
 
             return true;
         } catch (SQLiteException e) {
@@ -87,9 +107,13 @@ public final class BookListTypeDBManager extends SimpleDBManager {
 
             data.put(NAME, entity.getName());
             data.put(IMAGE, entity.getImage());
-            data.put(UPDATE, new DateTime().toString(DEFAULT_FORMAT));
+            data.put(UPDATE, currentUpdate());
+
+            boolean updated = this.database.update(this.table, data, whereClause, whereArgs) != 0;
+
+            this.invalidateCache(entity.getId());
 
-            return this.database.update(this.table, data, whereClause, whereArgs) != 0;
+            return updated;
         } catch (SQLiteException e) {
             this.logError("updateSQLite", e);
 
@@ -103,13 +127,29 @@ public final class BookListTypeDBManager extends SimpleDBManager {
      * @return The loaded entity if exists else null.
      */
     public BookListType loadSQLite(int id) {
+        EntityCache cache = EntityCache.getInstance();
+
+        if (!cache.isPreloaded(this.table)) {
+            cache.preload(this.table, this.queryAllSQLite());
+        }
+
+        BookListType type = (BookListType) cache.get(this.table, id);
+
+        if (type != null) {
+            return type;
+        }
+
         Cursor result = this.loadCursorSQLite(id);
 
         if (result == null || result.getCount() == 0) {
             return null;
         }
 
-        return new BookListType(result);
+        type = new BookListType(result);
+
+        cache.put(this.table, type);
+
+        return type;
     }
 
     /**
@@ -149,6 +189,16 @@ public final class BookListTypeDBManager extends SimpleDBManager {
      * @param type The book list type to create.
      */
     public void createMySQL(final BookListType type) {
+        this.await(this.createMySQLAsync(type), null, "createMySQL");
+    }
+
+    /**
+     * Creates a book list type entity in MySQL database.
+     * @param type The book list type to create.
+     * @return The future of the type (completed once created, with the id given by the API).
+     */
+    public HTTPRequestFuture<BookListType> createMySQLAsync(final BookListType type) {
+        final HTTPRequestFuture<BookListType> future = new HTTPRequestFuture<>();
         String url = this.baseUrl + APIManager.CREATE;
         Map<String, String> param = new HashMap<>();
 
@@ -167,8 +217,7 @@ public final class BookListTypeDBManager extends SimpleDBManager {
 
             @Override
             protected VolleyError parseNetworkError(VolleyError volleyError) {
-                HTTPRequestQueueSingleton.getInstance(BookListTypeDBManager.this.getContext())
-                                         .finishRequest(BookListTypeDBManager.this.table);
+                future.fail(volleyError);
 
                 return super.parseNetworkError(volleyError);
             }
@@ -182,11 +231,12 @@ public final class BookListTypeDBManager extends SimpleDBManager {
                     if (pattern.matcher(resp).find()) {
                         type.setId(Integer.valueOf(resp));
                     }
+
+                    future.complete(type);
                 } catch (IOException e) {
                     BookListTypeDBManager.this.logError("createMySQL", e);
-                } finally {
-                    HTTPRequestQueueSingleton.getInstance(BookListTypeDBManager.this.getContext())
-                                             .finishRequest(BookListTypeDBManager.this.table);
+
+                    future.fail(e);
                 }
 
                 return super.parseNetworkResponse(response);
@@ -194,7 +244,8 @@ public final class BookListTypeDBManager extends SimpleDBManager {
         };
 
         HTTPRequestQueueSingleton.getInstance(this.getContext()).addToRequestQueue(this.table, request);
-        this.waitForResponse();
+
+        return future;
     }
 
     /**
@@ -203,6 +254,16 @@ public final class BookListTypeDBManager extends SimpleDBManager {
      * @return The loaded book list type.
      */
     public BookListType loadMySQL(int idType) {
+        return this.await(this.loadMySQLAsync(idType), null, "loadMySQL");
+    }
+
+    /**
+     * Loads a book list type from MySQL database.
+     * @param idType The id of the book list type.
+     * @return The future of the loaded type (null if not found).
+     */
+    public HTTPRequestFuture<BookListType> loadMySQLAsync(int idType) {
+        final HTTPRequestFuture<BookListType> future = new HTTPRequestFuture<>();
         final BookListType bookListType = new BookListType();
         String url = this.baseUrl + APIManager.READ + ID + "=" + idType;
         JsonArrayRequest request = new JsonArrayRequest(Request.Method.GET, url, null, null, new OnRequestError()) {
@@ -216,39 +277,37 @@ public final class BookListTypeDBManager extends SimpleDBManager {
                     bookListType.init(object);
                 } catch (Exception e) {
                     BookListTypeDBManager.this.logError("loadMySQL", e);
-                } finally {
-                    HTTPRequestQueueSingleton.getInstance(BookListTypeDBManager.this.getContext())
-                                             .finishRequest(BookListTypeDBManager.this.table);
                 }
 
+                future.complete((bookListType.isEmpty()) ? null : bookListType);
+
                 return super.parseNetworkResponse(response);
             }
 
             @Override
             protected VolleyError parseNetworkError(VolleyError volleyError) {
-                HTTPRequestQueueSingleton.getInstance(BookListTypeDBManager.this.getContext())
-                                         .finishRequest(BookListTypeDBManager.this.table);
+                future.fail(volleyError);
 
                 return super.parseNetworkError(volleyError);
             }
         };
 
         HTTPRequestQueueSingleton.getInstance(this.getContext()).addToRequestQueue(this.table, request);
-        this.waitForResponse();
 
-        return (bookListType.isEmpty()) ? null : bookListType;
+        return future;
     }
 
     @Override
     public boolean createSQLite(@NonNull JSONObject entity) {
         try {
-            ContentValues data = new ContentValues();
+            SQLiteStatement statement = this.getStatement(INSERT_STATEMENT);
 
-            data.put(ID, entity.getInt(ID));
-            data.put(NAME, entity.getString(NAME));
-            data.put(IMAGE, entity.getString(IMAGE));
+            statement.bindLong(1, entity.getInt(ID));
+            statement.bindString(2, entity.getString(NAME));
+            statement.bindString(3, entity.getString(IMAGE));
+            statement.executeInsert();
 
-            this.database.insertOrThrow(this.table, null, data);
+            this.invalidateCache(entity.getInt(ID));
 
             return true;
         } catch (Exception e) {
@@ -261,15 +320,18 @@ public final class BookListTypeDBManager extends SimpleDBManager {
     @Override
     public boolean updateSQLite(@NonNull JSONObject entity) {
         try {
-            ContentValues data = new ContentValues();
-            String whereClause = String.format("%s = ?", ID);
-            String[] whereArgs = new String[]{entity.getString(ID)};
+            SQLiteStatement statement = this.getStatement(UPDATE_STATEMENT);
+
+            statement.bindString(1, entity.getString(NAME));
+            statement.bindString(2, entity.getString(IMAGE));
+            statement.bindString(3, currentUpdate());
+            statement.bindLong(4, entity.getInt(ID));
+
+            boolean updated = statement.executeUpdateDelete() != 0;
 
-            data.put(NAME, entity.getString(NAME));
-            data.put(IMAGE, entity.getString(IMAGE));
-            data.put(UPDATE, new DateTime().toString(DEFAULT_FORMAT));
+            this.invalidateCache(entity.getInt(ID));
 
-            return this.database.update(this.table, data, whereClause, whereArgs) != 0;
+            return updated;
         } catch (Exception e) {
             this.logError("updateSQLite", e);
 
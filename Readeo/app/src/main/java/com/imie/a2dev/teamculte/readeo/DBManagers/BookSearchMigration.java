@@ -0,0 +1,36 @@
+package com.imie.a2dev.teamculte.readeo.DBManagers;
+
+import android.database.sqlite.SQLiteDatabase;
+import android.support.annotation.NonNull;
+
+import com.imie.a2dev.teamculte.readeo.DBSchemas.BookSearchDBSchema;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.WriterDBSchema;
+
+/**
+ * Migration creating the book search full-text index, its sync triggers and the writer book index used by them (the
+ * index is filled from the existing books when created).
+ */
+public final class BookSearchMigration extends DBMigration {
+    /**
+     * BookSearchMigration's constructor.
+     */
+    public BookSearchMigration() {
+        super(2, "Book search full-text index");
+    }
+
+    @Override
+    public void migrate(@NonNull SQLiteDatabase db) {
+        boolean created = !this.hasTable(db, BookSearchDBSchema.TABLE);
+
+        this.createIndex(db, WriterDBSchema.TABLE, WriterDBSchema.BOOK);
+        db.execSQL(BookSearchDBSchema.BOOK_SEARCH_TABLE_STATEMENT);
+
+        for (String statement : BookSearchDBSchema.TRIGGER_STATEMENTS) {
+            db.execSQL(statement);
+        }
+
+        if (created) {
+            db.execSQL(BookSearchDBSchema.BOOK_SEARCH_POPULATE_STATEMENT);
+        }
+    }
+}
@@ -4,6 +4,7 @@ import android.content.ContentValues;
 import android.content.Context;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteException;
+import android.database.sqlite.SQLiteStatement;
 import android.support.annotation.NonNull;
 
 import com.android.volley.NetworkResponse;
@@ -15,9 +16,9 @@ import com.android.volley.toolbox.JsonArrayRequest;
 import com.android.volley.toolbox.StringRequest;
 import com.imie.a2dev.teamculte.readeo.APIManager;
 import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Category;
+import com.imie.a2dev.teamculte.readeo.Utils.HTTPRequestFuture;
 import com.imie.a2dev.teamculte.readeo.Utils.HTTPRequestQueueSingleton;
 
-import org.joda.time.DateTime;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
@@ -31,13 +32,29 @@ import java.util.regex.Pattern;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.CategoryDBSchema.ID;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.CategoryDBSchema.NAME;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.CategoryDBSchema.TABLE;
-import static com.imie.a2dev.teamculte.readeo.DBSchemas.CommonDBSchema.DEFAULT_FORMAT;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.CommonDBSchema.UPDATE;
 
 /**
  * Manager class used to manage the category entities from databases.
  */
 public final class CategoryDBManager extends SimpleDBManager {
+    /**
+     * Defines the compiled insert statement.
+     */
+    private static final String INSERT_STATEMENT = String.format("INSERT INTO %s (%s, %s) VALUES (?, ?)",
+                                                                 TABLE,
+                                                                 ID,
+                                                                 NAME);
+
+    /**
+     * Defines the compiled update statement.
+     */
+    private static final String UPDATE_STATEMENT = String.format("UPDATE %s SET %s = ?, %s = ? WHERE %s = ?",
+                                                                 TABLE,
+                                                                 NAME,
+                                                                 UPDATE,
+                                                                 ID);
+
     /**
      * CategoryDBManager's constructor.
      * @param context The associated context.
@@ -63,6 +80,7 @@ public final class CategoryDBManager extends SimpleDBManager {
             data.put(NAME, entity.getName());
 
             this.database.insertOrThrow(this.table, null, data);
+            this.invalidateCache(entity.getId());
 
             return true;
         } catch (SQLiteException e) {
@@ -84,9 +102,13 @@ public final class CategoryDBManager extends SimpleDBManager {
             String[] whereArgs = new String[]{String.valueOf(entity.getId())};
 
             data.put(NAME, entity.getName());
-            data.put(UPDATE, new DateTime().toString(DEFAULT_FORMAT));
+            data.put(UPDATE, currentUpdate());
+
+            boolean updated = this.database.update(this.table, data, whereClause, whereArgs) != 0;
+
+            this.invalidateCache(entity.getId());
 
-            return this.database.update(this.table, data, whereClause, whereArgs) != 0;
+            return updated;
         } catch (SQLiteException e) {
             this.logError("updateSQLite", e);
 
@@ -100,13 +122,29 @@ public final class CategoryDBManager extends SimpleDBManager {
      * @return The loaded entity if exists else null.
      */
     public Category loadSQLite(int id) {
+        EntityCache cache = EntityCache.getInstance();
+
+        if (!cache.isPreloaded(this.table)) {
+            cache.preload(this.table, this.queryAllSQLite());
+        }
+
+        Category category = (Category) cache.get(this.table, id);
+
+        if (category != null) {
+            return category;
+        }
+
         Cursor result = this.loadCursorSQLite(id);
 
         if (result == null || result.getCount() == 0) {
             return null;
         }
 
-        return new Category(result);
+        category = new Category(result);
+
+        cache.put(this.table, category);
+
+        return category;
     }
 
     /**
@@ -146,6 +184,16 @@ public final class CategoryDBManager extends SimpleDBManager {
      * @param category The category to create.
      */
     public void createMySQL(final Category category) {
+        this.await(this.createMySQLAsync(category), null, "createMySQL");
+    }
+
+    /**
+     * Creates a category entity in MySQL database.
+     * @param category The category to create.
+     * @return The future of the category (completed once created, with the id given by the API).
+     */
+    public HTTPRequestFuture<Category> createMySQLAsync(final Category category) {
+        final HTTPRequestFuture<Category> future = new HTTPRequestFuture<>();
         String url = this.baseUrl + APIManager.CREATE;
         Map<String, String> param = new HashMap<>();
 
@@ -163,8 +211,7 @@ public final class CategoryDBManager extends SimpleDBManager {
 
             @Override
             protected VolleyError parseNetworkError(VolleyError volleyError) {
-                HTTPRequestQueueSingleton.getInstance(CategoryDBManager.this.getContext())
-                                         .finishRequest(CategoryDBManager.this.table);
+                future.fail(volleyError);
 
                 return super.parseNetworkError(volleyError);
             }
@@ -178,11 +225,12 @@ public final class CategoryDBManager extends SimpleDBManager {
                     if (pattern.matcher(resp).find()) {
                         category.setId(Integer.valueOf(resp));
                     }
+
+                    future.complete(category);
                 } catch (IOException e) {
                     CategoryDBManager.this.logError("createMySQL", e);
-                } finally {
-                    HTTPRequestQueueSingleton.getInstance(CategoryDBManager.this.getContext())
-                                             .finishRequest(CategoryDBManager.this.table);
+
+                    future.fail(e);
                 }
 
                 return super.parseNetworkResponse(response);
@@ -190,7 +238,8 @@ public final class CategoryDBManager extends SimpleDBManager {
         };
 
         HTTPRequestQueueSingleton.getInstance(this.getContext()).addToRequestQueue(this.table, request);
-        this.waitForResponse();
+
+        return future;
     }
 
     /**
@@ -199,6 +248,16 @@ public final class CategoryDBManager extends SimpleDBManager {
      * @return The loaded category.
      */
     public Category loadMySQL(int idCategory) {
+        return this.await(this.loadMySQLAsync(idCategory), null, "loadMySQL");
+    }
+
+    /**
+     * Loads a category from MySQL database.
+     * @param idCategory The id of the category.
+     * @return The future of the loaded category (null if not found).
+     */
+    public HTTPRequestFuture<Category> loadMySQLAsync(int idCategory) {
+        final HTTPRequestFuture<Category> future = new HTTPRequestFuture<>();
         final Category category = new Category();
         String url = this.baseUrl + APIManager.READ + ID + "=" + idCategory;
         JsonArrayRequest request = new JsonArrayRequest(Request.Method.GET, url, null, null, new OnRequestError()) {
@@ -212,38 +271,36 @@ public final class CategoryDBManager extends SimpleDBManager {
                     category.init(object);
                 } catch (Exception e) {
                     CategoryDBManager.this.logError("loadMySQL", e);
-                } finally {
-                    HTTPRequestQueueSingleton.getInstance(CategoryDBManager.this.getContext())
-                                             .finishRequest(CategoryDBManager.this.table);
                 }
 
+                future.complete((category.isEmpty()) ? null : category);
+
                 return super.parseNetworkResponse(response);
             }
 
             @Override
             protected VolleyError parseNetworkError(VolleyError volleyError) {
-                HTTPRequestQueueSingleton.getInstance(CategoryDBManager.this.getContext())
-                                         .finishRequest(CategoryDBManager.this.table);
+                future.fail(volleyError);
 
                 return super.parseNetworkError(volleyError);
             }
         };
 
         HTTPRequestQueueSingleton.getInstance(this.getContext()).addToRequestQueue(this.table, request);
-        this.waitForResponse();
 
-        return (category.isEmpty()) ? null : category;
+        return future;
     }
 
     @Override
     public boolean createSQLite(@NonNull JSONObject entity) {
         try {
-            ContentValues data = new ContentValues();
+            SQLiteStatement statement = this.getStatement(INSERT_STATEMENT);
 
-            data.put(ID, entity.getInt(ID));
-            data.put(NAME, entity.getString(NAME));
+            statement.bindLong(1, entity.getInt(ID));
+            statement.bindString(2, entity.getString(NAME));
+            statement.executeInsert();
 
-            this.database.insertOrThrow(this.table, null, data);
+            this.invalidateCache(entity.getInt(ID));
 
             return true;
         } catch (Exception e) {
@@ -256,14 +313,17 @@ public final class CategoryDBManager extends SimpleDBManager {
     @Override
     public boolean updateSQLite(@NonNull JSONObject entity) {
         try {
-            ContentValues data = new ContentValues();
-            String whereClause = String.format("%s = ?", ID);
-            String[] whereArgs = new String[]{entity.getString(ID)};
+            SQLiteStatement statement = this.getStatement(UPDATE_STATEMENT);
+
+            statement.bindString(1, entity.getString(NAME));
+            statement.bindString(2, currentUpdate());
+            statement.bindLong(3, entity.getInt(ID));
+
+            boolean updated = statement.executeUpdateDelete() != 0;
 
-            data.put(NAME, entity.getString(NAME));
-            data.put(UPDATE, new DateTime().toString(DEFAULT_FORMAT));
+            this.invalidateCache(entity.getInt(ID));
 
-            return this.database.update(this.table, data, whereClause, whereArgs) != 0;
+            return updated;
         } catch (Exception e) {
             this.logError("updateSQLite", e);
 
@@ -4,6 +4,7 @@ import android.content.ContentValues;
 import android.content.Context;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteException;
+import android.database.sqlite.SQLiteStatement;
 import android.support.annotation.NonNull;
 
 import com.android.volley.NetworkResponse;
@@ -15,9 +16,9 @@ import com.android.volley.toolbox.JsonArrayRequest;
 import com.android.volley.toolbox.StringRequest;
 import com.imie.a2dev.teamculte.readeo.APIManager;
 import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.City;
+import com.imie.a2dev.teamculte.readeo.Utils.HTTPRequestFuture;
 import com.imie.a2dev.teamculte.readeo.Utils.HTTPRequestQueueSingleton;
 
-import org.joda.time.DateTime;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
@@ -31,13 +32,29 @@ import java.util.regex.Pattern;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.CityDBSchema.ID;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.CityDBSchema.NAME;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.CityDBSchema.TABLE;
-import static com.imie.a2dev.teamculte.readeo.DBSchemas.CommonDBSchema.DEFAULT_FORMAT;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.CommonDBSchema.UPDATE;
 
 /**
  * Manager class used to manage the city entities from databases.
  */
 public final class CityDBManager extends SimpleDBManager {
+    /**
+     * Defines the compiled insert statement.
+     */
+    private static final String INSERT_STATEMENT = String.format("INSERT INTO %s (%s, %s) VALUES (?, ?)",
+                                                                 TABLE,
+                                                                 ID,
+                                                                 NAME);
+
+    /**
+     * Defines the compiled update statement.
+     */
+    private static final String UPDATE_STATEMENT = String.format("UPDATE %s SET %s = ?, %s = ? WHERE %s = ?",
+                                                                 TABLE,
+                                                                 NAME,
+                                                                 UPDATE,
+                                                                 ID);
+
     /**
      * CityDBManager's constructor.
      * @param context The associated context.
@@ -63,6 +80,7 @@ public final class CityDBManager extends SimpleDBManager {
             data.put(NAME, entity.getName());
 
             this.database.insertOrThrow(this.table, null, data);
+            this.invalidateCache(entity.getId());
 
             return true;
         } catch (SQLiteException e) {
@@ -84,9 +102,13 @@ public final class CityDBManager extends SimpleDBManager {
             String[] whereArgs = new String[]{String.valueOf(entity.getId())};
 
             data.put(NAME, entity.getName());
-            data.put(UPDATE, new DateTime().toString(DEFAULT_FORMAT));
+            data.put(UPDATE, currentUpdate());
+
+            boolean updated = this.database.update(this.table, data, whereClause, whereArgs) != 0;
 
-            return this.database.update(this.table, data, whereClause, whereArgs) != 0;
+            this.invalidateCache(entity.getId());
+
+            return updated;
         } catch (SQLiteException e) {
             this.logError("updateSQLite", e);
 
@@ -100,13 +122,24 @@ public final class CityDBManager extends SimpleDBManager {
      * @return The loaded entity if exists else null.
      */
     public City loadSQLite(int id) {
+        EntityCache cache = EntityCache.getInstance();
+        City city = (City) cache.get(this.table, id);
+
+        if (city != null) {
+            return city;
+        }
+
         Cursor result = this.loadCursorSQLite(id);
 
         if (result == null || result.getCount() == 0) {
             return null;
         }
 
-        return new City(result);
+        city = new City(result);
+
+        cache.put(this.table, city);
+
+        return city;
     }
 
     /**
@@ -146,6 +179,16 @@ public final class CityDBManager extends SimpleDBManager {
      * @param city The city to create.
      */
     public void createMySQL(final City city) {
+        this.await(this.createMySQLAsync(city), null, "createMySQL");
+    }
+
+    /**
+     * Creates a city entity in MySQL database.
+     * @param city The city to create.
+     * @return The future of the city (completed once created, with the id given by the API).
+     */
+    public HTTPRequestFuture<City> createMySQLAsync(final City city) {
+        final HTTPRequestFuture<City> future = new HTTPRequestFuture<>();
         String url = this.baseUrl + APIManager.CREATE;
         Map<String, String> param = new HashMap<>();
 
@@ -163,8 +206,7 @@ public final class CityDBManager extends SimpleDBManager {
 
             @Override
             protected VolleyError parseNetworkError(VolleyError volleyError) {
-                HTTPRequestQueueSingleton.getInstance(CityDBManager.this.getContext()).finishRequest(
-                        CityDBManager.this.table);
+                future.fail(volleyError);
 
                 return super.parseNetworkError(volleyError);
             }
@@ -178,11 +220,12 @@ public final class CityDBManager extends SimpleDBManager {
                     if (pattern.matcher(resp).find()) {
                         city.setId(Integer.valueOf(resp));
                     }
+
+                    future.complete(city);
                 } catch (IOException e) {
                     CityDBManager.this.logError("createMySQL", e);
-                } finally {
-                    HTTPRequestQueueSingleton.getInstance(CityDBManager.this.getContext()).finishRequest(
-                            CityDBManager.this.table);
+
+                    future.fail(e);
                 }
 
                 return super.parseNetworkResponse(response);
@@ -190,7 +233,8 @@ public final class CityDBManager extends SimpleDBManager {
         };
 
         HTTPRequestQueueSingleton.getInstance(this.getContext()).addToRequestQueue(this.table, request);
-        this.waitForResponse();
+
+        return future;
     }
 
     /**
@@ -199,8 +243,18 @@ public final class CityDBManager extends SimpleDBManager {
      * @return The loaded city.
      */
     public City loadMySQL(int idCity) {
+        return this.await(this.loadMySQLAsync(idCity), null, "loadMySQL");
+    }
+
+    /**
+     * Loads a city from MySQL database.
+     * @param idCity The id of the city.
+     * @return The future of the loaded city (null if not found).
+     */
+    public HTTPRequestFuture<City> loadMySQLAsync(int idCity) {
         String url = this.baseUrl + APIManager.READ + ID + "=" + idCity;
-        return this.loadFromUrlMySQL(url);
+
+        return this.loadFromUrlMySQLAsync(url);
     }
 
     /**
@@ -209,8 +263,18 @@ public final class CityDBManager extends SimpleDBManager {
      * @return The loaded city.
      */
     public City loadMySQL(String cityName) {
+        return this.await(this.loadMySQLAsync(cityName), null, "loadMySQL");
+    }
+
+    /**
+     * Loads a city from MySQL database.
+     * @param cityName The name of the city.
+     * @return The future of the loaded city (null if not found).
+     */
+    public HTTPRequestFuture<City> loadMySQLAsync(String cityName) {
         String url = this.baseUrl + APIManager.READ + NAME + "=" + cityName;
-        return this.loadFromUrlMySQL(url);
+
+        return this.loadFromUrlMySQLAsync(url);
     }
 
     /**
@@ -219,6 +283,16 @@ public final class CityDBManager extends SimpleDBManager {
      * @return The loaded city.
      */
     public City loadFromUrlMySQL(String url) {
+        return this.await(this.loadFromUrlMySQLAsync(url), null, "loadFromUrlMySQL");
+    }
+
+    /**
+     * Loads a city from MySQL database.
+     * @param url The url to query to get the entity.
+     * @return The future of the loaded city (null if not found).
+     */
+    public HTTPRequestFuture<City> loadFromUrlMySQLAsync(String url) {
+        final HTTPRequestFuture<City> future = new HTTPRequestFuture<>();
         final City city = new City();
         JsonArrayRequest request = new JsonArrayRequest(Request.Method.GET, url, null, null,
                                                         new OnRequestError()) {
@@ -232,38 +306,36 @@ public final class CityDBManager extends SimpleDBManager {
                     city.init(object);
                 } catch (Exception e) {
                     CityDBManager.this.logError("loadFromUrlMySQL", e);
-                } finally {
-                    HTTPRequestQueueSingleton.getInstance(CityDBManager.this.getContext()).finishRequest(
-                            CityDBManager.this.table);
                 }
 
+                future.complete((city.isEmpty()) ? null : city);
+
                 return super.parseNetworkResponse(response);
             }
 
             @Override
             protected VolleyError parseNetworkError(VolleyError volleyError) {
-                HTTPRequestQueueSingleton.getInstance(CityDBManager.this.getContext()).finishRequest(
-                        CityDBManager.this.table);
+                future.fail(volleyError);
 
                 return super.parseNetworkError(volleyError);
             }
         };
 
         HTTPRequestQueueSingleton.getInstance(this.getContext()).addToRequestQueue(this.table, request);
-        this.waitForResponse();
 
-        return (city.isEmpty()) ? null : city;
+        return future;
     }
 
     @Override
     public boolean createSQLite(@NonNull JSONObject entity) {
         try {
-            ContentValues data = new ContentValues();
+            SQLiteStatement statement = this.getStatement(INSERT_STATEMENT);
 
-            data.put(ID, entity.getInt(ID));
-            data.put(NAME, entity.getString(NAME));
+            statement.bindLong(1, entity.getInt(ID));
+            statement.bindString(2, entity.getString(NAME));
+            statement.executeInsert();
 
-            this.database.insertOrThrow(this.table, null, data);
+            this.invalidateCache(entity.getInt(ID));
 
             return true;
         } catch (Exception e) {
@@ -276,14 +348,17 @@ public final class CityDBManager extends SimpleDBManager {
     @Override
     public boolean updateSQLite(@NonNull JSONObject entity) {
         try {
-            ContentValues data = new ContentValues();
-            String whereClause = String.format("%s = ?", ID);
-            String[] whereArgs = new String[]{entity.getString(ID)};
+            SQLiteStatement statement = this.getStatement(UPDATE_STATEMENT);
+
+            statement.bindString(1, entity.getString(NAME));
+            statement.bindString(2, currentUpdate());
+            statement.bindLong(3, entity.getInt(ID));
+
+            boolean updated = statement.executeUpdateDelete() != 0;
 
-            data.put(NAME, entity.getString(NAME));
-            data.put(UPDATE, new DateTime().toString(DEFAULT_FORMAT));
+            this.invalidateCache(entity.getInt(ID));
 
-            return this.database.update(this.table, data, whereClause, whereArgs) != 0;
+            return updated;
         } catch (Exception e) {
             this.logError("updateSQLite", e);
 
@@ -4,6 +4,7 @@ import android.content.ContentValues;
 import android.content.Context;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteException;
+import android.database.sqlite.SQLiteStatement;
 import android.support.annotation.NonNull;
 
 import com.android.volley.NetworkResponse;
@@ -15,9 +16,9 @@ import com.android.volley.toolbox.JsonArrayRequest;
 import com.android.volley.toolbox.StringRequest;
 import com.imie.a2dev.teamculte.readeo.APIManager;
 import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Country;
+import com.imie.a2dev.teamculte.readeo.Utils.HTTPRequestFuture;
 import com.imie.a2dev.teamculte.readeo.Utils.HTTPRequestQueueSingleton;
 
-import org.joda.time.DateTime;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
@@ -28,7 +29,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
 
-import static com.imie.a2dev.teamculte.readeo.DBSchemas.CommonDBSchema.DEFAULT_FORMAT;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.CommonDBSchema.UPDATE;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.CountryDBSchema.ID;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.CountryDBSchema.NAME;
@@ -38,6 +38,23 @@ import static com.imie.a2dev.teamculte.readeo.DBSchemas.CountryDBSchema.TABLE;
  * Manager class used to manage the country entities from databases.
  */
 public final class CountryDBManager extends SimpleDBManager {
+    /**
+     * Defines the compiled insert statement.
+     */
+    private static final String INSERT_STATEMENT = String.format("INSERT INTO %s (%s, %s) VALUES (?, ?)",
+                                                                 TABLE,
+                                                                 ID,
+                                                                 NAME);
+
+    /**
+     * Defines the compiled update statement.
+     */
+    private static final String UPDATE_STATEMENT = String.format("UPDATE %s SET %s = ?, %s = ? WHERE %s = ?",
+                                                                 TABLE,
+                                                                 NAME,
+                                                                 UPDATE,
+                                                                 ID);
+
     /**
      * CountryDBManager's constructor.
      * @param context The associated context.
@@ -63,6 +80,7 @@ public final class CountryDBManager extends SimpleDBManager {
             data.put(NAME, entity.getName());
 
             this.database.insertOrThrow(this.table, null, data);
+            this.invalidateCache(entity.getId());
 
             return true;
         } catch (SQLiteException e) {
@@ -84,9 +102,13 @@ public final class CountryDBManager extends SimpleDBManager {
             String[] whereArgs = new String[]{String.valueOf(entity.getId())};
 
             data.put(NAME, entity.getName());
-            data.put(UPDATE, new DateTime().toString(DEFAULT_FORMAT));
+            data.put(UPDATE, currentUpdate());
 
-            return this.database.update(this.table, data, whereClause, whereArgs) != 0;
+            boolean updated = this.database.update(this.table, data, whereClause, whereArgs) != 0;
+
+            this.invalidateCache(entity.getId());
+
+            return updated;
         } catch (SQLiteException e) {
             this.logError("updateSQLite", e);
 
@@ -100,13 +122,24 @@ public final class CountryDBManager extends SimpleDBManager {
      * @return The loaded entity if exists else null.
      */
     public Country loadSQLite(int id) {
+        EntityCache cache = EntityCache.getInstance();
+        Country country = (Country) cache.get(this.table, id);
+
+        if (country != null) {
+            return country;
+        }
+
         Cursor result = this.loadCursorSQLite(id);
 
         if (result == null || result.getCount() == 0) {
             return null;
         }
 
-        return new Country(result);
+        country = new Country(result);
+
+        cache.put(this.table, country);
+
+        return country;
     }
 
     /**
@@ -146,6 +179,16 @@ public final class CountryDBManager extends SimpleDBManager {
      * @param country The country to create.
      */
     public void createMySQL(final Country country) {
+        this.await(this.createMySQLAsync(country), null, "createMySQL");
+    }
+
+    /**
+     * Creates a country entity in MySQL database.
+     * @param country The country to create.
+     * @return The future of the country (completed once created, with the id given by the API).
+     */
+    public HTTPRequestFuture<Country> createMySQLAsync(final Country country) {
+        final HTTPRequestFuture<Country> future = new HTTPRequestFuture<>();
         String url = this.baseUrl + APIManager.CREATE;
         Map<String, String> param = new HashMap<>();
 
@@ -160,8 +203,7 @@ public final class CountryDBManager extends SimpleDBManager {
 
             @Override
             protected VolleyError parseNetworkError(VolleyError volleyError) {
-                HTTPRequestQueueSingleton.getInstance(CountryDBManager.this.getContext())
-                                         .finishRequest(CountryDBManager.this.table);
+                future.fail(volleyError);
 
                 return super.parseNetworkError(volleyError);
             }
@@ -175,11 +217,12 @@ public final class CountryDBManager extends SimpleDBManager {
                     if (pattern.matcher(resp).find()) {
                         country.setId(Integer.valueOf(resp));
                     }
+
+                    future.complete(country);
                 } catch (IOException e) {
                     CountryDBManager.this.logError("createMySQL", e);
-                } finally {
-                    HTTPRequestQueueSingleton.getInstance(CountryDBManager.this.getContext())
-                                             .finishRequest(CountryDBManager.this.table);
+
+                    future.fail(e);
                 }
 
                 return super.parseNetworkResponse(response);
@@ -187,7 +230,8 @@ public final class CountryDBManager extends SimpleDBManager {
         };
 
         HTTPRequestQueueSingleton.getInstance(this.getContext()).addToRequestQueue(this.table, request);
-        this.waitForResponse();
+
+        return future;
     }
 
     /**
@@ -196,8 +240,18 @@ public final class CountryDBManager extends SimpleDBManager {
      * @return The loaded country.
      */
     public Country loadMySQL(int idCountry) {
+        return this.await(this.loadMySQLAsync(idCountry), null, "loadMySQL");
+    }
+
+    /**
+     * Loads a country from MySQL database.
+     * @param idCountry The id of the country.
+     * @return The future of the loaded country (null if not found).
+     */
+    public HTTPRequestFuture<Country> loadMySQLAsync(int idCountry) {
         String url = this.baseUrl + APIManager.READ + ID + "=" + idCountry;
-        return this.loadFromUrlMySQL(url);
+
+        return this.loadFromUrlMySQLAsync(url);
     }
 
     /**
@@ -206,19 +260,30 @@ public final class CountryDBManager extends SimpleDBManager {
      * @return The loaded country.
      */
     public Country loadMySQL(String countryName) {
+        return this.await(this.loadMySQLAsync(countryName), null, "loadMySQL");
+    }
+
+    /**
+     * Loads a country from MySQL database.
+     * @param countryName The name of the country.
+     * @return The future of the loaded country (null if not found).
+     */
+    public HTTPRequestFuture<Country> loadMySQLAsync(String countryName) {
         String url = this.baseUrl + APIManager.READ + NAME + "=" + countryName;
-        return this.loadFromUrlMySQL(url);
+
+        return this.loadFromUrlMySQLAsync(url);
     }
 
     @Override
     public boolean createSQLite(@NonNull JSONObject entity) {
         try {
-            ContentValues data = new ContentValues();
+            SQLiteStatement statement = this.getStatement(INSERT_STATEMENT);
 
-            data.put(ID, entity.getInt(ID));
-            data.put(NAME, entity.getString(NAME));
+            statement.bindLong(1, entity.getInt(ID));
+            statement.bindString(2, entity.getString(NAME));
+            statement.executeInsert();
 
-            this.database.insertOrThrow(this.table, null, data);
+            this.invalidateCache(entity.getInt(ID));
 
             return true;
         } catch (Exception e) {
@@ -231,14 +296,17 @@ public final class CountryDBManager extends SimpleDBManager {
     @Override
     public boolean updateSQLite(@NonNull JSONObject entity) {
         try {
-            ContentValues data = new ContentValues();
-            String whereClause = String.format("%s = ?", ID);
-            String[] whereArgs = new String[]{entity.getString(ID)};
+            SQLiteStatement statement = this.getStatement(UPDATE_STATEMENT);
+
+            statement.bindString(1, entity.getString(NAME));
+            statement.bindString(2, currentUpdate());
+            statement.bindLong(3, entity.getInt(ID));
+
+            boolean updated = statement.executeUpdateDelete() != 0;
 
-            data.put(NAME, entity.getString(NAME));
-            data.put(UPDATE, new DateTime().toString(DEFAULT_FORMAT));
+            this.invalidateCache(entity.getInt(ID));
 
-            return this.database.update(this.table, data, whereClause, whereArgs) != 0;
+            return updated;
         } catch (Exception e) {
             this.logError("updateSQLite", e);
 
@@ -249,9 +317,10 @@ public final class CountryDBManager extends SimpleDBManager {
     /**
      * Loads a country from MySQL database.
      * @param url The url used to get the entity.
-     * @return The loaded country.
+     * @return The future of the loaded country (null if not found).
      */
-    private Country loadFromUrlMySQL(String url) {
+    private HTTPRequestFuture<Country> loadFromUrlMySQLAsync(String url) {
+        final HTTPRequestFuture<Country> future = new HTTPRequestFuture<>();
         final Country country = new Country();
         JsonArrayRequest request = new JsonArrayRequest(Request.Method.GET, url, null, null, new OnRequestError()) {
             @Override
@@ -264,26 +333,23 @@ public final class CountryDBManager extends SimpleDBManager {
                     country.init(object);
                 } catch (Exception e) {
                     CountryDBManager.this.logError("loadFromUrlMySQL", e);
-                } finally {
-                    HTTPRequestQueueSingleton.getInstance(CountryDBManager.this.getContext())
-                                             .finishRequest(CountryDBManager.this.table);
                 }
 
+                future.complete((country.isEmpty()) ? null : country);
+
                 return super.parseNetworkResponse(response);
             }
 
             @Override
             protected VolleyError parseNetworkError(VolleyError volleyError) {
-                HTTPRequestQueueSingleton.getInstance(CountryDBManager.this.getContext())
-                                         .finishRequest(CountryDBManager.this.table);
+                future.fail(volleyError);
 
                 return super.parseNetworkError(volleyError);
             }
         };
 
         HTTPRequestQueueSingleton.getInstance(this.getContext()).addToRequestQueue(this.table, request);
-        this.waitForResponse();
 
-        return (country.isEmpty()) ? null : country;
+        return future;
     }
 }
@@ -1,19 +1,16 @@
 package com.imie.a2dev.teamculte.readeo.DBManagers;
 
 import android.content.Context;
+import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
-import android.database.sqlite.SQLiteOpenHelper;
+import android.database.sqlite.SQLiteException;
 import android.util.Log;
 
 import com.imie.a2dev.teamculte.readeo.App;
 import com.imie.a2dev.teamculte.readeo.DBSchemas.AuthorDBSchema;
 import com.imie.a2dev.teamculte.readeo.DBSchemas.BookDBSchema;
-import com.imie.a2dev.teamculte.readeo.DBSchemas.BookListDBSchema;
-import com.imie.a2dev.teamculte.readeo.DBSchemas.BookListTypeDBSchema;
 import com.imie.a2dev.teamculte.readeo.DBSchemas.CategoryDBSchema;
-import com.imie.a2dev.teamculte.readeo.DBSchemas.CityDBSchema;
-import com.imie.a2dev.teamculte.readeo.DBSchemas.CountryDBSchema;
-import com.imie.a2dev.teamculte.readeo.DBSchemas.ProfileDBSchema;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.DBIndex;
 import com.imie.a2dev.teamculte.readeo.DBSchemas.QuoteDBSchema;
 import com.imie.a2dev.teamculte.readeo.DBSchemas.ReviewDBSchema;
 import com.imie.a2dev.teamculte.readeo.DBSchemas.UserDBSchema;
@@ -24,24 +21,40 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 /**
- * Class used to manage database structure (tables, upgrades...).
+ * Class used to manage database structure (tables, upgrades...). The database is opened in write-ahead-log mode: the
+ * connection pool then keeps a single writer connection (used by the transactions and the mutations) and read-only
+ * connections used by the queries run outside of a transaction, so that the UI reads are not blocked by a sync.
  */
 public final class DBHandler extends SQLiteAssetHelper {
     /**
-     * Defines the index statement.
+     * Defines the existing index names query.
      */
-    private static final String INDEX_STATEMENT = "CREATE INDEX i_%s ON %s(%s);";
+    private static final String INDEX_NAMES_QUERY = "SELECT name FROM sqlite_master WHERE type = 'index'";
 
     /**
-     * Defines the drop statement.
+     * Defines the secondary indexes declared by the schemas (created on open if missing).
      */
-    private static final String DROP_STATEMENT = "DROP TABLE IF EXISTS %s;";
+    private static final DBIndex[][] INDEXES = {
+            AuthorDBSchema.INDEXES,
+            BookDBSchema.INDEXES,
+            CategoryDBSchema.INDEXES,
+            QuoteDBSchema.INDEXES,
+            ReviewDBSchema.INDEXES,
+            UserDBSchema.INDEXES,
+            WriterDBSchema.INDEXES
+    };
+
     /**
      * Defines the database version.
      */
-    private static final int VERSION = 1;
+    private static final int VERSION = DBMigrator.getLatestVersion();
     /**
      * Using singleton pattern, stores the instance.
      */
@@ -73,21 +86,72 @@ public final class DBHandler extends SQLiteAssetHelper {
     }
     
     @Override
-    public void onUpgrade(SQLiteDatabase db, int i, int i1) {
-        db.execSQL(String.format(DROP_STATEMENT, AuthorDBSchema.TABLE));
-        db.execSQL(String.format(DROP_STATEMENT, BookDBSchema.TABLE));
-        db.execSQL(String.format(DROP_STATEMENT, BookListDBSchema.TABLE));
-        db.execSQL(String.format(DROP_STATEMENT, BookListTypeDBSchema.TABLE));
-        db.execSQL(String.format(DROP_STATEMENT, CategoryDBSchema.TABLE));
-        db.execSQL(String.format(DROP_STATEMENT, CityDBSchema.TABLE));
-        db.execSQL(String.format(DROP_STATEMENT, CountryDBSchema.TABLE));
-        db.execSQL(String.format(DROP_STATEMENT, ProfileDBSchema.TABLE));
-        db.execSQL(String.format(DROP_STATEMENT, QuoteDBSchema.TABLE));
-        db.execSQL(String.format(DROP_STATEMENT, ReviewDBSchema.TABLE));
-        db.execSQL(String.format(DROP_STATEMENT, UserDBSchema.TABLE));
-        db.execSQL(String.format(DROP_STATEMENT, WriterDBSchema.TABLE));
-
-        this.onCreate(db);
+    public void onUpgrade(SQLiteDatabase db, int oldVersion, int newVersion) {
+        DBMigrator.migrate(db, oldVersion, newVersion);
+    }
+
+    @Override
+    public void onOpen(SQLiteDatabase db) {
+        super.onOpen(db);
+
+        if (!db.isReadOnly()) {
+            db.enableWriteAheadLogging();
+            this.createMissingIndexes(db);
+        }
+    }
+
+    /**
+     * Gets all the secondary indexes declared by the schemas.
+     * @return The list of indexes.
+     */
+    public static List<DBIndex> getIndexes() {
+        List<DBIndex> indexes = new ArrayList<>();
+
+        for (DBIndex[] schemaIndexes : INDEXES) {
+            indexes.addAll(Arrays.asList(schemaIndexes));
+        }
+
+        return indexes;
+    }
+
+    /**
+     * Gets the declared secondary indexes which do not exist in a database.
+     * @param db The database to check.
+     * @return The list of missing indexes.
+     */
+    public static List<DBIndex> getMissingIndexes(SQLiteDatabase db) {
+        Set<String> names = new HashSet<>();
+        List<DBIndex> missing = new ArrayList<>();
+        Cursor result = db.rawQuery(INDEX_NAMES_QUERY, null);
+
+        while (result.moveToNext()) {
+            names.add(result.getString(0));
+        }
+
+        result.close();
+
+        for (DBIndex index : DBHandler.getIndexes()) {
+            if (!names.contains(index.getName())) {
+                missing.add(index);
+            }
+        }
+
+        return missing;
+    }
+
+    /**
+     * Creates the declared secondary indexes which do not exist in a database (an index failing to be created is
+     * logged and skipped as the queries still work without it).
+     * @param db The database to index.
+     */
+    private void createMissingIndexes(SQLiteDatabase db) {
+        for (DBIndex index : DBHandler.getMissingIndexes(db)) {
+            try {
+                db.execSQL(index.getStatement());
+            } catch (SQLiteException e) {
+                Log.e(String.format("[%s:%s] : ", this.getClass().getName(), "createMissingIndexes"), e.getMessage());
+            }
+        }
     }
 
     public void copyDatabase(String databaseName) {
@@ -4,9 +4,13 @@ import android.content.Context;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteDatabase;
 import android.database.sqlite.SQLiteException;
+import android.database.sqlite.SQLiteStatement;
 import android.support.annotation.NonNull;
+import android.util.JsonReader;
+import android.util.JsonToken;
 import android.util.Log;
 
+import com.android.volley.NetworkResponse;
 import com.android.volley.Request;
 import com.android.volley.Response;
 import com.android.volley.VolleyError;
@@ -14,8 +18,18 @@ import com.android.volley.toolbox.JsonArrayRequest;
 import com.android.volley.toolbox.StringRequest;
 import com.imie.a2dev.teamculte.readeo.APIManager;
 import com.imie.a2dev.teamculte.readeo.App;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.CommonDBSchema;
+import com.imie.a2dev.teamculte.readeo.Utils.HTTPRequestFuture;
 import com.imie.a2dev.teamculte.readeo.Utils.HTTPRequestQueueSingleton;
-
+import com.imie.a2dev.teamculte.readeo.Utils.JsonStreamRequest;
+import com.imie.a2dev.teamculte.readeo.Utils.KeysetImporter;
+import com.imie.a2dev.teamculte.readeo.Utils.KeysetImporter.KeysetImporterListener;
+import com.imie.a2dev.teamculte.readeo.Utils.PreferencesUtils;
+import com.imie.a2dev.teamculte.readeo.Utils.SyncRequest;
+import com.imie.a2dev.teamculte.readeo.Utils.SyncValidators;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
@@ -24,6 +38,10 @@ import java.io.File;
 import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Abstract class extended by all DBManager classes (used to manage entities into databases).
@@ -37,6 +55,14 @@ public abstract class DBManager {
      * Stores the default id value for tests on MySQL database (as big as possible).
      */
     public static final int MYSQL_TEST_ID = -666;
+    /**
+     * Defines the id to give to the keyset paginated queries in order to get the first page.
+     */
+    public static final int KEYSET_START = Integer.MIN_VALUE;
+    /**
+     * Defines the maximum time (in seconds) the blocking API methods wait for a response.
+     */
+    public static final int REQUEST_TIMEOUT = 30;
 
     // Predefined queries.
     /**
@@ -55,6 +81,10 @@ public abstract class DBManager {
      * Defines the default all fields database query with paginated results.
      */
     protected final String QUERY_ALL_PAGINATED = "SELECT * FROM %s LIMIT %s OFFSET %s";
+    /**
+     * Defines the default all fields database query with keyset paginated results (rows after the given id).
+     */
+    protected final String QUERY_ALL_KEYSET = "SELECT * FROM %s WHERE %s > ? ORDER BY %s LIMIT %s";
 
     // Other attributes
     /**
@@ -62,12 +92,44 @@ public abstract class DBManager {
      */
     protected final String SIMPLE_QUERY_ALL = "SELECT * FROM %s WHERE %s = ?";
     /**
-     * Defines the count param and json value from MySQL query alias.
+     * Stores the compiled statements of each thread, shared by all the managers. A statement is only bound and
+     * executed by the thread which compiled it, so no lock is held while it waits for a database connection.
      */
-    private final String COUNT = "count";
+    private static final ThreadLocal<ThreadStatements> STATEMENTS = new ThreadLocal<ThreadStatements>() {
+        @Override
+        protected ThreadStatements initialValue() {
+            return new ThreadStatements();
+        }
+    };
+
+    /**
+     * Stores the number of times the compiled statements have been cleared, a thread closes its statements compiled
+     * before the last clear on its next use.
+     */
+    private static final AtomicInteger STATEMENTS_GENERATION = new AtomicInteger();
 
     /**
-     * Defines the default pagination results.
+     * Defines the count query (the table name is appended).
+     */
+    private static final String COUNT_QUERY = "SELECT COUNT(*) FROM ";
+
+    /**
+     * Defines the number of rows imported between two yields of the import transaction to the waiting threads.
+     */
+    private static final int IMPORT_YIELD_STEP = 250;
+
+    /**
+     * Defines the lowest id json value of the bounds API query.
+     */
+    private final String BOUNDS_MIN = "min";
+
+    /**
+     * Defines the highest id json value of the bounds API query.
+     */
+    private final String BOUNDS_MAX = "max";
+
+    /**
+     * Defines the number of ids of a page of the paginated import.
      */
     private final int PAGINATION = 2000;
 
@@ -77,7 +139,8 @@ public abstract class DBManager {
     protected String baseUrl;
 
     /**
-     * Stores the managers database in order to manage.
+     * Stores the managers database in order to manage (in write-ahead-log mode, the queries run outside of a
+     * transaction use the read connections of the pool, the mutations and the transactions the writer connection).
      */
     protected SQLiteDatabase database;
 
@@ -120,6 +183,37 @@ public abstract class DBManager {
      */
     public static void setDbFileName(String newDbFileName) {
         dbFileName = newDbFileName;
+
+        EntityCache.getInstance().clear();
+        DBManager.clearStatements();
+    }
+
+    /**
+     * Builds the LIKE pattern matching the values starting with a string. The whole pattern is bound (instead of
+     * concatenating the wildcard in SQL) so that SQLite can turn the LIKE into a range of a case insensitive index.
+     * @param value The start of the values to match.
+     * @return The LIKE pattern.
+     */
+    protected static String likeStart(String value) {
+        return value + "%";
+    }
+
+    /**
+     * Builds the last update of a row written now. The date is formatted in UTC like the CURRENT_TIMESTAMP default of
+     * the inserted rows, as SyncSnapshot.parseMillis reads it.
+     * @return The last update.
+     */
+    protected static String currentUpdate() {
+        return new DateTime(DateTimeZone.UTC).toString(CommonDBSchema.DEFAULT_FORMAT);
+    }
+
+    /**
+     * Closes and removes all the compiled statements: the ones of the current thread immediately, the ones of the other
+     * threads on their next use.
+     */
+    private static void clearStatements() {
+        STATEMENTS_GENERATION.incrementAndGet();
+        STATEMENTS.get().clear();
     }
 
     /**
@@ -171,17 +265,20 @@ public abstract class DBManager {
     }
 
     /**
-     * Loops while there are no response received from API (fix the asynchronous mechanism issue).
+     * Blocks until all the pending API requests of the manager are finished (or until REQUEST_TIMEOUT elapsed). The
+     * methods returning a future should be preferred in order to wait for a single request. Must not be called from
+     * the database thread (the requests are finished on it).
      */
     public void waitForResponse() {
         HTTPRequestQueueSingleton httpRequestQueueSingleton = HTTPRequestQueueSingleton.getInstance(this.context);
 
-        while (httpRequestQueueSingleton.hasRequestPending(this.table)) {
-            try {
-                Thread.sleep(10);
-            } catch (InterruptedException e) {
-                this.logError("waitForResponse", e);
+        try {
+            if (!httpRequestQueueSingleton.awaitRequests(this.table, REQUEST_TIMEOUT, TimeUnit.SECONDS)) {
+                this.logError("waitForResponse", new TimeoutException("Requests still pending on " + this.table));
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.logError("waitForResponse", e);
         }
     }
 
@@ -191,17 +288,9 @@ public abstract class DBManager {
      */
     public final int countSQLite() {
         try {
-            String[] selectArgs = {};
-            String query = String.format("SELECT COUNT(*) as %s FROM %s", COUNT, this.table);
-            Cursor result = this.database.rawQuery(query, selectArgs);
-
-            result.moveToNext();
-
-            int count = result.getInt(result.getColumnIndexOrThrow(COUNT));
+            SQLiteStatement statement = this.getStatement(COUNT_QUERY + this.table);
 
-            result.close();
-
-            return count;
+            return (int) statement.simpleQueryForLong();
         } catch (SQLiteException e) {
             this.logError("countSQLite", e);
 
@@ -230,7 +319,15 @@ public abstract class DBManager {
                 }
             }
 
-            return this.database.delete(this.table, builder.toString(), whereArgs) != 0;
+            boolean deleted = this.database.delete(this.table, builder.toString(), whereArgs) != 0;
+
+            if (ids.length == 1) {
+                this.invalidateCache(ids[0]);
+            } else {
+                this.invalidateCache();
+            }
+
+            return deleted;
         } catch (SQLiteException e) {
             this.logError("deleteSQLite", e);
 
@@ -238,49 +335,120 @@ public abstract class DBManager {
         }
     }
 
+    /**
+     * From a SQL statement, returns the associated compiled statement of the current thread (compiled once by thread
+     * and shared between managers). The statement must not be used by another thread.
+     * @param sql The SQL of the statement.
+     * @return The compiled statement.
+     */
+    protected final SQLiteStatement getStatement(String sql) {
+        ThreadStatements statements = STATEMENTS.get();
+        int generation = STATEMENTS_GENERATION.get();
+
+        if (statements.database != this.database || statements.generation != generation) {
+            statements.clear();
+
+            statements.database = this.database;
+            statements.generation = generation;
+        }
+
+        SQLiteStatement statement = statements.compiled.get(sql);
+
+        if (statement == null) {
+            statement = this.database.compileStatement(sql);
+
+            statements.compiled.put(sql, statement);
+        }
+
+        return statement;
+    }
+
+    /**
+     * Removes all the entities of the manager's table from the entity cache.
+     */
+    public final void invalidateCache() {
+        EntityCache.getInstance().invalidate(this.table);
+    }
+
+    /**
+     * Removes an entity of the manager's table from the entity cache.
+     * @param id The id of the entity.
+     */
+    protected final void invalidateCache(int id) {
+        EntityCache.getInstance().invalidate(this.table, id);
+    }
+
     /**
      * From the API, query the list of entities (depending on the url) from the MySQL database in order to stores it
-     * into the SQLite database.
+     * into the SQLite database. The response is parsed on the network thread, the entities are imported by the
+     * listener on the database thread (the transactions are never run by the network threads).
      * @param url The url to request.
      */
     public final void importFromMySQL(String url) {
-        this.requestJsonArray(Request.Method.GET, url, response -> {
-            for (int i = 0; i < response.length(); i++) {
-                try {
-                    DBManager.this.createSQLite(response.getJSONObject(i));
-                } catch (JSONException e) {
-                    DBManager.this.logError("importFromMySQL", e);
-                }
-            }
-
-            HTTPRequestQueueSingleton.getInstance(DBManager.this.context).finishRequest(this.table);
-        }, null);
+        this.requestJsonStream(Request.Method.GET, url, DBManager::readPage, this::importSQLite, null);
     }
 
     /**
-     * From the API, query the list of all entities from the MySQL database with pagination in order to stores it into
-     * the SQLite database.
-     * @param url The url to request.
+     * From the API, imports all the entities (single id entities) from the MySQL database into the SQLite database by
+     * ranges of PAGINATION ids (keyset pagination on the first id, see KeysetImporter), up to pagesInFlight pages being
+     * fetched at the same time. Each page is parsed on the network thread then committed on the database thread (the
+     * listener of its request) in its own transaction in key order, the last committed key being saved into the
+     * preferences so an interrupted import resumes after it (a page committed again after a crash is upserted).
+     * @param pagesInFlight The maximum number of pages fetched and not committed yet.
+     * @param listener The listener notified of the end of the import (may be null).
+     * @return The importer (started once the ids bounds are received).
      */
-    public final void importPaginatedFromMySQL(final String url) {
-        final Integer[] max = new Integer[1];
-        final Integer[] indexes = new Integer[]{0, 0};
+    public final KeysetImporter<JSONArray> importPaginatedFromMySQL(int pagesInFlight,
+                                                                    final KeysetImporterListener listener) {
+        final String url = this.baseUrl + APIManager.READ;
+        final KeysetImporter<JSONArray> importer = new KeysetImporter<>(new KeysetImporter.PageSource<JSONArray>() {
+            @Override
+            public void fetch(final KeysetImporter<JSONArray> importer, final int page, long after, long to) {
+                String pageUrl = String.format("%s%s&%s=%s&%s=%s", url, APIManager.ABOVE, DBManager.this.ids[0], after,
+                                               APIManager.MAX, to);
+
+                DBManager.this.requestJsonStream(Request.Method.GET, pageUrl, DBManager::readPage,
+                                                 rows -> importer.onPageFetched(page, rows), error -> {
+                    new OnRequestError().onErrorResponse(error);
+                    importer.onPageFailed(page);
+                });
+            }
+
+            @Override
+            public int commit(JSONArray rows, long to) {
+                int committed = DBManager.this.importSQLite(rows);
 
-        this.requestJsonArray(Request.Method.GET, url + COUNT, response -> {
+                PreferencesUtils.saveImportKey(DBManager.this.table, to);
+
+                return committed;
+            }
+        }, pagesInFlight, PAGINATION, finished -> {
+            if (finished.isFinished()) {
+                PreferencesUtils.clearImportKey(DBManager.this.table);
+            }
+
+            if (listener != null) {
+                listener.onImportFinished(finished);
+            }
+        });
+
+        this.requestJsonArray(Request.Method.GET, url + APIManager.BOUNDS, response -> {
             try {
-                max[0] = response.getJSONObject(0).getInt(COUNT);
-                indexes[1] = (max[0] > PAGINATION) ? PAGINATION : max[0];
+                JSONObject bounds = response.getJSONObject(0);
+                long after = bounds.isNull(BOUNDS_MIN) ? 0 : bounds.getLong(BOUNDS_MIN) - 1;
+                long max = bounds.isNull(BOUNDS_MAX) ? after : bounds.getLong(BOUNDS_MAX);
 
-                while (!indexes[0].equals(max[0])) {
-                    DBManager.this.importFromMySQL(String.format("%sstart=%s&end=%s", url, indexes[0], indexes[1]));
-                    DBManager.this.updateIndexes(indexes, max[0]);
-                }
+                importer.start(Math.max(PreferencesUtils.loadImportKey(DBManager.this.table, after), after), max);
             } catch (JSONException e) {
                 DBManager.this.logError("importPaginatedFromMySQL", e);
+                importer.cancel();
             }
+        }, error -> {
+            new OnRequestError().onErrorResponse(error);
+            importer.cancel();
+        });
 
-            HTTPRequestQueueSingleton.getInstance(DBManager.this.context).finishRequest(this.table);
-        }, null);
+        return importer;
     }
 
     /**
@@ -292,8 +460,7 @@ public abstract class DBManager {
 
         param.put(APIManager.TEST, "1");
 
-        this.requestString(Request.Method.PUT, url, null, param);
-        this.waitForResponse();
+        this.await(this.requestString(Request.Method.PUT, url, null, param), null, "deleteMySQLTestEntities");
     }
 
     /**
@@ -303,6 +470,102 @@ public abstract class DBManager {
      */
     public abstract boolean createSQLite(@NonNull JSONObject entity);
 
+    /**
+     * From a JSON object creates the associated entity into the database or updates it if it already exists (the
+     * update is tried first as a failing insert would throw and log an exception).
+     * @param entity The JSON object to store into the database.
+     * @return true if success else false.
+     */
+    public boolean upsertSQLite(@NonNull JSONObject entity) {
+        return this.updateSQLite(entity) || this.createSQLite(entity);
+    }
+
+    /**
+     * From a JSON array (a page of the API), creates or updates all the associated entities into the database inside
+     * a single transaction. The transaction is yielded every IMPORT_YIELD_STEP rows if other threads are waiting for
+     * the database (unless it is nested into a caller's transaction), an invalid entity is logged and skipped. The
+     * table's cached entities are invalidated once the transaction has ended, so that no reader caches a row read
+     * before the commit.
+     * @param entities The JSON array of the entities to store into the database.
+     * @return The number of stored entities.
+     */
+    public final int importSQLite(@NonNull JSONArray entities) {
+        int imported = 0;
+        boolean nested = this.database.inTransaction();
+
+        this.database.beginTransaction();
+
+        try {
+            for (int i = 0; i < entities.length(); i++) {
+                try {
+                    if (this.upsertSQLite(entities.getJSONObject(i))) {
+                        imported++;
+                    }
+                } catch (JSONException e) {
+                    this.logError("importSQLite", e);
+                }
+
+                if (!nested && (i + 1) % IMPORT_YIELD_STEP == 0) {
+                    this.database.yieldIfContendedSafely();
+                }
+            }
+
+            this.database.setTransactionSuccessful();
+        } catch (SQLiteException e) {
+            this.logError("importSQLite", e);
+        } finally {
+            this.database.endTransaction();
+        }
+
+        this.invalidateCache();
+
+        return imported;
+    }
+
+    /**
+     * From a JSON stream (a page of the API), creates or updates all the associated entities into the database inside
+     * a single transaction as they are read, only one entity being held in memory at a time. The transaction is
+     * yielded and the cache invalidated as in importSQLite(JSONArray), the transaction is rolled back if the stream is
+     * malformed.
+     * @param reader The reader positioned at the beginning of the JSON array of the entities.
+     * @return The number of stored entities.
+     * @throws IOException If the stream is malformed.
+     */
+    public final int importSQLite(@NonNull JsonReader reader) throws IOException {
+        int imported = 0;
+        int read = 0;
+        boolean nested = this.database.inTransaction();
+
+        this.database.beginTransaction();
+
+        try {
+            reader.beginArray();
+
+            while (reader.hasNext()) {
+                JSONObject entity = DBManager.readEntity(reader);
+
+                if (entity != null && this.upsertSQLite(entity)) {
+                    imported++;
+                }
+
+                if (!nested && ++read % IMPORT_YIELD_STEP == 0) {
+                    this.database.yieldIfContendedSafely();
+                }
+            }
+
+            reader.endArray();
+            this.database.setTransactionSuccessful();
+        } catch (SQLiteException e) {
+            this.logError("importSQLite", e);
+        } finally {
+            this.database.endTransaction();
+        }
+
+        this.invalidateCache();
+
+        return imported;
+    }
+
     /**
      * From a JSON object updates the associated entity into the database.
      * @param entity The JSON object to update into the database.
@@ -310,6 +573,30 @@ public abstract class DBManager {
      */
     public abstract boolean updateSQLite(@NonNull JSONObject entity);
 
+    /**
+     * Reads a JSON stream (a page of the API) into a JSON array of flat entities.
+     * @param reader The reader positioned at the beginning of the JSON array of the entities.
+     * @return The entities.
+     * @throws IOException If the stream is malformed.
+     */
+    public static JSONArray readPage(JsonReader reader) throws IOException {
+        JSONArray entities = new JSONArray();
+
+        reader.beginArray();
+
+        while (reader.hasNext()) {
+            JSONObject entity = DBManager.readEntity(reader);
+
+            if (entity != null) {
+                entities.put(entity);
+            }
+        }
+
+        reader.endArray();
+
+        return entities;
+    }
+
     /**
      * Adds a JsonArray HTTP request to the queue.
      * @param method The method to use (POST, GET, PUT...).
@@ -334,30 +621,123 @@ public abstract class DBManager {
         HTTPRequestQueueSingleton.getInstance(this.context).addToRequestQueue(this.table, jsonArrayRequest);
     }
 
+    /**
+     * Adds a JSON HTTP request parsed incrementally on the network thread to the queue.
+     * @param method The method to use (POST, GET, PUT...).
+     * @param url The url to request.
+     * @param parser The parser of the response (called on the network thread).
+     * @param successListener The listener of the parsed result (may be null).
+     * @param errorListener The listener of the errors (OnRequestError if null).
+     * @param <T> The type of the parsed result.
+     */
+    public final <T> void requestJsonStream(int method,
+                                            String url,
+                                            JsonStreamRequest.Parser<T> parser,
+                                            Response.Listener<T> successListener,
+                                            Response.ErrorListener errorListener) {
+        if (errorListener == null) {
+            errorListener = new OnRequestError();
+        }
+
+        JsonStreamRequest<T> request = new JsonStreamRequest<>(method, url, parser, successListener, errorListener);
+
+        HTTPRequestQueueSingleton.getInstance(this.context).addToRequestQueue(this.table, request);
+    }
+
+    /**
+     * Adds a synchronization query to the queue (GET request, gzip response parsed incrementally on the network
+     * thread, conditional if the validators of the previous response are given, see SyncRequest).
+     * @param url The url to request.
+     * @param validators The validators of the previous response of the url (may be null).
+     * @param parser The parser of the response (called on the network thread).
+     * @param successListener The listener of the result (may be null).
+     * @param errorListener The listener of the errors (OnRequestError if null).
+     * @param <T> The type of the parsed result.
+     */
+    public final <T> void requestSync(String url,
+                                      SyncValidators validators,
+                                      JsonStreamRequest.Parser<T> parser,
+                                      Response.Listener<SyncRequest.Result<T>> successListener,
+                                      Response.ErrorListener errorListener) {
+        if (errorListener == null) {
+            errorListener = new OnRequestError();
+        }
+
+        SyncRequest<T> request = new SyncRequest<>(url, validators, parser, successListener, errorListener);
+
+        HTTPRequestQueueSingleton.getInstance(this.context).addToRequestQueue(this.table, request);
+    }
+
+    /**
+     * Reports a failed request of the manager to the listeners of its requests (see HTTPRequestQueueListener), to call
+     * from the error listeners not using OnRequestError.
+     */
+    public final void reportRequestError() {
+        HTTPRequestQueueSingleton.getInstance(this.context).notifyRequestError(this.table);
+    }
+
     /**
      * Adds a String HTTP request to the queue.
      * @param method The method to use (POST, GET, PUT...).
      * @param url The url to request.
      * @param successListener The instance implementing response listener in order to call the associated callback.
      * @param params The param to send (POST and PUT requests).
+     * @return The future completed with the API response once parsed (before the listener is called).
      */
-    public final void requestString(int method,
-                                    String url,
-                                    Response.Listener<String> successListener,
-                                    final Map<String, String> params) {
-        if (successListener == null) {
-            successListener = response -> HTTPRequestQueueSingleton.getInstance(DBManager.this.context)
-                                                                   .finishRequest(this.table);
-        }
+    public final HTTPRequestFuture<String> requestString(int method,
+                                                         String url,
+                                                         Response.Listener<String> successListener,
+                                                         final Map<String, String> params) {
+        final HTTPRequestFuture<String> future = new HTTPRequestFuture<>();
 
         StringRequest stringRequest = new StringRequest(method, url, successListener, new OnRequestError()) {
             @Override
             protected Map<String, String> getParams() {
                 return params;
             }
+
+            @Override
+            protected Response<String> parseNetworkResponse(NetworkResponse response) {
+                Response<String> parsed = super.parseNetworkResponse(response);
+
+                future.complete(parsed.result);
+
+                return parsed;
+            }
+
+            @Override
+            protected VolleyError parseNetworkError(VolleyError volleyError) {
+                future.fail(volleyError);
+
+                return super.parseNetworkError(volleyError);
+            }
         };
 
         HTTPRequestQueueSingleton.getInstance(this.context).addToRequestQueue(this.table, stringRequest);
+
+        return future;
+    }
+
+    /**
+     * Blocks until a future is completed (or until REQUEST_TIMEOUT elapsed) and returns its result. Used by the
+     * blocking API methods on top of their asynchronous variants.
+     * @param future The future of the request.
+     * @param fallback The value to return if the request failed or timed out.
+     * @param methodName The name of the calling method (used to log the errors).
+     * @param <T> The type of the result.
+     * @return The result of the request or the fallback value.
+     */
+    protected final <T> T await(HTTPRequestFuture<T> future, T fallback, String methodName) {
+        try {
+            return future.get(REQUEST_TIMEOUT, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            this.logError(methodName, e);
+        } catch (ExecutionException | TimeoutException e) {
+            this.logError(methodName, e);
+        }
+
+        return fallback;
     }
 
     /**
@@ -373,6 +753,7 @@ public abstract class DBManager {
      * Closes the database.
      */
     protected void close() {
+        DBManager.clearStatements();
         DBHandler.getInstance().close();
     }
 
@@ -382,37 +763,104 @@ public abstract class DBManager {
     private void open() {
         if (this.database == null || !this.database.isOpen()) {
             this.database = DBHandler.getInstance().getWritableDatabase();
+
+            this.database.setMaxSqlCacheSize(SQLiteDatabase.MAX_SQL_CACHE_SIZE);
         }
     }
 
     /**
-     * Updates the indexes depending on the max result number.
-     * @param maxIndex The max results number.
+     * Reads the next entity of a JSON stream into a JSON object (flat values, nested values are skipped).
+     * @param reader The reader positioned before the entity.
+     * @return The entity or null if the next value is not an object.
+     * @throws IOException If the stream is malformed.
      */
-    private void updateIndexes(Integer cursorIndexes[], int maxIndex) {
-        if (cursorIndexes.length != 2) {
-            return;
+    private static JSONObject readEntity(JsonReader reader) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            reader.skipValue();
+
+            return null;
+        }
+
+        JSONObject entity = new JSONObject();
+
+        reader.beginObject();
+
+        try {
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+
+                switch (reader.peek()) {
+                    case STRING:
+                    case NUMBER:
+                        entity.put(name, reader.nextString());
+                        break;
+                    case BOOLEAN:
+                        entity.put(name, reader.nextBoolean());
+                        break;
+                    case NULL:
+                        reader.nextNull();
+                        entity.put(name, JSONObject.NULL);
+                        break;
+                    default:
+                        reader.skipValue();
+                }
+            }
+        } catch (JSONException e) {
+            throw new IOException(e);
         }
 
-        cursorIndexes[0] = cursorIndexes[1];
-        cursorIndexes[1] = (cursorIndexes[1] + PAGINATION > maxIndex) ? maxIndex : cursorIndexes[1] + PAGINATION;
+        reader.endObject();
+
+        return entity;
+    }
+
+    /**
+     * Class used to hold the compiled statements of a thread with the database they belong to.
+     */
+    private static final class ThreadStatements {
+        /**
+         * Stores the compiled statements by SQL.
+         */
+        private final Map<String, SQLiteStatement> compiled = new HashMap<>();
+
+        /**
+         * Stores the database the compiled statements belong to.
+         */
+        private SQLiteDatabase database;
+
+        /**
+         * Stores the generation of the statements when they were compiled.
+         */
+        private int generation;
+
+        /**
+         * Closes and removes all the compiled statements.
+         */
+        private void clear() {
+            for (SQLiteStatement statement : this.compiled.values()) {
+                statement.close();
+            }
+
+            this.compiled.clear();
+
+            this.database = null;
+        }
     }
 
     /**
-     * Inner class used to manage HTTP request errors while contacting the API.
+     * Inner class used to manage HTTP request errors while contacting the API (logged and reported to the listeners of
+     * the manager's requests).
      */
     protected final class OnRequestError implements Response.ErrorListener {
         @Override
         public void onErrorResponse(VolleyError error) {
-            HTTPRequestQueueSingleton requestQueueSingleton =
-                    HTTPRequestQueueSingleton.getInstance(DBManager.this.context);
-            requestQueueSingleton.finishRequest(DBManager.this.getTable());
-
             String statusCode = (error.networkResponse != null) ? String.valueOf(error.networkResponse.statusCode) :
                     "unexpected";
-            String requested = requestQueueSingleton.getLastRequestUrl();
+            String requested = HTTPRequestQueueSingleton.getInstance(DBManager.this.context).getLastRequestUrl();
             Log.e("[OnRequestError:onErrorResponse]",
                   "Error " + statusCode + " while contacting the API at request : \n" + requested);
+
+            DBManager.this.reportRequestError();
         }
     }
 }
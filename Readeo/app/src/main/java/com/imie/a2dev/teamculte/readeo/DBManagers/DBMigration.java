@@ -0,0 +1,118 @@
+package com.imie.a2dev.teamculte.readeo.DBManagers;
+
+import android.database.Cursor;
+import android.database.DatabaseUtils;
+import android.database.sqlite.SQLiteDatabase;
+import android.support.annotation.NonNull;
+
+import com.imie.a2dev.teamculte.readeo.DBSchemas.DBIndex;
+
+/**
+ * Abstract class extended by all the database schema migrations. A migration upgrades the schema from the previous
+ * version to its own version without losing the stored data (it is run by DBMigrator inside a transaction). As an
+ * interrupted upgrade is replayed from the last committed version, a migration should only use idempotent statements
+ * (IF NOT EXISTS clauses and the helper methods below).
+ */
+public abstract class DBMigration {
+    /**
+     * Defines the add column statement.
+     */
+    private static final String ADD_COLUMN_STATEMENT = "ALTER TABLE %s ADD COLUMN %s %s;";
+
+    /**
+     * Stores the schema version reached once the migration applied.
+     */
+    private int version;
+
+    /**
+     * Stores the description of the migration (used to log errors).
+     */
+    private String description;
+
+    /**
+     * DBMigration's constructor.
+     * @param version The schema version reached once the migration applied.
+     * @param description The description of the migration.
+     */
+    protected DBMigration(int version, String description) {
+        this.version = version;
+        this.description = description;
+    }
+
+    /**
+     * Gets the version attribute.
+     * @return The int value of the attribute.
+     */
+    public int getVersion() {
+        return this.version;
+    }
+
+    /**
+     * Gets the description attribute.
+     * @return The String value of the attribute.
+     */
+    public String getDescription() {
+        return this.description;
+    }
+
+    /**
+     * Applies the migration to the database (an exception aborts the migration and rolls back its changes).
+     * @param db The database to migrate.
+     */
+    public abstract void migrate(@NonNull SQLiteDatabase db);
+
+    /**
+     * Checks if a table exists.
+     * @param db The database to check.
+     * @param table The name of the table.
+     * @return true if the table exists else false.
+     */
+    protected boolean hasTable(@NonNull SQLiteDatabase db, String table) {
+        return DatabaseUtils.queryNumEntries(db, "sqlite_master", "type = 'table' AND name = ?",
+                                             new String[]{table}) != 0;
+    }
+
+    /**
+     * Checks if a table has a column.
+     * @param db The database to check.
+     * @param table The name of the table.
+     * @param column The name of the column.
+     * @return true if the column exists else false.
+     */
+    protected boolean hasColumn(@NonNull SQLiteDatabase db, String table, String column) {
+        Cursor result = db.rawQuery(String.format("PRAGMA table_info(%s)", table), null);
+        int nameColumn = result.getColumnIndexOrThrow("name");
+        boolean found = false;
+
+        while (!found && result.moveToNext()) {
+            found = column.equalsIgnoreCase(result.getString(nameColumn));
+        }
+
+        result.close();
+
+        return found;
+    }
+
+    /**
+     * Adds a column to a table if it does not exist yet (the existing rows get the default value of the column).
+     * @param db The database to migrate.
+     * @param table The name of the table.
+     * @param column The name of the column.
+     * @param definition The definition of the column (type, constraints and default value).
+     */
+    protected void addColumn(@NonNull SQLiteDatabase db, String table, String column, String definition) {
+        if (!this.hasColumn(db, table, column)) {
+            db.execSQL(String.format(ADD_COLUMN_STATEMENT, table, column, definition));
+        }
+    }
+
+    /**
+     * Creates an index on a table column if it does not exist yet.
+     * @param db The database to migrate.
+     * @param table The name of the table.
+     * @param column The name of the indexed column.
+     */
+    protected void createIndex(@NonNull SQLiteDatabase db, String table, String column) {
+        db.execSQL(new DBIndex(table, false, column).getStatement());
+    }
+}
@@ -0,0 +1,76 @@
+package com.imie.a2dev.teamculte.readeo.DBManagers;
+
+import android.database.sqlite.SQLiteDatabase;
+import android.support.annotation.NonNull;
+import android.util.Log;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Abstract class used to upgrade the database schema through the ordered list of migrations. Each migration runs in
+ * its own transaction and sets the database version once applied, so that the stored data is kept and an upgrade
+ * never forces a full download of the catalog again.
+ */
+public abstract class DBMigrator {
+    /**
+     * Defines the version of the database shipped in the assets (before any migration).
+     */
+    public static final int FIRST_VERSION = 1;
+
+    /**
+     * Defines the migrations ordered by version, a new migration must be appended with the next version.
+     */
+    private static final List<DBMigration> MIGRATIONS = Collections.unmodifiableList(Arrays.asList(
+            new BookSearchMigration()
+    ));
+
+    /**
+     * Gets the migrations ordered by version.
+     * @return The list of migrations.
+     */
+    public static List<DBMigration> getMigrations() {
+        return MIGRATIONS;
+    }
+
+    /**
+     * Gets the latest database version (the version reached once all the migrations applied).
+     * @return The latest version.
+     */
+    public static int getLatestVersion() {
+        return FIRST_VERSION + MIGRATIONS.size();
+    }
+
+    /**
+     * Applies in order the migrations upgrading the database from a version to another. Each migration is applied
+     * inside its own transaction (nested into the open helper's one while upgrading), a failing migration is rolled
+     * back and its exception rethrown.
+     * @param db The database to migrate.
+     * @param oldVersion The current version of the database.
+     * @param newVersion The version to reach.
+     */
+    public static void migrate(@NonNull SQLiteDatabase db, int oldVersion, int newVersion) {
+        for (DBMigration migration : MIGRATIONS) {
+            if (migration.getVersion() <= oldVersion || migration.getVersion() > newVersion) {
+                continue;
+            }
+
+            db.beginTransaction();
+
+            try {
+                migration.migrate(db);
+                db.setVersion(migration.getVersion());
+                db.setTransactionSuccessful();
+            } catch (RuntimeException e) {
+                Log.e(String.format("[%s:%s] : ", DBMigrator.class.getName(), "migrate"),
+                      String.format("Migration to version %d (%s) failed: %s", migration.getVersion(),
+                                    migration.getDescription(), e.getMessage()));
+
+                throw e;
+            } finally {
+                db.endTransaction();
+            }
+        }
+    }
+}
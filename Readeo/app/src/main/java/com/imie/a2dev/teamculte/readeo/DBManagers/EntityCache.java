@@ -0,0 +1,221 @@
+package com.imie.a2dev.teamculte.readeo.DBManagers;
+
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.DBEntity;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class used as an identity map of the entities loaded from the SQLite database, keyed by table and id. Entities are
+ * kept in a bounded LRU map, small static tables can also be fully preloaded into arrays indexed by id. Using
+ * singleton pattern in order to share the loaded entities between managers.
+ */
+public final class EntityCache {
+    /**
+     * Defines the maximum number of entities stored into the LRU map.
+     */
+    public static final int MAX_SIZE = 500;
+
+    /**
+     * Defines the maximum id allowed for a preloaded table (a bigger id would allocate a too large array).
+     */
+    private static final int MAX_PRELOADED_ID = 4096;
+
+    /**
+     * Defines the separator between the table and the id in the LRU map keys.
+     */
+    private static final String KEY_SEPARATOR = "#";
+
+    /**
+     * Stores the instance in order to apply singleton pattern.
+     */
+    private static EntityCache instance;
+
+    /**
+     * Stores the entities by table and id, ordered by access in order to evict the least recently used one.
+     */
+    private Map<String, DBEntity> entities = new LinkedHashMap<String, DBEntity>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, DBEntity> eldest) {
+            return this.size() > MAX_SIZE;
+        }
+    };
+
+    /**
+     * Stores the preloaded tables entities indexed by id.
+     */
+    private Map<String, DBEntity[]> preloaded = new HashMap<>();
+
+    /**
+     * Stores the number of lookups that found the entity.
+     */
+    private long hits;
+
+    /**
+     * Stores the number of lookups that did not find the entity.
+     */
+    private long misses;
+
+    /**
+     * Private constructor to apply the pattern.
+     */
+    private EntityCache() {
+    }
+
+    /**
+     * Gets the instance (creates it if not exists).
+     * @return The instance.
+     */
+    public static synchronized EntityCache getInstance() {
+        if (EntityCache.instance == null) {
+            EntityCache.instance = new EntityCache();
+        }
+
+        return EntityCache.instance;
+    }
+
+    /**
+     * Gets the number of lookups that found the entity.
+     * @return The number of hits.
+     */
+    public synchronized long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * Gets the number of lookups that did not find the entity.
+     * @return The number of misses.
+     */
+    public synchronized long getMisses() {
+        return this.misses;
+    }
+
+    /**
+     * Gets the number of entities stored into the LRU map.
+     * @return The size of the LRU map.
+     */
+    public synchronized int getSize() {
+        return this.entities.size();
+    }
+
+    /**
+     * From a table and an id, returns the cached entity.
+     * @param table The table of the entity.
+     * @param id The id of the entity.
+     * @return The cached entity if exists else null.
+     */
+    public synchronized DBEntity get(String table, int id) {
+        DBEntity[] tableEntities = this.preloaded.get(table);
+        DBEntity entity = null;
+
+        if (tableEntities != null && id >= 0 && id < tableEntities.length) {
+            entity = tableEntities[id];
+        }
+
+        if (entity == null) {
+            entity = this.entities.get(table + KEY_SEPARATOR + id);
+        }
+
+        if (entity == null) {
+            this.misses++;
+        } else {
+            this.hits++;
+        }
+
+        return entity;
+    }
+
+    /**
+     * Stores an entity into the LRU map.
+     * @param table The table of the entity.
+     * @param entity The entity to store.
+     */
+    public synchronized void put(String table, DBEntity entity) {
+        if (entity != null) {
+            this.entities.put(table + KEY_SEPARATOR + entity.getId(), entity);
+        }
+    }
+
+    /**
+     * Checks if a table has been preloaded.
+     * @param table The table to check.
+     * @return true if preloaded else false.
+     */
+    public synchronized boolean isPreloaded(String table) {
+        return this.preloaded.containsKey(table);
+    }
+
+    /**
+     * Preloads all the entities of a table into an array indexed by id (entities with a negative or too big id are
+     * stored into the LRU map instead).
+     * @param table The table of the entities.
+     * @param tableEntities All the entities of the table.
+     */
+    public synchronized void preload(String table, List<? extends DBEntity> tableEntities) {
+        int maxId = -1;
+
+        for (DBEntity entity : tableEntities) {
+            if (entity.getId() < MAX_PRELOADED_ID) {
+                maxId = Math.max(maxId, entity.getId());
+            }
+        }
+
+        DBEntity[] indexed = new DBEntity[maxId + 1];
+
+        for (DBEntity entity : tableEntities) {
+            if (entity.getId() >= 0 && entity.getId() < indexed.length) {
+                indexed[entity.getId()] = entity;
+            } else {
+                this.put(table, entity);
+            }
+        }
+
+        this.preloaded.put(table, indexed);
+    }
+
+    /**
+     * Removes an entity from the cache.
+     * @param table The table of the entity.
+     * @param id The id of the entity.
+     */
+    public synchronized void invalidate(String table, int id) {
+        DBEntity[] tableEntities = this.preloaded.get(table);
+
+        if (tableEntities != null && id >= 0 && id < tableEntities.length) {
+            tableEntities[id] = null;
+        }
+
+        this.entities.remove(table + KEY_SEPARATOR + id);
+    }
+
+    /**
+     * Removes all the entities of a table from the cache (preloaded tables will be preloaded again on next access).
+     * @param table The table to invalidate.
+     */
+    public synchronized void invalidate(String table) {
+        String prefix = table + KEY_SEPARATOR;
+        Iterator<String> keys = this.entities.keySet().iterator();
+
+        while (keys.hasNext()) {
+            if (keys.next().startsWith(prefix)) {
+                keys.remove();
+            }
+        }
+
+        this.preloaded.remove(table);
+    }
+
+    /**
+     * Removes all the entities from the cache and resets the counters.
+     */
+    public synchronized void clear() {
+        this.entities.clear();
+        this.preloaded.clear();
+
+        this.hits = 0;
+        this.misses = 0;
+    }
+}
@@ -4,6 +4,7 @@ import android.content.ContentValues;
 import android.content.Context;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteException;
+import android.database.sqlite.SQLiteStatement;
 import android.support.annotation.NonNull;
 
 import com.android.volley.NetworkResponse;
@@ -15,9 +16,9 @@ import com.android.volley.toolbox.JsonArrayRequest;
 import com.android.volley.toolbox.StringRequest;
 import com.imie.a2dev.teamculte.readeo.APIManager;
 import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Profile;
+import com.imie.a2dev.teamculte.readeo.Utils.HTTPRequestFuture;
 import com.imie.a2dev.teamculte.readeo.Utils.HTTPRequestQueueSingleton;
 
-import org.joda.time.DateTime;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
@@ -28,7 +29,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
 
-import static com.imie.a2dev.teamculte.readeo.DBSchemas.CommonDBSchema.DEFAULT_FORMAT;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.CommonDBSchema.UPDATE;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.ProfileDBSchema.AVATAR;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.ProfileDBSchema.DESCRIPTION;
@@ -39,6 +39,25 @@ import static com.imie.a2dev.teamculte.readeo.DBSchemas.ProfileDBSchema.TABLE;
  * Manager class used to manage the profile entities from databases.
  */
 public final class ProfileDBManager extends SimpleDBManager {
+    /**
+     * Defines the compiled insert statement.
+     */
+    private static final String INSERT_STATEMENT = String.format("INSERT INTO %s (%s, %s, %s) VALUES (?, ?, ?)",
+                                                                 TABLE,
+                                                                 ID,
+                                                                 AVATAR,
+                                                                 DESCRIPTION);
+
+    /**
+     * Defines the compiled update statement.
+     */
+    private static final String UPDATE_STATEMENT = String.format("UPDATE %s SET %s = ?, %s = ?, %s = ? WHERE %s = ?",
+                                                                 TABLE,
+                                                                 AVATAR,
+                                                                 DESCRIPTION,
+                                                                 UPDATE,
+                                                                 ID);
+
     /**
      * ProfileDBManager's constructor.
      * @param context The associated context.
@@ -65,6 +84,7 @@ public final class ProfileDBManager extends SimpleDBManager {
             data.put(DESCRIPTION, entity.getDescription());
 
             this.database.insertOrThrow(this.table, null, data);
+            this.invalidateCache(entity.getId());
 
             return true;
         } catch (SQLiteException e) {
@@ -87,9 +107,13 @@ public final class ProfileDBManager extends SimpleDBManager {
 
             data.put(AVATAR, entity.getAvatar());
             data.put(DESCRIPTION, entity.getDescription());
-            data.put(UPDATE, new DateTime().toString(DEFAULT_FORMAT));
+            data.put(UPDATE, currentUpdate());
+
+            boolean updated = this.database.update(this.table, data, whereClause, whereArgs) != 0;
 
-            return this.database.update(this.table, data, whereClause, whereArgs) != 0;
+            this.invalidateCache(entity.getId());
+
+            return updated;
         } catch (SQLiteException e) {
             this.logError("updateSQLite", e);
 
@@ -103,13 +127,24 @@ public final class ProfileDBManager extends SimpleDBManager {
      * @return The loaded entity if exists else null.
      */
     public Profile loadSQLite(int id) {
+        EntityCache cache = EntityCache.getInstance();
+        Profile profile = (Profile) cache.get(this.table, id);
+
+        if (profile != null) {
+            return profile;
+        }
+
         Cursor result = this.loadCursorSQLite(id);
 
         if (result == null || result.getCount() == 0) {
             return null;
         }
 
-        return new Profile(result);
+        profile = new Profile(result);
+
+        cache.put(this.table, profile);
+
+        return profile;
     }
 
     /**
@@ -149,6 +184,16 @@ public final class ProfileDBManager extends SimpleDBManager {
      * @param profile The profile to create.
      */
     public void createMySQL(final Profile profile) {
+        this.await(this.createMySQLAsync(profile), null, "createMySQL");
+    }
+
+    /**
+     * Creates a profile entity in MySQL database.
+     * @param profile The profile to create.
+     * @return The future of the profile (completed once created, with the id given by the API).
+     */
+    public HTTPRequestFuture<Profile> createMySQLAsync(final Profile profile) {
+        final HTTPRequestFuture<Profile> future = new HTTPRequestFuture<>();
         String url = this.baseUrl + APIManager.CREATE;
         Map<String, String> param = new HashMap<>();
 
@@ -167,8 +212,7 @@ public final class ProfileDBManager extends SimpleDBManager {
 
             @Override
             protected VolleyError parseNetworkError(VolleyError volleyError) {
-                HTTPRequestQueueSingleton.getInstance(ProfileDBManager.this.getContext())
-                                         .finishRequest(ProfileDBManager.this.table);
+                future.fail(volleyError);
 
                 return super.parseNetworkError(volleyError);
             }
@@ -182,11 +226,12 @@ public final class ProfileDBManager extends SimpleDBManager {
                     if (pattern.matcher(resp).find()) {
                         profile.setId(Integer.valueOf(resp));
                     }
+
+                    future.complete(profile);
                 } catch (IOException e) {
                     ProfileDBManager.this.logError("createMySQL", e);
-                } finally {
-                    HTTPRequestQueueSingleton.getInstance(ProfileDBManager.this.getContext())
-                                             .finishRequest(ProfileDBManager.this.table);
+
+                    future.fail(e);
                 }
 
                 return super.parseNetworkResponse(response);
@@ -194,7 +239,8 @@ public final class ProfileDBManager extends SimpleDBManager {
         };
 
         HTTPRequestQueueSingleton.getInstance(this.getContext()).addToRequestQueue(this.table, request);
-        this.waitForResponse();
+
+        return future;
     }
 
     /**
@@ -203,6 +249,16 @@ public final class ProfileDBManager extends SimpleDBManager {
      * @return The loaded profile.
      */
     public Profile loadMySQL(int idProfile) {
+        return this.await(this.loadMySQLAsync(idProfile), null, "loadMySQL");
+    }
+
+    /**
+     * Loads a profile from MySQL database.
+     * @param idProfile The id of the profile.
+     * @return The future of the loaded profile (null if not found).
+     */
+    public HTTPRequestFuture<Profile> loadMySQLAsync(int idProfile) {
+        final HTTPRequestFuture<Profile> future = new HTTPRequestFuture<>();
         final Profile profile = new Profile();
         String url = this.baseUrl + APIManager.READ + ID + "=" + idProfile;
         JsonArrayRequest request = new JsonArrayRequest(Request.Method.GET, url, null, null, new OnRequestError()) {
@@ -216,34 +272,32 @@ public final class ProfileDBManager extends SimpleDBManager {
                     profile.init(object);
                 } catch (Exception e) {
                     ProfileDBManager.this.logError("loadMySQL", e);
-                } finally {
-                    HTTPRequestQueueSingleton.getInstance(ProfileDBManager.this.getContext())
-                                             .finishRequest(ProfileDBManager.this.table);
                 }
 
+                future.complete((profile.isEmpty()) ? null : profile);
+
                 return super.parseNetworkResponse(response);
             }
 
             @Override
             protected VolleyError parseNetworkError(VolleyError volleyError) {
-                HTTPRequestQueueSingleton.getInstance(ProfileDBManager.this.getContext())
-                                         .finishRequest(ProfileDBManager.this.table);
+                future.fail(volleyError);
 
                 return super.parseNetworkError(volleyError);
             }
         };
 
         HTTPRequestQueueSingleton.getInstance(this.getContext()).addToRequestQueue(this.table, request);
-        this.waitForResponse();
 
-        return (profile.isEmpty()) ? null : profile;
+        return future;
     }
 
     /**
      * Updates a profile entity in MySQL database.
      * @param profile The profile to update.
+     * @return The future of the API response.
      */
-    public void updateMySQL(Profile profile) {
+    public HTTPRequestFuture<String> updateMySQL(Profile profile) {
         String url = this.baseUrl + APIManager.UPDATE;
         Map<String, String> param = new HashMap<>();
 
@@ -251,7 +305,7 @@ public final class ProfileDBManager extends SimpleDBManager {
         param.put(AVATAR, profile.getAvatar());
         param.put(DESCRIPTION, profile.getDescription());
 
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     /**
@@ -259,82 +313,89 @@ public final class ProfileDBManager extends SimpleDBManager {
      * @param id The id of profile to update.
      * @param field The field of the profile to update.
      * @param value The the new value to set.
+     * @return The future of the API response.
      */
-    public void updateFieldMySQL(int id, String field, String value) {
+    public HTTPRequestFuture<String> updateFieldMySQL(int id, String field, String value) {
         String url = this.baseUrl + APIManager.UPDATE;
         Map<String, String> param = new HashMap<>();
 
         param.put(ID, String.valueOf(id));
         param.put(field, value);
 
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     /**
      * Deletes a profile entity in MySQL database.
      * @param id The id of the entity to delete.
+     * @return The future of the API response.
      */
-    public void deleteMySQL(int id) {
+    public HTTPRequestFuture<String> deleteMySQL(int id) {
         String url = this.baseUrl + APIManager.DELETE;
         Map<String, String> param = new HashMap<>();
 
         param.put(ID, String.valueOf(id));
 
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     /**
      * Soft deletes a profile entity in MySQL database.
      * @param id The id of the entity to delete.
+     * @return The future of the API response.
      */
-    public void softDeleteMySQL(int id) {
+    public HTTPRequestFuture<String> softDeleteMySQL(int id) {
         String url = this.baseUrl + APIManager.SOFT_DELETE;
         Map<String, String> param = new HashMap<>();
 
         param.put(ID, String.valueOf(id));
 
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     /**
      * Restores a profile entity in MySQL database.
      * @param id The id of the entity to restore.
+     * @return The future of the API response.
      */
-    public void restoreMySQL(int id) {
+    public HTTPRequestFuture<String> restoreMySQL(int id) {
         String url = this.baseUrl + APIManager.RESTORE;
         Map<String, String> param = new HashMap<>();
 
         param.put(ID, String.valueOf(id));
 
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     /**
      * Deletes a profile entity in MySQL database.
      * @param profile The profile to delete.
+     * @return The future of the API response.
      */
-    public void deleteMySQL(Profile profile) {
-        this.deleteMySQL(profile.getId());
+    public HTTPRequestFuture<String> deleteMySQL(Profile profile) {
+        return this.deleteMySQL(profile.getId());
     }
 
     /**
      * Soft deletes a profile entity in MySQL database.
      * @param profile The profile to delete.
+     * @return The future of the API response.
      */
-    public void softDeleteMySQL(Profile profile) {
-        this.softDeleteMySQL(profile.getId());
+    public HTTPRequestFuture<String> softDeleteMySQL(Profile profile) {
+        return this.softDeleteMySQL(profile.getId());
     }
 
     @Override
     public boolean createSQLite(@NonNull JSONObject entity) {
         try {
-            ContentValues data = new ContentValues();
+            SQLiteStatement statement = this.getStatement(INSERT_STATEMENT);
 
-            data.put(ID, entity.getInt(ID));
-            data.put(AVATAR, entity.getString(AVATAR));
-            data.put(DESCRIPTION, entity.getString(DESCRIPTION));
+            statement.bindLong(1, entity.getInt(ID));
+            statement.bindString(2, entity.getString(AVATAR));
+            statement.bindString(3, entity.getString(DESCRIPTION));
+            statement.executeInsert();
 
-            this.database.insertOrThrow(this.table, null, data);
+            this.invalidateCache(entity.getInt(ID));
 
             return true;
         } catch (Exception e) {
@@ -347,15 +408,18 @@ public final class ProfileDBManager extends SimpleDBManager {
     @Override
     public boolean updateSQLite(@NonNull JSONObject entity) {
         try {
-            ContentValues data = new ContentValues();
-            String whereClause = String.format("%s = ?", ID);
-            String[] whereArgs = new String[]{entity.getString(ID)};
+            SQLiteStatement statement = this.getStatement(UPDATE_STATEMENT);
+
+            statement.bindString(1, entity.getString(AVATAR));
+            statement.bindString(2, entity.getString(DESCRIPTION));
+            statement.bindString(3, currentUpdate());
+            statement.bindLong(4, entity.getInt(ID));
+
+            boolean updated = statement.executeUpdateDelete() != 0;
 
-            data.put(AVATAR, entity.getString(AVATAR));
-            data.put(DESCRIPTION, entity.getString(DESCRIPTION));
-            data.put(UPDATE, new DateTime().toString(DEFAULT_FORMAT));
+            this.invalidateCache(entity.getInt(ID));
 
-            return this.database.update(this.table, data, whereClause, whereArgs) != 0;
+            return updated;
         } catch (Exception e) {
             this.logError("updateSQLite", e);
 
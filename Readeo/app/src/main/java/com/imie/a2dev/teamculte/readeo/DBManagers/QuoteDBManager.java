@@ -4,6 +4,7 @@ import android.content.ContentValues;
 import android.content.Context;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteException;
+import android.database.sqlite.SQLiteStatement;
 import android.support.annotation.NonNull;
 
 import com.android.volley.NetworkResponse;
@@ -15,9 +16,9 @@ import com.android.volley.toolbox.JsonArrayRequest;
 import com.android.volley.toolbox.StringRequest;
 import com.imie.a2dev.teamculte.readeo.APIManager;
 import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Quote;
+import com.imie.a2dev.teamculte.readeo.Utils.HTTPRequestFuture;
 import com.imie.a2dev.teamculte.readeo.Utils.HTTPRequestQueueSingleton;
 
-import org.joda.time.DateTime;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
@@ -28,7 +29,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
 
-import static com.imie.a2dev.teamculte.readeo.DBSchemas.CommonDBSchema.DEFAULT_FORMAT;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.CommonDBSchema.UPDATE;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.QuoteDBSchema.BOOK;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.QuoteDBSchema.ID;
@@ -40,6 +40,25 @@ import static com.imie.a2dev.teamculte.readeo.DBSchemas.QuoteDBSchema.USER;
  * Manager class used to manage the quote entities from databases.
  */
 public final class QuoteDBManager extends SimpleDBManager {
+    /**
+     * Defines the compiled insert statement.
+     */
+    private static final String INSERT_STATEMENT = String.format("INSERT INTO %s (%s, %s, %s, %s) VALUES (?, ?, ?, ?)",
+                                                                 TABLE,
+                                                                 ID,
+                                                                 USER,
+                                                                 BOOK,
+                                                                 QUOTE);
+
+    /**
+     * Defines the compiled update statement.
+     */
+    private static final String UPDATE_STATEMENT = String.format("UPDATE %s SET %s = ?, %s = ? WHERE %s = ?",
+                                                                 TABLE,
+                                                                 QUOTE,
+                                                                 UPDATE,
+                                                                 ID);
+
     /**
      * QuoteDBManager's constructor.
      * @param context The associated context.
@@ -95,7 +114,7 @@ public final class QuoteDBManager extends SimpleDBManager {
             String[] whereArgs = new String[]{String.valueOf(entity.getId())};
 
             data.put(QUOTE, entity.getQuote());
-            data.put(UPDATE, new DateTime().toString(DEFAULT_FORMAT));
+            data.put(UPDATE, currentUpdate());
 
             return this.database.update(this.table, data, whereClause, whereArgs) != 0;
         } catch (SQLiteException e) {
@@ -281,8 +300,10 @@ public final class QuoteDBManager extends SimpleDBManager {
     /**
      * Creates a quote entity in MySQL database.
      * @param quote The quote to create.
+     * @return The future of the quote (completed once created, with the id given by the API).
      */
-    public void createMySQL(final Quote quote) {
+    public HTTPRequestFuture<Quote> createMySQL(final Quote quote) {
+        final HTTPRequestFuture<Quote> future = new HTTPRequestFuture<>();
         String url = this.baseUrl + APIManager.CREATE;
         Map<String, String> param = new HashMap<>();
 
@@ -303,8 +324,7 @@ public final class QuoteDBManager extends SimpleDBManager {
 
             @Override
             protected VolleyError parseNetworkError(VolleyError volleyError) {
-                HTTPRequestQueueSingleton.getInstance(QuoteDBManager.this.getContext())
-                                         .finishRequest(QuoteDBManager.this.table);
+                future.fail(volleyError);
 
                 return super.parseNetworkError(volleyError);
             }
@@ -321,16 +341,17 @@ public final class QuoteDBManager extends SimpleDBManager {
                     }
                 } catch (IOException e) {
                     QuoteDBManager.this.logError("createMySQL", e);
-                } finally {
-                    HTTPRequestQueueSingleton.getInstance(QuoteDBManager.this.getContext())
-                                             .finishRequest(QuoteDBManager.this.table);
                 }
 
+                future.complete(quote);
+
                 return super.parseNetworkResponse(response);
             }
         };
 
         HTTPRequestQueueSingleton.getInstance(this.getContext()).addToRequestQueue(this.table, request);
+
+        return future;
     }
 
     /**
@@ -339,6 +360,16 @@ public final class QuoteDBManager extends SimpleDBManager {
      * @return The loaded quote.
      */
     public Quote loadMySQL(int idQuote) {
+        return this.await(this.loadMySQLAsync(idQuote), null, "loadMySQL");
+    }
+
+    /**
+     * Loads a quote from MySQL database.
+     * @param idQuote The id of the quote.
+     * @return The future of the loaded quote (null if not found).
+     */
+    public HTTPRequestFuture<Quote> loadMySQLAsync(int idQuote) {
+        final HTTPRequestFuture<Quote> future = new HTTPRequestFuture<>();
         final Quote quote = new Quote();
         String url = this.baseUrl + APIManager.READ + ID + "=" + idQuote;
         JsonArrayRequest request = new JsonArrayRequest(Request.Method.GET, url, null, null, new OnRequestError()) {
@@ -352,144 +383,149 @@ public final class QuoteDBManager extends SimpleDBManager {
                     quote.init(object);
                 } catch (Exception e) {
                     QuoteDBManager.this.logError("loadMySQL", e);
-                } finally {
-                    HTTPRequestQueueSingleton.getInstance(QuoteDBManager.this.getContext())
-                                             .finishRequest(QuoteDBManager.this.table);
                 }
 
+                future.complete((quote.isEmpty()) ? null : quote);
+
                 return super.parseNetworkResponse(response);
             }
 
             @Override
             protected VolleyError parseNetworkError(VolleyError volleyError) {
-                HTTPRequestQueueSingleton.getInstance(QuoteDBManager.this.getContext())
-                                         .finishRequest(QuoteDBManager.this.table);
+                future.fail(volleyError);
 
                 return super.parseNetworkError(volleyError);
             }
         };
 
         HTTPRequestQueueSingleton.getInstance(this.getContext()).addToRequestQueue(this.table, request);
-        this.waitForResponse();
 
-        return (quote.isEmpty()) ? null : quote;
+        return future;
     }
 
     /**
      * Updates a quote entity in MySQL database.
      * @param quote The quote to update.
+     * @return The future of the API response.
      */
-    public void updateMySQL(Quote quote) {
+    public HTTPRequestFuture<String> updateMySQL(Quote quote) {
         String url = this.baseUrl + APIManager.UPDATE;
         Map<String, String> param = new HashMap<>();
 
         param.put(ID, String.valueOf(quote.getId()));
         param.put(QUOTE, quote.getQuote());
 
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     /**
      * Deletes a quote entity in MySQL database.
      * @param id The id of the entity to delete.
+     * @return The future of the API response.
      */
-    public void deleteMySQL(int id) {
+    public HTTPRequestFuture<String> deleteMySQL(int id) {
         String url = this.baseUrl + APIManager.DELETE;
         Map<String, String> param = new HashMap<>();
 
         param.put(ID, String.valueOf(id));
 
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     /**
      * Soft deletes a quote entity in MySQL database.
      * @param id The id of the entity to delete.
+     * @return The future of the API response.
      */
-    public void softDeleteMySQL(int id) {
+    public HTTPRequestFuture<String> softDeleteMySQL(int id) {
         String url = this.baseUrl + APIManager.SOFT_DELETE;
         Map<String, String> param = new HashMap<>();
 
         param.put(ID, String.valueOf(id));
 
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     /**
      * Deletes all quote entities in MySQL database from a specific user.
      * @param idUser The id of the user.
+     * @return The future of the API response.
      */
-    public void deleteUserMySQL(int idUser) {
+    public HTTPRequestFuture<String> deleteUserMySQL(int idUser) {
         String url = this.baseUrl + APIManager.DELETE;
         Map<String, String> param = new HashMap<>();
 
         param.put(USER, String.valueOf(idUser));
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     /**
      * Soft deletes all quote entities in MySQL database from a specific user.
      * @param idUser The id of the user.
+     * @return The future of the API response.
      */
-    public void softDeleteUserMySQL(int idUser) {
+    public HTTPRequestFuture<String> softDeleteUserMySQL(int idUser) {
         String url = this.baseUrl + APIManager.SOFT_DELETE;
         Map<String, String> param = new HashMap<>();
 
         param.put(USER, String.valueOf(idUser));
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     /**
      * Restores a quote entity in MySQL database.
      * @param id The id of the entity to delete.
+     * @return The future of the API response.
      */
-    public void restoreMySQL(int id) {
+    public HTTPRequestFuture<String> restoreMySQL(int id) {
         String url = this.baseUrl + APIManager.RESTORE;
         Map<String, String> param = new HashMap<>();
 
         param.put(ID, String.valueOf(id));
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     /**
      * Restores all quote entities in MySQL database from a specific user.
      * @param idUser The id of the user.
+     * @return The future of the API response.
      */
-    public void restoreUserMySQL(int idUser) {
+    public HTTPRequestFuture<String> restoreUserMySQL(int idUser) {
         String url = this.baseUrl + APIManager.RESTORE;
         Map<String, String> param = new HashMap<>();
 
         param.put(USER, String.valueOf(idUser));
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     /**
      * Deletes a quote entity in MySQL database.
      * @param quote The quote to delete.
+     * @return The future of the API response.
      */
-    public void deleteMySQL(Quote quote) {
-        this.deleteMySQL(quote.getId());
+    public HTTPRequestFuture<String> deleteMySQL(Quote quote) {
+        return this.deleteMySQL(quote.getId());
     }
 
     /**
      * Soft deletes a quote entity in MySQL database.
      * @param quote The quote to delete.
+     * @return The future of the API response.
      */
-    public void softDeleteMySQL(Quote quote) {
-        this.softDeleteMySQL(quote.getId());
+    public HTTPRequestFuture<String> softDeleteMySQL(Quote quote) {
+        return this.softDeleteMySQL(quote.getId());
     }
 
     @Override
     public boolean createSQLite(@NonNull JSONObject entity) {
         try {
-            ContentValues data = new ContentValues();
-
-            data.put(ID, entity.getInt(ID));
-            data.put(USER, entity.getInt(USER));
-            data.put(BOOK, entity.getInt(BOOK));
-            data.put(QUOTE, entity.getString(QUOTE));
+            SQLiteStatement statement = this.getStatement(INSERT_STATEMENT);
 
-            this.database.insertOrThrow(this.table, null, data);
+            statement.bindLong(1, entity.getInt(ID));
+            statement.bindLong(2, entity.getInt(USER));
+            statement.bindLong(3, entity.getInt(BOOK));
+            statement.bindString(4, entity.getString(QUOTE));
+            statement.executeInsert();
 
             return true;
         } catch (Exception e) {
@@ -502,16 +538,15 @@ public final class QuoteDBManager extends SimpleDBManager {
     @Override
     public boolean updateSQLite(@NonNull JSONObject entity) {
         try {
-            ContentValues data = new ContentValues();
-            String whereClause = String.format("%s = ?", ID);
-            String[] whereArgs = new String[]{entity.getString(ID)};
+            SQLiteStatement statement = this.getStatement(UPDATE_STATEMENT);
 
-            data.put(QUOTE, entity.getString(QUOTE));
-            data.put(UPDATE, new DateTime().toString(DEFAULT_FORMAT));
+            statement.bindString(1, entity.getString(QUOTE));
+            statement.bindString(2, currentUpdate());
+            statement.bindLong(3, entity.getInt(ID));
 
-            return this.database.update(this.table, data, whereClause, whereArgs) != 0;
+            return statement.executeUpdateDelete() != 0;
         } catch (Exception e) {
-            this.logError("createSQLite", e);
+            this.logError("updateSQLite", e);
 
             return false;
         }
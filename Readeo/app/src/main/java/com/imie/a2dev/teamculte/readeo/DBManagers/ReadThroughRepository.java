@@ -0,0 +1,285 @@
+package com.imie.a2dev.teamculte.readeo.DBManagers;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteException;
+import android.net.Uri;
+import android.util.Log;
+
+import com.android.volley.Request;
+import com.imie.a2dev.teamculte.readeo.APIManager;
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.DBEntity;
+import com.imie.a2dev.teamculte.readeo.Utils.HTTPRequestFuture;
+import com.imie.a2dev.teamculte.readeo.Utils.SyncSnapshot;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.imie.a2dev.teamculte.readeo.DBSchemas.CommonDBSchema.UPDATE;
+
+/**
+ * Class used to load the entities of a simple id manager local first (read-through): an entity is served from the
+ * SQLite database when its local row has been written (last_update) less than maxAge ago, else it is requested from
+ * the API, written back into the SQLite database and loaded from it (the stale local row is served if the request
+ * fails). Concurrent loads of the same key share a single request. The requested entities are delivered on the
+ * database thread: their futures must not be awaited from it.
+ * @param <T> The type of the entities.
+ */
+public final class ReadThroughRepository<T extends DBEntity> {
+    /**
+     * Defines the default maximum age of a local row served without request (ms).
+     */
+    public static final long DEFAULT_MAX_AGE = TimeUnit.HOURS.toMillis(24);
+
+    /**
+     * Defines the default error tag for this class.
+     */
+    private static final String ERR_TAG = "[ReadThroughRepository:%s] : ";
+
+    /**
+     * Defines the query loading a local row from the value of a field.
+     */
+    private static final String LOCAL_QUERY = "SELECT * FROM %s WHERE %s = ? LIMIT 1";
+
+    /**
+     * Stores the manager of the entities.
+     */
+    private final SimpleDBManager manager;
+
+    /**
+     * Stores the factory building the entities from the local rows.
+     */
+    private final EntityFactory<T> factory;
+
+    /**
+     * Stores the maximum age of a local row served without request (ms).
+     */
+    private final long maxAge;
+
+    /**
+     * Stores the futures of the requested entities by key (field=value), until their request is answered.
+     */
+    private final Map<String, HTTPRequestFuture<T>> loading = new HashMap<>();
+
+    /**
+     * Stores the number of loads served from the SQLite database.
+     */
+    private int localLoads;
+
+    /**
+     * Stores the number of requests sent to the API.
+     */
+    private int requests;
+
+    /**
+     * Stores the number of loads sharing the request of a previous load.
+     */
+    private int coalescedLoads;
+
+    /**
+     * ReadThroughRepository's constructor (default maximum age).
+     * @param manager The manager of the entities.
+     * @param factory The factory building the entities from the local rows.
+     */
+    public ReadThroughRepository(SimpleDBManager manager, EntityFactory<T> factory) {
+        this(manager, factory, DEFAULT_MAX_AGE);
+    }
+
+    /**
+     * ReadThroughRepository's full filled constructor.
+     * @param manager The manager of the entities.
+     * @param factory The factory building the entities from the local rows.
+     * @param maxAge The maximum age of a local row served without request (ms).
+     */
+    public ReadThroughRepository(SimpleDBManager manager, EntityFactory<T> factory, long maxAge) {
+        this.manager = manager;
+        this.factory = factory;
+        this.maxAge = maxAge;
+    }
+
+    /**
+     * Loads an entity from its id (waits for the request if the local row is missing or stale).
+     * @param id The id of the entity.
+     * @return The loaded entity (null if not found).
+     */
+    public T load(int id) {
+        return this.manager.await(this.loadAsync(id), null, "load");
+    }
+
+    /**
+     * Loads an entity from the value of a field (waits for the request if the local row is missing or stale).
+     * @param field The field to filter on (its values must be unique).
+     * @param value The value of the field.
+     * @return The loaded entity (null if not found).
+     */
+    public T load(String field, String value) {
+        return this.manager.await(this.loadAsync(field, value), null, "load");
+    }
+
+    /**
+     * Loads an entity from its id.
+     * @param id The id of the entity.
+     * @return The future of the loaded entity (null if not found).
+     */
+    public HTTPRequestFuture<T> loadAsync(int id) {
+        return this.loadAsync(this.manager.getIds()[0], String.valueOf(id));
+    }
+
+    /**
+     * Loads an entity from the value of a field: served from the SQLite database if its row is fresh, else shares
+     * the request of a pending load of the same key or requests it from the API.
+     * @param field The field to filter on (its values must be unique).
+     * @param value The value of the field.
+     * @return The future of the loaded entity (null if not found).
+     */
+    public HTTPRequestFuture<T> loadAsync(String field, String value) {
+        String key = field + "=" + value;
+        HTTPRequestFuture<T> future;
+
+        synchronized (this) {
+            future = this.loading.get(key);
+
+            if (future != null) {
+                this.coalescedLoads++;
+
+                return future;
+            }
+        }
+
+        T local = this.loadSQLite(field, value, true);
+
+        synchronized (this) {
+            if (local != null) {
+                this.localLoads++;
+
+                return HTTPRequestFuture.completed(local);
+            }
+
+            future = this.loading.get(key);
+
+            if (future != null) {
+                this.coalescedLoads++;
+
+                return future;
+            }
+
+            future = new HTTPRequestFuture<>();
+
+            this.loading.put(key, future);
+            this.requests++;
+        }
+
+        this.request(key, field, value, future);
+
+        return future;
+    }
+
+    /**
+     * Gets the number of loads served from the SQLite database.
+     * @return The number of local loads.
+     */
+    public synchronized int getLocalLoads() {
+        return this.localLoads;
+    }
+
+    /**
+     * Gets the number of requests sent to the API.
+     * @return The number of requests.
+     */
+    public synchronized int getRequests() {
+        return this.requests;
+    }
+
+    /**
+     * Gets the number of loads sharing the request of a previous load.
+     * @return The number of coalesced loads.
+     */
+    public synchronized int getCoalescedLoads() {
+        return this.coalescedLoads;
+    }
+
+    /**
+     * Requests an entity from the API, writes it back into the SQLite database and completes its future with the
+     * stored row (the stale local row if the request failed).
+     * @param key The key of the load.
+     * @param field The field to filter on.
+     * @param value The value of the field.
+     * @param future The future of the entity.
+     */
+    private void request(final String key,
+                         final String field,
+                         final String value,
+                         final HTTPRequestFuture<T> future) {
+        String url = this.manager.getBaseUrl() + APIManager.READ + field + "=" + Uri.encode(value);
+
+        this.manager.requestJsonArray(Request.Method.GET, url, response -> {
+            this.manager.importSQLite(response);
+            this.finish(key, future, (response.length() > 0) ? this.loadSQLite(field, value, false) : null);
+        }, error -> this.finish(key, future, this.loadSQLite(field, value, false)));
+    }
+
+    /**
+     * Ends a load: the next loads of its key are served from the SQLite database, then completes its future.
+     * @param key The key of the load.
+     * @param future The future of the entity.
+     * @param entity The loaded entity.
+     */
+    private void finish(String key, HTTPRequestFuture<T> future, T entity) {
+        synchronized (this) {
+            this.loading.remove(key);
+        }
+
+        future.complete(entity);
+    }
+
+    /**
+     * Loads an entity from its local row.
+     * @param field The field to filter on.
+     * @param value The value of the field.
+     * @param freshOnly true to ignore a row written more than maxAge ago else false.
+     * @return The loaded entity (null if not found or stale).
+     */
+    private T loadSQLite(String field, String value, boolean freshOnly) {
+        try {
+            String[] selectArgs = {value};
+            String query = String.format(LOCAL_QUERY, this.manager.getTable(), field);
+            Cursor result = this.manager.getDatabase().rawQuery(query, selectArgs);
+
+            if (!result.moveToNext() || (freshOnly && !this.isFresh(result.getString(result.getColumnIndex(UPDATE))))) {
+                result.close();
+
+                return null;
+            }
+
+            return this.factory.create(result);
+        } catch (SQLiteException e) {
+            Log.e(String.format(ERR_TAG, "loadSQLite"), e.getMessage());
+
+            return null;
+        }
+    }
+
+    /**
+     * Checks if a local row has been written less than maxAge ago.
+     * @param update The last update of the row.
+     * @return true if fresh else false.
+     */
+    private boolean isFresh(String update) {
+        long millis = SyncSnapshot.parseMillis(update);
+
+        return millis != Long.MIN_VALUE && System.currentTimeMillis() - millis < this.maxAge;
+    }
+
+    /**
+     * Interface used to build an entity from a local row (the constructors from a cursor).
+     * @param <T> The type of the entities.
+     */
+    public interface EntityFactory<T> {
+        /**
+         * Builds an entity from the current row of a cursor, then closes the cursor.
+         * @param result The cursor.
+         * @return The entity.
+         */
+        T create(Cursor result);
+    }
+}
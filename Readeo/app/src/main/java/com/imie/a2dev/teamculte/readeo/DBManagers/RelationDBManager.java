@@ -14,6 +14,11 @@ import java.util.Map;
  * Abstract manager class extended by all "double identified entity" managers (with two id).
  */
 public abstract class RelationDBManager extends DBManager {
+    /**
+     * Stores the pre-rendered load queries by table.
+     */
+    private static final Map<String, String> LOAD_QUERIES = new HashMap<>();
+
     /**
      * Defines the default field database query with a simple where clause.
      */
@@ -36,7 +41,7 @@ public abstract class RelationDBManager extends DBManager {
     public Cursor loadCursorSQLite(int firstId, int secId) {
         try {
             String[] selectArgs = {String.valueOf(firstId), String.valueOf(secId)};
-            String query = String.format(this.DOUBLE_QUERY_ALL, this.table, this.ids[0], this.ids[1]);
+            String query = this.getLoadQuery();
 
             return this.database.rawQuery(query, selectArgs);
         } catch (SQLiteException e) {
@@ -60,7 +65,24 @@ public abstract class RelationDBManager extends DBManager {
         
         param.put(APIManager.TEST, "1");
 
-        super.requestString(Request.Method.PUT, url, null, param);
-        this.waitForResponse();
+        this.await(super.requestString(Request.Method.PUT, url, null, param), null, "deleteTestEntityMySQL");
+    }
+
+    /**
+     * Gets the query loading an entity from its id(s), rendered once per table.
+     * @return The load query.
+     */
+    private String getLoadQuery() {
+        synchronized (LOAD_QUERIES) {
+            String query = LOAD_QUERIES.get(this.table);
+
+            if (query == null) {
+                query = String.format(this.DOUBLE_QUERY_ALL, this.table, this.ids[0], this.ids[1]);
+
+                LOAD_QUERIES.put(this.table, query);
+            }
+
+            return query;
+        }
     }
 }
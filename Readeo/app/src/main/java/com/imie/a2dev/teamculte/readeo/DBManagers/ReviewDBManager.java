@@ -4,6 +4,7 @@ import android.content.ContentValues;
 import android.content.Context;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteException;
+import android.database.sqlite.SQLiteStatement;
 import android.support.annotation.NonNull;
 
 import com.android.volley.NetworkResponse;
@@ -14,9 +15,9 @@ import com.android.volley.toolbox.HttpHeaderParser;
 import com.android.volley.toolbox.JsonArrayRequest;
 import com.imie.a2dev.teamculte.readeo.APIManager;
 import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Review;
+import com.imie.a2dev.teamculte.readeo.Utils.HTTPRequestFuture;
 import com.imie.a2dev.teamculte.readeo.Utils.HTTPRequestQueueSingleton;
 
-import org.joda.time.DateTime;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
@@ -25,7 +26,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import static com.imie.a2dev.teamculte.readeo.DBSchemas.CommonDBSchema.DEFAULT_FORMAT;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.CommonDBSchema.UPDATE;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.ReviewDBSchema.BOOK;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.ReviewDBSchema.REVIEW;
@@ -37,6 +37,25 @@ import static com.imie.a2dev.teamculte.readeo.DBSchemas.ReviewDBSchema.USER;
  * Manager class used to manage the review entities from databases.
  */
 public final class ReviewDBManager extends RelationDBManager {
+    /**
+     * Defines the compiled insert statement.
+     */
+    private static final String INSERT_STATEMENT = String.format("INSERT INTO %s (%s, %s, %s) VALUES (?, ?, ?)",
+                                                                 TABLE,
+                                                                 USER,
+                                                                 BOOK,
+                                                                 REVIEW);
+
+    /**
+     * Defines the compiled update statement.
+     */
+    private static final String UPDATE_STATEMENT = String.format("UPDATE %s SET %s = ?, %s = ? WHERE %s = ? AND %s = ?",
+                                                                 TABLE,
+                                                                 REVIEW,
+                                                                 UPDATE,
+                                                                 USER,
+                                                                 BOOK);
+
     /**
      * ReviewDBManager's constructor.
      * @param context The associated context.
@@ -84,7 +103,7 @@ public final class ReviewDBManager extends RelationDBManager {
             String[] whereArgs = new String[]{String.valueOf(entity.getId()), String.valueOf(entity.getUserId())};
 
             data.put(REVIEW, entity.getReview());
-            data.put(UPDATE, new DateTime().toString(DEFAULT_FORMAT));
+            data.put(UPDATE, currentUpdate());
 
             return this.database.update(this.table, data, whereClause, whereArgs) != 0;
         } catch (SQLiteException e) {
@@ -228,8 +247,9 @@ public final class ReviewDBManager extends RelationDBManager {
     /**
      * Creates a review entity in MySQL database.
      * @param review The review to create.
+     * @return The future of the API response.
      */
-    public void createMySQL(Review review) {
+    public HTTPRequestFuture<String> createMySQL(Review review) {
         String url = this.baseUrl + APIManager.CREATE;
         Map<String, String> param = new HashMap<>();
 
@@ -238,7 +258,7 @@ public final class ReviewDBManager extends RelationDBManager {
         param.put(REVIEW, review.getReview());
         param.put(SHARED, String.valueOf(review.isShared()));
 
-        super.requestString(Request.Method.POST, url, null, param);
+        return super.requestString(Request.Method.POST, url, null, param);
     }
 
     /**
@@ -248,6 +268,17 @@ public final class ReviewDBManager extends RelationDBManager {
      * @return The loaded review.
      */
     public Review loadMySQL(int idUser, int idBook) {
+        return this.await(this.loadMySQLAsync(idUser, idBook), null, "loadMySQL");
+    }
+
+    /**
+     * Loads a review from MySQL database.
+     * @param idUser The id of the author.
+     * @param idBook The id of the book.
+     * @return The future of the loaded review (null if not found).
+     */
+    public HTTPRequestFuture<Review> loadMySQLAsync(int idUser, int idBook) {
+        final HTTPRequestFuture<Review> future = new HTTPRequestFuture<>();
         final Review review = new Review();
         String url = this.baseUrl + APIManager.READ + USER + "=" + idUser + "&" + BOOK + "=" + idBook;
         JsonArrayRequest request = new JsonArrayRequest(Request.Method.GET, url, null, null, new OnRequestError()) {
@@ -261,27 +292,24 @@ public final class ReviewDBManager extends RelationDBManager {
                     review.init(object);
                 } catch (Exception e) {
                     ReviewDBManager.this.logError("loadMySQL", e);
-                } finally {
-                    HTTPRequestQueueSingleton.getInstance(ReviewDBManager.this.getContext())
-                                             .finishRequest(ReviewDBManager.this.table);
                 }
 
+                future.complete((review.isEmpty()) ? null : review);
+
                 return super.parseNetworkResponse(response);
             }
 
             @Override
             protected VolleyError parseNetworkError(VolleyError volleyError) {
-                HTTPRequestQueueSingleton.getInstance(ReviewDBManager.this.getContext())
-                                         .finishRequest(ReviewDBManager.this.table);
+                future.fail(volleyError);
 
                 return super.parseNetworkError(volleyError);
             }
         };
 
         HTTPRequestQueueSingleton.getInstance(this.getContext()).addToRequestQueue(this.table, request);
-        this.waitForResponse();
 
-        return (review.isEmpty()) ? null : review;
+        return future;
     }
 
     /**
@@ -290,6 +318,16 @@ public final class ReviewDBManager extends RelationDBManager {
      * @return The loaded reviews.
      */
     public List<Review> loadUserMySQL(int idUser) {
+        return this.await(this.loadUserMySQLAsync(idUser), new ArrayList<>(), "loadUserMySQL");
+    }
+
+    /**
+     * Loads the reviews associated to a user from MySQL database.
+     * @param idUser The id of the author.
+     * @return The future of the loaded reviews.
+     */
+    public HTTPRequestFuture<List<Review>> loadUserMySQLAsync(int idUser) {
+        final HTTPRequestFuture<List<Review>> future = new HTTPRequestFuture<>();
         final List<Review> reviews = new ArrayList<>();
         String url = this.baseUrl + APIManager.READ + USER + "=" + idUser;
         JsonArrayRequest request = new JsonArrayRequest(Request.Method.GET, url, null, null, new OnRequestError()) {
@@ -304,34 +342,32 @@ public final class ReviewDBManager extends RelationDBManager {
                     }
                 } catch (Exception e) {
                     ReviewDBManager.this.logError("loadUserMySQL", e);
-                } finally {
-                    HTTPRequestQueueSingleton.getInstance(ReviewDBManager.this.getContext())
-                                             .finishRequest(ReviewDBManager.this.table);
                 }
 
+                future.complete(reviews);
+
                 return super.parseNetworkResponse(response);
             }
 
             @Override
             protected VolleyError parseNetworkError(VolleyError volleyError) {
-                HTTPRequestQueueSingleton.getInstance(ReviewDBManager.this.getContext())
-                                         .finishRequest(ReviewDBManager.this.table);
+                future.fail(volleyError);
 
                 return super.parseNetworkError(volleyError);
             }
         };
 
         HTTPRequestQueueSingleton.getInstance(this.getContext()).addToRequestQueue(this.table, request);
-        this.waitForResponse();
 
-        return reviews;
+        return future;
     }
 
     /**
      * Updates a review entity in MySQL database.
      * @param review The review to update.
+     * @return The future of the API response.
      */
-    public void updateMySQL(Review review) {
+    public HTTPRequestFuture<String> updateMySQL(Review review) {
         String url = this.baseUrl + APIManager.UPDATE;
         Map<String, String> param = new HashMap<>();
 
@@ -340,115 +376,124 @@ public final class ReviewDBManager extends RelationDBManager {
         param.put(REVIEW, review.getReview());
         param.put(SHARED, String.valueOf(review.isShared()));
 
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     /**
      * Deletes a review entity in MySQL database.
      * @param idUser The id of the user.
      * @param idBook The id of the book.
+     * @return The future of the API response.
      */
-    public void deleteMySQL(int idUser, int idBook) {
+    public HTTPRequestFuture<String> deleteMySQL(int idUser, int idBook) {
         String url = this.baseUrl + APIManager.DELETE;
         Map<String, String> param = new HashMap<>();
 
         param.put(USER, String.valueOf(idUser));
         param.put(BOOK, String.valueOf(idBook));
 
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     /**
      * Soft deletes a review entity in MySQL database.
      * @param idUser The id of the user.
      * @param idBook The id of the book.
+     * @return The future of the API response.
      */
-    public void softDeleteMySQL(int idUser, int idBook) {
+    public HTTPRequestFuture<String> softDeleteMySQL(int idUser, int idBook) {
         String url = this.baseUrl + APIManager.SOFT_DELETE;
         Map<String, String> param = new HashMap<>();
 
         param.put(USER, String.valueOf(idUser));
         param.put(BOOK, String.valueOf(idBook));
 
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     /**
      * Deletes all reviews entities in MySQL database from a specific user.
      * @param idUser The id of the user.
+     * @return The future of the API response.
      */
-    public void deleteUserMySQL(int idUser) {
+    public HTTPRequestFuture<String> deleteUserMySQL(int idUser) {
         String url = this.baseUrl + APIManager.DELETE;
         Map<String, String> param = new HashMap<>();
 
         param.put(USER, String.valueOf(idUser));
 
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     /**
      * Soft deletes all reviews entities in MySQL database from a specific user.
      * @param idUser The id of the user.
+     * @return The future of the API response.
      */
-    public void softDeleteUserMySQL(int idUser) {
+    public HTTPRequestFuture<String> softDeleteUserMySQL(int idUser) {
         String url = this.baseUrl + APIManager.SOFT_DELETE;
         Map<String, String> param = new HashMap<>();
 
         param.put(USER, String.valueOf(idUser));
 
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     /**
      * Restores a quote entity in MySQL database.
      * @param idUser The id of the user.
      * @param idBook The id of the book.
+     * @return The future of the API response.
      */
-    public void restoreMySQL(int idUser, int idBook) {
+    public HTTPRequestFuture<String> restoreMySQL(int idUser, int idBook) {
         String url = this.baseUrl + APIManager.RESTORE;
         Map<String, String> param = new HashMap<>();
 
         param.put(USER, String.valueOf(idUser));
         param.put(BOOK, String.valueOf(idBook));
 
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     /**
      * Restores all quote entities in MySQL database from a specific user.
      * @param idUser The id of the user.
+     * @return The future of the API response.
      */
-    public void restoreUserMySQL(int idUser) {
+    public HTTPRequestFuture<String> restoreUserMySQL(int idUser) {
         String url = this.baseUrl + APIManager.RESTORE;
         Map<String, String> param = new HashMap<>();
 
         param.put(USER, String.valueOf(idUser));
 
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     /**
      * Deletes a review entity in MySQL database.
      * @param review The review to delete.
+     * @return The future of the API response.
      */
-    public void deleteMySQL(Review review) {
-        this.deleteMySQL(review.getUserId(), review.getId());
+    public HTTPRequestFuture<String> deleteMySQL(Review review) {
+        return this.deleteMySQL(review.getUserId(), review.getId());
     }
 
     /**
      * Deletes a review entity in MySQL database.
      * @param review The review to delete.
+     * @return The future of the API response.
      */
-    public void softDeleteMySQL(Review review) {
-        this.softDeleteMySQL(review.getUserId(), review.getId());
+    public HTTPRequestFuture<String> softDeleteMySQL(Review review) {
+        return this.softDeleteMySQL(review.getUserId(), review.getId());
     }
 
     /**
      * Deletes the test entity in MySQL database.
      * @param idUser The id of the user who wrote the test review to delete.
      * @param idBook The id of the book.
+     * @return The future of the API response.
      */
-    public void deleteTestEntityMySQL(int idUser, int idBook) {
+    public HTTPRequestFuture<String> deleteTestEntityMySQL(int idUser, int idBook) {
         String url = this.baseUrl + APIManager.DELETE;
         Map<String, String> param = new HashMap<>();
 
@@ -457,19 +502,18 @@ public final class ReviewDBManager extends RelationDBManager {
 
         param.put(APIManager.TEST, "1");
 
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     @Override
     public boolean createSQLite(@NonNull JSONObject entity) {
         try {
-            ContentValues data = new ContentValues();
-
-            data.put(USER, entity.getInt(USER));
-            data.put(BOOK, entity.getInt(BOOK));
-            data.put(REVIEW, entity.getString(REVIEW));
+            SQLiteStatement statement = this.getStatement(INSERT_STATEMENT);
 
-            this.database.insertOrThrow(this.table, null, data);
+            statement.bindLong(1, entity.getInt(USER));
+            statement.bindLong(2, entity.getInt(BOOK));
+            statement.bindString(3, entity.getString(REVIEW));
+            statement.executeInsert();
 
             return true;
         } catch (Exception e) {
@@ -482,14 +526,14 @@ public final class ReviewDBManager extends RelationDBManager {
     @Override
     public boolean updateSQLite(@NonNull JSONObject entity) {
         try {
-            ContentValues data = new ContentValues();
-            String whereClause = String.format("%s = ? AND %s = ?", USER, BOOK);
-            String[] whereArgs = new String[]{entity.getString(USER), entity.getString(BOOK)};
+            SQLiteStatement statement = this.getStatement(UPDATE_STATEMENT);
 
-            data.put(REVIEW, entity.getString(REVIEW));
-            data.put(UPDATE, new DateTime().toString(DEFAULT_FORMAT));
+            statement.bindString(1, entity.getString(REVIEW));
+            statement.bindString(2, currentUpdate());
+            statement.bindLong(3, entity.getInt(USER));
+            statement.bindLong(4, entity.getInt(BOOK));
 
-            return this.database.update(this.table, data, whereClause, whereArgs) != 0;
+            return statement.executeUpdateDelete() != 0;
         } catch (Exception e) {
             this.logError("updateSQLite", e);
 
@@ -15,14 +15,21 @@ import java.util.Map;
  */
 public abstract class SimpleDBManager extends DBManager {
     /**
-     * Defines the default all fields database query with a simple where - like (from start) clause.
+     * Stores the pre-rendered load queries by table.
      */
-    protected final String SIMPLE_QUERY_ALL_LIKE_START = "SELECT * FROM %s WHERE %s LIKE ?||'%%'";
+    private static final Map<String, String> LOAD_QUERIES = new HashMap<>();
 
     /**
-     * Defines the default all fields database query with a simple where - like (from start) clause.
+     * Defines the default all fields database query with a simple where - like (from start) clause (the pattern is
+     * built by likeStart).
      */
-    protected final String SIMPLE_QUERY_ALL_LIKE_START_PAGINATED = "SELECT * FROM %s WHERE %s LIKE ?||'%%' LIMIT %d " +
+    protected final String SIMPLE_QUERY_ALL_LIKE_START = "SELECT * FROM %s WHERE %s LIKE ?";
+
+    /**
+     * Defines the default all fields database query with a simple where - like (from start) clause (the pattern is
+     * built by likeStart).
+     */
+    protected final String SIMPLE_QUERY_ALL_LIKE_START_PAGINATED = "SELECT * FROM %s WHERE %s LIKE ? LIMIT %d " +
                                                                    "OFFSET %d";
 
     /**
@@ -83,7 +90,7 @@ public abstract class SimpleDBManager extends DBManager {
     public Cursor loadCursorSQLite(int id) {
         try {
             String[] selectArgs = {String.valueOf(id)};
-            String query = String.format(this.SIMPLE_QUERY_ALL, this.table, this.ids[0]);
+            String query = this.getLoadQuery();
 
             return this.database.rawQuery(query, selectArgs);
         } catch (SQLiteException e) {
@@ -104,7 +111,24 @@ public abstract class SimpleDBManager extends DBManager {
         param.put(this.ids[0], String.valueOf(id));
         param.put(APIManager.TEST, "1");
 
-        super.requestString(Request.Method.PUT, url, null, param);
-        this.waitForResponse();
+        this.await(super.requestString(Request.Method.PUT, url, null, param), null, "deleteTestEntityMySQL");
+    }
+
+    /**
+     * Gets the query loading an entity from its id(s), rendered once per table.
+     * @return The load query.
+     */
+    private String getLoadQuery() {
+        synchronized (LOAD_QUERIES) {
+            String query = LOAD_QUERIES.get(this.table);
+
+            if (query == null) {
+                query = String.format(this.SIMPLE_QUERY_ALL, this.table, this.ids[0]);
+
+                LOAD_QUERIES.put(this.table, query);
+            }
+
+            return query;
+        }
     }
 }
@@ -4,6 +4,7 @@ import android.content.ContentValues;
 import android.content.Context;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteException;
+import android.database.sqlite.SQLiteStatement;
 import android.support.annotation.NonNull;
 
 import com.android.volley.NetworkResponse;
@@ -12,17 +13,27 @@ import com.android.volley.Response;
 import com.android.volley.VolleyError;
 import com.android.volley.toolbox.HttpHeaderParser;
 import com.android.volley.toolbox.JsonArrayRequest;
+import com.android.volley.toolbox.JsonObjectRequest;
 import com.android.volley.toolbox.StringRequest;
 import com.imie.a2dev.teamculte.readeo.APIManager;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.BookDBSchema;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.BookListDBSchema;
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Book;
 import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.BookList;
 import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.BookListType;
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Category;
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.City;
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Country;
 import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.PrivateUser;
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Profile;
 import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.PublicUser;
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Review;
+import com.imie.a2dev.teamculte.readeo.Utils.HTTPRequestFuture;
 import com.imie.a2dev.teamculte.readeo.Utils.HTTPRequestQueueSingleton;
 import com.imie.a2dev.teamculte.readeo.Utils.PreferencesUtils;
 
-import org.joda.time.DateTime;
 import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 
 import java.io.IOException;
@@ -32,7 +43,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.regex.Pattern;
 
-import static com.imie.a2dev.teamculte.readeo.DBSchemas.CommonDBSchema.DEFAULT_FORMAT;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.CommonDBSchema.UPDATE;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.UserDBSchema.CITY;
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.UserDBSchema.COUNTRY;
@@ -47,6 +57,69 @@ import static com.imie.a2dev.teamculte.readeo.DBSchemas.UserDBSchema.TABLE;
  * Manager class used to manage the user entities from databases.
  */
 public final class UserDBManager extends SimpleDBManager {
+    /**
+     * Defines the compiled insert statement.
+     */
+    private static final String INSERT_STATEMENT = String.format("INSERT INTO %s (%s, %s, %s) VALUES (?, ?, ?)",
+                                                                 TABLE,
+                                                                 ID,
+                                                                 PSEUDO,
+                                                                 PROFILE);
+
+    /**
+     * Defines the compiled update statement.
+     */
+    private static final String UPDATE_STATEMENT = String.format("UPDATE %s SET %s = ?, %s = ? WHERE %s = ?",
+                                                                 TABLE,
+                                                                 PSEUDO,
+                                                                 UPDATE,
+                                                                 ID);
+
+    /**
+     * Defines the json key of the user in the user bundle.
+     */
+    private static final String BUNDLE_USER = "user";
+
+    /**
+     * Defines the json key of the profile of the user in the user bundle.
+     */
+    private static final String BUNDLE_PROFILE = "profile";
+
+    /**
+     * Defines the json key of the country of the user in the user bundle.
+     */
+    private static final String BUNDLE_COUNTRY = "country";
+
+    /**
+     * Defines the json key of the city of the user in the user bundle.
+     */
+    private static final String BUNDLE_CITY = "city";
+
+    /**
+     * Defines the json key of the reviews of the user in the user bundle.
+     */
+    private static final String BUNDLE_REVIEWS = "reviews";
+
+    /**
+     * Defines the json key of the book list entries of the user in the user bundle.
+     */
+    private static final String BUNDLE_BOOK_LISTS = "book_lists";
+
+    /**
+     * Defines the json key of the book list types in the user bundle.
+     */
+    private static final String BUNDLE_BOOK_LIST_TYPES = "book_list_types";
+
+    /**
+     * Defines the json key of the books of the book lists in the user bundle.
+     */
+    private static final String BUNDLE_BOOKS = "books";
+
+    /**
+     * Defines the json key of the categories of the books in the user bundle.
+     */
+    private static final String BUNDLE_CATEGORIES = "categories";
+
     /**
      * UserDBManager's constructor.
      * @param context The associated context.
@@ -96,7 +169,7 @@ public final class UserDBManager extends SimpleDBManager {
             data.put(ID, entity.getId());
             data.put(PSEUDO, entity.getPseudo());
             data.put(PROFILE, entity.getProfile().getId());
-            data.put(UPDATE, new DateTime().toString(DEFAULT_FORMAT));
+            data.put(UPDATE, currentUpdate());
 
             return this.database.update(this.table, data, whereClause, whereArgs) != 0;
         } catch (SQLiteException e) {
@@ -168,7 +241,7 @@ public final class UserDBManager extends SimpleDBManager {
     public List<PublicUser> loadFilteredSQLite(String field, String filter) {
         try {
             List<PublicUser> users = new ArrayList<>();
-            String[] selectArgs = {filter};
+            String[] selectArgs = {likeStart(filter)};
             String query = String.format(this.SIMPLE_QUERY_ALL_LIKE_START, this.table, field);
             Cursor result = this.database.rawQuery(query, selectArgs);
 
@@ -235,6 +308,33 @@ public final class UserDBManager extends SimpleDBManager {
         return books;
     }
 
+    /**
+     * Queries the users following the given id (ordered by id) from the database. Unlike the offset pagination, the
+     * page is read through a range scan of the primary key, whatever its position in the table.
+     * @param afterId The id of the last loaded user (KEYSET_START to get the first page).
+     * @param limit The number of users to load.
+     * @return The list of users.
+     */
+    public List<PublicUser> queryAllKeysetSQLite(int afterId, int limit) {
+        List<PublicUser> users = new ArrayList<>();
+
+        try {
+            String[] selectArgs = {String.valueOf(afterId)};
+            Cursor result = this.database.rawQuery(String.format(this.QUERY_ALL_KEYSET, this.table, ID, ID, limit),
+                                                   selectArgs);
+
+            while (result.moveToNext()) {
+                users.add(new PublicUser(result, false));
+            }
+
+            result.close();
+        } catch (SQLiteException e) {
+            this.logError("queryAllKeysetSQLite", e);
+        }
+
+        return users;
+    }
+
     /**
      * From the API, query the list of all public users from the MySQL database in order to stores it into the SQLite
      * database.
@@ -248,6 +348,16 @@ public final class UserDBManager extends SimpleDBManager {
      * @param user The user to create.
      */
     public void createMySQL(final PrivateUser user) {
+        this.await(this.createMySQLAsync(user), null, "createMySQL");
+    }
+
+    /**
+     * Creates a user entity in MySQL database.
+     * @param user The user to create.
+     * @return The future of the user (completed once created, with the id given by the API).
+     */
+    public HTTPRequestFuture<PrivateUser> createMySQLAsync(final PrivateUser user) {
+        final HTTPRequestFuture<PrivateUser> future = new HTTPRequestFuture<>();
         String url = this.baseUrl + APIManager.CREATE;
         Map<String, String> param = new HashMap<>();
 
@@ -271,8 +381,7 @@ public final class UserDBManager extends SimpleDBManager {
 
             @Override
             protected VolleyError parseNetworkError(VolleyError volleyError) {
-                HTTPRequestQueueSingleton.getInstance(UserDBManager.this.getContext())
-                                         .finishRequest(UserDBManager.this.table);
+                future.fail(volleyError);
 
                 return super.parseNetworkError(volleyError);
             }
@@ -287,11 +396,12 @@ public final class UserDBManager extends SimpleDBManager {
                     if (pattern.matcher(resp).find()) {
                         user.setId(Integer.valueOf(resp));
                     }
+
+                    future.complete(user);
                 } catch (IOException e) {
                     UserDBManager.this.logError("createMySQL", e);
-                } finally {
-                    HTTPRequestQueueSingleton.getInstance(UserDBManager.this.getContext())
-                                             .finishRequest(UserDBManager.this.table);
+
+                    future.fail(e);
                 }
 
                 return super.parseNetworkResponse(response);
@@ -300,14 +410,15 @@ public final class UserDBManager extends SimpleDBManager {
 
         HTTPRequestQueueSingleton.getInstance(this.getContext()).addToRequestQueue(TABLE, request);
 
-        this.waitForResponse();
+        return future;
     }
 
     /**
      * Updates a user entity in MySQL database.
      * @param user The user to update.
+     * @return The future of the API response.
      */
-    public void updateMySQL(PrivateUser user) {
+    public HTTPRequestFuture<String> updateMySQL(PrivateUser user) {
         String url = this.baseUrl + APIManager.UPDATE;
         Map<String, String> param = new HashMap<>();
 
@@ -319,7 +430,7 @@ public final class UserDBManager extends SimpleDBManager {
         param.put(CITY, String.valueOf(user.getCity().getId()));
         param.put(COUNTRY, String.valueOf(user.getCountry().getId()));
 
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     /**
@@ -327,15 +438,16 @@ public final class UserDBManager extends SimpleDBManager {
      * @param id The id of user to update.
      * @param field The field of the user to update.
      * @param value The the new value to set.
+     * @return The future of the API response.
      */
-    public void updateFieldMySQL(int id, String field, String value) {
+    public HTTPRequestFuture<String> updateFieldMySQL(int id, String field, String value) {
         String url = this.baseUrl + APIManager.UPDATE;
         Map<String, String> param = new HashMap<>();
 
         param.put(ID, String.valueOf(id));
         param.put(field, value);
 
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     /**
@@ -344,44 +456,41 @@ public final class UserDBManager extends SimpleDBManager {
      * @return The loaded user.
      */
     public PrivateUser loadMySQL(int idUser) {
-        final PrivateUser user = new PrivateUser();
-        final int idProfile[] = new int[1];
-        final int idCity[] = new int[1];
-        final int idCountry[] = new int[1];
-        String url = this.baseUrl + APIManager.READ + ID + "=" + idUser;
-        JsonArrayRequest request = new JsonArrayRequest(Request.Method.GET, url, null, null,
-                                                        new OnRequestError()) {
+        return this.await(this.loadMySQLAsync(idUser), null, "loadMySQL");
+    }
+
+    /**
+     * Loads a user from MySQL database with its profile, country, city, reviews and book lists in a single request (the
+     * user bundle), the user being assembled once the bundle is received.
+     * @param idUser The id of the user.
+     * @return The future of the loaded user (null if not found).
+     */
+    public HTTPRequestFuture<PrivateUser> loadMySQLAsync(int idUser) {
+        final HTTPRequestFuture<PrivateUser> future = new HTTPRequestFuture<>();
+        String url = this.baseUrl + APIManager.READ + APIManager.BUNDLE + "&" + ID + "=" + idUser;
+        JsonObjectRequest request = new JsonObjectRequest(Request.Method.GET, url, null, null,
+                                                          new OnRequestError()) {
             @Override
-            protected Response<JSONArray> parseNetworkResponse(NetworkResponse response) {
-                try {
-                    JSONArray jsonArray = new JSONArray(new String(response.data,
-                                                                   HttpHeaderParser.parseCharset(
-                                                                           response.headers)));
-                    JSONObject object = jsonArray.getJSONObject(0);
+            protected Response<JSONObject> parseNetworkResponse(NetworkResponse response) {
+                PrivateUser user = null;
 
-                    idProfile[0] = object.getInt(PROFILE);
-                    idCity[0] = object.getInt(CITY);
-                    idCountry[0] = object.getInt(COUNTRY);
+                try {
+                    JSONObject bundle = new JSONObject(new String(response.data,
+                                                                  HttpHeaderParser.parseCharset(response.headers)));
 
-                    user.init(object);
+                    user = UserDBManager.this.initFromBundle(bundle);
                 } catch (Exception e) {
                     UserDBManager.this.logError("loadMySQL", e);
-                } finally {
-                    HTTPRequestQueueSingleton.getInstance(UserDBManager.this.getContext())
-                                             .finishRequest(UserDBManager.this.table);
                 }
 
+                future.complete(user);
+
                 return super.parseNetworkResponse(response);
             }
 
             @Override
             protected VolleyError parseNetworkError(VolleyError volleyError) {
-                idProfile[0] = 0;
-                idCity[0] = 0;
-                idCountry[0] = 0;
-
-                HTTPRequestQueueSingleton.getInstance(UserDBManager.this.getContext())
-                                         .finishRequest(UserDBManager.this.table);
+                future.fail(volleyError);
 
                 return super.parseNetworkError(volleyError);
             }
@@ -389,15 +498,8 @@ public final class UserDBManager extends SimpleDBManager {
 
         HTTPRequestQueueSingleton.getInstance(this.getContext())
                                  .addToRequestQueue(this.table, request);
-        this.waitForResponse();
 
-        user.setProfile(new ProfileDBManager(this.getContext()).loadMySQL(idProfile[0]));
-        user.setCountry(new CountryDBManager(this.getContext()).loadMySQL(idCountry[0]));
-        user.setCity(new CityDBManager(this.getContext()).loadMySQL(idCity[0]));
-        user.setReviews(new ReviewDBManager(this.getContext()).loadUserMySQL(user.getId()));
-        user.setBookLists(new BookListDBManager(this.getContext()).loadUserMySQL(user.getId()));
-
-        return (user.isEmpty()) ? null : user;
+        return future;
     }
 
     /**
@@ -445,9 +547,6 @@ public final class UserDBManager extends SimpleDBManager {
                     if (listener != null) {
                         listener.onRequestError();
                     }
-                } finally {
-                    HTTPRequestQueueSingleton.getInstance(UserDBManager.this.getContext())
-                                             .finishRequest(UserDBManager.this.table);
                 }
 
                 return super.parseNetworkResponse(response);
@@ -455,9 +554,6 @@ public final class UserDBManager extends SimpleDBManager {
 
             @Override
             protected VolleyError parseNetworkError(VolleyError volleyError) {
-                HTTPRequestQueueSingleton.getInstance(UserDBManager.this.getContext())
-                                         .finishRequest(UserDBManager.this.table);
-
                 if (listener != null) {
                     listener.onRequestError();
                 }
@@ -474,40 +570,49 @@ public final class UserDBManager extends SimpleDBManager {
      * Checks if a value is available for a specific field (not already taken).
      * @param field The associated field.
      * @param value The value to check.
-     * @param listener The listener to call.
-     * @return True if the value is available (not taken) else false.
+     * @param listener The listener to call (if null the method blocks until the API response).
+     * @return True if the value is available (not taken) else false (always true if a listener is given).
      */
     public boolean isAvailableMySQL(String field, String value,
                                     HTTPRequestQueueSingleton.HTTPRequestQueueListener listener) {
-        final boolean[] available = new boolean[1];
+        HTTPRequestFuture<Boolean> future = this.isAvailableMySQLAsync(field, value);
+
+        if (listener == null) {
+            return this.await(future, true, "isAvailableMySQL");
+        }
+
+        future.then((available, error) -> {
+            if (error != null) {
+                listener.onRequestError();
+            } else {
+                listener.onRequestFinished();
+            }
+        });
+
+        return true;
+    }
+
+    /**
+     * Checks if a value is available for a specific field (not already taken).
+     * @param field The associated field.
+     * @param value The value to check.
+     * @return The future of the availability of the value.
+     */
+    public HTTPRequestFuture<Boolean> isAvailableMySQLAsync(String field, String value) {
+        final HTTPRequestFuture<Boolean> future = new HTTPRequestFuture<>();
         String url = this.baseUrl + APIManager.READ + field + "=" + value + "&public=1";
-        available[0] = true;
         StringRequest request = new StringRequest(Request.Method.GET, url, null,
                                                   new OnRequestError()) {
             @Override
             protected VolleyError parseNetworkError(VolleyError volleyError) {
-                HTTPRequestQueueSingleton.getInstance(UserDBManager.this.getContext())
-                                         .finishRequest(UserDBManager.this.table);
-
-                if (listener != null) {
-                    listener.onRequestError();
-                }
+                future.fail(volleyError);
 
                 return super.parseNetworkError(volleyError);
             }
 
             @Override
             protected Response<String> parseNetworkResponse(NetworkResponse response) {
-                if (response.data.length > 2) {
-                    available[0] = false;
-                }
-
-                HTTPRequestQueueSingleton.getInstance(UserDBManager.this.getContext())
-                                         .finishRequest(UserDBManager.this.table);
-
-                if (listener != null) {
-                    listener.onRequestFinished();
-                }
+                future.complete(response.data.length <= 2);
 
                 return super.parseNetworkResponse(response);
             }
@@ -516,97 +621,98 @@ public final class UserDBManager extends SimpleDBManager {
         HTTPRequestQueueSingleton.getInstance(this.getContext())
                                  .addToRequestQueue(this.table, request);
 
-        if (listener == null) {
-            this.waitForResponse();
-        }
-
-        return available[0];
+        return future;
     }
 
     /**
      * Deletes a user entity in MySQL database.
      * @param email The email of the user to delete.
      * @param password The password of the user to delete.
+     * @return The future of the API response.
      */
-    public void deleteMySQL(String email, String password) {
+    public HTTPRequestFuture<String> deleteMySQL(String email, String password) {
         String url = this.baseUrl + APIManager.DELETE;
         Map<String, String> param = new HashMap<>();
 
         param.put(PASSWORD, password);
         param.put(EMAIL, email);
 
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     /**
      * Soft deletes a user entity in MySQL database.
      * @param email The email of the user to delete.
      * @param password The password of the user to delete.
+     * @return The future of the API response.
      */
-    public void softDeleteMySQL(String email, String password) {
+    public HTTPRequestFuture<String> softDeleteMySQL(String email, String password) {
         String url = this.baseUrl + APIManager.SOFT_DELETE;
         Map<String, String> param = new HashMap<>();
 
         param.put(PASSWORD, password);
         param.put(EMAIL, email);
 
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     /**
      * Restores a user entity in MySQL database.
      * @param email The email of the user to restore.
      * @param password The password of the user to restore.
+     * @return The future of the API response.
      */
-    public void restoreMySQL(String email, String password) {
+    public HTTPRequestFuture<String> restoreMySQL(String email, String password) {
         String url = this.baseUrl + APIManager.RESTORE;
         Map<String, String> param = new HashMap<>();
 
         param.put(PASSWORD, password);
         param.put(EMAIL, email);
 
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     /**
      * Restores a user from MySQL database.
      * @param idUser The id of the user to restore.
+     * @return The future of the API response.
      */
-    public void restoreMySQL(int idUser) {
+    public HTTPRequestFuture<String> restoreMySQL(int idUser) {
         String url = this.baseUrl + APIManager.RESTORE;
         Map<String, String> param = new HashMap<>();
 
         param.put(ID, String.valueOf(idUser));
 
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     /**
      * Deletes a user entity in MySQL database.
      * @param user The user to delete.
+     * @return The future of the API response.
      */
-    public void deleteMySQL(PrivateUser user) {
-        this.deleteMySQL(user.getEmail(), user.getPassword());
+    public HTTPRequestFuture<String> deleteMySQL(PrivateUser user) {
+        return this.deleteMySQL(user.getEmail(), user.getPassword());
     }
 
     /**
      * Soft deletes a user entity in MySQL database.
      * @param user The user to delete.
+     * @return The future of the API response.
      */
-    public void softDeleteMySQL(PrivateUser user) {
-        this.softDeleteMySQL(user.getEmail(), user.getPassword());
+    public HTTPRequestFuture<String> softDeleteMySQL(PrivateUser user) {
+        return this.softDeleteMySQL(user.getEmail(), user.getPassword());
     }
 
     @Override
     public boolean createSQLite(@NonNull JSONObject entity) {
         try {
-            ContentValues data = new ContentValues();
-
-            data.put(ID, entity.getInt(ID));
-            data.put(PSEUDO, entity.getString(PSEUDO));
-            data.put(PROFILE, entity.getInt(PROFILE));
+            SQLiteStatement statement = this.getStatement(INSERT_STATEMENT);
 
-            this.database.insertOrThrow(this.table, null, data);
+            statement.bindLong(1, entity.getInt(ID));
+            statement.bindString(2, entity.getString(PSEUDO));
+            statement.bindLong(3, entity.getInt(PROFILE));
+            statement.executeInsert();
 
             return true;
         } catch (Exception e) {
@@ -619,14 +725,13 @@ public final class UserDBManager extends SimpleDBManager {
     @Override
     public boolean updateSQLite(@NonNull JSONObject entity) {
         try {
-            ContentValues data = new ContentValues();
-            String whereClause = String.format("%s = ?", ID);
-            String[] whereArgs = new String[]{entity.getString(ID)};
+            SQLiteStatement statement = this.getStatement(UPDATE_STATEMENT);
 
-            data.put(PSEUDO, entity.getString(PSEUDO));
-            data.put(UPDATE, new DateTime().toString(DEFAULT_FORMAT));
+            statement.bindString(1, entity.getString(PSEUDO));
+            statement.bindString(2, currentUpdate());
+            statement.bindLong(3, entity.getInt(ID));
 
-            return this.database.update(this.table, data, whereClause, whereArgs) != 0;
+            return statement.executeUpdateDelete() != 0;
         } catch (Exception e) {
             this.logError("updateSQLite", e);
 
@@ -655,4 +760,91 @@ public final class UserDBManager extends SimpleDBManager {
             }
         }
     }
+
+    /**
+     * Assembles a user from its bundle: the user, its profile, country, city and reviews, and its book lists built
+     * from the bundle book list types, books and categories (no other request nor local entity needed).
+     * @param bundle The user bundle received from the API.
+     * @return The assembled user (null if empty).
+     * @throws JSONException If a part of the bundle is missing.
+     */
+    private PrivateUser initFromBundle(JSONObject bundle) throws JSONException {
+        PrivateUser user = new PrivateUser(bundle.getJSONArray(BUNDLE_USER).getJSONObject(0));
+        JSONObject profile = bundle.getJSONArray(BUNDLE_PROFILE).optJSONObject(0);
+        JSONObject country = bundle.getJSONArray(BUNDLE_COUNTRY).optJSONObject(0);
+        JSONObject city = bundle.getJSONArray(BUNDLE_CITY).optJSONObject(0);
+        JSONArray reviews = bundle.getJSONArray(BUNDLE_REVIEWS);
+        JSONArray bookLists = bundle.getJSONArray(BUNDLE_BOOK_LISTS);
+        JSONArray types = bundle.getJSONArray(BUNDLE_BOOK_LIST_TYPES);
+        JSONArray books = bundle.getJSONArray(BUNDLE_BOOKS);
+        JSONArray categories = bundle.getJSONArray(BUNDLE_CATEGORIES);
+        Map<Integer, BookListType> typesById = new HashMap<>();
+        Map<Integer, Category> categoriesById = new HashMap<>();
+        Map<Integer, Book> booksById = new HashMap<>();
+        Map<String, BookList> userBookLists = new HashMap<>();
+        List<Review> userReviews = new ArrayList<>();
+
+        if (profile != null) {
+            user.setProfile(new Profile(profile));
+        }
+
+        if (country != null) {
+            user.setCountry(new Country());
+            user.getCountry().init(country);
+        }
+
+        if (city != null) {
+            user.setCity(new City());
+            user.getCity().init(city);
+        }
+
+        for (int i = 0; i < reviews.length(); i++) {
+            userReviews.add(new Review(reviews.getJSONObject(i)));
+        }
+
+        for (int i = 0; i < types.length(); i++) {
+            BookListType type = new BookListType();
+
+            type.init(types.getJSONObject(i));
+            typesById.put(type.getId(), type);
+        }
+
+        for (int i = 0; i < categories.length(); i++) {
+            Category category = new Category();
+
+            category.init(categories.getJSONObject(i));
+            categoriesById.put(category.getId(), category);
+        }
+
+        for (int i = 0; i < books.length(); i++) {
+            Book book = new Book();
+
+            book.init(books.getJSONObject(i));
+            book.setCategory(categoriesById.get(books.getJSONObject(i).getInt(BookDBSchema.CATEGORY)));
+            booksById.put(book.getId(), book);
+        }
+
+        for (int i = 0; i < bookLists.length(); i++) {
+            JSONObject entry = bookLists.getJSONObject(i);
+            BookListType type = typesById.get(entry.getInt(BookListDBSchema.TYPE));
+            Book book = booksById.get(entry.getInt(BookListDBSchema.BOOK));
+
+            if (type == null) {
+                continue;
+            }
+
+            if (!userBookLists.containsKey(type.getName())) {
+                userBookLists.put(type.getName(), new BookList(user.getId(), type, new ArrayList<>()));
+            }
+
+            if (book != null) {
+                userBookLists.get(type.getName()).getBooks().add(book);
+            }
+        }
+
+        user.setReviews(userReviews);
+        user.setBookLists((userBookLists.size() > 0) ? userBookLists : null);
+
+        return (user.isEmpty()) ? null : user;
+    }
 }
@@ -4,12 +4,15 @@ import android.content.ContentValues;
 import android.content.Context;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteException;
+import android.database.sqlite.SQLiteStatement;
 import android.support.annotation.NonNull;
 
 import com.android.volley.Request;
 import com.imie.a2dev.teamculte.readeo.APIManager;
 import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Author;
 import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Book;
+import com.imie.a2dev.teamculte.readeo.Utils.HTTPRequestFuture;
+import com.imie.a2dev.teamculte.readeo.Utils.ManagerHolderUtils;
 
 import org.json.JSONObject;
 
@@ -27,6 +30,22 @@ import static com.imie.a2dev.teamculte.readeo.DBSchemas.WriterDBSchema.TABLE;
  * Manager class used to manage the writer entities from databases.
  */
 public final class WriterDBManager extends RelationDBManager {
+    /**
+     * Defines the compiled insert statement.
+     */
+    private static final String INSERT_STATEMENT = String.format("INSERT INTO %s (%s, %s) VALUES (?, ?)",
+                                                                 TABLE,
+                                                                 AUTHOR,
+                                                                 BOOK);
+
+    /**
+     * Defines the compiled upsert statement (the relation has no other field to update).
+     */
+    private static final String UPSERT_STATEMENT = String.format("INSERT OR IGNORE INTO %s (%s, %s) VALUES (?, ?)",
+                                                                 TABLE,
+                                                                 AUTHOR,
+                                                                 BOOK);
+
     /**
      * WriterDBManager's constructor.
      * @param context The associated context.
@@ -94,24 +113,30 @@ public final class WriterDBManager extends RelationDBManager {
     }
 
     /**
-     * From an author id, returns the associated list of books.
+     * From an author id, returns the associated list of books (loaded local first, the missing ones being requested
+     * in parallel).
      * @param idAuthor The id of the author.
      * @return The list of entities if exists else an empty ArrayList.
      */
     public List<Book> loadBooksSQLite(int idAuthor) {
         try {
-            BookDBManager bookDBManager = new BookDBManager(this.getContext());
+            ReadThroughRepository<Book> bookRepository = ManagerHolderUtils.getInstance().getBookRepository();
+            List<HTTPRequestFuture<Book>> loads = new ArrayList<>();
             ArrayList<Book> books = new ArrayList<>();
             String[] selectArgs = {String.valueOf(idAuthor)};
             String query = String.format(this.SIMPLE_QUERY_ALL, this.table, AUTHOR);
             Cursor result = this.database.rawQuery(query, selectArgs);
 
             while (result.moveToNext()) {
-                books.add(bookDBManager.loadMySQL(result.getInt(result.getColumnIndex(BOOK))));
+                loads.add(bookRepository.loadAsync(result.getInt(result.getColumnIndex(BOOK))));
             }
 
             result.close();
 
+            for (HTTPRequestFuture<Book> load : loads) {
+                books.add(this.await(load, null, "loadBooksSQLite"));
+            }
+
             return books;
         } catch (SQLiteException e) {
             this.logError("loadBooksSQLite", e);
@@ -205,23 +230,25 @@ public final class WriterDBManager extends RelationDBManager {
      * Creates a writer entity in MySQL database.
      * @param idAuthor The id of the associated author.
      * @param idBook The id of the book.
+     * @return The future of the API response.
      */
-    public void createMySQL(int idAuthor, int idBook) {
+    public HTTPRequestFuture<String> createMySQL(int idAuthor, int idBook) {
         String url = this.baseUrl + APIManager.CREATE;
         Map<String, String> param = new HashMap<>();
 
         param.put(AUTHOR, String.valueOf(idAuthor));
         param.put(BOOK, String.valueOf(idBook));
 
-        super.requestString(Request.Method.POST, url, null, param);
+        return super.requestString(Request.Method.POST, url, null, param);
     }
 
     /**
      * Deletes the test entity in MySQL database.
      * @param idAuthor The id of the associated author to delete.
      * @param idBook The id of the book.
+     * @return The future of the API response.
      */
-    public void deleteTestEntityMySQL(int idAuthor, int idBook) {
+    public HTTPRequestFuture<String> deleteTestEntityMySQL(int idAuthor, int idBook) {
         String url = this.baseUrl + APIManager.DELETE;
         Map<String, String> param = new HashMap<>();
 
@@ -230,18 +257,17 @@ public final class WriterDBManager extends RelationDBManager {
 
         param.put(APIManager.TEST, "1");
 
-        super.requestString(Request.Method.PUT, url, null, param);
+        return super.requestString(Request.Method.PUT, url, null, param);
     }
 
     @Override
     public boolean createSQLite(@NonNull JSONObject entity) {
         try {
-            ContentValues data = new ContentValues();
+            SQLiteStatement statement = this.getStatement(INSERT_STATEMENT);
 
-            data.put(AUTHOR, entity.getInt(AUTHOR));
-            data.put(BOOK, entity.getInt(BOOK));
-
-            this.database.insertOrThrow(this.table, null, data);
+            statement.bindLong(1, entity.getInt(AUTHOR));
+            statement.bindLong(2, entity.getInt(BOOK));
+            statement.executeInsert();
 
             return true;
         } catch (Exception e) {
@@ -251,6 +277,23 @@ public final class WriterDBManager extends RelationDBManager {
         }
     }
 
+    @Override
+    public boolean upsertSQLite(@NonNull JSONObject entity) {
+        try {
+            SQLiteStatement statement = this.getStatement(UPSERT_STATEMENT);
+
+            statement.bindLong(1, entity.getInt(AUTHOR));
+            statement.bindLong(2, entity.getInt(BOOK));
+            statement.executeInsert();
+
+            return true;
+        } catch (Exception e) {
+            this.logError("upsertSQLite", e);
+
+            return false;
+        }
+    }
+
     @Override
     public boolean updateSQLite(@NonNull JSONObject entity) {
         // Nothing to do as the entity is just a relation between Authors and Books.
@@ -36,4 +36,9 @@ public abstract class AuthorDBSchema {
                                                                       NAME_SIZE,
                                                                       CommonDBSchema.UPDATE,
                                                                       CommonDBSchema.UPDATE_DEFAULT);
+
+    /**
+     * Defines the author's secondary indexes.
+     */
+    public static final DBIndex[] INDEXES = {new DBIndex(TABLE, true, NAME)};
 }
@@ -40,6 +40,11 @@ public abstract class BookDBSchema {
      */
     public static final String DATE = "date_published";
 
+    /**
+     * Defines the alias of the concatenated author names column (used by the book card projection).
+     */
+    public static final String AUTHOR_NAMES = "author_names";
+
     /**
      * Defines the books's title and cover field max size.
      */
@@ -65,4 +70,12 @@ public abstract class BookDBSchema {
                                                                     CommonDBSchema.UPDATE_DEFAULT,
                                                                     CATEGORY,
                                                                     CategoryDBSchema.ID);
+
+    /**
+     * Defines the book's secondary indexes.
+     */
+    public static final DBIndex[] INDEXES = {
+            new DBIndex(TABLE, false, CATEGORY),
+            new DBIndex(TABLE, true, TITLE)
+    };
 }
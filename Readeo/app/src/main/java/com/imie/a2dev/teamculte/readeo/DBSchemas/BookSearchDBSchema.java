@@ -0,0 +1,283 @@
+package com.imie.a2dev.teamculte.readeo.DBSchemas;
+
+/**
+ * Class used to define the book search (full-text index) database schema. The index is an FTS4 virtual table whose
+ * rows have the id of their book as docid, it is kept in sync with the book, writer, author and category tables by
+ * triggers.
+ * Useful to separate logic code from managers and structures.
+ */
+public abstract class BookSearchDBSchema {
+    /**
+     * Defines the book search's table name.
+     */
+    public static final String TABLE = "BookSearch";
+
+    /**
+     * Defines the book search's id field (the implicit docid, equal to the book id).
+     */
+    public static final String ID = "docid";
+
+    /**
+     * Defines the book search's title field.
+     */
+    public static final String TITLE = BookDBSchema.TITLE;
+
+    /**
+     * Defines the book search's authors field (the names of the book's authors separated by spaces).
+     */
+    public static final String AUTHORS = "authors";
+
+    /**
+     * Defines the book search's category field (the name of the book's category).
+     */
+    public static final String CATEGORY = "category";
+
+    /**
+     * Defines the book search's fields in the index order (used to read the match info).
+     */
+    public static final String[] FIELDS = {TITLE, AUTHORS, CATEGORY};
+
+    /**
+     * Defines the ranking weight of each field (in the index order).
+     */
+    public static final double[] WEIGHTS = {3.0, 2.0, 1.0};
+
+    /**
+     * Defines the subquery returning the author names of a book (the book id expression is formatted in).
+     */
+    private static final String AUTHORS_SUBQUERY = String.format("(SELECT GROUP_CONCAT(%s.%s, ' ') FROM %s INNER " +
+                                                                 "JOIN %s ON %s.%s = %s.%s WHERE %s.%s = %%s)",
+                                                                 AuthorDBSchema.TABLE,
+                                                                 AuthorDBSchema.NAME,
+                                                                 WriterDBSchema.TABLE,
+                                                                 AuthorDBSchema.TABLE,
+                                                                 AuthorDBSchema.TABLE,
+                                                                 AuthorDBSchema.ID,
+                                                                 WriterDBSchema.TABLE,
+                                                                 WriterDBSchema.AUTHOR,
+                                                                 WriterDBSchema.TABLE,
+                                                                 WriterDBSchema.BOOK);
+
+    /**
+     * Defines the subquery returning the category name of a book (the category id expression is formatted in).
+     */
+    private static final String CATEGORY_SUBQUERY = String.format("(SELECT %s FROM %s WHERE %s = %%s)",
+                                                                  CategoryDBSchema.NAME,
+                                                                  CategoryDBSchema.TABLE,
+                                                                  CategoryDBSchema.ID);
+
+    /**
+     * Defines the book search create table statement (with prefix indexes for the 2 and 3 characters prefixes).
+     */
+    public static final String BOOK_SEARCH_TABLE_STATEMENT = String.format("CREATE VIRTUAL TABLE IF NOT EXISTS %s " +
+                                                                           "USING fts4(%s, %s, %s, prefix=\"2,3\");",
+                                                                           TABLE,
+                                                                           TITLE,
+                                                                           AUTHORS,
+                                                                           CATEGORY);
+
+    /**
+     * Defines the statement filling the book search table from the existing books.
+     */
+    public static final String BOOK_SEARCH_POPULATE_STATEMENT = String.format("INSERT INTO %s (%s, %s, %s, %s) " +
+                                                                              "SELECT %s.%s, %s.%s, Names.%s, %s.%s " +
+                                                                              "FROM %s LEFT JOIN (SELECT %s.%s AS " +
+                                                                              "%s, GROUP_CONCAT(%s.%s, ' ') AS %s " +
+                                                                              "FROM %s INNER JOIN %s ON %s.%s = " +
+                                                                              "%s.%s GROUP BY %s.%s) AS Names ON " +
+                                                                              "Names.%s = %s.%s LEFT JOIN %s ON " +
+                                                                              "%s.%s = %s.%s;",
+                                                                              TABLE,
+                                                                              ID,
+                                                                              TITLE,
+                                                                              AUTHORS,
+                                                                              CATEGORY,
+                                                                              BookDBSchema.TABLE,
+                                                                              BookDBSchema.ID,
+                                                                              BookDBSchema.TABLE,
+                                                                              BookDBSchema.TITLE,
+                                                                              AUTHORS,
+                                                                              CategoryDBSchema.TABLE,
+                                                                              CategoryDBSchema.NAME,
+                                                                              BookDBSchema.TABLE,
+                                                                              WriterDBSchema.TABLE,
+                                                                              WriterDBSchema.BOOK,
+                                                                              WriterDBSchema.BOOK,
+                                                                              AuthorDBSchema.TABLE,
+                                                                              AuthorDBSchema.NAME,
+                                                                              AUTHORS,
+                                                                              WriterDBSchema.TABLE,
+                                                                              AuthorDBSchema.TABLE,
+                                                                              AuthorDBSchema.TABLE,
+                                                                              AuthorDBSchema.ID,
+                                                                              WriterDBSchema.TABLE,
+                                                                              WriterDBSchema.AUTHOR,
+                                                                              WriterDBSchema.TABLE,
+                                                                              WriterDBSchema.BOOK,
+                                                                              WriterDBSchema.BOOK,
+                                                                              BookDBSchema.TABLE,
+                                                                              BookDBSchema.ID,
+                                                                              CategoryDBSchema.TABLE,
+                                                                              CategoryDBSchema.TABLE,
+                                                                              CategoryDBSchema.ID,
+                                                                              BookDBSchema.TABLE,
+                                                                              BookDBSchema.CATEGORY);
+
+    /**
+     * Defines the trigger indexing the inserted books.
+     */
+    public static final String BOOK_INSERT_TRIGGER_STATEMENT = String.format("CREATE TRIGGER IF NOT EXISTS " +
+                                                                             "book_search_insert AFTER INSERT ON %s " +
+                                                                             "FOR EACH ROW BEGIN INSERT INTO %s (%s, " +
+                                                                             "%s, %s, %s) VALUES (NEW.%s, NEW.%s, " +
+                                                                             "%s, %s); END",
+                                                                             BookDBSchema.TABLE,
+                                                                             TABLE,
+                                                                             ID,
+                                                                             TITLE,
+                                                                             AUTHORS,
+                                                                             CATEGORY,
+                                                                             BookDBSchema.ID,
+                                                                             BookDBSchema.TITLE,
+                                                                             String.format(AUTHORS_SUBQUERY,
+                                                                                           "NEW." + BookDBSchema.ID),
+                                                                             String.format(CATEGORY_SUBQUERY,
+                                                                                           "NEW." +
+                                                                                           BookDBSchema.CATEGORY));
+
+    /**
+     * Defines the trigger reindexing the updated books.
+     */
+    public static final String BOOK_UPDATE_TRIGGER_STATEMENT = String.format("CREATE TRIGGER IF NOT EXISTS " +
+                                                                             "book_search_update AFTER UPDATE OF %s, " +
+                                                                             "%s ON %s FOR EACH ROW BEGIN UPDATE %s " +
+                                                                             "SET %s = NEW.%s, %s = %s WHERE %s = " +
+                                                                             "NEW.%s; END",
+                                                                             BookDBSchema.TITLE,
+                                                                             BookDBSchema.CATEGORY,
+                                                                             BookDBSchema.TABLE,
+                                                                             TABLE,
+                                                                             TITLE,
+                                                                             BookDBSchema.TITLE,
+                                                                             CATEGORY,
+                                                                             String.format(CATEGORY_SUBQUERY,
+                                                                                           "NEW." +
+                                                                                           BookDBSchema.CATEGORY),
+                                                                             ID,
+                                                                             BookDBSchema.ID);
+
+    /**
+     * Defines the trigger removing the deleted books from the index.
+     */
+    public static final String BOOK_DELETE_TRIGGER_STATEMENT = String.format("CREATE TRIGGER IF NOT EXISTS " +
+                                                                             "book_search_delete AFTER DELETE ON %s " +
+                                                                             "FOR EACH ROW BEGIN DELETE FROM %s WHERE " +
+                                                                             "%s = OLD.%s; END",
+                                                                             BookDBSchema.TABLE,
+                                                                             TABLE,
+                                                                             ID,
+                                                                             BookDBSchema.ID);
+
+    /**
+     * Defines the trigger reindexing the authors of a book when an author is linked to it.
+     */
+    public static final String WRITER_INSERT_TRIGGER_STATEMENT = String.format("CREATE TRIGGER IF NOT EXISTS " +
+                                                                               "writer_search_insert AFTER INSERT ON " +
+                                                                               "%s FOR EACH ROW BEGIN UPDATE %s SET " +
+                                                                               "%s = %s WHERE %s = NEW.%s; END",
+                                                                               WriterDBSchema.TABLE,
+                                                                               TABLE,
+                                                                               AUTHORS,
+                                                                               String.format(AUTHORS_SUBQUERY,
+                                                                                             "NEW." +
+                                                                                             WriterDBSchema.BOOK),
+                                                                               ID,
+                                                                               WriterDBSchema.BOOK);
+
+    /**
+     * Defines the trigger reindexing the authors of a book when an author is unlinked from it.
+     */
+    public static final String WRITER_DELETE_TRIGGER_STATEMENT = String.format("CREATE TRIGGER IF NOT EXISTS " +
+                                                                               "writer_search_delete AFTER DELETE ON " +
+                                                                               "%s FOR EACH ROW BEGIN UPDATE %s SET " +
+                                                                               "%s = %s WHERE %s = OLD.%s; END",
+                                                                               WriterDBSchema.TABLE,
+                                                                               TABLE,
+                                                                               AUTHORS,
+                                                                               String.format(AUTHORS_SUBQUERY,
+                                                                                             "OLD." +
+                                                                                             WriterDBSchema.BOOK),
+                                                                               ID,
+                                                                               WriterDBSchema.BOOK);
+
+    /**
+     * Defines the trigger reindexing the books of an author when the author is renamed.
+     */
+    public static final String AUTHOR_UPDATE_TRIGGER_STATEMENT = String.format("CREATE TRIGGER IF NOT EXISTS " +
+                                                                               "author_search_update AFTER UPDATE OF " +
+                                                                               "%s ON %s FOR EACH ROW BEGIN UPDATE %s " +
+                                                                               "SET %s = %s WHERE %s IN (SELECT %s " +
+                                                                               "FROM %s WHERE %s = NEW.%s); END",
+                                                                               AuthorDBSchema.NAME,
+                                                                               AuthorDBSchema.TABLE,
+                                                                               TABLE,
+                                                                               AUTHORS,
+                                                                               String.format(AUTHORS_SUBQUERY,
+                                                                                             TABLE + "." + ID),
+                                                                               ID,
+                                                                               WriterDBSchema.BOOK,
+                                                                               WriterDBSchema.TABLE,
+                                                                               WriterDBSchema.AUTHOR,
+                                                                               AuthorDBSchema.ID);
+
+    /**
+     * Defines the trigger reindexing the books of an author when the author is deleted.
+     */
+    public static final String AUTHOR_DELETE_TRIGGER_STATEMENT = String.format("CREATE TRIGGER IF NOT EXISTS " +
+                                                                               "author_search_delete AFTER DELETE ON " +
+                                                                               "%s FOR EACH ROW BEGIN UPDATE %s SET " +
+                                                                               "%s = %s WHERE %s IN (SELECT %s FROM " +
+                                                                               "%s WHERE %s = OLD.%s); END",
+                                                                               AuthorDBSchema.TABLE,
+                                                                               TABLE,
+                                                                               AUTHORS,
+                                                                               String.format(AUTHORS_SUBQUERY,
+                                                                                             TABLE + "." + ID),
+                                                                               ID,
+                                                                               WriterDBSchema.BOOK,
+                                                                               WriterDBSchema.TABLE,
+                                                                               WriterDBSchema.AUTHOR,
+                                                                               AuthorDBSchema.ID);
+
+    /**
+     * Defines the trigger reindexing the books of a category when the category is renamed.
+     */
+    public static final String CATEGORY_UPDATE_TRIGGER_STATEMENT = String.format("CREATE TRIGGER IF NOT EXISTS " +
+                                                                                 "category_search_update AFTER " +
+                                                                                 "UPDATE OF %s ON %s FOR EACH ROW " +
+                                                                                 "BEGIN UPDATE %s SET %s = NEW.%s " +
+                                                                                 "WHERE %s IN (SELECT %s FROM %s " +
+                                                                                 "WHERE %s = NEW.%s); END",
+                                                                                 CategoryDBSchema.NAME,
+                                                                                 CategoryDBSchema.TABLE,
+                                                                                 TABLE,
+                                                                                 CATEGORY,
+                                                                                 CategoryDBSchema.NAME,
+                                                                                 ID,
+                                                                                 BookDBSchema.ID,
+                                                                                 BookDBSchema.TABLE,
+                                                                                 BookDBSchema.CATEGORY,
+                                                                                 CategoryDBSchema.ID);
+
+    /**
+     * Defines all the statements creating the triggers keeping the index in sync.
+     */
+    public static final String[] TRIGGER_STATEMENTS = {BOOK_INSERT_TRIGGER_STATEMENT,
+                                                       BOOK_UPDATE_TRIGGER_STATEMENT,
+                                                       BOOK_DELETE_TRIGGER_STATEMENT,
+                                                       WRITER_INSERT_TRIGGER_STATEMENT,
+                                                       WRITER_DELETE_TRIGGER_STATEMENT,
+                                                       AUTHOR_UPDATE_TRIGGER_STATEMENT,
+                                                       AUTHOR_DELETE_TRIGGER_STATEMENT,
+                                                       CATEGORY_UPDATE_TRIGGER_STATEMENT};
+}
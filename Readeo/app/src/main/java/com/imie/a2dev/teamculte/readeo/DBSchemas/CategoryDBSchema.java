@@ -36,4 +36,9 @@ public abstract class CategoryDBSchema {
                                                                         NAME_SIZE,
                                                                         CommonDBSchema.UPDATE,
                                                                         CommonDBSchema.UPDATE_DEFAULT);
+
+    /**
+     * Defines the category's secondary indexes.
+     */
+    public static final DBIndex[] INDEXES = {new DBIndex(TABLE, true, NAME)};
 }
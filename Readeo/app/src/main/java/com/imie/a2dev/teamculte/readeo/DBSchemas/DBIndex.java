@@ -0,0 +1,94 @@
+package com.imie.a2dev.teamculte.readeo.DBSchemas;
+
+import android.text.TextUtils;
+
+/**
+ * Class used to declare a secondary index of a table (each schema class lists its indexes, they are created and
+ * verified by the DBHandler).
+ */
+public final class DBIndex {
+    /**
+     * Defines the create index statement.
+     */
+    private static final String INDEX_STATEMENT = "CREATE INDEX IF NOT EXISTS %s ON %s(%s);";
+
+    /**
+     * Defines the collation suffix of the case insensitive indexed columns.
+     */
+    private static final String NOCASE = " COLLATE NOCASE";
+
+    /**
+     * Stores the indexed table.
+     */
+    private String table;
+
+    /**
+     * Stores the indexed columns (in the index order).
+     */
+    private String[] columns;
+
+    /**
+     * Stores if the columns are indexed without case (needed by the case insensitive LIKE prefix filters).
+     */
+    private boolean nocase;
+
+    /**
+     * DBIndex's constructor.
+     * @param table The indexed table.
+     * @param nocase true if the columns are indexed without case else false.
+     * @param columns The indexed columns (in the index order).
+     */
+    public DBIndex(String table, boolean nocase, String... columns) {
+        this.table = table;
+        this.nocase = nocase;
+        this.columns = columns;
+    }
+
+    /**
+     * Gets the table attribute.
+     * @return The String value of the attribute.
+     */
+    public String getTable() {
+        return this.table;
+    }
+
+    /**
+     * Gets the columns attribute.
+     * @return The String[] value of the attribute.
+     */
+    public String[] getColumns() {
+        return this.columns;
+    }
+
+    /**
+     * Gets the nocase attribute.
+     * @return The boolean value of the attribute.
+     */
+    public boolean isNocase() {
+        return this.nocase;
+    }
+
+    /**
+     * Gets the name of the index (i_<table>_<columns>, suffixed by _nocase for the case insensitive indexes).
+     * @return The name of the index.
+     */
+    public String getName() {
+        String name = String.format("i_%s_%s", this.table.toLowerCase(), TextUtils.join("_", this.columns));
+
+        return (this.nocase) ? name + "_nocase" : name;
+    }
+
+    /**
+     * Gets the create index statement (doing nothing if the index already exists).
+     * @return The statement.
+     */
+    public String getStatement() {
+        String[] definitions = new String[this.columns.length];
+
+        for (int i = 0; i < this.columns.length; i++) {
+            definitions[i] = (this.nocase) ? this.columns[i] + NOCASE : this.columns[i];
+        }
+
+        return String.format(INDEX_STATEMENT, this.getName(), this.table, TextUtils.join(", ", definitions));
+    }
+}
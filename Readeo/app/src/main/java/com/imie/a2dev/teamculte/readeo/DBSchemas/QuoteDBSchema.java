@@ -48,4 +48,12 @@ public abstract class QuoteDBSchema {
                                                                      UserDBSchema.ID,
                                                                      BOOK,
                                                                      BookDBSchema.ID);
+
+    /**
+     * Defines the quote's secondary indexes.
+     */
+    public static final DBIndex[] INDEXES = {
+            new DBIndex(TABLE, false, USER),
+            new DBIndex(TABLE, false, BOOK)
+    };
 }
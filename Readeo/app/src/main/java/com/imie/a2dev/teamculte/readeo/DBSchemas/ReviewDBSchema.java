@@ -49,4 +49,9 @@ public abstract class ReviewDBSchema {
                                                                       UserDBSchema.ID,
                                                                       BOOK,
                                                                       BookDBSchema.ID);
+
+    /**
+     * Defines the review's secondary indexes.
+     */
+    public static final DBIndex[] INDEXES = {new DBIndex(TABLE, false, BOOK)};
 }
@@ -74,4 +74,9 @@ public abstract class UserDBSchema {
                                                                     CommonDBSchema.UPDATE_DEFAULT,
                                                                     PROFILE,
                                                                     ProfileDBSchema.ID);
+
+    /**
+     * Defines the user's secondary indexes.
+     */
+    public static final DBIndex[] INDEXES = {new DBIndex(TABLE, true, PSEUDO)};
 }
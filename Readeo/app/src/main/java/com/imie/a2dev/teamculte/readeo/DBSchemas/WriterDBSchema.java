@@ -38,4 +38,9 @@ public abstract class WriterDBSchema {
                                                                       AuthorDBSchema.ID,
                                                                       BOOK,
                                                                       BookDBSchema.ID);
+
+    /**
+     * Defines the writer's secondary indexes.
+     */
+    public static final DBIndex[] INDEXES = {new DBIndex(TABLE, false, BOOK)};
 }
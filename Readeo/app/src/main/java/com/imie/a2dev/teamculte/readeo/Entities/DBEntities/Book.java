@@ -1,7 +1,6 @@
 package com.imie.a2dev.teamculte.readeo.Entities.DBEntities;
 
 import android.content.ContentValues;
-import android.content.Context;
 import android.database.Cursor;
 import android.database.sqlite.SQLiteException;
 import android.support.annotation.NonNull;
@@ -34,7 +33,7 @@ public final class Book extends DBEntity {
     private String title;
 
     /**
-     * Stores the authors of the book.
+     * Stores the authors of the book (null until loaded).
      */
     private List<Author> authors;
 
@@ -59,12 +58,12 @@ public final class Book extends DBEntity {
     private Category category;
 
     /**
-     * Stores the list of quotes of the book.
+     * Stores the list of quotes of the book (null until loaded).
      */
     private List<Quote> quotes;
 
     /**
-     * Stores the list of reviews of the book.
+     * Stores the list of reviews of the book (null until loaded).
      */
     private List<Review> reviews;
 
@@ -154,7 +153,7 @@ public final class Book extends DBEntity {
 
     /**
      * Book's full filled constructor providing all its attributes values from the result of a database query, closes
-     * the cursor if close is true..
+     * the cursor if close is true (the authors, quotes and reviews are loaded on first access).
      * @param result The result of the query.
      * @param close Defines if the cursor should be closed or not.
      */
@@ -162,6 +161,18 @@ public final class Book extends DBEntity {
         this.init(result, close);
     }
 
+    /**
+     * Book's constructor providing its attributes values from the result of a database query, closes the cursor if
+     * close is true. The category is loaded only if loadRelations is true, the other relations are loaded on first
+     * access.
+     * @param result The result of the query.
+     * @param close Defines if the cursor should be closed or not.
+     * @param loadRelations Defines if the relations should be loaded or not.
+     */
+    public Book(Cursor result, boolean close, boolean loadRelations) {
+        this.init(result, close, loadRelations);
+    }
+
     /**
      * Book's full filled constructor providing all its attributes values from a ContentValues object.
      * @param contentValues The ContentValues object used to initialize the entity.
@@ -170,6 +181,69 @@ public final class Book extends DBEntity {
         this.init(contentValues);
     }
 
+    /**
+     * Gets the authors of the book, loading them from the database on first access.
+     * @return The list of authors.
+     */
+    public List<Author> getAuthors() {
+        if (this.authors == null) {
+            this.authors = (this.id == 0) ? new ArrayList<>() :
+                           new WriterDBManager(App.getAppContext()).loadAuthorsSQLite(this.id);
+        }
+
+        return this.authors;
+    }
+
+    /**
+     * Gets the quotes of the book, loading them from the database on first access.
+     * @return The list of quotes.
+     */
+    public List<Quote> getQuotes() {
+        if (this.quotes == null) {
+            this.quotes = (this.id == 0) ? new ArrayList<>() :
+                          new QuoteDBManager(App.getAppContext()).loadBookSQLite(this.id);
+        }
+
+        return this.quotes;
+    }
+
+    /**
+     * Gets the reviews of the book, loading them from the database on first access.
+     * @return The list of reviews.
+     */
+    public List<Review> getReviews() {
+        if (this.reviews == null) {
+            this.reviews = (this.id == 0) ? new ArrayList<>() :
+                           new ReviewDBManager(App.getAppContext()).loadBookSQLite(this.id);
+        }
+
+        return this.reviews;
+    }
+
+    /**
+     * Checks if the authors of the book are already loaded.
+     * @return true if loaded else false.
+     */
+    public boolean isAuthorsLoaded() {
+        return this.authors != null;
+    }
+
+    /**
+     * Checks if the quotes of the book are already loaded.
+     * @return true if loaded else false.
+     */
+    public boolean isQuotesLoaded() {
+        return this.quotes != null;
+    }
+
+    /**
+     * Checks if the reviews of the book are already loaded.
+     * @return true if loaded else false.
+     */
+    public boolean isReviewsLoaded() {
+        return this.reviews != null;
+    }
+
     /**
      * Initializes the book from a ContentValues object.
      * @param contentValues The ContentValues object.
@@ -203,23 +277,34 @@ public final class Book extends DBEntity {
 
     @Override
     protected void init(@NonNull Cursor result, boolean close) {
+        this.init(result, close, true);
+    }
+
+    /**
+     * Initializes the book from the result of a database query, loading its category only if loadRelations is true
+     * (used by the batch loader which loads it for a whole page at once).
+     * @param result The result of the query.
+     * @param close Defines if the cursor should be closed or not.
+     * @param loadRelations Defines if the relations should be loaded or not.
+     */
+    private void init(@NonNull Cursor result, boolean close, boolean loadRelations) {
         try {
             if (result.getPosition() == -1) {
                 result.moveToNext();
             }
 
-            Context context = App.getAppContext();
-
             this.id = result.getInt(result.getColumnIndexOrThrow(BookDBSchema.ID));
             this.title = result.getString(result.getColumnIndexOrThrow(BookDBSchema.TITLE));
             this.cover = result.getString(result.getColumnIndexOrThrow(BookDBSchema.COVER));
             this.summary = result.getString(result.getColumnIndexOrThrow(BookDBSchema.SUMMARY));
             this.datePublished = result.getInt(result.getColumnIndexOrThrow(BookDBSchema.DATE));
-            this.category = new CategoryDBManager(context).loadSQLite(result.getInt(result.getColumnIndexOrThrow
+
+            if (!loadRelations) {
+                return;
+            }
+
+            this.category = new CategoryDBManager(App.getAppContext()).loadSQLite(result.getInt(result.getColumnIndexOrThrow
                     (BookDBSchema.CATEGORY)));
-            this.reviews = new ReviewDBManager(context).loadBookSQLite(this.id);
-            this.quotes = new QuoteDBManager(context).loadBookSQLite(this.id);
-            this.authors = new WriterDBManager(context).loadAuthorsSQLite(this.id);
         } catch (SQLiteException e) {
             this.logError("init", e);
         } finally {
@@ -0,0 +1,76 @@
+package com.imie.a2dev.teamculte.readeo.Entities.DBEntities;
+
+import android.database.Cursor;
+import android.database.sqlite.SQLiteException;
+import android.support.annotation.NonNull;
+
+import com.imie.a2dev.teamculte.readeo.DBSchemas.BookDBSchema;
+
+import lombok.Getter;
+
+/**
+ * Final class representing the read-only summary of a book displayed in lists (the full book is loaded when opened).
+ */
+@Getter
+public final class BookCard extends DBEntity {
+    /**
+     * Stores the title of the book.
+     */
+    private String title;
+
+    /**
+     * Stores the path of the cover image.
+     */
+    private String cover;
+
+    /**
+     * Stores the year of the book's publication.
+     */
+    private int datePublished;
+
+    /**
+     * Stores the names of the authors of the book separated by new lines (empty if none).
+     */
+    private String authorNames;
+
+    /**
+     * BookCard's full filled constructor providing all its attributes values from the result of a database query.
+     * @param result The result of the query.
+     */
+    public BookCard(Cursor result) {
+        this.init(result, true);
+    }
+
+    /**
+     * BookCard's full filled constructor providing all its attributes values from the result of a database query,
+     * closes the cursor if close is true.
+     * @param result The result of the query.
+     * @param close Defines if the cursor should be closed or not.
+     */
+    public BookCard(Cursor result, boolean close) {
+        this.init(result, close);
+    }
+
+    @Override
+    protected void init(@NonNull Cursor result, boolean close) {
+        try {
+            if (result.getPosition() == -1) {
+                result.moveToNext();
+            }
+
+            int authorNamesColumn = result.getColumnIndexOrThrow(BookDBSchema.AUTHOR_NAMES);
+
+            this.id = result.getInt(result.getColumnIndexOrThrow(BookDBSchema.ID));
+            this.title = result.getString(result.getColumnIndexOrThrow(BookDBSchema.TITLE));
+            this.cover = result.getString(result.getColumnIndexOrThrow(BookDBSchema.COVER));
+            this.datePublished = result.getInt(result.getColumnIndexOrThrow(BookDBSchema.DATE));
+            this.authorNames = (result.isNull(authorNamesColumn)) ? "" : result.getString(authorNamesColumn);
+        } catch (SQLiteException e) {
+            this.logError("init", e);
+        } finally {
+            if (close) {
+                result.close();
+            }
+        }
+    }
+}
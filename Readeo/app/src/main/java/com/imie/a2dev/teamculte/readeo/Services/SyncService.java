@@ -6,24 +6,14 @@ import android.os.IBinder;
 import android.support.annotation.Nullable;
 import android.util.Log;
 
-import com.imie.a2dev.teamculte.readeo.DBManagers.DBManager;
-import com.imie.a2dev.teamculte.readeo.Utils.HTTPRequestQueueSingleton;
-import com.imie.a2dev.teamculte.readeo.Utils.ManagerHolderUtils;
-import com.imie.a2dev.teamculte.readeo.Utils.UpdaterUtils;
+import com.imie.a2dev.teamculte.readeo.Utils.Enums.SyncState;
+import com.imie.a2dev.teamculte.readeo.Utils.SyncScheduler;
 
-import java.util.ArrayList;
-import java.util.List;
-
-public final class SyncService extends Service implements HTTPRequestQueueSingleton.HTTPRequestQueueListener {
+public final class SyncService extends Service implements SyncScheduler.SyncSchedulerListener {
     /**
-     * Stores the list of managers used to update the databases.
+     * Stores the scheduler of the running synchronization (null if none has been started).
      */
-    private final List<DBManager> managers = new ArrayList<>();
-
-    /**
-     * Stores the current manager position.
-     */
-    private int currentManagerPos = 0;
+    private SyncScheduler scheduler;
 
     /**
      * SyncService's default constructor.
@@ -36,64 +26,49 @@ public final class SyncService extends Service implements HTTPRequestQueueSingle
     public void onCreate() {
         // TODO Auto-generated method stub
         super.onCreate();
-
-        this.initManagers();
     }
 
     @Override
     public void onDestroy() {
         // TODO Auto-generated method stub
         super.onDestroy();
+
+        if (this.scheduler != null) {
+            this.scheduler.release();
+        }
     }
 
     @Override
     public int onStartCommand(Intent intent, int flags, int startId) {
         Log.i("ServiceStarted", "The sync service started.");
 
-        UpdaterUtils.getUpdateFromMySQL(this.managers.get(this.currentManagerPos));
-        Log.i("Progress", "[DONE] -> " + HTTPRequestQueueSingleton.getInstance(this).getLastRequestUrl());
+        if (this.scheduler == null || this.scheduler.isFinished()) {
+            if (this.scheduler != null) {
+                this.scheduler.release();
+            }
 
-        return START_STICKY;
-    }
+            this.scheduler = SyncScheduler.createDefault(this, this);
 
-    /**
-     * Initializes the manager list.
-     */
-    private void initManagers() {
-        this.managers.add(ManagerHolderUtils.getInstance().getCityDBManager());
-        this.managers.add(ManagerHolderUtils.getInstance().getUserDBManager());
-        this.managers.add(ManagerHolderUtils.getInstance().getProfileDBManager());
-        this.managers.add(ManagerHolderUtils.getInstance().getBookListTypeDBManager());
-        this.managers.add(ManagerHolderUtils.getInstance().getBookListDBManager());
-        this.managers.add(ManagerHolderUtils.getInstance().getQuoteDBManager());
-        this.managers.add(ManagerHolderUtils.getInstance().getReviewDBManager());
+            this.scheduler.start();
+        }
 
-        HTTPRequestQueueSingleton.getInstance(this).setListener(this);
+        return START_STICKY;
     }
 
     @Nullable @Override public IBinder onBind(Intent intent) {
         return null;
     }
 
-    @Override public void onRequestsFinished() {
-        if (this.currentManagerPos < this.managers.size()) {
-
-            UpdaterUtils.getUpdateFromMySQL(this.managers.get(this.currentManagerPos));
-            Log.i("Progress", "[DONE] -> " + HTTPRequestQueueSingleton.getInstance(this).getLastRequestUrl());
+    @Override public void onTableStateChanged(String table, SyncState state) {
+        Log.i("Progress", "[" + state + "] -> " + table + " (" + this.scheduler.getFinishedRequests(table) +
+                          " requests)");
+    }
 
-            ++this.currentManagerPos;
+    @Override public void onSyncFinished() {
+        if (this.scheduler.hasFailed()) {
+            Log.w("ServiceEnded", "The sync service ended, some tables failed to synchronize.");
         } else {
-            this.currentManagerPos = 0;
-
             Log.i("ServiceEnded", "The sync service ended.");
         }
     }
-
-    @Override public void onRequestFinished() {
-        // Nothing to do.
-    }
-
-    @Override public void onRequestError() {
-        // Nothing to do.
-    }
 }
@@ -0,0 +1,322 @@
+package com.imie.a2dev.teamculte.readeo.Utils;
+
+import com.android.volley.Network;
+import com.android.volley.NetworkResponse;
+import com.android.volley.Request;
+import com.android.volley.RetryPolicy;
+import com.android.volley.TimeoutError;
+import com.android.volley.VolleyError;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Class used to share the network responses of the identical GET requests (same url): a request sent while an
+ * identical one is in flight waits for its response instead of being sent again, and the responses are kept in a
+ * short-lived cache (ttl) bounded in bytes (the least recently used responses are evicted first). Each request parses
+ * the shared response itself, so requests of different types can share an url. Any other request (a write) clears
+ * the cache. Only the requests accepted by the policy are shared, the others are always sent.
+ */
+public final class CoalescingNetwork implements Network {
+    /**
+     * Stores the network sending the requests.
+     */
+    private final Network network;
+
+    /**
+     * Stores the policy telling which requests can be shared.
+     */
+    private final SharePolicy policy;
+
+    /**
+     * Stores the time a response is kept into the cache (ms).
+     */
+    private final long ttl;
+
+    /**
+     * Stores the maximum size of the cached responses (bytes).
+     */
+    private final int maxBytes;
+
+    /**
+     * Stores the cached responses by url, ordered by access in order to evict the least recently used one.
+     */
+    private final Map<String, CachedResponse> responses = new LinkedHashMap<>(16, 0.75f, true);
+
+    /**
+     * Stores the futures of the responses in flight by url.
+     */
+    private final Map<String, HTTPRequestFuture<NetworkResponse>> inFlight = new HashMap<>();
+
+    /**
+     * Stores the size of the cached responses (bytes).
+     */
+    private int bytes;
+
+    /**
+     * Stores the number of writes, a response requested before a write is not cached.
+     */
+    private long generation;
+
+    /**
+     * Stores the number of requests served from the cache.
+     */
+    private long hits;
+
+    /**
+     * Stores the number of requests sharing the response of a request in flight.
+     */
+    private long coalesced;
+
+    /**
+     * CoalescingNetwork's full filled constructor.
+     * @param network The network sending the requests.
+     * @param policy The policy telling which requests can be shared.
+     * @param ttl The time a response is kept into the cache (ms).
+     * @param maxBytes The maximum size of the cached responses (bytes).
+     */
+    public CoalescingNetwork(Network network, SharePolicy policy, long ttl, int maxBytes) {
+        this.network = network;
+        this.policy = policy;
+        this.ttl = ttl;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Gets the number of requests served from the cache.
+     * @return The number of hits.
+     */
+    public synchronized long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * Gets the number of requests sharing the response of a request in flight.
+     * @return The number of coalesced requests.
+     */
+    public synchronized long getCoalesced() {
+        return this.coalesced;
+    }
+
+    /**
+     * Gets the number of cached responses.
+     * @return The size of the cache.
+     */
+    public synchronized int getSize() {
+        return this.responses.size();
+    }
+
+    /**
+     * Removes all the cached responses.
+     */
+    public synchronized void clear() {
+        this.responses.clear();
+
+        this.bytes = 0;
+        this.generation++;
+    }
+
+    @Override
+    public NetworkResponse performRequest(Request<?> request) throws VolleyError {
+        if (request.getMethod() != Request.Method.GET) {
+            try {
+                return this.network.performRequest(request);
+            } finally {
+                this.clear();
+            }
+        }
+
+        if (!this.policy.isShared(request)) {
+            return this.network.performRequest(request);
+        }
+
+        String url = request.getUrl();
+        HTTPRequestFuture<NetworkResponse> future;
+        long requestGeneration;
+
+        synchronized (this) {
+            CachedResponse cached = this.responses.get(url);
+
+            if (cached != null && cached.expiration > System.currentTimeMillis()) {
+                this.hits++;
+
+                return cached.response;
+            }
+
+            if (cached != null) {
+                this.remove(url);
+            }
+
+            future = this.inFlight.get(url);
+
+            if (future != null) {
+                this.coalesced++;
+            } else {
+                this.inFlight.put(url, new HTTPRequestFuture<NetworkResponse>());
+            }
+
+            requestGeneration = this.generation;
+        }
+
+        return (future != null) ? this.await(future, request) : this.send(request, url, requestGeneration);
+    }
+
+    /**
+     * Sends a request, caches its response (unless a write happened meanwhile) and shares it with the identical
+     * requests waiting for it. The request is removed from the requests in flight whatever happens, so a request
+     * ending with an unexpected throwable fails its waiting requests instead of leaving them blocked.
+     * @param request The request to send.
+     * @param url The url of the request.
+     * @param requestGeneration The number of writes when the request was sent.
+     * @return The response.
+     * @throws VolleyError If the request failed (the error is shared as well).
+     */
+    private NetworkResponse send(Request<?> request, String url, long requestGeneration) throws VolleyError {
+        HTTPRequestFuture<NetworkResponse> future;
+        NetworkResponse response = null;
+        Exception error = null;
+
+        try {
+            response = this.network.performRequest(request);
+
+            return response;
+        } catch (VolleyError | RuntimeException e) {
+            error = e;
+
+            throw e;
+        } finally {
+            synchronized (this) {
+                future = this.inFlight.remove(url);
+
+                if (response != null && requestGeneration == this.generation) {
+                    this.put(url, response);
+                }
+            }
+
+            if (response != null) {
+                future.complete(response);
+            } else {
+                future.fail((error != null) ? error : new VolleyError("The identical request did not complete"));
+            }
+        }
+    }
+
+    /**
+     * Waits for the response of an identical request in flight. Each wait is bounded by the current timeout of the
+     * retry policy of the waiting request, which is then retried (the policy backing off or giving up) as if it had
+     * been sent itself.
+     * @param future The future of the response.
+     * @param request The waiting request.
+     * @return The response.
+     * @throws VolleyError If the identical request failed, the retry policy gave up or the wait was interrupted.
+     */
+    private NetworkResponse await(HTTPRequestFuture<NetworkResponse> future, Request<?> request) throws VolleyError {
+        RetryPolicy retryPolicy = request.getRetryPolicy();
+
+        while (true) {
+            try {
+                return future.get(retryPolicy.getCurrentTimeout(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                retryPolicy.retry(new TimeoutError());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+
+                throw new VolleyError(e);
+            } catch (ExecutionException e) {
+                if (e.getCause() instanceof VolleyError) {
+                    throw (VolleyError) e.getCause();
+                }
+
+                throw new VolleyError(e.getCause());
+            }
+        }
+    }
+
+    /**
+     * Caches a response (if it fits into the cache) then evicts the least recently used responses until the cache is
+     * back under maxBytes.
+     * @param url The url of the response.
+     * @param response The response to cache.
+     */
+    private void put(String url, NetworkResponse response) {
+        int size = (response.data != null) ? response.data.length : 0;
+
+        if (size > this.maxBytes || response.statusCode < 200 || response.statusCode >= 300) {
+            return;
+        }
+
+        this.remove(url);
+        this.responses.put(url, new CachedResponse(response, size, System.currentTimeMillis() + this.ttl));
+
+        this.bytes += size;
+
+        Iterator<CachedResponse> eldest = this.responses.values().iterator();
+
+        while (this.bytes > this.maxBytes && eldest.hasNext()) {
+            this.bytes -= eldest.next().size;
+
+            eldest.remove();
+        }
+    }
+
+    /**
+     * Removes a cached response.
+     * @param url The url of the response.
+     */
+    private void remove(String url) {
+        CachedResponse removed = this.responses.remove(url);
+
+        if (removed != null) {
+            this.bytes -= removed.size;
+        }
+    }
+
+    /**
+     * Class used to store a cached response with its size and expiration time.
+     */
+    private static final class CachedResponse {
+        /**
+         * Stores the response.
+         */
+        private final NetworkResponse response;
+
+        /**
+         * Stores the size of the response (bytes).
+         */
+        private final int size;
+
+        /**
+         * Stores the time the response expires at (ms).
+         */
+        private final long expiration;
+
+        /**
+         * CachedResponse's full filled constructor.
+         * @param response The response.
+         * @param size The size of the response (bytes).
+         * @param expiration The time the response expires at (ms).
+         */
+        private CachedResponse(NetworkResponse response, int size, long expiration) {
+            this.response = response;
+            this.size = size;
+            this.expiration = expiration;
+        }
+    }
+
+    /**
+     * Interface used to tell which GET requests can share their response.
+     */
+    public interface SharePolicy {
+        /**
+         * Checks if a GET request can share its response with the identical requests.
+         * @param request The request.
+         * @return true if shared else false.
+         */
+        boolean isShared(Request<?> request);
+    }
+}
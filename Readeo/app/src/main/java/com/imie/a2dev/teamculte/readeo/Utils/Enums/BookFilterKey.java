@@ -2,6 +2,7 @@ package com.imie.a2dev.teamculte.readeo.Utils.Enums;
 
 import com.imie.a2dev.teamculte.readeo.DBSchemas.AuthorDBSchema;
 import com.imie.a2dev.teamculte.readeo.DBSchemas.BookDBSchema;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.BookSearchDBSchema;
 import com.imie.a2dev.teamculte.readeo.DBSchemas.CategoryDBSchema;
 
 /**
@@ -88,4 +89,31 @@ public enum BookFilterKey {
 
         return filterCol;
     }
+
+    /**
+     * Gets the associated full-text search field name.
+     * @return The search field name associated to the enum (null to search in all the fields).
+     */
+    public String getSearchCol() {
+        String searchCol = null;
+
+        switch (this) {
+            case CATEGORY:
+                searchCol = BookSearchDBSchema.CATEGORY;
+
+                break;
+            case AUTHOR:
+                searchCol = BookSearchDBSchema.AUTHORS;
+
+                break;
+            case TITLE:
+                searchCol = BookSearchDBSchema.TITLE;
+
+                break;
+            default:
+                break;
+        }
+
+        return searchCol;
+    }
 }
@@ -0,0 +1,12 @@
+package com.imie.a2dev.teamculte.readeo.Utils.Enums;
+
+/**
+ * Enum defining the synchronization state of a table.
+ */
+public enum SyncState {
+    WAITING,
+    RUNNING,
+    DONE,
+    FAILED,
+    SKIPPED
+}
@@ -0,0 +1,140 @@
+package com.imie.a2dev.teamculte.readeo.Utils;
+
+import android.view.Choreographer;
+
+import java.util.Locale;
+
+/**
+ * Class used to measure the frame times of the main thread (time between two consecutive frames given by the
+ * choreographer). The time of a frame exceeding the display refresh period is a stall of the main thread (a frame
+ * dropped for a stall of one refresh period), the stalls longer than STALL_BUDGET are counted.
+ */
+public final class FrameMonitor implements Choreographer.FrameCallback {
+    /**
+     * Defines the longest stall of the main thread not counted (ns).
+     */
+    public static final long STALL_BUDGET = 16000000L;
+
+    /**
+     * Defines the default refresh rate of the display (Hz).
+     */
+    public static final float DEFAULT_REFRESH_RATE = 60f;
+
+    /**
+     * Stores the refresh period of the display (ns).
+     */
+    private final long period;
+
+    /**
+     * Stores the time of the last frame (ns, 0 before the first one).
+     */
+    private long lastFrame;
+
+    /**
+     * Stores the number of frames measured.
+     */
+    private int frames;
+
+    /**
+     * Stores the number of stalls longer than STALL_BUDGET.
+     */
+    private int stalls;
+
+    /**
+     * Stores the longest frame time (ns).
+     */
+    private long maxFrame;
+
+    /**
+     * Stores if the frames are being measured.
+     */
+    private boolean running;
+
+    /**
+     * FrameMonitor's default constructor (default refresh rate).
+     */
+    public FrameMonitor() {
+        this(DEFAULT_REFRESH_RATE);
+    }
+
+    /**
+     * FrameMonitor's full filled constructor.
+     * @param refreshRate The refresh rate of the display (Hz).
+     */
+    public FrameMonitor(float refreshRate) {
+        this.period = (long) (1e9 / ((refreshRate > 0) ? refreshRate : DEFAULT_REFRESH_RATE));
+    }
+
+    /**
+     * Starts measuring the frames (must be called from the main thread).
+     */
+    public void start() {
+        if (!this.running) {
+            this.running = true;
+            this.lastFrame = 0;
+
+            Choreographer.getInstance().postFrameCallback(this);
+        }
+    }
+
+    /**
+     * Stops measuring the frames (must be called from the main thread).
+     */
+    public void stop() {
+        this.running = false;
+
+        Choreographer.getInstance().removeFrameCallback(this);
+    }
+
+    /**
+     * Gets the number of frames measured.
+     * @return The number of frames.
+     */
+    public int getFrames() {
+        return this.frames;
+    }
+
+    /**
+     * Gets the number of stalls longer than STALL_BUDGET.
+     * @return The number of stalls.
+     */
+    public int getStalls() {
+        return this.stalls;
+    }
+
+    /**
+     * Gets the longest frame time.
+     * @return The longest frame time (ns).
+     */
+    public long getMaxFrame() {
+        return this.maxFrame;
+    }
+
+    @Override
+    public void doFrame(long frameTimeNanos) {
+        if (!this.running) {
+            return;
+        }
+
+        if (this.lastFrame != 0) {
+            long frame = frameTimeNanos - this.lastFrame;
+
+            this.frames++;
+            this.maxFrame = Math.max(this.maxFrame, frame);
+
+            if (frame - this.period > STALL_BUDGET) {
+                this.stalls++;
+            }
+        }
+
+        this.lastFrame = frameTimeNanos;
+
+        Choreographer.getInstance().postFrameCallback(this);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(Locale.US, "%d frames, %d stalls over %.0f ms, longest frame %.1f ms", this.frames,
+                             this.stalls, STALL_BUDGET / 1e6, this.maxFrame / 1e6);
+    }
+}
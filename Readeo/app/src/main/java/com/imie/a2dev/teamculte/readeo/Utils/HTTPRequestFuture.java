@@ -0,0 +1,254 @@
+package com.imie.a2dev.teamculte.readeo.Utils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Class used to get the result of an API request: the request completes the future itself (with its result or its
+ * error) when its response is parsed, the callers can either block on it (with a timeout) or register callbacks.
+ * @param <T> The type of the result.
+ */
+public final class HTTPRequestFuture<T> implements Future<T> {
+    /**
+     * Stores the latch released when the future is completed.
+     */
+    private final CountDownLatch latch = new CountDownLatch(1);
+
+    /**
+     * Stores the callbacks to call when the future is completed.
+     */
+    private final List<Callback<T>> callbacks = new ArrayList<>();
+
+    /**
+     * Stores the result of the request.
+     */
+    private T result;
+
+    /**
+     * Stores the error of the request (null if it succeeded).
+     */
+    private Exception error;
+
+    /**
+     * Stores if the future is completed.
+     */
+    private boolean done;
+
+    /**
+     * Creates a future already completed with a result.
+     * @param result The result.
+     * @param <T> The type of the result.
+     * @return The completed future.
+     */
+    public static <T> HTTPRequestFuture<T> completed(T result) {
+        HTTPRequestFuture<T> future = new HTTPRequestFuture<>();
+
+        future.complete(result);
+
+        return future;
+    }
+
+    /**
+     * Creates a future completed when all the given futures are completed (whatever their results).
+     * @param futures The futures to wait for.
+     * @return The future.
+     */
+    public static HTTPRequestFuture<Void> all(List<? extends HTTPRequestFuture<?>> futures) {
+        final HTTPRequestFuture<Void> all = new HTTPRequestFuture<>();
+        final AtomicInteger remaining = new AtomicInteger(futures.size());
+
+        if (futures.isEmpty()) {
+            all.complete(null);
+        }
+
+        for (HTTPRequestFuture<?> future : futures) {
+            future.then((result, error) -> {
+                if (remaining.decrementAndGet() == 0) {
+                    all.complete(null);
+                }
+            });
+        }
+
+        return all;
+    }
+
+    /**
+     * Creates a future completed when all the given futures are completed successfully, or failed with the first
+     * error of the given futures once they are all completed.
+     * @param futures The futures to wait for.
+     * @return The future.
+     */
+    public static HTTPRequestFuture<Void> allSucceeded(final List<? extends HTTPRequestFuture<?>> futures) {
+        final HTTPRequestFuture<Void> succeeded = new HTTPRequestFuture<>();
+
+        HTTPRequestFuture.all(futures).then((result, error) -> {
+            for (HTTPRequestFuture<?> future : futures) {
+                Exception failure = future.getError();
+
+                if (failure != null) {
+                    succeeded.fail(failure);
+
+                    return;
+                }
+            }
+
+            succeeded.complete(null);
+        });
+
+        return succeeded;
+    }
+
+    /**
+     * Completes the future with a result (does nothing if already completed).
+     * @param result The result.
+     * @return true if the future has been completed by this call else false.
+     */
+    public boolean complete(T result) {
+        return this.finish(result, null);
+    }
+
+    /**
+     * Completes the future with an error (does nothing if already completed).
+     * @param error The error.
+     * @return true if the future has been completed by this call else false.
+     */
+    public boolean fail(Exception error) {
+        return this.finish(null, error);
+    }
+
+    /**
+     * Registers a callback called once the future is completed (by the completing thread, or immediately by the
+     * current thread if already completed).
+     * @param callback The callback.
+     */
+    public void then(Callback<T> callback) {
+        synchronized (this) {
+            if (!this.done) {
+                this.callbacks.add(callback);
+
+                return;
+            }
+        }
+
+        callback.onComplete(this.result, this.error);
+    }
+
+    /**
+     * Gets the result of the future without waiting.
+     * @param valueIfAbsent The value to return if the future is not completed or failed.
+     * @return The result or the given value.
+     */
+    public synchronized T getNow(T valueIfAbsent) {
+        return (this.done && this.error == null) ? this.result : valueIfAbsent;
+    }
+
+    /**
+     * Completes the future with an error, the request itself is not cancelled (its response is ignored).
+     * @param mayInterruptIfRunning Ignored.
+     * @return true if the future has been cancelled by this call else false.
+     */
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        return this.finish(null, new CancellationException());
+    }
+
+    @Override
+    public synchronized boolean isCancelled() {
+        return this.error instanceof CancellationException;
+    }
+
+    @Override
+    public synchronized boolean isDone() {
+        return this.done;
+    }
+
+    @Override
+    public T get() throws InterruptedException, ExecutionException {
+        this.latch.await();
+
+        return this.report();
+    }
+
+    @Override
+    public T get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+        if (!this.latch.await(timeout, unit)) {
+            throw new TimeoutException();
+        }
+
+        return this.report();
+    }
+
+    /**
+     * Sets the result and the error of the future, releases the waiting threads and calls the callbacks.
+     * @param result The result.
+     * @param error The error.
+     * @return true if the future has been completed by this call else false.
+     */
+    private boolean finish(T result, Exception error) {
+        List<Callback<T>> toCall;
+
+        synchronized (this) {
+            if (this.done) {
+                return false;
+            }
+
+            this.done = true;
+            this.result = result;
+            this.error = error;
+            toCall = new ArrayList<>(this.callbacks);
+
+            this.callbacks.clear();
+        }
+
+        this.latch.countDown();
+
+        for (Callback<T> callback : toCall) {
+            callback.onComplete(result, error);
+        }
+
+        return true;
+    }
+
+    /**
+     * Gets the error of the future.
+     * @return The error (null if not completed or succeeded).
+     */
+    private synchronized Exception getError() {
+        return this.error;
+    }
+
+    /**
+     * Gets the result of the completed future or throws its error.
+     * @return The result.
+     * @throws ExecutionException If the request failed.
+     */
+    private synchronized T report() throws ExecutionException {
+        if (this.error instanceof CancellationException) {
+            throw (CancellationException) this.error;
+        } else if (this.error != null) {
+            throw new ExecutionException(this.error);
+        }
+
+        return this.result;
+    }
+
+    /**
+     * Interface used to be notified of the completion of a future.
+     * @param <T> The type of the result.
+     */
+    public interface Callback<T> {
+        /**
+         * Called when the future is completed.
+         * @param result The result (null if the request failed).
+         * @param error The error (null if the request succeeded).
+         */
+        void onComplete(T result, Exception error);
+    }
+}
@@ -1,24 +1,70 @@
 package com.imie.a2dev.teamculte.readeo.Utils;
 
 import android.content.Context;
+import android.os.Handler;
+import android.os.Looper;
+import android.os.Process;
 
+import com.android.volley.AuthFailureError;
+import com.android.volley.ExecutorDelivery;
 import com.android.volley.Request;
 import com.android.volley.RequestQueue;
-import com.android.volley.toolbox.Volley;
+import com.android.volley.toolbox.BasicNetwork;
+import com.android.volley.toolbox.DiskBasedCache;
+import com.android.volley.toolbox.HurlStack;
 
-import lombok.Getter;
-import lombok.Setter;
-
-import java.util.LinkedHashMap;
-import java.util.Map;
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Class used to add HTTP request (to use the API). Using singleton pattern in order to have only one instance of
- * RequestQueue.
+ * RequestQueue. The requests are accounted once finished by the queue itself (whatever their outcome), the managers
+ * do not have to notify it. The parsed responses are not delivered on the main thread but on a single background
+ * database thread (the response and error listeners as well as the queue listeners are called on it, in order), the
+ * callbacks updating the UI have to go back to the main thread (runOnMainThread). The identical GET requests share
+ * their response (see CoalescingNetwork) unless they have their own headers or are not cacheable (setShouldCache),
+ * they are sent directly to the network (the API does not send cache headers, its responses are never fresh in the
+ * Volley disk cache).
  */
-@Getter
-@Setter
 public final class HTTPRequestQueueSingleton {
+    /**
+     * Defines the number of network threads of the request queue (as the default Volley queue).
+     */
+    private static final int NETWORK_THREADS = 4;
+
+    /**
+     * Defines the directory of the request queue cache (as the default Volley queue).
+     */
+    private static final String CACHE_DIR = "volley";
+
+    /**
+     * Defines the name of the thread delivering the responses.
+     */
+    private static final String DB_THREAD_NAME = "readeo-db";
+
+    /**
+     * Defines the time a response is shared with the identical requests once received (ms).
+     */
+    private static final long RESPONSE_TTL = 10000L;
+
+    /**
+     * Defines the maximum size of the shared responses kept (bytes).
+     */
+    private static final int RESPONSE_CACHE_BYTES = 256 * 1024;
+
+    /**
+     * Stores the handler of the main thread.
+     */
+    private static final Handler MAIN_HANDLER = new Handler(Looper.getMainLooper());
+
     /**
      * Stores the instance in order to apply singleton pattern.
      */
@@ -34,20 +80,38 @@ public final class HTTPRequestQueueSingleton {
      */
     private RequestQueue requestQueue;
 
+    /**
+     * Stores the network sharing the responses of the identical requests.
+     */
+    private CoalescingNetwork network;
+
     /**
      * Stores the number of requests pending for each manager.
      */
-    private Map<String, Integer> requestsPending = new LinkedHashMap<>();
+    private final ConcurrentMap<String, AtomicInteger> requestsPending = new ConcurrentHashMap<>();
 
     /**
-     * Stores the url of the last request (used for debugging).
+     * Stores the requests pending with their sender and completion handle.
+     */
+    private final ConcurrentMap<Request<?>, PendingRequest> requests = new ConcurrentHashMap<>();
+
+    /**
+     * Stores the listeners to notify for each manager.
      */
-    private String lastRequestUrl;
+    private final ConcurrentMap<String, List<HTTPRequestQueueListener>> listeners = new ConcurrentHashMap<>();
 
     /**
-     * Stores the listener in order to notify it when the request from the queue have been passed.
+     * Stores the executor of the database thread the responses are delivered on.
      */
-    private HTTPRequestQueueListener listener;
+    private final ExecutorService dbExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(() -> {
+        Process.setThreadPriority(Process.THREAD_PRIORITY_BACKGROUND);
+        runnable.run();
+    }, DB_THREAD_NAME));
+
+    /**
+     * Stores the url of the last request (used for debugging).
+     */
+    private volatile String lastRequestUrl;
 
     /**
      * Private constructor to apply the pattern.
@@ -56,6 +120,8 @@ public final class HTTPRequestQueueSingleton {
     private HTTPRequestQueueSingleton(Context context) {
         HTTPRequestQueueSingleton.context = context;
         this.requestQueue = this.getRequestQueue();
+
+        this.requestQueue.addRequestFinishedListener(this::finishRequest);
     }
 
     /**
@@ -71,20 +137,66 @@ public final class HTTPRequestQueueSingleton {
     }
 
     /**
-     * Called when a request is finished, simply decrement the value of pending requests to the associated manager.
-     * Calls the listener method if set.
-     * @param sender The associated manager.
+     * Runs a task on the main thread (directly if called from it), used by the callbacks updating the UI.
+     * @param task The task to run.
+     */
+    public static void runOnMainThread(Runnable task) {
+        if (Looper.myLooper() == Looper.getMainLooper()) {
+            task.run();
+        } else {
+            MAIN_HANDLER.post(task);
+        }
+    }
+
+    /**
+     * Gets the executor of the database thread the responses are delivered on (used to run the database work of a
+     * callback called on another thread in order with the responses).
+     * @return The executor.
      */
-    public void finishRequest(String sender) {
-        if (this.requestsPending.containsKey(sender)) {
-            int requestNumber = (this.requestsPending.get(sender) - 1 > 0) ? this.requestsPending.get(sender) - 1 : 0;
+    public Executor getDbExecutor() {
+        return this.dbExecutor;
+    }
 
-            this.requestsPending.put(sender, requestNumber);
+    /**
+     * Gets the url of the last request added to the queue.
+     * @return The url.
+     */
+    public String getLastRequestUrl() {
+        return this.lastRequestUrl;
+    }
 
-            if (requestNumber == 0 && this.listener != null) {
-                this.listener.onRequestsFinished();
-            }
-        }
+    /**
+     * Gets the number of requests served from the shared responses cache.
+     * @return The number of hits.
+     */
+    public long getResponseCacheHits() {
+        return this.network.getHits();
+    }
+
+    /**
+     * Gets the number of requests sharing the response of an identical request in flight.
+     * @return The number of coalesced requests.
+     */
+    public long getCoalescedRequests() {
+        return this.network.getCoalesced();
+    }
+
+    /**
+     * Removes all the shared responses kept (done by any request other than a GET).
+     */
+    public void clearResponseCache() {
+        this.network.clear();
+    }
+
+    /**
+     * Gets the number of requests pending for a manager.
+     * @param sender The associated manager.
+     * @return The number of requests pending.
+     */
+    public int getRequestsPending(String sender) {
+        AtomicInteger pending = this.requestsPending.get(sender);
+
+        return (pending != null) ? pending.get() : 0;
     }
 
     /**
@@ -93,16 +205,102 @@ public final class HTTPRequestQueueSingleton {
      * @return True if still requests pending else false.
      */
     public boolean hasRequestPending(String sender) {
-        return (this.requestsPending.containsKey(sender) && this.requestsPending.get(sender) != 0);
+        return this.getRequestsPending(sender) != 0;
+    }
+
+    /**
+     * Blocks until all the requests of a manager are finished (woken up by the last finished request instead of
+     * polling).
+     * @param sender The associated manager.
+     * @param timeout The maximum time to wait.
+     * @param unit The unit of the timeout.
+     * @return true if all the requests are finished else false (timeout elapsed).
+     * @throws InterruptedException If the current thread is interrupted while waiting.
+     */
+    public synchronized boolean awaitRequests(String sender, long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+
+        while (this.hasRequestPending(sender)) {
+            long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+
+            if (remaining <= 0) {
+                return false;
+            }
+
+            this.wait(remaining);
+        }
+
+        return true;
+    }
+
+    /**
+     * Registers a listener notified when the requests of a manager are finished, several listeners can be registered
+     * for the same manager.
+     * @param sender The associated manager.
+     * @param listener The listener to register.
+     */
+    public void addListener(String sender, HTTPRequestQueueListener listener) {
+        List<HTTPRequestQueueListener> senderListeners = this.listeners.get(sender);
+
+        if (senderListeners == null) {
+            List<HTTPRequestQueueListener> created = new CopyOnWriteArrayList<>();
+
+            senderListeners = this.listeners.putIfAbsent(sender, created);
+
+            if (senderListeners == null) {
+                senderListeners = created;
+            }
+        }
+
+        if (!senderListeners.contains(listener)) {
+            senderListeners.add(listener);
+        }
+    }
+
+    /**
+     * Unregisters a listener of a manager.
+     * @param sender The associated manager.
+     * @param listener The listener to unregister.
+     */
+    public void removeListener(String sender, HTTPRequestQueueListener listener) {
+        List<HTTPRequestQueueListener> senderListeners = this.listeners.get(sender);
+
+        if (senderListeners != null) {
+            senderListeners.remove(listener);
+        }
+    }
+
+    /**
+     * Notifies the listeners of a manager that one of its requests failed (called by the error listener of the
+     * request, before the request is finished).
+     * @param sender The associated manager.
+     */
+    public void notifyRequestError(String sender) {
+        List<HTTPRequestQueueListener> senderListeners = this.listeners.get(sender);
+
+        if (senderListeners != null) {
+            for (HTTPRequestQueueListener listener : senderListeners) {
+                listener.onRequestError();
+            }
+        }
     }
 
     /**
-     * Gets the request queue if exists else initializes it before.
+     * Gets the request queue if exists else initializes it before (as the default Volley queue but delivering the
+     * responses on the database thread and sharing the responses of the identical requests).
      * @return The request queue.
      */
     public RequestQueue getRequestQueue() {
         if (this.requestQueue == null) {
-            this.requestQueue = Volley.newRequestQueue(HTTPRequestQueueSingleton.context.getApplicationContext());
+            File cacheDir = new File(HTTPRequestQueueSingleton.context.getApplicationContext().getCacheDir(),
+                                     CACHE_DIR);
+
+            this.network = new CoalescingNetwork(new BasicNetwork(new HurlStack()), this::isShared, RESPONSE_TTL,
+                                                 RESPONSE_CACHE_BYTES);
+            this.requestQueue = new RequestQueue(new DiskBasedCache(cacheDir), this.network, NETWORK_THREADS,
+                                                 new ExecutorDelivery(this.dbExecutor));
+
+            this.requestQueue.start();
         }
 
         return this.requestQueue;
@@ -113,22 +311,134 @@ public final class HTTPRequestQueueSingleton {
      * @param sender The manager who sends the request.
      * @param request The request to add.
      * @param <T> Used for type safety control.
+     * @return The completion handle of the request, completed once the request is finished (its response or error
+     * delivered) or cancelled.
      */
-    public <T> void addToRequestQueue(String sender, Request<T> request) {
-        if (!this.requestsPending.containsKey(sender)) {
-            this.requestsPending.put(sender, 1);
-        } else {
-            this.requestsPending.put(sender, this.requestsPending.get(sender) + 1);
+    public <T> HTTPRequestFuture<Void> addToRequestQueue(String sender, Request<T> request) {
+        PendingRequest pending = new PendingRequest(sender, this.isShareable(request));
+        AtomicInteger counter = this.requestsPending.get(sender);
+
+        if (counter == null) {
+            AtomicInteger created = new AtomicInteger();
+
+            counter = this.requestsPending.putIfAbsent(sender, created);
+
+            if (counter == null) {
+                counter = created;
+            }
+        }
+
+        counter.incrementAndGet();
+        this.requests.put(request, pending);
+
+        if (pending.shared) {
+            request.setShouldCache(false);
         }
 
         this.lastRequestUrl = request.getUrl();
 
         this.requestQueue.add(request);
+
+        return pending.future;
+    }
+
+    /**
+     * Called by the queue when a request is finished, decrements the value of pending requests of the associated
+     * manager, calls its listeners and wakes up the threads waiting for its requests. The request handle is completed
+     * last so that all the accounting of the request is done once it is.
+     * @param request The finished request.
+     */
+    private void finishRequest(Request<?> request) {
+        PendingRequest pending = this.requests.remove(request);
+
+        if (pending == null) {
+            return;
+        }
+
+        boolean finished = this.requestsPending.get(pending.sender).decrementAndGet() == 0;
+        List<HTTPRequestQueueListener> senderListeners = this.listeners.get(pending.sender);
+
+        if (senderListeners != null) {
+            for (HTTPRequestQueueListener listener : senderListeners) {
+                listener.onRequestFinished();
+
+                if (finished) {
+                    listener.onRequestsFinished();
+                }
+            }
+        }
+
+        if (finished) {
+            synchronized (this) {
+                this.notifyAll();
+            }
+        }
+
+        if (request.isCanceled()) {
+            pending.future.cancel(false);
+        } else {
+            pending.future.complete(null);
+        }
+    }
+
+    /**
+     * Checks if a request added to the queue can share its response with the identical requests (a cacheable GET
+     * request without its own headers).
+     * @param request The request.
+     * @return true if shareable else false.
+     */
+    private boolean isShareable(Request<?> request) {
+        try {
+            return request.getMethod() == Request.Method.GET && request.shouldCache() && request.getHeaders().isEmpty();
+        } catch (AuthFailureError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks if a request sent by the network shares its response with the identical requests.
+     * @param request The request.
+     * @return true if shared else false.
+     */
+    private boolean isShared(Request<?> request) {
+        PendingRequest pending = this.requests.get(request);
+
+        return pending != null && pending.shared;
+    }
+
+    /**
+     * Class used to store a request pending (its sender, if it shares its response and its completion handle).
+     */
+    private static final class PendingRequest {
+        /**
+         * Stores the manager who sent the request.
+         */
+        private final String sender;
+
+        /**
+         * Stores if the request shares its response with the identical requests.
+         */
+        private final boolean shared;
+
+        /**
+         * Stores the completion handle of the request.
+         */
+        private final HTTPRequestFuture<Void> future = new HTTPRequestFuture<>();
+
+        /**
+         * PendingRequest's full filled constructor.
+         * @param sender The manager who sent the request.
+         * @param shared true if the request shares its response with the identical requests else false.
+         */
+        private PendingRequest(String sender, boolean shared) {
+            this.sender = sender;
+            this.shared = shared;
+        }
     }
 
     /**
      * Interface used to implement pattern observer on the HTTPRequestQueueSingleton (notify when all the requests
-     * have been passed).
+     * have been passed), the listeners are called on the database thread.
      */
     public interface HTTPRequestQueueListener {
         /**
@@ -0,0 +1,98 @@
+package com.imie.a2dev.teamculte.readeo.Utils;
+
+import java.util.Arrays;
+
+/**
+ * Class used to store a growing list of entity keys (one to three ids) into a single flat int array instead of one
+ * array per entity.
+ */
+public final class IdBuffer {
+    /**
+     * Defines the initial capacity of the buffer (number of keys).
+     */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Stores the number of ids of a key.
+     */
+    private final int width;
+
+    /**
+     * Stores the keys, one after another.
+     */
+    private int[] ids;
+
+    /**
+     * Stores the number of keys.
+     */
+    private int size;
+
+    /**
+     * IdBuffer's constructor.
+     * @param width The number of ids of a key.
+     */
+    public IdBuffer(int width) {
+        this.width = width;
+        this.ids = new int[INITIAL_CAPACITY * width];
+    }
+
+    /**
+     * Gets the width attribute.
+     * @return The int value of width attribute.
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * Gets the number of keys.
+     * @return The number of keys.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Adds a key from a flat array of keys.
+     * @param source The flat array of keys.
+     * @param offset The position of the first id of the key to add into the array.
+     */
+    public void add(int[] source, int offset) {
+        if ((this.size + 1) * this.width > this.ids.length) {
+            this.ids = Arrays.copyOf(this.ids, Math.max(this.ids.length * 2, this.width));
+        }
+
+        System.arraycopy(source, offset, this.ids, this.size * this.width, this.width);
+
+        this.size++;
+    }
+
+    /**
+     * Adds all the keys of another buffer of the same width.
+     * @param other The other buffer.
+     */
+    public void addAll(IdBuffer other) {
+        for (int i = 0; i < other.size; i++) {
+            this.add(other.ids, i * other.width);
+        }
+    }
+
+    /**
+     * Gets an id of a key.
+     * @param index The index of the key.
+     * @param column The position of the id into the key.
+     * @return The id.
+     */
+    public int getId(int index, int column) {
+        return this.ids[index * this.width + column];
+    }
+
+    /**
+     * Gets a copy of a key.
+     * @param index The index of the key.
+     * @return The ids of the key.
+     */
+    public int[] get(int index) {
+        return Arrays.copyOfRange(this.ids, index * this.width, (index + 1) * this.width);
+    }
+}
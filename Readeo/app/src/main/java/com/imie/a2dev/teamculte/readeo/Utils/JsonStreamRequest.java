@@ -0,0 +1,108 @@
+package com.imie.a2dev.teamculte.readeo.Utils;
+
+import android.util.JsonReader;
+
+import com.android.volley.NetworkResponse;
+import com.android.volley.ParseError;
+import com.android.volley.Request;
+import com.android.volley.Response;
+import com.android.volley.toolbox.HttpHeaderParser;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Class used to request JSON content parsed incrementally (pull parser over the response bytes) on the network thread,
+ * instead of being decoded into a String then into a tree of JSON objects. A gzip response is decompressed while it
+ * is parsed.
+ * @param <T> The type of the parsed result delivered to the listener.
+ */
+public final class JsonStreamRequest<T> extends Request<T> {
+    /**
+     * Defines the header of the encoding of a response.
+     */
+    public static final String CONTENT_ENCODING = "Content-Encoding";
+
+    /**
+     * Defines the gzip encoding.
+     */
+    public static final String GZIP = "gzip";
+
+    /**
+     * Stores the parser of the response.
+     */
+    private final Parser<T> parser;
+
+    /**
+     * Stores the listener of the parsed result (may be null).
+     */
+    private final Response.Listener<T> listener;
+
+    /**
+     * JsonStreamRequest's full filled constructor.
+     * @param method The method to use (POST, GET, PUT...).
+     * @param url The url to request.
+     * @param parser The parser of the response (called on the network thread).
+     * @param listener The listener of the parsed result (may be null).
+     * @param errorListener The listener of the errors (network or parsing).
+     */
+    public JsonStreamRequest(int method,
+                             String url,
+                             Parser<T> parser,
+                             Response.Listener<T> listener,
+                             Response.ErrorListener errorListener) {
+        super(method, url, errorListener);
+
+        this.parser = parser;
+        this.listener = listener;
+    }
+
+    /**
+     * Opens a JSON reader over the body of a response, decompressing it on the fly if gzip encoded.
+     * @param response The response.
+     * @return The reader positioned at the beginning of the body.
+     * @throws IOException If the gzip header is malformed.
+     */
+    public static JsonReader openReader(NetworkResponse response) throws IOException {
+        InputStream body = new ByteArrayInputStream(response.data);
+
+        if (response.headers != null && GZIP.equalsIgnoreCase(response.headers.get(CONTENT_ENCODING))) {
+            body = new GZIPInputStream(body);
+        }
+
+        return new JsonReader(new InputStreamReader(body, HttpHeaderParser.parseCharset(response.headers, "UTF-8")));
+    }
+
+    @Override
+    protected Response<T> parseNetworkResponse(NetworkResponse response) {
+        try (JsonReader reader = JsonStreamRequest.openReader(response)) {
+            return Response.success(this.parser.parse(reader), HttpHeaderParser.parseCacheHeaders(response));
+        } catch (IOException | RuntimeException e) {
+            return Response.error(new ParseError(e));
+        }
+    }
+
+    @Override
+    protected void deliverResponse(T response) {
+        if (this.listener != null) {
+            this.listener.onResponse(response);
+        }
+    }
+
+    /**
+     * Interface used to parse a JSON response incrementally.
+     * @param <T> The type of the parsed result.
+     */
+    public interface Parser<T> {
+        /**
+         * Parses the response.
+         * @param reader The reader positioned at the beginning of the response.
+         * @return The parsed result.
+         * @throws IOException If the response is malformed.
+         */
+        T parse(JsonReader reader) throws IOException;
+    }
+}
@@ -0,0 +1,364 @@
+package com.imie.a2dev.teamculte.readeo.Utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class used to import a table from the MySQL database by id ranges (keyset pagination): the ids above a start key are
+ * split into consecutive pages of pageSize ids, up to pagesInFlight pages being fetched at the same time. The pages
+ * are committed one by one in key order (a page fetched before the previous ones waits for them), so the key of the
+ * last committed page is a safe point to resume the import from, and a new page is only fetched once a page is
+ * committed (the pages held in memory never exceed pagesInFlight).
+ * @param <T> The type of the fetched pages.
+ */
+public final class KeysetImporter<T> {
+    /**
+     * Defines the default number of pages fetched at the same time.
+     */
+    public static final int DEFAULT_PAGES_IN_FLIGHT = 3;
+
+    /**
+     * Stores the source fetching and committing the pages.
+     */
+    private final PageSource<T> source;
+
+    /**
+     * Stores the maximum number of pages fetched and not committed yet.
+     */
+    private final int pagesInFlight;
+
+    /**
+     * Stores the number of ids of a page.
+     */
+    private final long pageSize;
+
+    /**
+     * Stores the listener notified of the end of the import (may be null).
+     */
+    private final KeysetImporterListener listener;
+
+    /**
+     * Stores the fetched pages waiting for the previous ones to be committed, by page index.
+     */
+    private final Map<Integer, T> fetched = new HashMap<>();
+
+    /**
+     * Stores the key the import starts after.
+     */
+    private long startKey;
+
+    /**
+     * Stores the last key of the import.
+     */
+    private long endKey;
+
+    /**
+     * Stores the number of pages of the import.
+     */
+    private int pageCount;
+
+    /**
+     * Stores the index of the next page to fetch.
+     */
+    private int nextFetch;
+
+    /**
+     * Stores the index of the next page to commit.
+     */
+    private int nextCommit;
+
+    /**
+     * Stores the number of rows committed.
+     */
+    private int committedRows;
+
+    /**
+     * Stores if a thread is committing the pages.
+     */
+    private boolean committing;
+
+    /**
+     * Stores if the import has been started.
+     */
+    private boolean started;
+
+    /**
+     * Stores if a page fetch failed or if the import has been cancelled (the import is stopped).
+     */
+    private boolean failed;
+
+    /**
+     * KeysetImporter's full filled constructor.
+     * @param source The source fetching and committing the pages.
+     * @param pagesInFlight The maximum number of pages fetched and not committed yet.
+     * @param pageSize The number of ids of a page.
+     * @param listener The listener notified of the end of the import (may be null).
+     */
+    public KeysetImporter(PageSource<T> source, int pagesInFlight, int pageSize, KeysetImporterListener listener) {
+        this.source = source;
+        this.pagesInFlight = Math.max(pagesInFlight, 1);
+        this.pageSize = Math.max(pageSize, 1);
+        this.listener = listener;
+    }
+
+    /**
+     * Starts the import of the ids above the start key and below or equal to the end key (the pages are fetched
+     * through the source and may be delivered on any thread).
+     * @param startKey The key the import starts after (the last committed key when resuming an import).
+     * @param endKey The last key of the import.
+     */
+    public void start(long startKey, long endKey) {
+        List<Integer> toFetch;
+
+        synchronized (this) {
+            if (this.started) {
+                return;
+            }
+
+            this.started = true;
+            this.startKey = startKey;
+            this.endKey = endKey;
+            this.pageCount = (endKey > startKey) ? (int) ((endKey - startKey - 1) / this.pageSize + 1) : 0;
+            toFetch = this.pollFetches();
+        }
+
+        if (this.pageCount == 0) {
+            this.notifyEnd();
+        }
+
+        this.fetchAll(toFetch);
+    }
+
+    /**
+     * Receives a fetched page, then commits the pages which can be (the caller may be the committing thread).
+     * @param page The index of the page.
+     * @param rows The rows of the page.
+     */
+    public void onPageFetched(int page, T rows) {
+        synchronized (this) {
+            if (this.failed || page < this.nextCommit || page >= this.nextFetch) {
+                return;
+            }
+
+            this.fetched.put(page, rows);
+
+            if (this.committing) {
+                return;
+            }
+
+            this.committing = true;
+        }
+
+        this.commitAll();
+    }
+
+    /**
+     * Stops the import after a page fetch failed (the pages fetched and not committed are dropped, the pages already
+     * committed are kept).
+     * @param page The index of the page.
+     */
+    public void onPageFailed(int page) {
+        synchronized (this) {
+            if (this.failed || page < this.nextCommit || page >= this.nextFetch) {
+                return;
+            }
+        }
+
+        this.cancel();
+    }
+
+    /**
+     * Stops the import as failed (no page is fetched nor committed anymore, the pages already committed are kept),
+     * then notifies the listener.
+     */
+    public void cancel() {
+        synchronized (this) {
+            if (this.failed) {
+                return;
+            }
+
+            this.failed = true;
+
+            this.fetched.clear();
+        }
+
+        this.notifyEnd();
+    }
+
+    /**
+     * Gets the lower key (excluded) of a page.
+     * @param page The index of the page.
+     * @return The lower key of the page.
+     */
+    public synchronized long getPageStart(int page) {
+        return this.startKey + page * this.pageSize;
+    }
+
+    /**
+     * Gets the upper key (included) of a page.
+     * @param page The index of the page.
+     * @return The upper key of the page.
+     */
+    public synchronized long getPageEnd(int page) {
+        return Math.min(this.startKey + (page + 1) * this.pageSize, this.endKey);
+    }
+
+    /**
+     * Gets the key of the last committed page (the import resumes after it).
+     * @return The last committed key.
+     */
+    public synchronized long getCommittedKey() {
+        return (this.nextCommit == 0) ? this.startKey : this.getPageEnd(this.nextCommit - 1);
+    }
+
+    /**
+     * Gets the number of pages of the import.
+     * @return The number of pages.
+     */
+    public synchronized int getPageCount() {
+        return this.pageCount;
+    }
+
+    /**
+     * Gets the number of pages committed.
+     * @return The number of pages committed.
+     */
+    public synchronized int getCommittedPages() {
+        return this.nextCommit;
+    }
+
+    /**
+     * Gets the number of rows committed.
+     * @return The number of rows committed.
+     */
+    public synchronized int getCommittedRows() {
+        return this.committedRows;
+    }
+
+    /**
+     * Checks if all the pages are committed.
+     * @return true if the import is started and all the pages are committed else false.
+     */
+    public synchronized boolean isFinished() {
+        return this.started && !this.failed && this.nextCommit == this.pageCount;
+    }
+
+    /**
+     * Checks if the import stopped on a failed page (or has been cancelled).
+     * @return true if the import failed else false.
+     */
+    public synchronized boolean isFailed() {
+        return this.failed;
+    }
+
+    /**
+     * Commits the fetched pages in key order while the next page to commit is fetched, fetching a new page after each
+     * commit (called by a single thread at a time).
+     */
+    private void commitAll() {
+        while (true) {
+            int page;
+            T rows;
+
+            synchronized (this) {
+                rows = this.failed ? null : this.fetched.remove(this.nextCommit);
+
+                if (rows == null) {
+                    this.committing = false;
+
+                    return;
+                }
+
+                page = this.nextCommit;
+            }
+
+            int committed = this.source.commit(rows, this.getPageEnd(page));
+            List<Integer> toFetch;
+            boolean finished;
+
+            synchronized (this) {
+                this.nextCommit++;
+                this.committedRows += committed;
+                toFetch = this.pollFetches();
+                finished = this.nextCommit == this.pageCount;
+            }
+
+            if (finished) {
+                this.notifyEnd();
+            }
+
+            this.fetchAll(toFetch);
+        }
+    }
+
+    /**
+     * Reserves the next pages to fetch while the number of pages fetched and not committed is below pagesInFlight.
+     * @return The indexes of the pages to fetch.
+     */
+    private List<Integer> pollFetches() {
+        List<Integer> toFetch = new ArrayList<>();
+
+        while (!this.failed && this.nextFetch < this.pageCount &&
+               this.nextFetch - this.nextCommit < this.pagesInFlight) {
+            toFetch.add(this.nextFetch++);
+        }
+
+        return toFetch;
+    }
+
+    /**
+     * Fetches pages through the source (outside of the lock as the source may deliver the pages synchronously).
+     * @param toFetch The indexes of the pages to fetch.
+     */
+    private void fetchAll(List<Integer> toFetch) {
+        for (int page : toFetch) {
+            this.source.fetch(this, page, this.getPageStart(page), this.getPageEnd(page));
+        }
+    }
+
+    /**
+     * Notifies the listener of the end of the import.
+     */
+    private void notifyEnd() {
+        if (this.listener != null) {
+            this.listener.onImportFinished(this);
+        }
+    }
+
+    /**
+     * Interface used to fetch and commit the pages of an import.
+     * @param <T> The type of the fetched pages.
+     */
+    public interface PageSource<T> {
+        /**
+         * Fetches a page, then gives it to the importer through onPageFetched (or onPageFailed).
+         * @param importer The importer of the page.
+         * @param page The index of the page.
+         * @param after The lower key (excluded) of the page.
+         * @param to The upper key (included) of the page.
+         */
+        void fetch(KeysetImporter<T> importer, int page, long after, long to);
+
+        /**
+         * Commits a page (in its own transaction), the pages being committed in key order.
+         * @param rows The rows of the page.
+         * @param to The upper key of the page (the last committed key once committed).
+         * @return The number of rows committed.
+         */
+        int commit(T rows, long to);
+    }
+
+    /**
+     * Interface used to be notified of the end of an import.
+     */
+    public interface KeysetImporterListener {
+        /**
+         * Called once all the pages are committed or once a page fetch failed (isFailed and getCommittedKey give the
+         * key to resume the import from).
+         * @param importer The importer.
+         */
+        void onImportFinished(KeysetImporter<?> importer);
+    }
+}
@@ -10,9 +10,18 @@ import com.imie.a2dev.teamculte.readeo.DBManagers.CityDBManager;
 import com.imie.a2dev.teamculte.readeo.DBManagers.CountryDBManager;
 import com.imie.a2dev.teamculte.readeo.DBManagers.ProfileDBManager;
 import com.imie.a2dev.teamculte.readeo.DBManagers.QuoteDBManager;
+import com.imie.a2dev.teamculte.readeo.DBManagers.ReadThroughRepository;
 import com.imie.a2dev.teamculte.readeo.DBManagers.ReviewDBManager;
 import com.imie.a2dev.teamculte.readeo.DBManagers.UserDBManager;
 import com.imie.a2dev.teamculte.readeo.DBManagers.WriterDBManager;
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Author;
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Book;
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.BookListType;
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Category;
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.City;
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Country;
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Profile;
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Quote;
 
 /**
  * Class used to hold all the manager classes.
@@ -84,6 +93,46 @@ public final class ManagerHolderUtils {
      */
     private final WriterDBManager writerDBManager;
 
+    /**
+     * Stores the local first repository of the author entities.
+     */
+    private final ReadThroughRepository<Author> authorRepository;
+
+    /**
+     * Stores the local first repository of the book entities.
+     */
+    private final ReadThroughRepository<Book> bookRepository;
+
+    /**
+     * Stores the local first repository of the book list type entities.
+     */
+    private final ReadThroughRepository<BookListType> bookListTypeRepository;
+
+    /**
+     * Stores the local first repository of the category entities.
+     */
+    private final ReadThroughRepository<Category> categoryRepository;
+
+    /**
+     * Stores the local first repository of the city entities.
+     */
+    private final ReadThroughRepository<City> cityRepository;
+
+    /**
+     * Stores the local first repository of the country entities.
+     */
+    private final ReadThroughRepository<Country> countryRepository;
+
+    /**
+     * Stores the local first repository of the profile entities.
+     */
+    private final ReadThroughRepository<Profile> profileRepository;
+
+    /**
+     * Stores the local first repository of the quote entities.
+     */
+    private final ReadThroughRepository<Quote> quoteRepository;
+
     /**
      * Default constructor.
      */
@@ -100,13 +149,21 @@ public final class ManagerHolderUtils {
         this.reviewDBManager = new ReviewDBManager(App.getAppContext());
         this.userDBManager = new UserDBManager(App.getAppContext());
         this.writerDBManager = new WriterDBManager(App.getAppContext());
+        this.authorRepository = new ReadThroughRepository<>(this.authorDBManager, Author::new);
+        this.bookRepository = new ReadThroughRepository<>(this.bookDBManager, Book::new);
+        this.bookListTypeRepository = new ReadThroughRepository<>(this.bookListTypeDBManager, BookListType::new);
+        this.categoryRepository = new ReadThroughRepository<>(this.categoryDBManager, Category::new);
+        this.cityRepository = new ReadThroughRepository<>(this.cityDBManager, City::new);
+        this.countryRepository = new ReadThroughRepository<>(this.countryDBManager, Country::new);
+        this.profileRepository = new ReadThroughRepository<>(this.profileDBManager, Profile::new);
+        this.quoteRepository = new ReadThroughRepository<>(this.quoteDBManager, Quote::new);
     }
 
     /**
      * Singleton pattern method used to init and get the instance if not initialized else just get.
      * @return The ManagerHolderUtils instance.
      */
-    public static ManagerHolderUtils getInstance() {
+    public static synchronized ManagerHolderUtils getInstance() {
         if (ManagerHolderUtils.instance == null) {
             ManagerHolderUtils.instance = new ManagerHolderUtils();
         }
@@ -210,4 +267,68 @@ public final class ManagerHolderUtils {
         return this.writerDBManager;
     }
 
+    /**
+     * Gets the authorRepository attribute.
+     * @return The ReadThroughRepository<Author> value of authorRepository attribute.
+     */
+    public ReadThroughRepository<Author> getAuthorRepository() {
+        return this.authorRepository;
+    }
+
+    /**
+     * Gets the bookRepository attribute.
+     * @return The ReadThroughRepository<Book> value of bookRepository attribute.
+     */
+    public ReadThroughRepository<Book> getBookRepository() {
+        return this.bookRepository;
+    }
+
+    /**
+     * Gets the bookListTypeRepository attribute.
+     * @return The ReadThroughRepository<BookListType> value of bookListTypeRepository attribute.
+     */
+    public ReadThroughRepository<BookListType> getBookListTypeRepository() {
+        return this.bookListTypeRepository;
+    }
+
+    /**
+     * Gets the categoryRepository attribute.
+     * @return The ReadThroughRepository<Category> value of categoryRepository attribute.
+     */
+    public ReadThroughRepository<Category> getCategoryRepository() {
+        return this.categoryRepository;
+    }
+
+    /**
+     * Gets the cityRepository attribute.
+     * @return The ReadThroughRepository<City> value of cityRepository attribute.
+     */
+    public ReadThroughRepository<City> getCityRepository() {
+        return this.cityRepository;
+    }
+
+    /**
+     * Gets the countryRepository attribute.
+     * @return The ReadThroughRepository<Country> value of countryRepository attribute.
+     */
+    public ReadThroughRepository<Country> getCountryRepository() {
+        return this.countryRepository;
+    }
+
+    /**
+     * Gets the profileRepository attribute.
+     * @return The ReadThroughRepository<Profile> value of profileRepository attribute.
+     */
+    public ReadThroughRepository<Profile> getProfileRepository() {
+        return this.profileRepository;
+    }
+
+    /**
+     * Gets the quoteRepository attribute.
+     * @return The ReadThroughRepository<Quote> value of quoteRepository attribute.
+     */
+    public ReadThroughRepository<Quote> getQuoteRepository() {
+        return this.quoteRepository;
+    }
+
 }
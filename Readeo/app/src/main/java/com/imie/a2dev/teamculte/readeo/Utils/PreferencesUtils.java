@@ -5,6 +5,7 @@ import android.content.SharedPreferences;
 
 import com.google.gson.Gson;
 import com.imie.a2dev.teamculte.readeo.App;
+import com.imie.a2dev.teamculte.readeo.DBManagers.DBManager;
 import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.BookList;
 import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.PrivateUser;
 
@@ -22,6 +23,21 @@ public abstract class PreferencesUtils {
      */
     public static final String USER_PREF = "Readeo_user";
 
+    /**
+     * Stores the sync marks preference tag prefix (followed by the database file and the table).
+     */
+    public static final String SYNC_MARK_PREF = "Readeo_sync_mark_";
+
+    /**
+     * Stores the import keys preference tag prefix (followed by the database file and the table).
+     */
+    public static final String IMPORT_KEY_PREF = "Readeo_import_key_";
+
+    /**
+     * Defines the sync validators preference prefix key (followed by the database file name and the table).
+     */
+    public static final String SYNC_VALIDATORS_PREF = "Readeo_sync_validators_";
+
     /**
      * Gets an instance of SharedPreferences.
      * @return The shared preferences
@@ -82,4 +98,102 @@ public abstract class PreferencesUtils {
 
         saveUser(user);
     }
+
+    /**
+     * Saves the sync mark of a table of the current database into the shared preferences.
+     * @param table The table.
+     * @param mark The mark to save.
+     */
+    public static void saveSyncMark(String table, SyncMark mark) {
+        SharedPreferences.Editor editor = getSharedPrefsEditor();
+
+        editor.putString(SYNC_MARK_PREF + DBManager.getDbFileName() + "_" + table, new Gson().toJson(mark));
+        editor.apply();
+    }
+
+    /**
+     * Gets the sync mark of a table of the current database from the preferences.
+     * @param table The table.
+     * @return The associated mark (empty if the table has never been synchronized).
+     */
+    public static SyncMark loadSyncMark(String table) {
+        SharedPreferences preferences = getSharedPrefs();
+        String jsonMark = preferences.getString(SYNC_MARK_PREF + DBManager.getDbFileName() + "_" + table, null);
+
+        return (jsonMark != null) ? new Gson().fromJson(jsonMark, SyncMark.class) : new SyncMark();
+    }
+
+    /**
+     * Saves the validators of the last full synchronization response of a table of the current database into the
+     * shared preferences.
+     * @param table The table.
+     * @param validators The validators to save.
+     */
+    public static void saveSyncValidators(String table, SyncValidators validators) {
+        SharedPreferences.Editor editor = getSharedPrefsEditor();
+
+        editor.putString(SYNC_VALIDATORS_PREF + DBManager.getDbFileName() + "_" + table, new Gson().toJson(validators));
+        editor.apply();
+    }
+
+    /**
+     * Gets the validators of the last full synchronization response of a table of the current database from the
+     * preferences.
+     * @param table The table.
+     * @return The associated validators (null if none saved).
+     */
+    public static SyncValidators loadSyncValidators(String table) {
+        SharedPreferences preferences = getSharedPrefs();
+        String jsonValidators = preferences.getString(SYNC_VALIDATORS_PREF + DBManager.getDbFileName() + "_" + table,
+                                                      null);
+
+        return (jsonValidators != null) ? new Gson().fromJson(jsonValidators, SyncValidators.class) : null;
+    }
+
+    /**
+     * Removes the validators of the last full synchronization response of a table of the current database from the
+     * preferences (the next full synchronization downloads the whole response).
+     * @param table The table.
+     */
+    public static void clearSyncValidators(String table) {
+        SharedPreferences.Editor editor = getSharedPrefsEditor();
+
+        editor.remove(SYNC_VALIDATORS_PREF + DBManager.getDbFileName() + "_" + table);
+        editor.apply();
+    }
+
+    /**
+     * Saves the last committed key of the paginated import of a table of the current database into the shared
+     * preferences (written synchronously in order to survive a crash).
+     * @param table The table.
+     * @param key The last committed key.
+     */
+    public static void saveImportKey(String table, long key) {
+        SharedPreferences.Editor editor = getSharedPrefsEditor();
+
+        editor.putLong(IMPORT_KEY_PREF + DBManager.getDbFileName() + "_" + table, key);
+        editor.commit();
+    }
+
+    /**
+     * Gets the last committed key of the paginated import of a table of the current database from the preferences.
+     * @param table The table.
+     * @param fallback The key to return if no import of the table is in progress.
+     * @return The last committed key or the fallback.
+     */
+    public static long loadImportKey(String table, long fallback) {
+        return getSharedPrefs().getLong(IMPORT_KEY_PREF + DBManager.getDbFileName() + "_" + table, fallback);
+    }
+
+    /**
+     * Removes the last committed key of the paginated import of a table of the current database from the preferences
+     * (once the import is finished).
+     * @param table The table.
+     */
+    public static void clearImportKey(String table) {
+        SharedPreferences.Editor editor = getSharedPrefsEditor();
+
+        editor.remove(IMPORT_KEY_PREF + DBManager.getDbFileName() + "_" + table);
+        editor.commit();
+    }
 }
@@ -0,0 +1,151 @@
+package com.imie.a2dev.teamculte.readeo.Utils;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Abstract class used to build the full-text search queries from the user's input and to rank their results.
+ */
+public abstract class SearchUtils {
+    /**
+     * Defines the separator between a field and its value in a field restricted search term (ex: "authors:tolkien").
+     */
+    private static final char FIELD_SEPARATOR = ':';
+
+    /**
+     * Defines the minimum length of a term to be searched as a prefix (shorter terms match whole words only).
+     */
+    private static final int MIN_PREFIX_LENGTH = 2;
+
+    /**
+     * Defines the minimum length of the longest word of a search for its results to be ranked. A search made of shorter
+     * words only (2 characters prefixes) matches a large part of the library, ranking all its matches would miss the
+     * search time budget (20 ms) so its results are returned unranked (by id).
+     */
+    public static final int MIN_RANKED_LENGTH = 3;
+
+    /**
+     * Defines the match info format used to rank the results (phrases count, columns count, hits by phrase and column).
+     */
+    public static final String MATCH_INFO_FORMAT = "pcx";
+
+    /**
+     * From the user's input builds an FTS match expression: each word is searched as a prefix and all the words must
+     * match (in any field). A word prefixed by one of the given fields and a colon only matches in this field.
+     * @param input The user's input.
+     * @param field The field to search in (null to search in all the fields).
+     * @param fields The searchable fields.
+     * @return The match expression or null if the input does not contain any word.
+     */
+    public static String buildMatchQuery(String input, String field, String[] fields) {
+        if (input == null) {
+            return null;
+        }
+
+        List<String> searchableFields = Arrays.asList(fields);
+        StringBuilder query = new StringBuilder();
+
+        for (String chunk : input.trim().split("\\s+")) {
+            String chunkField = field;
+            int separatorIndex = chunk.indexOf(FIELD_SEPARATOR);
+
+            if (separatorIndex > 0 && searchableFields.contains(chunk.substring(0, separatorIndex).toLowerCase())) {
+                chunkField = chunk.substring(0, separatorIndex).toLowerCase();
+                chunk = chunk.substring(separatorIndex + 1);
+            }
+
+            for (String word : SearchUtils.splitWords(chunk)) {
+                if (query.length() > 0) {
+                    query.append(' ');
+                }
+
+                if (chunkField != null) {
+                    query.append(chunkField).append(FIELD_SEPARATOR);
+                }
+
+                query.append(word);
+
+                if (word.length() >= MIN_PREFIX_LENGTH) {
+                    query.append('*');
+                }
+            }
+        }
+
+        return (query.length() == 0) ? null : query.toString();
+    }
+
+    /**
+     * Checks if the results of a match expression (built by buildMatchQuery) have to be ranked, i.e. if one of its
+     * words is at least MIN_RANKED_LENGTH characters long.
+     * @param match The match expression.
+     * @return true if ranked else false.
+     */
+    public static boolean isRanked(String match) {
+        for (String term : match.split(" ")) {
+            int start = term.indexOf(FIELD_SEPARATOR) + 1;
+            int end = (term.endsWith("*")) ? term.length() - 1 : term.length();
+
+            if (end - start >= MIN_RANKED_LENGTH) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * From a match info blob (MATCH_INFO_FORMAT) computes the relevance of a result: for each phrase and field, the
+     * hits in the result divided by the hits in all the results, weighted by field.
+     * @param matchInfo The match info blob of the result.
+     * @param weights The weight of each field (in the index order).
+     * @return The relevance of the result (the bigger the more relevant).
+     */
+    public static double rank(byte[] matchInfo, double[] weights) {
+        IntBuffer values = ByteBuffer.wrap(matchInfo).order(ByteOrder.nativeOrder()).asIntBuffer();
+        int phrases = values.get(0);
+        int columns = values.get(1);
+        double rank = 0;
+
+        for (int phrase = 0; phrase < phrases; phrase++) {
+            for (int column = 0; column < columns && column < weights.length; column++) {
+                int index = 2 + 3 * (phrase * columns + column);
+                int hits = values.get(index);
+
+                if (hits > 0) {
+                    rank += weights[column] * hits / values.get(index + 1);
+                }
+            }
+        }
+
+        return rank;
+    }
+
+    /**
+     * Splits a text into the words indexed by the FTS simple tokenizer (letters and digits sequences), the ASCII
+     * letters are lowered in order to never be read as query operators (AND, OR, NOT, NEAR).
+     * @param text The text to split.
+     * @return The list of words.
+     */
+    private static List<String> splitWords(String text) {
+        StringBuilder builder = new StringBuilder();
+
+        for (int i = 0; i < text.length(); i++) {
+            char character = text.charAt(i);
+
+            if (character >= 'A' && character <= 'Z') {
+                builder.append((char) (character - 'A' + 'a'));
+            } else if (Character.isLetterOrDigit(character) || character > 127) {
+                builder.append(character);
+            } else {
+                builder.append(' ');
+            }
+        }
+
+        String words = builder.toString().trim();
+
+        return (words.isEmpty()) ? Arrays.<String>asList() : Arrays.asList(words.split(" +"));
+    }
+}
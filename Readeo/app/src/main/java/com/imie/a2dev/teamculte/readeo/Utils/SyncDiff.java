@@ -0,0 +1,111 @@
+package com.imie.a2dev.teamculte.readeo.Utils;
+
+/**
+ * Class used to hold the keys of the entities to create, update and delete in order to synchronize a local table with
+ * the distant one, computed by a single merge pass over the snapshots of both tables sorted by ids.
+ */
+public final class SyncDiff {
+    /**
+     * Stores the keys of the entities to create.
+     */
+    private final IdBuffer toCreate;
+
+    /**
+     * Stores the keys of the entities to update.
+     */
+    private final IdBuffer toUpdate;
+
+    /**
+     * Stores the keys of the entities to delete.
+     */
+    private final IdBuffer toDelete;
+
+    /**
+     * SyncDiff's constructor.
+     * @param width The number of ids of a key.
+     */
+    private SyncDiff(int width) {
+        this.toCreate = new IdBuffer(width);
+        this.toUpdate = new IdBuffer(width);
+        this.toDelete = new IdBuffer(width);
+    }
+
+    /**
+     * Computes the diff between the local and the distant entities in O(n + m): a distant entity missing locally is to
+     * create, a local entity missing in the distant ones is to delete, an entity updated more recently in the distant
+     * table is to update. The snapshots are expected sorted by ids (first id, then second...), unsorted snapshots are
+     * sorted in place first.
+     * @param local The local entities.
+     * @param distant The distant entities (same width).
+     * @return The diff.
+     */
+    public static SyncDiff compute(SyncSnapshot local, SyncSnapshot distant) {
+        int width = distant.getWidth();
+        int[] key = new int[width];
+        SyncDiff diff = new SyncDiff(width);
+        int i = 0;
+        int j = 0;
+
+        local.sort();
+        distant.sort();
+
+        while (i < local.size() && j < distant.size()) {
+            int comparison = local.compare(i, distant, j);
+
+            if (comparison < 0) {
+                local.copyKey(i++, diff.toDelete, key);
+            } else if (comparison > 0) {
+                distant.copyKey(j++, diff.toCreate, key);
+            } else {
+                if (local.getUpdate(i) < distant.getUpdate(j)) {
+                    distant.copyKey(j, diff.toUpdate, key);
+                }
+
+                i++;
+                j++;
+            }
+        }
+
+        for (; i < local.size(); i++) {
+            local.copyKey(i, diff.toDelete, key);
+        }
+
+        for (; j < distant.size(); j++) {
+            distant.copyKey(j, diff.toCreate, key);
+        }
+
+        return diff;
+    }
+
+    /**
+     * Gets the toCreate attribute.
+     * @return The IdBuffer value of toCreate attribute.
+     */
+    public IdBuffer getToCreate() {
+        return this.toCreate;
+    }
+
+    /**
+     * Gets the toUpdate attribute.
+     * @return The IdBuffer value of toUpdate attribute.
+     */
+    public IdBuffer getToUpdate() {
+        return this.toUpdate;
+    }
+
+    /**
+     * Gets the toDelete attribute.
+     * @return The IdBuffer value of toDelete attribute.
+     */
+    public IdBuffer getToDelete() {
+        return this.toDelete;
+    }
+
+    /**
+     * Checks if the diff is empty (nothing to create, update or delete: the local table matches the distant one).
+     * @return true if empty else false.
+     */
+    public boolean isEmpty() {
+        return this.toCreate.size() == 0 && this.toUpdate.size() == 0 && this.toDelete.size() == 0;
+    }
+}
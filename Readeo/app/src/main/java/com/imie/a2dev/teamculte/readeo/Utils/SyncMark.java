@@ -0,0 +1,56 @@
+package com.imie.a2dev.teamculte.readeo.Utils;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Class used to hold the high-water mark of a table (the most recent last update and the highest id received from the
+ * API) and the date of its last full synchronization.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public final class SyncMark {
+    /**
+     * Stores the most recent last update received (API format, null if nothing received yet).
+     */
+    private String lastUpdate;
+
+    /**
+     * Stores the highest id received (single id entities only).
+     */
+    private int maxId;
+
+    /**
+     * Stores the date of the last full synchronization (ms since epoch).
+     */
+    private long lastFullSync;
+
+    /**
+     * Moves the mark forward with a received entity (the API dates format is lexicographically ordered).
+     * @param id The id of the entity.
+     * @param update The last update of the entity.
+     */
+    public void advance(int id, String update) {
+        if (id > this.maxId) {
+            this.maxId = id;
+        }
+
+        if (update != null && (this.lastUpdate == null || update.compareTo(this.lastUpdate) > 0)) {
+            this.lastUpdate = update;
+        }
+    }
+
+    /**
+     * Checks if a full synchronization is needed (never synchronized or last full synchronization too old).
+     * @param now The current date (ms since epoch).
+     * @param interval The interval between two full synchronizations (ms).
+     * @return true if a full synchronization is needed else false.
+     */
+    public boolean needsFullSync(long now, long interval) {
+        return this.lastUpdate == null || now - this.lastFullSync >= interval;
+    }
+}
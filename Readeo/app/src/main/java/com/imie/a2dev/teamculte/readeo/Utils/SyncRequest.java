@@ -0,0 +1,183 @@
+package com.imie.a2dev.teamculte.readeo.Utils;
+
+import android.util.JsonReader;
+
+import com.android.volley.NetworkResponse;
+import com.android.volley.ParseError;
+import com.android.volley.Request;
+import com.android.volley.Response;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Class used to request a synchronization query of the API: the response is asked gzip encoded (decompressed while
+ * parsed, see JsonStreamRequest) and the validators of the previous response of the same url (if given) are sent in
+ * order to be answered 304 without body if the response did not change. The received validators are delivered with
+ * the parsed result. The request is neither cached nor shared with the identical requests.
+ * @param <T> The type of the parsed result.
+ */
+public final class SyncRequest<T> extends Request<SyncRequest.Result<T>> {
+    /**
+     * Defines the header of the encodings accepted by the client.
+     */
+    public static final String ACCEPT_ENCODING = "Accept-Encoding";
+
+    /**
+     * Defines the header of the ETag sent back by the client.
+     */
+    public static final String IF_NONE_MATCH = "If-None-Match";
+
+    /**
+     * Defines the header of the Last-Modified date sent back by the client.
+     */
+    public static final String IF_MODIFIED_SINCE = "If-Modified-Since";
+
+    /**
+     * Defines the header of the ETag of a response.
+     */
+    public static final String ETAG = "ETag";
+
+    /**
+     * Defines the header of the Last-Modified date of a response.
+     */
+    public static final String LAST_MODIFIED = "Last-Modified";
+
+    /**
+     * Stores the validators of the previous response (may be null).
+     */
+    private final SyncValidators validators;
+
+    /**
+     * Stores the parser of the response.
+     */
+    private final JsonStreamRequest.Parser<T> parser;
+
+    /**
+     * Stores the listener of the result (may be null).
+     */
+    private final Response.Listener<Result<T>> listener;
+
+    /**
+     * SyncRequest's full filled constructor (GET request).
+     * @param url The url to request.
+     * @param validators The validators of the previous response (may be null).
+     * @param parser The parser of the response (called on the network thread).
+     * @param listener The listener of the result (may be null).
+     * @param errorListener The listener of the errors (network or parsing).
+     */
+    public SyncRequest(String url,
+                       SyncValidators validators,
+                       JsonStreamRequest.Parser<T> parser,
+                       Response.Listener<Result<T>> listener,
+                       Response.ErrorListener errorListener) {
+        super(Method.GET, url, errorListener);
+
+        this.validators = validators;
+        this.parser = parser;
+        this.listener = listener;
+
+        this.setShouldCache(false);
+    }
+
+    @Override
+    public Map<String, String> getHeaders() {
+        Map<String, String> headers = new HashMap<>();
+
+        headers.put(ACCEPT_ENCODING, JsonStreamRequest.GZIP);
+
+        if (this.validators != null && this.validators.appliesTo(this.getUrl())) {
+            if (this.validators.getEtag() != null) {
+                headers.put(IF_NONE_MATCH, this.validators.getEtag());
+            }
+
+            if (this.validators.getLastModified() != null) {
+                headers.put(IF_MODIFIED_SINCE, this.validators.getLastModified());
+            }
+        }
+
+        return headers;
+    }
+
+    @Override
+    protected Response<Result<T>> parseNetworkResponse(NetworkResponse response) {
+        if (response.statusCode == HttpURLConnection.HTTP_NOT_MODIFIED) {
+            return Response.success(new Result<T>(null, this.validators, true), null);
+        }
+
+        try (JsonReader reader = JsonStreamRequest.openReader(response)) {
+            SyncValidators received = new SyncValidators(this.getUrl(), response.headers.get(ETAG),
+                                                         response.headers.get(LAST_MODIFIED));
+
+            return Response.success(new Result<>(this.parser.parse(reader), received, false), null);
+        } catch (IOException | RuntimeException e) {
+            return Response.error(new ParseError(e));
+        }
+    }
+
+    @Override
+    protected void deliverResponse(Result<T> response) {
+        if (this.listener != null) {
+            this.listener.onResponse(response);
+        }
+    }
+
+    /**
+     * Class used to deliver the result of a synchronization query.
+     * @param <T> The type of the parsed result.
+     */
+    public static final class Result<T> {
+        /**
+         * Stores the parsed result (null if not modified).
+         */
+        private final T value;
+
+        /**
+         * Stores the validators of the response.
+         */
+        private final SyncValidators validators;
+
+        /**
+         * Stores if the response did not change since the validators sent (304).
+         */
+        private final boolean notModified;
+
+        /**
+         * Result's full filled constructor.
+         * @param value The parsed result (null if not modified).
+         * @param validators The validators of the response.
+         * @param notModified true if the response did not change else false.
+         */
+        private Result(T value, SyncValidators validators, boolean notModified) {
+            this.value = value;
+            this.validators = validators;
+            this.notModified = notModified;
+        }
+
+        /**
+         * Gets the parsed result.
+         * @return The parsed result (null if not modified).
+         */
+        public T getValue() {
+            return this.value;
+        }
+
+        /**
+         * Gets the validators of the response.
+         * @return The validators.
+         */
+        public SyncValidators getValidators() {
+            return this.validators;
+        }
+
+        /**
+         * Checks if the response did not change since the validators sent (304).
+         * @return true if not modified else false.
+         */
+        public boolean isNotModified() {
+            return this.notModified;
+        }
+    }
+}
@@ -0,0 +1,583 @@
+package com.imie.a2dev.teamculte.readeo.Utils;
+
+import android.content.Context;
+
+import com.imie.a2dev.teamculte.readeo.DBManagers.DBManager;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.BookDBSchema;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.BookListTypeDBSchema;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.CityDBSchema;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.ProfileDBSchema;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.UserDBSchema;
+import com.imie.a2dev.teamculte.readeo.Utils.Enums.SyncState;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class used to synchronize tables from the MySQL database in dependency order: a table is synchronized once all the
+ * tables it depends on (scheduled by the same scheduler) are, independent tables being synchronized at the same time
+ * up to a maximum number of workers. A table whose synchronization failed is not synchronized, the tables depending
+ * on it are held back (skipped).
+ */
+public final class SyncScheduler {
+    /**
+     * Defines the default maximum number of tables synchronized at the same time.
+     */
+    public static final int DEFAULT_WORKERS = 3;
+
+    /**
+     * Stores the context used to listen to the request queue.
+     */
+    private final Context context;
+
+    /**
+     * Stores the maximum number of tables synchronized at the same time.
+     */
+    private final int maxWorkers;
+
+    /**
+     * Stores the listener notified of the progress.
+     */
+    private final SyncSchedulerListener listener;
+
+    /**
+     * Stores the scheduled tables by name (in scheduling order).
+     */
+    private final Map<String, TableNode> nodes = new LinkedHashMap<>();
+
+    /**
+     * Stores the number of tables being synchronized.
+     */
+    private int running;
+
+    /**
+     * Stores the number of tables synchronized.
+     */
+    private int synced;
+
+    /**
+     * Stores the number of tables ended (synchronized, failed or skipped).
+     */
+    private int ended;
+
+    /**
+     * Stores if the synchronization has been started.
+     */
+    private boolean started;
+
+    /**
+     * SyncScheduler's full filled constructor.
+     * @param context The context used to listen to the request queue.
+     * @param maxWorkers The maximum number of tables synchronized at the same time.
+     * @param listener The listener notified of the progress.
+     */
+    public SyncScheduler(Context context, int maxWorkers, SyncSchedulerListener listener) {
+        this.context = context;
+        this.maxWorkers = Math.max(maxWorkers, 1);
+        this.listener = listener;
+    }
+
+    /**
+     * Creates a scheduler synchronizing the tables needed at start up (City, Profile, BookListType, User, BookList,
+     * Quote, Review) with the dependencies of their foreign keys.
+     * @param context The context used to listen to the request queue.
+     * @param listener The listener notified of the progress.
+     * @return The scheduler (not started).
+     */
+    public static SyncScheduler createDefault(Context context, SyncSchedulerListener listener) {
+        SyncScheduler scheduler = new SyncScheduler(context, DEFAULT_WORKERS, listener);
+        ManagerHolderUtils holder = ManagerHolderUtils.getInstance();
+
+        scheduler.addTable(holder.getCityDBManager());
+        scheduler.addTable(holder.getProfileDBManager());
+        scheduler.addTable(holder.getBookListTypeDBManager());
+        scheduler.addTable(holder.getUserDBManager(), CityDBSchema.TABLE, ProfileDBSchema.TABLE);
+        scheduler.addTable(holder.getBookListDBManager(), UserDBSchema.TABLE, BookListTypeDBSchema.TABLE,
+                           BookDBSchema.TABLE);
+        scheduler.addTable(holder.getQuoteDBManager(), UserDBSchema.TABLE, BookDBSchema.TABLE);
+        scheduler.addTable(holder.getReviewDBManager(), UserDBSchema.TABLE, BookDBSchema.TABLE);
+
+        return scheduler;
+    }
+
+    /**
+     * Schedules the synchronization of a manager's table (UpdaterUtils.syncFromMySQL), the table being synchronized
+     * once all the requests of the manager are finished, failed if one of them failed.
+     * @param manager The manager of the table.
+     * @param dependencies The tables to synchronize before (the ones not scheduled are ignored).
+     */
+    public void addTable(final DBManager manager, String... dependencies) {
+        TableNode node = this.addNode(manager.getTable(), () -> UpdaterUtils.syncFromMySQL(manager), dependencies);
+
+        node.queueListener = new TableListener(manager.getTable());
+
+        HTTPRequestQueueSingleton.getInstance(this.context).addListener(manager.getTable(), node.queueListener);
+    }
+
+    /**
+     * Schedules the synchronization of a table, the table being synchronized once onTableSynced is called (failed once
+     * onTableFailed is).
+     * @param table The name of the table.
+     * @param sync The task starting the synchronization.
+     * @param dependencies The tables to synchronize before (the ones not scheduled are ignored).
+     */
+    public void addTable(String table, Runnable sync, String... dependencies) {
+        this.addNode(table, sync, dependencies);
+    }
+
+    /**
+     * Starts the synchronization of the tables without dependency.
+     * @throws IllegalStateException If the dependencies of the tables contain a cycle.
+     */
+    public void start() {
+        List<TableNode> toStart;
+        boolean finished;
+
+        synchronized (this) {
+            if (this.started) {
+                return;
+            }
+
+            this.checkAcyclic();
+
+            this.started = true;
+            finished = this.nodes.isEmpty();
+            toStart = this.pollReady();
+        }
+
+        this.startAll(toStart);
+
+        if (finished) {
+            this.listener.onSyncFinished();
+        }
+    }
+
+    /**
+     * Marks a running table as synchronized, then starts the tables ready to be synchronized.
+     * @param table The name of the table.
+     */
+    public void onTableSynced(String table) {
+        this.endTable(table, SyncState.DONE);
+    }
+
+    /**
+     * Marks a running table as failed, then skips the tables depending on it and starts the tables ready to be
+     * synchronized.
+     * @param table The name of the table.
+     */
+    public void onTableFailed(String table) {
+        this.endTable(table, SyncState.FAILED);
+    }
+
+    /**
+     * Gets the synchronization state of a table.
+     * @param table The name of the table.
+     * @return The state or null if the table is not scheduled.
+     */
+    public synchronized SyncState getState(String table) {
+        TableNode node = this.nodes.get(table);
+
+        return (node == null) ? null : node.state;
+    }
+
+    /**
+     * Gets the number of requests finished by the synchronization of a table.
+     * @param table The name of the table.
+     * @return The number of requests finished.
+     */
+    public synchronized int getFinishedRequests(String table) {
+        TableNode node = this.nodes.get(table);
+
+        return (node == null) ? 0 : node.finishedRequests;
+    }
+
+    /**
+     * Gets the number of requests failed by the synchronization of a table.
+     * @param table The name of the table.
+     * @return The number of requests failed.
+     */
+    public synchronized int getFailedRequests(String table) {
+        TableNode node = this.nodes.get(table);
+
+        return (node == null) ? 0 : node.failedRequests;
+    }
+
+    /**
+     * Gets the number of tables synchronized.
+     * @return The number of tables synchronized.
+     */
+    public synchronized int getSyncedCount() {
+        return this.synced;
+    }
+
+    /**
+     * Checks if a table failed to synchronize (or was skipped because of a failed dependency).
+     * @return true if a table failed or was skipped else false.
+     */
+    public synchronized boolean hasFailed() {
+        return this.ended > this.synced;
+    }
+
+    /**
+     * Gets the number of tables scheduled.
+     * @return The number of tables scheduled.
+     */
+    public synchronized int getTableCount() {
+        return this.nodes.size();
+    }
+
+    /**
+     * Checks if all the tables are ended (synchronized, failed or skipped, see hasFailed).
+     * @return true if the synchronization is started and all the tables are ended else false.
+     */
+    public synchronized boolean isFinished() {
+        return this.started && this.ended == this.nodes.size();
+    }
+
+    /**
+     * Stops listening to the request queue (the tables still running are not marked as synchronized anymore).
+     */
+    public synchronized void release() {
+        for (TableNode node : this.nodes.values()) {
+            if (node.queueListener != null) {
+                HTTPRequestQueueSingleton.getInstance(this.context).removeListener(node.table, node.queueListener);
+            }
+        }
+    }
+
+    /**
+     * Schedules a table.
+     * @param table The name of the table.
+     * @param sync The task starting the synchronization.
+     * @param dependencies The tables to synchronize before.
+     * @return The scheduled node.
+     */
+    private synchronized TableNode addNode(String table, Runnable sync, String[] dependencies) {
+        TableNode node = new TableNode(table, sync, dependencies);
+
+        this.nodes.put(table, node);
+
+        return node;
+    }
+
+    /**
+     * Marks a running table as ended, then notifies the listener and starts the tables ready to be synchronized.
+     * @param table The name of the table.
+     * @param state The end state of the table (DONE or FAILED).
+     */
+    private void endTable(String table, SyncState state) {
+        List<TableNode> skipped;
+        List<TableNode> toStart;
+        boolean finished;
+
+        synchronized (this) {
+            TableNode node = this.nodes.get(table);
+
+            if (node == null || node.state != SyncState.RUNNING) {
+                return;
+            }
+
+            node.state = state;
+            this.running--;
+            this.ended++;
+
+            if (state == SyncState.DONE) {
+                this.synced++;
+            }
+
+            skipped = this.skipBlocked();
+            finished = this.ended == this.nodes.size();
+            toStart = this.pollReady();
+        }
+
+        this.listener.onTableStateChanged(table, state);
+
+        for (TableNode node : skipped) {
+            this.listener.onTableStateChanged(node.table, SyncState.SKIPPED);
+        }
+
+        this.startAll(toStart);
+
+        if (finished) {
+            this.listener.onSyncFinished();
+        }
+    }
+
+    /**
+     * Marks as skipped the waiting tables depending (directly or not) on a failed table.
+     * @return The skipped tables.
+     */
+    private List<TableNode> skipBlocked() {
+        List<TableNode> skipped = new ArrayList<>();
+        boolean changed = true;
+
+        while (changed) {
+            changed = false;
+
+            for (TableNode node : this.nodes.values()) {
+                if (node.state == SyncState.WAITING && this.dependenciesFailed(node)) {
+                    node.state = SyncState.SKIPPED;
+                    this.ended++;
+                    changed = true;
+
+                    skipped.add(node);
+                }
+            }
+        }
+
+        return skipped;
+    }
+
+    /**
+     * Checks if one of the scheduled dependencies of a table failed or was skipped.
+     * @param node The table.
+     * @return true if one of its dependencies failed or was skipped else false.
+     */
+    private boolean dependenciesFailed(TableNode node) {
+        for (String dependency : node.dependencies) {
+            TableNode dependencyNode = this.nodes.get(dependency);
+
+            if (dependencyNode != null && (dependencyNode.state == SyncState.FAILED ||
+                                           dependencyNode.state == SyncState.SKIPPED)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Checks that the dependencies of the tables do not contain a cycle (Kahn's algorithm).
+     * @throws IllegalStateException If the dependencies of the tables contain a cycle.
+     */
+    private void checkAcyclic() {
+        Map<String, Integer> pending = new HashMap<>();
+        Map<String, List<String>> dependents = new HashMap<>();
+        List<String> ready = new ArrayList<>();
+
+        for (TableNode node : this.nodes.values()) {
+            int count = 0;
+
+            for (String dependency : node.dependencies) {
+                if (this.nodes.containsKey(dependency)) {
+                    if (!dependents.containsKey(dependency)) {
+                        dependents.put(dependency, new ArrayList<String>());
+                    }
+
+                    dependents.get(dependency).add(node.table);
+                    count++;
+                }
+            }
+
+            pending.put(node.table, count);
+
+            if (count == 0) {
+                ready.add(node.table);
+            }
+        }
+
+        for (int i = 0; i < ready.size(); i++) {
+            List<String> tableDependents = dependents.get(ready.get(i));
+
+            if (tableDependents == null) {
+                continue;
+            }
+
+            for (String dependent : tableDependents) {
+                int count = pending.get(dependent) - 1;
+
+                pending.put(dependent, count);
+
+                if (count == 0) {
+                    ready.add(dependent);
+                }
+            }
+        }
+
+        if (ready.size() != this.nodes.size()) {
+            List<String> cyclic = new ArrayList<>(this.nodes.keySet());
+
+            cyclic.removeAll(ready);
+
+            throw new IllegalStateException("Cyclic dependencies between the tables : " + cyclic);
+        }
+    }
+
+    /**
+     * Marks as running the waiting tables whose dependencies are synchronized, while workers are available.
+     * @return The tables to start.
+     */
+    private List<TableNode> pollReady() {
+        List<TableNode> ready = new ArrayList<>();
+
+        for (TableNode node : this.nodes.values()) {
+            if (this.running >= this.maxWorkers) {
+                break;
+            }
+
+            if (node.state == SyncState.WAITING && this.dependenciesSynced(node)) {
+                node.state = SyncState.RUNNING;
+                this.running++;
+
+                ready.add(node);
+            }
+        }
+
+        return ready;
+    }
+
+    /**
+     * Checks if the scheduled dependencies of a table are synchronized.
+     * @param node The table.
+     * @return true if its dependencies are synchronized else false.
+     */
+    private boolean dependenciesSynced(TableNode node) {
+        for (String dependency : node.dependencies) {
+            TableNode dependencyNode = this.nodes.get(dependency);
+
+            if (dependencyNode != null && dependencyNode.state != SyncState.DONE) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Starts the synchronization of tables (outside of the lock, a synchronization may end synchronously).
+     * @param toStart The tables to start.
+     */
+    private void startAll(List<TableNode> toStart) {
+        for (TableNode node : toStart) {
+            this.listener.onTableStateChanged(node.table, SyncState.RUNNING);
+            node.sync.run();
+        }
+    }
+
+    /**
+     * Class used to store a scheduled table.
+     */
+    private static final class TableNode {
+        /**
+         * Stores the name of the table.
+         */
+        private final String table;
+
+        /**
+         * Stores the task starting the synchronization.
+         */
+        private final Runnable sync;
+
+        /**
+         * Stores the tables to synchronize before.
+         */
+        private final String[] dependencies;
+
+        /**
+         * Stores the synchronization state.
+         */
+        private SyncState state = SyncState.WAITING;
+
+        /**
+         * Stores the number of requests finished by the synchronization.
+         */
+        private int finishedRequests;
+
+        /**
+         * Stores the number of requests failed by the synchronization.
+         */
+        private int failedRequests;
+
+        /**
+         * Stores the listener of the requests of the table (null if the synchronization is not a manager's one).
+         */
+        private HTTPRequestQueueSingleton.HTTPRequestQueueListener queueListener;
+
+        /**
+         * TableNode's full filled constructor.
+         * @param table The name of the table.
+         * @param sync The task starting the synchronization.
+         * @param dependencies The tables to synchronize before.
+         */
+        private TableNode(String table, Runnable sync, String[] dependencies) {
+            this.table = table;
+            this.sync = sync;
+            this.dependencies = dependencies;
+        }
+    }
+
+    /**
+     * Class used to follow the requests of a manager's table.
+     */
+    private final class TableListener implements HTTPRequestQueueSingleton.HTTPRequestQueueListener {
+        /**
+         * Stores the name of the table.
+         */
+        private final String table;
+
+        /**
+         * TableListener's full filled constructor.
+         * @param table The name of the table.
+         */
+        private TableListener(String table) {
+            this.table = table;
+        }
+
+        @Override
+        public void onRequestsFinished() {
+            boolean failed;
+
+            synchronized (SyncScheduler.this) {
+                failed = SyncScheduler.this.nodes.get(this.table).failedRequests > 0;
+            }
+
+            if (failed) {
+                SyncScheduler.this.onTableFailed(this.table);
+            } else {
+                SyncScheduler.this.onTableSynced(this.table);
+            }
+        }
+
+        @Override
+        public void onRequestFinished() {
+            synchronized (SyncScheduler.this) {
+                TableNode node = SyncScheduler.this.nodes.get(this.table);
+
+                if (node.state == SyncState.RUNNING) {
+                    node.finishedRequests++;
+                }
+            }
+        }
+
+        @Override
+        public void onRequestError() {
+            synchronized (SyncScheduler.this) {
+                TableNode node = SyncScheduler.this.nodes.get(this.table);
+
+                if (node.state == SyncState.RUNNING) {
+                    node.failedRequests++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Interface used to follow the progress of a synchronization.
+     */
+    public interface SyncSchedulerListener {
+        /**
+         * Called when a table starts or ends its synchronization.
+         * @param table The name of the table.
+         * @param state The new state of the table.
+         */
+        void onTableStateChanged(String table, SyncState state);
+
+        /**
+         * Called when all the tables are ended (synchronized, failed or skipped, see hasFailed).
+         */
+        void onSyncFinished();
+    }
+}
@@ -0,0 +1,271 @@
+package com.imie.a2dev.teamculte.readeo.Utils;
+
+import java.util.Arrays;
+
+/**
+ * Class used to hold the sync metadata of a table (ids and last update of each entity) into parallel primitive
+ * columns: one int array per id and a long array of last updates (ms), instead of one object per entity.
+ */
+public final class SyncSnapshot {
+    /**
+     * Defines the length of a date formatted with the default format (yyyy-MM-dd HH:mm:ss).
+     */
+    private static final int DATE_LENGTH = 19;
+
+    /**
+     * Defines the number of milliseconds by day.
+     */
+    private static final long DAY_MILLIS = 86400000L;
+
+    /**
+     * Stores the id columns (one per id of a key).
+     */
+    private int[][] ids;
+
+    /**
+     * Stores the last updates (ms).
+     */
+    private long[] updates;
+
+    /**
+     * Stores the number of entities.
+     */
+    private int size;
+
+    /**
+     * SyncSnapshot's constructor.
+     * @param width The number of ids of a key.
+     * @param capacity The expected number of entities.
+     */
+    public SyncSnapshot(int width, int capacity) {
+        this.ids = new int[width][Math.max(capacity, 1)];
+        this.updates = new long[Math.max(capacity, 1)];
+    }
+
+    /**
+     * Parses a date formatted with the default format (yyyy-MM-dd HH:mm:ss) into milliseconds since epoch, the date
+     * being read as UTC (the same way as SQLite's strftime) without allocating.
+     * @param date The date to parse.
+     * @return The milliseconds since epoch or Long.MIN_VALUE if the date is not valid.
+     */
+    public static long parseMillis(String date) {
+        if (date == null || date.length() != DATE_LENGTH || date.charAt(4) != '-' || date.charAt(7) != '-' ||
+            date.charAt(10) != ' ' || date.charAt(13) != ':' || date.charAt(16) != ':') {
+            return Long.MIN_VALUE;
+        }
+
+        int year = SyncSnapshot.parseDigits(date, 0, 4);
+        int month = SyncSnapshot.parseDigits(date, 5, 2);
+        int day = SyncSnapshot.parseDigits(date, 8, 2);
+        int hours = SyncSnapshot.parseDigits(date, 11, 2);
+        int minutes = SyncSnapshot.parseDigits(date, 14, 2);
+        int seconds = SyncSnapshot.parseDigits(date, 17, 2);
+
+        if (year < 1 || month < 1 || month > 12 || day < 1 || day > 31 || hours < 0 || hours > 23 || minutes < 0 ||
+            minutes > 59 || seconds < 0 || seconds > 59) {
+            return Long.MIN_VALUE;
+        }
+
+        return SyncSnapshot.daysFromCivil(year, month, day) * DAY_MILLIS +
+               ((hours * 60L + minutes) * 60L + seconds) * 1000L;
+    }
+
+    /**
+     * Gets the number of ids of a key.
+     * @return The number of ids of a key.
+     */
+    public int getWidth() {
+        return this.ids.length;
+    }
+
+    /**
+     * Gets the number of entities.
+     * @return The number of entities.
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets an id of an entity.
+     * @param index The index of the entity.
+     * @param column The position of the id into the key.
+     * @return The id.
+     */
+    public int getId(int index, int column) {
+        return this.ids[column][index];
+    }
+
+    /**
+     * Gets the last update of an entity.
+     * @param index The index of the entity.
+     * @return The last update (ms).
+     */
+    public long getUpdate(int index) {
+        return this.updates[index];
+    }
+
+    /**
+     * Adds an entity, growing the columns if needed.
+     * @param key The ids of the entity (only read, it can be reused by the caller).
+     * @param update The last update of the entity (ms).
+     */
+    public void add(int[] key, long update) {
+        if (this.size == this.updates.length) {
+            int capacity = this.size * 2;
+
+            for (int k = 0; k < this.ids.length; k++) {
+                this.ids[k] = Arrays.copyOf(this.ids[k], capacity);
+            }
+
+            this.updates = Arrays.copyOf(this.updates, capacity);
+        }
+
+        for (int k = 0; k < this.ids.length; k++) {
+            this.ids[k][this.size] = key[k];
+        }
+
+        this.updates[this.size++] = update;
+    }
+
+    /**
+     * Copies the key of an entity into an IdBuffer.
+     * @param index The index of the entity.
+     * @param target The buffer to add the key to.
+     * @param key A scratch array of width ids used for the copy.
+     */
+    public void copyKey(int index, IdBuffer target, int[] key) {
+        for (int k = 0; k < this.ids.length; k++) {
+            key[k] = this.ids[k][index];
+        }
+
+        target.add(key, 0);
+    }
+
+    /**
+     * Compares the key of an entity with the key of an entity of another snapshot, id by id.
+     * @param index The index of the entity.
+     * @param other The other snapshot (same width).
+     * @param otherIndex The index of the entity of the other snapshot.
+     * @return A negative value if the key is lower, 0 if equal, else a positive value.
+     */
+    public int compare(int index, SyncSnapshot other, int otherIndex) {
+        for (int k = 0; k < this.ids.length; k++) {
+            int comparison = Integer.compare(this.ids[k][index], other.ids[k][otherIndex]);
+
+            if (comparison != 0) {
+                return comparison;
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Sorts in place the entities by ids (first id, then second...) if they are not already sorted (O(n) check, then
+     * heap sort without allocation).
+     */
+    public void sort() {
+        int sorted = 1;
+
+        while (sorted < this.size && this.compare(sorted - 1, this, sorted) <= 0) {
+            sorted++;
+        }
+
+        if (sorted >= this.size) {
+            return;
+        }
+
+        for (int root = this.size / 2 - 1; root >= 0; root--) {
+            this.siftDown(root, this.size);
+        }
+
+        for (int end = this.size - 1; end > 0; end--) {
+            this.swap(0, end);
+            this.siftDown(0, end);
+        }
+    }
+
+    /**
+     * Parses an unsigned number of a string.
+     * @param value The string.
+     * @param start The position of the first digit.
+     * @param length The number of digits.
+     * @return The number or -1 if a character is not a digit.
+     */
+    private static int parseDigits(String value, int start, int length) {
+        int number = 0;
+
+        for (int i = start; i < start + length; i++) {
+            int digit = value.charAt(i) - '0';
+
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+
+            number = number * 10 + digit;
+        }
+
+        return number;
+    }
+
+    /**
+     * Computes the number of days since epoch of a date of the proleptic Gregorian calendar.
+     * @param year The year.
+     * @param month The month (1 to 12).
+     * @param day The day of month.
+     * @return The number of days since 1970-01-01.
+     */
+    private static long daysFromCivil(int year, int month, int day) {
+        int y = (month <= 2) ? year - 1 : year;
+        int era = y / 400;
+        int yearOfEra = y - era * 400;
+        int dayOfYear = (153 * (month + ((month > 2) ? -3 : 9)) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+
+        return era * 146097L + dayOfEra - 719468L;
+    }
+
+    /**
+     * Moves down an entity of the heap until its children are lower.
+     * @param root The index of the entity to move.
+     * @param size The number of entities of the heap.
+     */
+    private void siftDown(int root, int size) {
+        int child = 2 * root + 1;
+
+        while (child < size) {
+            if (child + 1 < size && this.compare(child, this, child + 1) < 0) {
+                child++;
+            }
+
+            if (this.compare(root, this, child) >= 0) {
+                return;
+            }
+
+            this.swap(root, child);
+
+            root = child;
+            child = 2 * root + 1;
+        }
+    }
+
+    /**
+     * Swaps two entities.
+     * @param first The index of the first entity.
+     * @param second The index of the second entity.
+     */
+    private void swap(int first, int second) {
+        for (int[] column : this.ids) {
+            int id = column[first];
+
+            column[first] = column[second];
+            column[second] = id;
+        }
+
+        long update = this.updates[first];
+
+        this.updates[first] = this.updates[second];
+        this.updates[second] = update;
+    }
+}
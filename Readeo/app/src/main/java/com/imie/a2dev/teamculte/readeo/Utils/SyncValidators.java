@@ -0,0 +1,40 @@
+package com.imie.a2dev.teamculte.readeo.Utils;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Class used to hold the validators of the last response of a synchronization query (its ETag and Last-Modified
+ * headers), sent back in order to be answered 304 if the response did not change.
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public final class SyncValidators {
+    /**
+     * Stores the url of the response (the validators are only sent back to the same url).
+     */
+    private String url;
+
+    /**
+     * Stores the ETag of the response (null if not sent by the API).
+     */
+    private String etag;
+
+    /**
+     * Stores the Last-Modified date of the response (HTTP format, null if not sent by the API).
+     */
+    private String lastModified;
+
+    /**
+     * Checks if the validators can be sent with a request (same url and at least one validator).
+     * @param requestUrl The url of the request.
+     * @return true if applicable else false.
+     */
+    public boolean appliesTo(String requestUrl) {
+        return requestUrl.equals(this.url) && (this.etag != null || this.lastModified != null);
+    }
+}
@@ -2,6 +2,9 @@ package com.imie.a2dev.teamculte.readeo.Utils;
 
 import android.database.Cursor;
 import android.database.sqlite.SQLiteException;
+import android.net.Uri;
+import android.util.JsonReader;
+import android.util.JsonToken;
 import android.util.Log;
 
 import com.android.volley.Request;
@@ -11,18 +14,17 @@ import com.imie.a2dev.teamculte.readeo.DBManagers.DBManager;
 
 import com.imie.a2dev.teamculte.readeo.DBSchemas.CommonDBSchema;
 
-import org.joda.time.DateTime;
 import org.joda.time.format.DateTimeFormat;
 import org.joda.time.format.DateTimeFormatter;
 import org.json.JSONArray;
 import org.json.JSONException;
 import org.json.JSONObject;
 
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.imie.a2dev.teamculte.readeo.DBSchemas.CommonDBSchema.UPDATE;
 
@@ -37,53 +39,53 @@ public final class UpdaterUtils {
     private static final String ERR_TAG = "[UpdaterUtils:%s] : ";
 
     /**
-     * Defines the update key from sync maps.
+     * Defines the interval between two full synchronizations of a table (the only ones detecting the deletions), the
+     * other synchronizations only query the entities above the table's sync mark.
      */
-    private static final String TO_UPDATE_KEY = "update";
+    private static final long FULL_SYNC_INTERVAL = TimeUnit.HOURS.toMillis(6);
 
     /**
-     * Defines the delete key from sync maps.
+     * Defines the default number of entities fetched by request while synchronizing.
      */
-    private static final String TO_DELETE_KEY = "delete";
+    private static final int BATCH_SIZE = 200;
 
     /**
-     * Defines the create key from sync maps.
+     * Defines the default maximum number of batches requested at the same time while synchronizing.
      */
-    private static final String TO_CREATE_KEY = "create";
+    private static final int MAX_BATCHES_IN_FLIGHT = 4;
 
     /**
-     * Stores the associated date and time formatter.
+     * Stores the associated date and time formatter (UTC, as the dates of the sync snapshots).
      */
     private static final DateTimeFormatter FORMATTER = DateTimeFormat
-            .forPattern(CommonDBSchema.DEFAULT_FORMAT);
+            .forPattern(CommonDBSchema.DEFAULT_FORMAT).withZoneUTC();
 
     /**
-     * From a json update response (ids and last update date), gets the values and returns them into a list of
-     * UpdateDataElements.
+     * From a json update response (ids and last update date), gets the values in a single pass and returns them into
+     * a columnar snapshot.
      * @param result The JSON response containing the ids and last update date.
      * @param manager The associated DBManager.
-     * @return The result into a list of UpdateDataElements.
+     * @return The snapshot of the entities (null if the response is malformed).
      */
-    public static List<UpdateDataElement> getUpdateFieldsFromJSON(JSONArray result,
-                                                                  DBManager manager) {
-        JSONObject elt;
-
-        List<UpdateDataElement> data = new ArrayList<>();
+    public static SyncSnapshot getUpdateFieldsFromJSON(JSONArray result, DBManager manager) {
+        String[] ids = manager.getIds();
+        int[] key = new int[ids.length];
+        SyncSnapshot snapshot = new SyncSnapshot(ids.length, result.length());
 
         for (int i = 0; i < result.length(); i++) {
             try {
-                elt = result.getJSONObject(i);
-                int[] idsToAdd = new int[manager.getIds().length];
+                JSONObject elt = result.getJSONObject(i);
 
-                for (int j = 0; j < idsToAdd.length; j++) {
-                    idsToAdd[j] = elt.getInt(manager.getIds()[j]);
+                for (int j = 0; j < key.length; j++) {
+                    key[j] = elt.getInt(ids[j]);
                 }
 
-                try {
-                    data.add(new UpdateDataElement(idsToAdd,
-                                                   FORMATTER.parseDateTime(elt.getString(UPDATE))));
-                } catch (Exception e) {
-                    Log.e(String.format(ERR_TAG, "getUpdateFieldsFromJSON"), e.getMessage());
+                long update = SyncSnapshot.parseMillis(elt.getString(UPDATE));
+
+                if (update == Long.MIN_VALUE) {
+                    Log.e(String.format(ERR_TAG, "getUpdateFieldsFromJSON"), "Invalid date : " + elt.getString(UPDATE));
+                } else {
+                    snapshot.add(key, update);
                 }
             } catch (JSONException e) {
                 Log.e(String.format(ERR_TAG, "getUpdateFieldsFromJSON"), e.getMessage());
@@ -92,75 +94,204 @@ public final class UpdaterUtils {
             }
         }
 
-        return data;
+        return snapshot;
+    }
+
+    /**
+     * From a json update response read as a stream (ids and last update date), gets the values in a single pass and
+     * returns them into a columnar snapshot, without building the JSON objects of the response.
+     * @param reader The reader positioned at the beginning of the response.
+     * @param manager The associated DBManager.
+     * @return The snapshot of the entities.
+     * @throws IOException If the response is malformed.
+     */
+    public static SyncSnapshot readUpdateFields(JsonReader reader, DBManager manager) throws IOException {
+        String[] ids = manager.getIds();
+        int[] key = new int[ids.length];
+        SyncSnapshot snapshot = new SyncSnapshot(ids.length, 0);
+
+        reader.beginArray();
+
+        while (reader.hasNext()) {
+            String update = null;
+            int found = 0;
+
+            reader.beginObject();
+
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                int index = (reader.peek() != JsonToken.NULL) ? UpdaterUtils.indexOf(ids, name) : -1;
+
+                if (index >= 0) {
+                    key[index] = reader.nextInt();
+                    found++;
+                } else if (UPDATE.equals(name) && reader.peek() != JsonToken.NULL) {
+                    update = reader.nextString();
+                } else {
+                    reader.skipValue();
+                }
+            }
+
+            reader.endObject();
+
+            long millis = SyncSnapshot.parseMillis(update);
+
+            if (found != ids.length) {
+                Log.e(String.format(ERR_TAG, "readUpdateFields"), "Missing id in " + manager.getTable());
+            } else if (millis == Long.MIN_VALUE) {
+                Log.e(String.format(ERR_TAG, "readUpdateFields"), "Invalid date : " + update);
+            } else {
+                snapshot.add(key, millis);
+            }
+        }
+
+        reader.endArray();
+
+        return snapshot;
+    }
+
+    /**
+     * Synchronizes a table from the MySQL database: only pulls the entities above its sync mark (delta), unless it has
+     * never been synchronized or its last full synchronization is older than FULL_SYNC_INTERVAL.
+     * @param manager The associated DBManager.
+     */
+    public static void syncFromMySQL(final DBManager manager) {
+        SyncMark mark = PreferencesUtils.loadSyncMark(manager.getTable());
+
+        if (mark.needsFullSync(System.currentTimeMillis(), FULL_SYNC_INTERVAL)) {
+            UpdaterUtils.getUpdateFromMySQL(manager);
+        } else {
+            UpdaterUtils.getNewerFromMySQL(manager, mark);
+        }
     }
 
     /**
      * Gets the list of MySQL ids and last update fields in order to check which entities needs to be updated, then
-     * compare and perform the update.
+     * compare and perform the update (full synchronization, also detecting the deletions). The sync mark of the table
+     * is reset from the received fields once all the changed entities are fetched, it is kept if a fetch failed (so
+     * that the delta synchronizations do not skip the missing entities). The SQLite fields are read once the response
+     * is received, on the database thread as the diff. The list is requested with the validators of the previous one:
+     * if it did not change (304) the synchronization is a no-op, only the date of the last full synchronization is
+     * moved. The validators are only kept if the SQLite database already matched the list (nothing to fetch, whose
+     * requests could fail).
      * @param manager The associated DBManager.
      */
     public static void getUpdateFromMySQL(final DBManager manager) {
-        final List<UpdateDataElement> updateFieldsSQLite = UpdaterUtils
-                .getUpdateFieldsSQLite(manager);
+        String url = manager.getBaseUrl() + APIManager.READ_UPDATE;
+        SyncValidators validators = PreferencesUtils.loadSyncValidators(manager.getTable());
+
+        manager.requestSync(url, validators, reader -> UpdaterUtils.readUpdateFields(reader, manager), result -> {
+            if (result.isNotModified()) {
+                SyncMark mark = PreferencesUtils.loadSyncMark(manager.getTable());
+
+                mark.setLastFullSync(System.currentTimeMillis());
+                PreferencesUtils.saveSyncMark(manager.getTable(), mark);
+
+                return;
+            }
 
-        manager.requestJsonArray(Request.Method.GET, manager.getBaseUrl() + APIManager.READ_UPDATE,
-                                 response -> {
-                                     List<UpdateDataElement> fieldsMySQL = UpdaterUtils
-                                             .getUpdateFieldsFromJSON(response, manager);
-                                     Map<String, List<int[]>> syncDataMap = UpdaterUtils
-                                             .getSyncData(updateFieldsSQLite, fieldsMySQL);
+            SyncSnapshot fieldsSQLite = UpdaterUtils.getUpdateFieldsSQLite(manager);
+            SyncDiff diff = UpdaterUtils.getSyncData(fieldsSQLite, result.getValue());
 
-                                     UpdaterUtils.performDbUpdates(syncDataMap, manager);
+            UpdaterUtils.performDbUpdates(diff, manager).then((updated, error) -> {
+                if (error == null) {
+                    UpdaterUtils.saveFullSyncMark(manager, result.getValue());
+                } else {
+                    Log.e(String.format(ERR_TAG, "getUpdateFromMySQL"),
+                          "Sync mark kept, an entity fetch failed : " + manager.getTable());
+                }
+            });
 
-                                     HTTPRequestQueueSingleton.getInstance(manager.getContext())
-                                                              .finishRequest(manager.getTable());
-                                 }, null);
+            if (diff != null && diff.isEmpty()) {
+                PreferencesUtils.saveSyncValidators(manager.getTable(), result.getValidators());
+            } else {
+                PreferencesUtils.clearSyncValidators(manager.getTable());
+            }
+        }, null);
     }
 
     /**
-     * Gets the list of id(s) / last_update from the SQLite database.
+     * Gets the entities updated since the sync mark of the table (and, for single id entities, the ones created with
+     * an id above it) and stores them into the SQLite database, moving the mark forward. The API compares the dates
+     * strictly with a precision of one second: the bound is not lowered (the entities sharing the last update of the
+     * mark would be downloaded again on each synchronization), an entity updated later in the same second is caught
+     * by the next full synchronization.
      * @param manager The associated DBManager.
-     * @return A list of UpdateDataElements.
+     * @param mark The sync mark of the table.
      */
-    public static List<UpdateDataElement> getUpdateFieldsSQLite(final DBManager manager) {
+    public static void getNewerFromMySQL(final DBManager manager, final SyncMark mark) {
+        String url = manager.getBaseUrl() + APIManager.READ + APIManager.NEW + "&" + UPDATE + "=" +
+                     Uri.encode(mark.getLastUpdate());
+
+        manager.requestSync(url, null, DBManager::readPage,
+                            result -> UpdaterUtils.importNewer(manager, mark, result.getValue()), null);
+
+        if (manager.getIds().length == 1) {
+            url = manager.getBaseUrl() + APIManager.READ + APIManager.ABOVE + "&" + manager.getIds()[0] + "=" +
+                  mark.getMaxId();
+
+            manager.requestSync(url, null, DBManager::readPage,
+                                result -> UpdaterUtils.importNewer(manager, mark, result.getValue()), null);
+        }
+    }
+
+    /**
+     * Gets the id(s) / last_update of the SQLite database into a columnar snapshot, in a single pass over the cursor.
+     * The dates are converted to milliseconds by SQLite (strftime, read as UTC like SyncSnapshot.parseMillis), the
+     * entities with an invalid date are skipped.
+     * @param manager The associated DBManager.
+     * @return The snapshot of the entities sorted by ids.
+     */
+    public static SyncSnapshot getUpdateFieldsSQLite(final DBManager manager) {
         try {
-            int idsNumber = manager.getIds().length;
+            String[] ids = manager.getIds();
             StringBuilder builder = new StringBuilder("SELECT ");
 
-            for (int i = 0; i < idsNumber; i++) {
-                builder.append(manager.getIds()[i]);
+            for (String id : ids) {
+                builder.append(id);
                 builder.append(", ");
             }
 
+            builder.append("CAST(strftime('%s', ");
+            builder.append(UPDATE);
+            builder.append(") AS INTEGER) * 1000 AS ");
             builder.append(UPDATE);
             builder.append(" FROM ");
             builder.append(manager.getTable());
             builder.append(" ORDER BY ");
-            builder.append(manager.getIds()[0]);
+
+            for (int i = 0; i < ids.length; i++) {
+                builder.append((i > 0) ? ", " : "");
+                builder.append(ids[i]);
+            }
 
             Cursor result = manager.getDatabase().rawQuery(builder.toString(), null);
-            List<UpdateDataElement> data = new ArrayList<>();
+            SyncSnapshot snapshot = new SyncSnapshot(ids.length, result.getCount());
+            int[] columns = new int[ids.length];
+            int updateColumn = result.getColumnIndex(UPDATE);
+            int[] key = new int[ids.length];
+
+            for (int i = 0; i < ids.length; i++) {
+                columns[i] = result.getColumnIndex(ids[i]);
+            }
 
             while (result.moveToNext()) {
-                int[] idsToAdd = new int[idsNumber];
+                if (result.isNull(updateColumn)) {
+                    Log.e(String.format(ERR_TAG, "getUpdateFieldsSQLite"), "Invalid date in " + manager.getTable());
 
-                for (int j = 0; j < idsToAdd.length; j++) {
-                    idsToAdd[j] = result.getInt(result.getColumnIndex(manager.getIds()[j]));
+                    continue;
                 }
 
-                try {
-                    data.add(new UpdateDataElement(idsToAdd,
-                                                   FORMATTER.parseDateTime(result.getString(
-                                                           result.getColumnIndex(UPDATE)))));
-                } catch (Exception e) {
-                    Log.e(String.format(ERR_TAG, "getUpdateFieldsSQLite"), e.getMessage());
+                for (int i = 0; i < key.length; i++) {
+                    key[i] = result.getInt(columns[i]);
                 }
+
+                snapshot.add(key, result.getLong(updateColumn));
             }
 
             result.close();
 
-            return data;
+            return snapshot;
         } catch (SQLiteException e) {
             Log.e(String.format(ERR_TAG, "getUpdateFieldsSQLite"), e.getMessage());
 
@@ -169,131 +300,227 @@ public final class UpdaterUtils {
     }
 
     /**
-     * From a map containing the elements to create, update, delete, perform the associated operations.
-     * @param syncDataMap The map containing the elements.
+     * From a diff containing the elements to create, update, delete, perform the associated operations (with the
+     * default batch size and number of batches in flight).
+     * @param diff The diff containing the elements.
      * @param manager The associated DBManager.
+     * @return The future completed once all the entities are fetched and stored (failed if a fetch failed).
      */
-    public static void performDbUpdates(Map<String, List<int[]>> syncDataMap,
-                                        final DBManager manager) {
-        String url;
+    public static HTTPRequestFuture<Void> performDbUpdates(SyncDiff diff, final DBManager manager) {
+        return UpdaterUtils.performDbUpdates(diff, manager, BATCH_SIZE, MAX_BATCHES_IN_FLIGHT);
+    }
+
+    /**
+     * From a diff containing the elements to create, update, delete, perform the associated operations. The entities
+     * to create or update of single id managers are fetched by batches of ids (at most maxInFlight batches requested
+     * at the same time, the next one being requested when one is received), the other ones one by one. All the
+     * fetches are GET requests (the ids are in the query string) so that they do not clear the responses shared by
+     * CoalescingNetwork as writes do. The cached entities of the table are invalidated once all the fetches are
+     * completed.
+     * @param diff The diff containing the elements.
+     * @param manager The associated DBManager.
+     * @param batchSize The maximum number of entities fetched by request.
+     * @param maxInFlight The maximum number of batches requested at the same time.
+     * @return The future completed once all the entities are fetched and stored (failed if a fetch failed).
+     */
+    public static HTTPRequestFuture<Void> performDbUpdates(SyncDiff diff, final DBManager manager, int batchSize,
+                                                           int maxInFlight) {
+        if (diff == null) {
+            return HTTPRequestFuture.completed(null);
+        }
+
+        List<HTTPRequestFuture<Void>> fetches = new ArrayList<>();
+
+        if (manager.getIds().length == 1) {
+            IdBuffer toFetch = new IdBuffer(1);
 
-        if (syncDataMap != null) {
-            for (int[] elt : syncDataMap.get(TO_CREATE_KEY)) {
-                url = UpdaterUtils.buildUpdateUrl(manager, elt);
+            toFetch.addAll(diff.getToCreate());
+            toFetch.addAll(diff.getToUpdate());
 
-                manager.requestJsonArray(Request.Method.POST, url, response -> {
+            List<String> batches = UpdaterUtils.buildBatchUrls(manager.getBaseUrl(), toFetch, batchSize);
+            AtomicInteger next = new AtomicInteger();
+
+            for (int i = 0; i < batches.size(); i++) {
+                fetches.add(new HTTPRequestFuture<Void>());
+            }
+
+            for (int i = 0; i < maxInFlight; i++) {
+                UpdaterUtils.fetchNextBatch(manager, batches, fetches, next);
+            }
+        } else {
+            for (int i = 0; i < diff.getToCreate().size(); i++) {
+                String url = UpdaterUtils.buildUpdateUrl(manager, diff.getToCreate().get(i));
+                HTTPRequestFuture<Void> fetch = new HTTPRequestFuture<>();
+
+                fetches.add(fetch);
+                manager.requestJsonArray(Request.Method.GET, url, response -> {
                     try {
                         manager.createSQLite(response.getJSONObject(0));
+                        fetch.complete(null);
                     } catch (JSONException e) {
                         Log.e(String.format(ERR_TAG, "performDbUpdates"), e.getMessage());
-                    } finally {
-                        HTTPRequestQueueSingleton.getInstance(manager.getContext()).finishRequest(
-                                manager.getTable());
+                        manager.reportRequestError();
+                        fetch.fail(e);
                     }
-                }, null);
+                }, error -> {
+                    manager.reportRequestError();
+                    fetch.fail(error);
+                });
             }
 
-            for (int[] elt : syncDataMap.get(TO_UPDATE_KEY)) {
-                url = UpdaterUtils.buildUpdateUrl(manager, elt);
+            for (int i = 0; i < diff.getToUpdate().size(); i++) {
+                String url = UpdaterUtils.buildUpdateUrl(manager, diff.getToUpdate().get(i));
+                HTTPRequestFuture<Void> fetch = new HTTPRequestFuture<>();
 
-                manager.requestJsonArray(Request.Method.POST, url, response -> {
+                fetches.add(fetch);
+                manager.requestJsonArray(Request.Method.GET, url, response -> {
                     try {
                         manager.updateSQLite(response.getJSONObject(0));
+                        fetch.complete(null);
                     } catch (JSONException e) {
                         Log.e(String.format(ERR_TAG, "performDbUpdates"), e.getMessage());
-                    } finally {
-                        HTTPRequestQueueSingleton.getInstance(manager.getContext()).finishRequest(
-                                manager.getTable());
+                        manager.reportRequestError();
+                        fetch.fail(e);
                     }
-                }, null);
+                }, error -> {
+                    manager.reportRequestError();
+                    fetch.fail(error);
+                });
             }
+        }
+
+        for (int i = 0; i < diff.getToDelete().size(); i++) {
+            manager.deleteSQLite(diff.getToDelete().get(i));
+        }
+
+        HTTPRequestFuture<Void> stored = HTTPRequestFuture.allSucceeded(fetches);
+
+        stored.then((result, error) -> manager.invalidateCache());
+
+        return stored;
+    }
+
+    /**
+     * Builds the urls fetching entities (single id entities) by batches of ids.
+     * @param baseUrl The API url of the entities.
+     * @param elements The ids of the entities to fetch.
+     * @param batchSize The maximum number of ids by url.
+     * @return The urls.
+     */
+    public static List<String> buildBatchUrls(String baseUrl, IdBuffer elements, int batchSize) {
+        List<String> urls = new ArrayList<>();
 
-            for (int[] elt : syncDataMap.get(TO_DELETE_KEY)) {
-                manager.deleteSQLite(elt);
+        for (int i = 0; i < elements.size(); i += batchSize) {
+            StringBuilder builder = new StringBuilder(baseUrl + APIManager.READ + APIManager.IDS + "=");
+
+            for (int j = i; j < Math.min(i + batchSize, elements.size()); j++) {
+                if (j > i) {
+                    builder.append(",");
+                }
+
+                builder.append(elements.getId(j, 0));
             }
+
+            urls.add(builder.toString());
         }
+
+        return urls;
     }
 
     /**
-     * From a list of UpdateElement from local database and a distant one (SQLite - MySQL), checks the ids and date
-     * in order to return a map gathering the element to update, create and delete.
-     * @param local The local elements list.
-     * @param distant The distant elements list.
-     * @return The map of elements (create, update, delete).
+     * From the snapshots of the local and the distant databases (SQLite - MySQL), computes the diff gathering the
+     * elements to create, update and delete.
+     * @param local The local snapshot.
+     * @param distant The distant snapshot.
+     * @return The diff (null if the distant snapshot is empty or if the keys do not have the same number of ids).
      */
-    private static Map<String, List<int[]>> getSyncData(List<UpdateDataElement> local,
-                                                        List<UpdateDataElement> distant) {
-        if (distant == null || local == null || distant.size() == 0 ||
-            (local.size() != 0 && local.get(0).size() != distant.get(0).size())) {
+    private static SyncDiff getSyncData(SyncSnapshot local, SyncSnapshot distant) {
+        if (distant == null || local == null || distant.size() == 0 || local.getWidth() != distant.getWidth()) {
             return null;
         }
 
-        if (local.size() == 0) {
-            local.add(new UpdateDataElement(distant.get(0).getIds().length));
+        return SyncDiff.compute(local, distant);
+    }
+
+    /**
+     * Stores the entities received by a delta synchronization into the SQLite database and saves the moved sync mark.
+     * @param manager The associated DBManager.
+     * @param mark The sync mark of the table.
+     * @param entities The received entities.
+     */
+    private static void importNewer(DBManager manager, SyncMark mark, JSONArray entities) {
+        if (entities.length() == 0) {
+            return;
         }
 
-        boolean same;
-        UpdateDataElement localElement;
-        UpdateDataElement distantElement;
-
-        final int syncIdNb = distant.get(0).size();
-        final UpdateDataElement element = new UpdateDataElement(syncIdNb);
-        Map<String, List<int[]>> syncDataMap = new HashMap<>();
-        ArrayList<int[]> toCreateData = new ArrayList<>();
-        ArrayList<int[]> toUpdateData = new ArrayList<>();
-        ArrayList<int[]> toDeleteData = new ArrayList<>();
-
-        //TODO: Factorize the method + fix elements order issue => having same elements in toCreate and toDelete.
-        for (int i = 0, j = 0; i < distant.size() || j < local.size(); i++, j++) {
-            same = true;
-            localElement = local.get(j);
-            distantElement = distant.get(i);
-
-            // Browsing all the ids indexes.
-            for (int k = 0; k < syncIdNb; k++) {
-                if (localElement.getId(k) != distantElement.getId(k)) {
-                    // If the id from distant is higher than the local one, element has to be deleted (unless we
-                    // reached the last local element, which means it should be created).
-                    if (distantElement.getId(k) > localElement.getId(k) &&
-                        localElement.getId(0) != -1) {
-                        element.setIds(Arrays.copyOfRange(localElement.getIds(), 0, syncIdNb));
-
-                        if (!toCreateData.stream().anyMatch(a -> Arrays.equals(a,
-                                                                               element.getIds()))) {
-                            toDeleteData.add(element.getIds());
-                        }
-
-                    } else {
-                        element.setIds(Arrays.copyOfRange(distantElement.getIds(), 0, syncIdNb));
-
-                        if (!toDeleteData.stream().anyMatch(a -> Arrays.equals(a,
-                                                                               element.getIds()))) {
-                            toCreateData.add(element.getIds());
-                        }
-                    }
+        manager.importSQLite(entities);
 
-                    same = false;
+        for (int i = 0; i < entities.length(); i++) {
+            JSONObject entity = entities.optJSONObject(i);
 
-                    break;
-                }
+            if (entity != null) {
+                mark.advance((manager.getIds().length == 1) ? entity.optInt(manager.getIds()[0]) : 0,
+                             entity.optString(UPDATE, null));
             }
+        }
 
-            // If the ids are the same, checking the last update date to see if adding into update list.
-            if (same) {
-                if (localElement.getDateUpdated().isBefore(distantElement.getDateUpdated())) {
-                    toUpdateData.add(Arrays.copyOfRange(distantElement.getIds(), 0, syncIdNb));
-                }
+        PreferencesUtils.saveSyncMark(manager.getTable(), mark);
+    }
+
+    /**
+     * Saves the sync mark of a table after a full synchronization (from all the distant ids and last updates).
+     * @param manager The associated DBManager.
+     * @param fieldsMySQL The distant ids and last updates.
+     */
+    private static void saveFullSyncMark(DBManager manager, SyncSnapshot fieldsMySQL) {
+        if (fieldsMySQL == null) {
+            return;
+        }
+
+        SyncMark mark = new SyncMark(null, 0, System.currentTimeMillis());
+        int maxId = 0;
+        long lastUpdate = Long.MIN_VALUE;
+
+        for (int i = 0; i < fieldsMySQL.size(); i++) {
+            if (fieldsMySQL.getWidth() == 1) {
+                maxId = Math.max(maxId, fieldsMySQL.getId(i, 0));
             }
 
-            i = (i + 1 == distant.size() && j + 1 < local.size()) ? i - 1 : i;
-            j = (j + 1 == local.size()) && i + 1 < distant.size() ? j - 1 : j;
+            lastUpdate = Math.max(lastUpdate, fieldsMySQL.getUpdate(i));
         }
 
-        syncDataMap.put(TO_CREATE_KEY, toCreateData);
-        syncDataMap.put(TO_UPDATE_KEY, toUpdateData);
-        syncDataMap.put(TO_DELETE_KEY, toDeleteData);
+        mark.advance(maxId, (lastUpdate == Long.MIN_VALUE) ? null : FORMATTER.print(lastUpdate));
+        PreferencesUtils.saveSyncMark(manager.getTable(), mark);
+    }
 
-        return syncDataMap;
+    /**
+     * Requests the next batch of entities and stores it into the SQLite database once received (completing the future
+     * of the batch), then requests the following one (whatever the outcome of the request).
+     * @param manager The associated DBManager.
+     * @param batches The urls of the batches.
+     * @param fetches The futures of the batches (by index of url).
+     * @param next The index of the next batch to request.
+     */
+    private static void fetchNextBatch(final DBManager manager, final List<String> batches,
+                                       final List<HTTPRequestFuture<Void>> fetches, final AtomicInteger next) {
+        final int index = next.getAndIncrement();
+
+        if (index >= batches.size()) {
+            return;
+        }
+
+        String url = batches.get(index);
+
+        manager.requestJsonArray(Request.Method.GET, url, response -> {
+            manager.importSQLite(response);
+            fetches.get(index).complete(null);
+            UpdaterUtils.fetchNextBatch(manager, batches, fetches, next);
+        }, error -> {
+            Log.e(String.format(ERR_TAG, "fetchNextBatch"), "Error while fetching the batch : " + url);
+            manager.reportRequestError();
+            fetches.get(index).fail(error);
+            UpdaterUtils.fetchNextBatch(manager, batches, fetches, next);
+        });
     }
 
     /**
@@ -324,4 +551,20 @@ public final class UpdaterUtils {
 
         return builder.toString();
     }
+
+    /**
+     * Gets the index of a field into the id fields of a manager.
+     * @param ids The id fields.
+     * @param name The name of the field.
+     * @return The index of the field (-1 if not an id field).
+     */
+    private static int indexOf(String[] ids, String name) {
+        for (int i = 0; i < ids.length; i++) {
+            if (ids[i].equals(name)) {
+                return i;
+            }
+        }
+
+        return -1;
+    }
 }
@@ -14,12 +14,14 @@ import com.imie.a2dev.teamculte.readeo.DBManagers.CityDBManager;
 import com.imie.a2dev.teamculte.readeo.DBManagers.CountryDBManager;
 import com.imie.a2dev.teamculte.readeo.DBManagers.ProfileDBManager;
 import com.imie.a2dev.teamculte.readeo.DBManagers.UserDBManager;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.CityDBSchema;
 import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.City;
 import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.PrivateUser;
 import com.imie.a2dev.teamculte.readeo.R;
 import com.imie.a2dev.teamculte.readeo.Utils.Enums.InputError;
 import com.imie.a2dev.teamculte.readeo.Utils.HTTPRequestQueueSingleton;
 import com.imie.a2dev.teamculte.readeo.Utils.InputUtils;
+import com.imie.a2dev.teamculte.readeo.Utils.ManagerHolderUtils;
 import com.imie.a2dev.teamculte.readeo.Utils.PreferencesUtils;
 import com.imie.a2dev.teamculte.readeo.Views.Adapters.CountrySpinnerAdapter;
 
@@ -191,7 +193,7 @@ public final class AccountActivity extends AppCompatActivity implements View.OnC
         this.user.setEmail(this.email.getText().toString());
         this.user.getProfile().setDescription(this.description.getText().toString());
 
-        City city = cityDBManager.loadMySQL(cityName);
+        City city = ManagerHolderUtils.getInstance().getCityRepository().load(CityDBSchema.NAME, cityName);
 
         if (city == null) {
             city = new City(cityName);
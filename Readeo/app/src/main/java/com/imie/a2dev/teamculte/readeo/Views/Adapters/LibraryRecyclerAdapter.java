@@ -8,8 +8,7 @@ import android.view.ViewGroup;
 import android.widget.ImageView;
 import android.widget.TextView;
 
-import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Author;
-import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Book;
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.BookCard;
 import com.imie.a2dev.teamculte.readeo.R;
 
 import com.imie.a2dev.teamculte.readeo.Utils.ManagerHolderUtils;
@@ -17,6 +16,8 @@ import com.nostra13.universalimageloader.core.ImageLoader;
 
 import java.util.List;
 
+import static com.imie.a2dev.teamculte.readeo.DBManagers.DBManager.KEYSET_START;
+
 /**
  * Custom adapter used to display the books from the library.
  */
@@ -27,9 +28,9 @@ public final class LibraryRecyclerAdapter extends RecyclerView.Adapter<LibraryRe
     public static final int DEFAULT_LIMIT = 100;
 
     /**
-     * The list of books to display.
+     * The list of book cards to display.
      */
-    private List<Book> books;
+    private List<BookCard> books;
 
     /**
      * Stores the listener used to notify when a cell is selected.
@@ -45,9 +46,9 @@ public final class LibraryRecyclerAdapter extends RecyclerView.Adapter<LibraryRe
 
     /**
      * LibraryRecyclerAdapter's constructor.
-     * @param books The list of books to set.
+     * @param books The list of book cards to set.
      */
-    public LibraryRecyclerAdapter(List<Book> books) {
+    public LibraryRecyclerAdapter(List<BookCard> books) {
         super();
 
         this.books = books;
@@ -62,7 +63,7 @@ public final class LibraryRecyclerAdapter extends RecyclerView.Adapter<LibraryRe
 
     @Override
     public void onBindViewHolder(@NonNull LibraryRecyclerAdapter.LibraryViewHolder holder, int position) {
-        Book book = this.books.get(position);
+        BookCard book = this.books.get(position);
 
         holder.bind(book);
 
@@ -102,22 +103,23 @@ public final class LibraryRecyclerAdapter extends RecyclerView.Adapter<LibraryRe
      */
     public void setListener(LibraryAdapterListener newListener) {
         this.listener = newListener;
-        this.books = ManagerHolderUtils.getInstance().getBookDBManager().queryAllPaginatedSQLite(DEFAULT_LIMIT, 0);
+        this.books = ManagerHolderUtils.getInstance().getBookDBManager().queryAllCardsKeysetSQLite(KEYSET_START,
+                                                                                                   DEFAULT_LIMIT);
     }
 
     /**
      * Gets the books attribute.
      * @return the value of the attribute.
      */
-    public List<Book> getBooks() {
+    public List<BookCard> getBooks() {
         return this.books;
     }
 
     /**
      * Sets the books, insert the header messages and refresh the view.
-     * @param books The types to set.
+     * @param books The book cards to set.
      */
-    public void setBooks(List<Book> books) {
+    public void setBooks(List<BookCard> books) {
         this.books = books;
         this.notifyDataSetChanged();
     }
@@ -126,7 +128,8 @@ public final class LibraryRecyclerAdapter extends RecyclerView.Adapter<LibraryRe
      * Updates the books from the list by getting them from the database.
      */
     public void updateBooks() {
-        this.books = ManagerHolderUtils.getInstance().getBookDBManager().queryAllPaginatedSQLite(DEFAULT_LIMIT, 0);
+        this.books = ManagerHolderUtils.getInstance().getBookDBManager().queryAllCardsKeysetSQLite(KEYSET_START,
+                                                                                                   DEFAULT_LIMIT);
 
         this.notifyDataSetChanged();
     }
@@ -142,9 +145,9 @@ public final class LibraryRecyclerAdapter extends RecyclerView.Adapter<LibraryRe
 
         /**
          * Called when a cell is selected.
-         * @param book The book selected.
+         * @param book The card of the book selected.
          */
-        void bookCellSelected(Book book);
+        void bookCellSelected(BookCard book);
 
     }
 
@@ -193,12 +196,10 @@ public final class LibraryRecyclerAdapter extends RecyclerView.Adapter<LibraryRe
 
         /**
          * Binds the data to the view.
-         * @param book The book used to bind.
+         * @param book The book card used to bind.
          */
-        private void bind(Book book) {
+        private void bind(BookCard book) {
             ImageLoader imageLoader = ImageLoader.getInstance();
-            StringBuilder authors = new StringBuilder();
-
 
             if (!book.getCover().isEmpty()) {
                 imageLoader.displayImage(book.getCover(), this.imgCover);
@@ -206,18 +207,10 @@ public final class LibraryRecyclerAdapter extends RecyclerView.Adapter<LibraryRe
 
             this.txtTitle.setText(book.getTitle());
 
-            for (Author author : book.getAuthors()) {
-                authors.append(author.getName());
-
-                if (book.getAuthors().indexOf(author) != book.getAuthors().size() - 1) {
-                    authors.append("\n");
-                }
-            }
-
-            if (authors.toString().equals("")) {
+            if (book.getAuthorNames().isEmpty()) {
                 this.txtAuthor.setText(R.string.not_communicated);
             } else {
-                this.txtAuthor.setText(authors.toString());
+                this.txtAuthor.setText(book.getAuthorNames());
             }
 
             if (book.getDatePublished() == 0) {
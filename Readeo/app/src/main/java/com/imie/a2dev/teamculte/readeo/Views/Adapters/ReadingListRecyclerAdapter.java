@@ -197,11 +197,11 @@ public final class ReadingListRecyclerAdapter
             this.txtTitle.setText(book.getTitle());
 
             for (Author author : book.getAuthors()) {
-                authors.append(author.getName());
-
-                if (book.getAuthors().indexOf(author) != book.getAuthors().size() - 1) {
+                if (authors.length() > 0) {
                     authors.append("\n");
                 }
+
+                authors.append(author.getName());
             }
 
             if (authors.toString().equals("")) {
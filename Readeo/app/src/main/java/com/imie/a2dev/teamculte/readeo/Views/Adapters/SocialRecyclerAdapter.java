@@ -17,6 +17,8 @@ import com.nostra13.universalimageloader.core.ImageLoader;
 
 import java.util.List;
 
+import static com.imie.a2dev.teamculte.readeo.DBManagers.DBManager.KEYSET_START;
+
 /**
  * Custom adapter used to display the books from the library.
  */
@@ -104,7 +106,7 @@ public final class SocialRecyclerAdapter extends RecyclerView.Adapter<SocialRecy
     public void setListener(SocialAdapterListener newListener) {
         this.listener = newListener;
         this.users =
-                ManagerHolderUtils.getInstance().getUserDBManager().queryAllPaginatedSQLite(DEFAULT_LIMIT, 0);
+                ManagerHolderUtils.getInstance().getUserDBManager().queryAllKeysetSQLite(KEYSET_START, DEFAULT_LIMIT);
     }
 
     /**
@@ -129,7 +131,7 @@ public final class SocialRecyclerAdapter extends RecyclerView.Adapter<SocialRecy
      */
     public void updateUsers() {
         this.users =
-                ManagerHolderUtils.getInstance().getUserDBManager().queryAllPaginatedSQLite(DEFAULT_LIMIT, 0);
+                ManagerHolderUtils.getInstance().getUserDBManager().queryAllKeysetSQLite(KEYSET_START, DEFAULT_LIMIT);
 
         this.notifyDataSetChanged();
     }
@@ -199,11 +199,11 @@ public final class BookDialogFragment extends DialogFragment
         TextView txtDate = view.findViewById(R.id.txt_date);
 
         for (Author author : this.book.getAuthors()) {
-            authors.append(author.getName());
-
-            if (this.book.getAuthors().indexOf(author) != this.book.getAuthors().size() - 1) {
+            if (authors.length() > 0) {
                 authors.append("\n");
             }
+
+            authors.append(author.getName());
         }
 
         ((TextView) view.findViewById(R.id.txt_title)).setText(this.book.getTitle());
@@ -15,7 +15,8 @@ import android.widget.ArrayAdapter;
 import android.widget.EditText;
 import android.widget.Spinner;
 
-import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Book;
+import com.imie.a2dev.teamculte.readeo.DBManagers.BookDBManager;
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.BookCard;
 import com.imie.a2dev.teamculte.readeo.R;
 import com.imie.a2dev.teamculte.readeo.Utils.Enums.BookFilterKey;
 import com.imie.a2dev.teamculte.readeo.Utils.ManagerHolderUtils;
@@ -23,6 +24,7 @@ import com.imie.a2dev.teamculte.readeo.Views.Adapters.LibraryRecyclerAdapter;
 
 import java.util.List;
 
+import static com.imie.a2dev.teamculte.readeo.DBManagers.DBManager.KEYSET_START;
 import static com.imie.a2dev.teamculte.readeo.Utils.Enums.BookFilterKey.NONE;
 import static com.imie.a2dev.teamculte.readeo.Views.Adapters.LibraryRecyclerAdapter.DEFAULT_LIMIT;
 
@@ -51,6 +53,11 @@ public final class LibraryFragment extends Fragment implements View.OnClickListe
      */
     private BookFilterKey filter = NONE;
 
+    /**
+     * Stores the ids of the searched books ordered by relevance (null when browsing all the books).
+     */
+    private List<Integer> searchResults;
+
     /**
      * LibraryFragment's default constructor.
      */
@@ -71,15 +78,20 @@ public final class LibraryFragment extends Fragment implements View.OnClickListe
     @Override
     public void onClick(View view) {
         if (view.getId() == R.id.img_btn_search) {
+            String input = this.editSearch.getText().toString();
+
             this.filter = BookFilterKey.fromName((String) this.spinnerFilter.getSelectedItem());
 
-            if (this.filter != null && this.filter != NONE) {
-                this.adapter.setBooks(
-                        ManagerHolderUtils.getInstance().getBookDBManager()
-                                          .loadFilteredPaginatedSQLite(this.filter.getFilterCol(),
-                                                                       this.editSearch.getText().toString(),
-                                                                       DEFAULT_LIMIT, 0));
-                this.adapter.notifyDataSetChanged();
+            if (input.trim().isEmpty()) {
+                this.searchResults = null;
+                this.adapter.updateBooks();
+            } else {
+                BookDBManager manager = ManagerHolderUtils.getInstance().getBookDBManager();
+
+                this.searchResults = manager.searchIdsSQLite(input, (this.filter == null) ? null :
+                                                                    this.filter.getSearchCol());
+                this.adapter.setBooks(manager.loadCardsSQLite(
+                        this.searchResults.subList(0, Math.min(DEFAULT_LIMIT, this.searchResults.size()))));
             }
         }
     }
@@ -98,32 +110,19 @@ public final class LibraryFragment extends Fragment implements View.OnClickListe
         Thread thread = new Thread() {
             @Override
             public void run() {
-                String filterField;
-                List<Book> books;
-
-                switch (LibraryFragment.this.filter) {
-                    case NONE:
-                        books = ManagerHolderUtils.getInstance().getBookDBManager()
-                                                  .queryAllPaginatedSQLite(DEFAULT_LIMIT,
-                                                                           LibraryFragment.this.adapter
-                                                                                   .getItemCount());
-                        break;
-                    case TITLE:
-                    case AUTHOR:
-                    case CATEGORY:
-                        filterField = LibraryFragment.this.filter.getFilterCol();
-                        books = ManagerHolderUtils.getInstance().getBookDBManager()
-                                                  .loadFilteredPaginatedSQLite(filterField,
-                                                                               LibraryFragment.this.editSearch
-                                                                                       .getText()
-                                                                                       .toString(),
-                                                                               DEFAULT_LIMIT,
-                                                                               LibraryFragment.this.adapter
-                                                                                       .getItemCount());
-
-                        break;
-                    default:
-                        return;
+                BookDBManager manager = ManagerHolderUtils.getInstance().getBookDBManager();
+                List<Integer> results = LibraryFragment.this.searchResults;
+                List<BookCard> loaded = LibraryFragment.this.adapter.getBooks();
+                List<BookCard> books;
+
+                if (results != null) {
+                    int from = Math.min(results.size(), loaded.size());
+
+                    books = manager.loadCardsSQLite(results.subList(from, Math.min(results.size(),
+                                                                                   from + DEFAULT_LIMIT)));
+                } else {
+                    books = manager.queryAllCardsKeysetSQLite((loaded.isEmpty()) ? KEYSET_START :
+                                                              loaded.get(loaded.size() - 1).getId(), DEFAULT_LIMIT);
                 }
 
                 LibraryFragment.this.adapter.getBooks().addAll(books);
@@ -138,10 +137,10 @@ public final class LibraryFragment extends Fragment implements View.OnClickListe
     }
 
     @Override
-    public void bookCellSelected(Book book) {
+    public void bookCellSelected(BookCard book) {
         BookDialogFragment fragment = new BookDialogFragment();
 
-        fragment.setBook(book);
+        fragment.setBook(ManagerHolderUtils.getInstance().getBookDBManager().loadSQLite(book.getId()));
 
         fragment.show(this.getActivity().getSupportFragmentManager(), "");
     }
@@ -24,6 +24,8 @@ import com.imie.a2dev.teamculte.readeo.DBManagers.CityDBManager;
 import com.imie.a2dev.teamculte.readeo.DBManagers.CountryDBManager;
 import com.imie.a2dev.teamculte.readeo.DBManagers.ProfileDBManager;
 import com.imie.a2dev.teamculte.readeo.DBManagers.UserDBManager;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.CityDBSchema;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.CountryDBSchema;
 import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.City;
 import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Country;
 import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.PrivateUser;
@@ -31,6 +33,7 @@ import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Profile;
 import com.imie.a2dev.teamculte.readeo.R;
 import com.imie.a2dev.teamculte.readeo.Utils.Enums.InputError;
 import com.imie.a2dev.teamculte.readeo.Utils.InputUtils;
+import com.imie.a2dev.teamculte.readeo.Utils.ManagerHolderUtils;
 
 import java.util.ArrayList;
 
@@ -265,9 +268,9 @@ public final class SignInFragment extends Fragment implements View.OnClickListen
         String password = this.editPassword.getText().toString();
         String cityName = this.editCity.getText().toString();
         Profile profile = new Profile();
-        City city = cityDBManager.loadMySQL(cityName);
-        Country country = new CountryDBManager(this.getContext()).loadMySQL(
-                this.adapter.getItem(this.spinnerCountry.getSelectedItemPosition()).getName());
+        City city = ManagerHolderUtils.getInstance().getCityRepository().load(CityDBSchema.NAME, cityName);
+        Country country = ManagerHolderUtils.getInstance().getCountryRepository().load(
+                CountryDBSchema.NAME, this.adapter.getItem(this.spinnerCountry.getSelectedItemPosition()).getName());
 
         if (city == null) {
             city = new City(cityName);
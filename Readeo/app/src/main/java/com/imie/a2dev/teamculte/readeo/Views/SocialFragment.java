@@ -23,6 +23,7 @@ import com.imie.a2dev.teamculte.readeo.Views.Adapters.SocialRecyclerAdapter;
 
 import java.util.List;
 
+import static com.imie.a2dev.teamculte.readeo.DBManagers.DBManager.KEYSET_START;
 import static com.imie.a2dev.teamculte.readeo.Views.Adapters.SocialRecyclerAdapter.DEFAULT_LIMIT;
 
 /**
@@ -78,10 +79,10 @@ public final class SocialFragment extends Fragment implements
         Thread thread = new Thread() {
             @Override
             public void run() {
+                List<PublicUser> loaded = SocialFragment.this.adapter.getUsers();
+                int afterId = (loaded.isEmpty()) ? KEYSET_START : loaded.get(loaded.size() - 1).getId();
                 List<PublicUser> users = ManagerHolderUtils.getInstance().getUserDBManager()
-                                                           .queryAllPaginatedSQLite(DEFAULT_LIMIT,
-                                                                                    SocialFragment.this.adapter
-                                                                                            .getItemCount());
+                                                           .queryAllKeysetSQLite(afterId, DEFAULT_LIMIT);
 
                 SocialFragment.this.adapter.getUsers().addAll(users);
 
@@ -6,45 +6,29 @@ import android.os.Bundle;
 import android.util.Log;
 import android.widget.TextView;
 
-import com.imie.a2dev.teamculte.readeo.DBManagers.AuthorDBManager;
-import com.imie.a2dev.teamculte.readeo.DBManagers.BookDBManager;
-import com.imie.a2dev.teamculte.readeo.DBManagers.BookListTypeDBManager;
-import com.imie.a2dev.teamculte.readeo.DBManagers.CategoryDBManager;
-import com.imie.a2dev.teamculte.readeo.DBManagers.CityDBManager;
-import com.imie.a2dev.teamculte.readeo.DBManagers.CountryDBManager;
-import com.imie.a2dev.teamculte.readeo.DBManagers.DBManager;
-import com.imie.a2dev.teamculte.readeo.DBManagers.ProfileDBManager;
-import com.imie.a2dev.teamculte.readeo.DBManagers.QuoteDBManager;
-import com.imie.a2dev.teamculte.readeo.DBManagers.ReviewDBManager;
-import com.imie.a2dev.teamculte.readeo.DBManagers.UserDBManager;
-import com.imie.a2dev.teamculte.readeo.DBManagers.WriterDBManager;
-import com.imie.a2dev.teamculte.readeo.Utils.HTTPRequestQueueSingleton;
 import com.imie.a2dev.teamculte.readeo.R;
-import com.imie.a2dev.teamculte.readeo.Utils.ManagerHolderUtils;
-import com.imie.a2dev.teamculte.readeo.Utils.UpdaterUtils;
-
-import java.util.ArrayList;
-import java.util.List;
+import com.imie.a2dev.teamculte.readeo.Utils.Enums.SyncState;
+import com.imie.a2dev.teamculte.readeo.Utils.FrameMonitor;
+import com.imie.a2dev.teamculte.readeo.Utils.SyncScheduler;
 
 /**
  * Displays the app splash screen and synchronise the databases.
  */
-public final class SplashScreenActivity extends AppCompatActivity
-        implements HTTPRequestQueueSingleton.HTTPRequestQueueListener {
+public final class SplashScreenActivity extends AppCompatActivity implements SyncScheduler.SyncSchedulerListener {
     /**
-     * Stores the list of DBManagers used to update the app db.
+     * Stores the scheduler used to update the app db.
      */
-    private List<DBManager> managers = new ArrayList<>();
+    private SyncScheduler scheduler;
 
     /**
-     * Defines the current manager update.
+     * Stores the update progress text.
      */
-    private int currentManagerPos = 0;
+    private TextView updateProgress;
 
     /**
-     * Stores the update progress text.
+     * Stores the monitor of the frame times during the sync.
      */
-    private TextView updateProgress;
+    private FrameMonitor frameMonitor;
 
     /**
      * SplashScreenActivity's default constructor.
@@ -53,29 +37,26 @@ public final class SplashScreenActivity extends AppCompatActivity
     }
 
     @Override
-    public void onRequestsFinished() {
-        if (this.currentManagerPos < this.managers.size()) {
+    public void onTableStateChanged(final String table, final SyncState state) {
+        Log.i("Progress", "[" + state + "] -> " + table + " (" + this.scheduler.getFinishedRequests(table) +
+                          " requests)");
 
-            this.updateProgress.setText(String.format(this.getResources().getString(R.string.update_progress),
-                                                      this.currentManagerPos, this.managers.size()));
-            UpdaterUtils.getUpdateFromMySQL(this.managers.get(this.currentManagerPos));
-
-            ++this.currentManagerPos;
-        } else {
-            Intent intent = new Intent(this, IndexActivity.class);
+        this.runOnUiThread(() -> this.updateProgress.setText(
+                String.format(this.getResources().getString(R.string.update_progress), this.scheduler.getSyncedCount(),
+                              this.scheduler.getTableCount())));
+    }
 
-            this.startActivity(intent);
-        }
+    @Override
+    public void onSyncFinished() {
+        this.runOnUiThread(() -> {
+            this.frameMonitor.stop();
 
-        Log.i("Progress", "[DONE] -> " + HTTPRequestQueueSingleton.getInstance(this).getLastRequestUrl());
-    }
+            Log.i("FrameTime", "Sync of " + this.scheduler.getTableCount() + " tables : " + this.frameMonitor);
 
-    @Override public void onRequestFinished() {
-        // Nothing to do.
-    }
+            Intent intent = new Intent(this, IndexActivity.class);
 
-    @Override public void onRequestError() {
-        // Nothing to do.
+            this.startActivity(intent);
+        });
     }
 
     @Override
@@ -86,28 +67,31 @@ public final class SplashScreenActivity extends AppCompatActivity
 
         this.initUpdate();
         this.initView();
+        this.frameMonitor.start();
+        this.scheduler.start();
+    }
+
+    @Override
+    protected void onDestroy() {
+        super.onDestroy();
+
+        this.frameMonitor.stop();
+        this.scheduler.release();
     }
 
     private void initView() {
         this.updateProgress = this.findViewById(R.id.txt_current_progress);
 
         this.updateProgress.setText(String.format(this.getResources().getString(R.string.update_progress),
-                                                  this.currentManagerPos, this.managers.size()));
+                                                  this.scheduler.getSyncedCount(), this.scheduler.getTableCount()));
     }
 
     /**
-     * Initializes the sync between local and distant db.
+     * Initializes the sync between local and distant db (independent tables synchronized at the same time, the
+     * scheduler callbacks being called on the database thread) and the monitor of the frame times during the sync.
      */
     private void initUpdate() {
-        this.managers.add(ManagerHolderUtils.getInstance().getCityDBManager());
-        this.managers.add(ManagerHolderUtils.getInstance().getBookListTypeDBManager());
-        this.managers.add(ManagerHolderUtils.getInstance().getBookListDBManager());
-        this.managers.add(ManagerHolderUtils.getInstance().getQuoteDBManager());
-        this.managers.add(ManagerHolderUtils.getInstance().getReviewDBManager());
-        this.managers.add(ManagerHolderUtils.getInstance().getUserDBManager());
-        this.managers.add(ManagerHolderUtils.getInstance().getProfileDBManager());
-
-        HTTPRequestQueueSingleton.getInstance(this).setListener(this);
-        UpdaterUtils.getUpdateFromMySQL(SplashScreenActivity.this.managers.get(0));
+        this.scheduler = SyncScheduler.createDefault(this, this);
+        this.frameMonitor = new FrameMonitor(this.getWindowManager().getDefaultDisplay().getRefreshRate());
     }
 }
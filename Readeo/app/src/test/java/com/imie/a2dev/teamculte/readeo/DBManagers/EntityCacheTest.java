@@ -0,0 +1,87 @@
+package com.imie.a2dev.teamculte.readeo.DBManagers;
+
+import com.imie.a2dev.teamculte.readeo.DBSchemas.CategoryDBSchema;
+import com.imie.a2dev.teamculte.readeo.DBSchemas.CountryDBSchema;
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Category;
+import com.imie.a2dev.teamculte.readeo.Entities.DBEntities.Country;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Class used to test EntityCache methods.
+ */
+public class EntityCacheTest {
+    /**
+     * Defines the id of the test entities.
+     */
+    private final int testId = 3;
+    /**
+     * Stores the tested cache.
+     */
+    private EntityCache cache;
+
+    @Before
+    public void setUp() throws Exception {
+        this.cache = EntityCache.getInstance();
+
+        this.cache.clear();
+    }
+
+    @Test
+    public void testGet() {
+        Country country = new Country(this.testId, "country");
+
+        assertNull(this.cache.get(CountryDBSchema.TABLE, this.testId));
+
+        this.cache.put(CountryDBSchema.TABLE, country);
+
+        assertSame(country, this.cache.get(CountryDBSchema.TABLE, this.testId));
+        assertNull(this.cache.get(CategoryDBSchema.TABLE, this.testId));
+        assertEquals(1, this.cache.getHits());
+        assertEquals(2, this.cache.getMisses());
+    }
+
+    @Test
+    public void testMaxSize() {
+        for (int i = 0; i <= EntityCache.MAX_SIZE; i++) {
+            this.cache.put(CountryDBSchema.TABLE, new Country(i, "country"));
+        }
+
+        assertEquals(EntityCache.MAX_SIZE, this.cache.getSize());
+        assertNull(this.cache.get(CountryDBSchema.TABLE, 0));
+        assertNotNull(this.cache.get(CountryDBSchema.TABLE, EntityCache.MAX_SIZE));
+    }
+
+    @Test
+    public void testPreload() {
+        Category category = new Category(this.testId, "category");
+        Category testCategory = new Category(DBManager.MYSQL_TEST_ID, "test");
+
+        this.cache.preload(CategoryDBSchema.TABLE, Arrays.asList(category, testCategory));
+
+        assertTrue(this.cache.isPreloaded(CategoryDBSchema.TABLE));
+        assertSame(category, this.cache.get(CategoryDBSchema.TABLE, this.testId));
+        assertSame(testCategory, this.cache.get(CategoryDBSchema.TABLE, DBManager.MYSQL_TEST_ID));
+        assertNull(this.cache.get(CategoryDBSchema.TABLE, this.testId + 1));
+    }
+
+    @Test
+    public void testInvalidate() {
+        Country country = new Country(this.testId, "country");
+        Category category = new Category(this.testId, "category");
+
+        this.cache.put(CountryDBSchema.TABLE, country);
+        this.cache.preload(CategoryDBSchema.TABLE, Arrays.asList(category));
+        this.cache.invalidate(CountryDBSchema.TABLE, this.testId);
+        this.cache.invalidate(CategoryDBSchema.TABLE);
+
+        assertNull(this.cache.get(CountryDBSchema.TABLE, this.testId));
+        assertNull(this.cache.get(CategoryDBSchema.TABLE, this.testId));
+        assertFalse(this.cache.isPreloaded(CategoryDBSchema.TABLE));
+    }
+}
@@ -0,0 +1,142 @@
+package com.imie.a2dev.teamculte.readeo.Utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.junit.Assert.*;
+
+/**
+ * Class used to test HTTPRequestFuture methods.
+ */
+public class HTTPRequestFutureTest {
+    /**
+     * Defines the timeout of the blocking gets (ms).
+     */
+    private final int timeout = 1000;
+
+    @Test
+    public void testComplete() throws Exception {
+        HTTPRequestFuture<String> future = new HTTPRequestFuture<>();
+
+        assertFalse(future.isDone());
+        assertNull(future.getNow(null));
+        assertTrue(future.complete("result"));
+        assertFalse(future.complete("other"));
+        assertFalse(future.fail(new Exception()));
+        assertTrue(future.isDone());
+        assertEquals("result", future.get());
+    }
+
+    @Test
+    public void testFail() throws Exception {
+        HTTPRequestFuture<String> future = new HTTPRequestFuture<>();
+        Exception error = new Exception("error");
+
+        future.fail(error);
+
+        assertEquals("absent", future.getNow("absent"));
+
+        try {
+            future.get(this.timeout, TimeUnit.MILLISECONDS);
+            fail();
+        } catch (ExecutionException e) {
+            assertSame(error, e.getCause());
+        }
+    }
+
+    @Test(expected = TimeoutException.class)
+    public void testTimeout() throws Exception {
+        new HTTPRequestFuture<String>().get(10, TimeUnit.MILLISECONDS);
+    }
+
+    @Test(expected = CancellationException.class)
+    public void testCancel() throws Exception {
+        HTTPRequestFuture<String> future = new HTTPRequestFuture<>();
+
+        assertTrue(future.cancel(false));
+        assertTrue(future.isCancelled());
+        assertFalse(future.complete("result"));
+
+        future.get();
+    }
+
+    @Test
+    public void testGetFromOtherThread() throws Exception {
+        HTTPRequestFuture<String> future = new HTTPRequestFuture<>();
+        Thread thread = new Thread(() -> future.complete("result"));
+
+        thread.start();
+
+        assertEquals("result", future.get(this.timeout, TimeUnit.MILLISECONDS));
+
+        thread.join();
+    }
+
+    @Test
+    public void testThen() {
+        HTTPRequestFuture<String> future = new HTTPRequestFuture<>();
+        List<String> results = new ArrayList<>();
+
+        future.then((result, error) -> results.add(result));
+
+        assertTrue(results.isEmpty());
+
+        future.complete("result");
+        future.then((result, error) -> results.add(result + "2"));
+
+        assertEquals(Arrays.asList("result", "result2"), results);
+    }
+
+    @Test
+    public void testAll() throws Exception {
+        HTTPRequestFuture<String> first = new HTTPRequestFuture<>();
+        HTTPRequestFuture<Integer> second = new HTTPRequestFuture<>();
+        HTTPRequestFuture<Void> all = HTTPRequestFuture.all(Arrays.asList(first, second));
+
+        first.complete("result");
+
+        assertFalse(all.isDone());
+
+        second.fail(new Exception());
+
+        assertTrue(all.isDone());
+        assertTrue(HTTPRequestFuture.all(new ArrayList<HTTPRequestFuture<?>>()).isDone());
+        assertEquals("result", HTTPRequestFuture.completed("result").get());
+    }
+
+    @Test
+    public void testAllSucceeded() throws Exception {
+        HTTPRequestFuture<String> first = new HTTPRequestFuture<>();
+        HTTPRequestFuture<Integer> second = new HTTPRequestFuture<>();
+        HTTPRequestFuture<Void> failed = HTTPRequestFuture.allSucceeded(Arrays.asList(first, second));
+        Exception error = new Exception();
+
+        first.fail(error);
+
+        assertFalse(failed.isDone());
+
+        second.complete(1);
+
+        try {
+            failed.get();
+            fail();
+        } catch (ExecutionException e) {
+            assertSame(error, e.getCause());
+        }
+
+        HTTPRequestFuture<String> third = new HTTPRequestFuture<>();
+        HTTPRequestFuture<Void> succeeded = HTTPRequestFuture.allSucceeded(Arrays.asList(third, second));
+
+        third.complete("result");
+
+        assertNull(succeeded.get(0, TimeUnit.SECONDS));
+        assertTrue(HTTPRequestFuture.allSucceeded(new ArrayList<HTTPRequestFuture<?>>()).isDone());
+    }
+}
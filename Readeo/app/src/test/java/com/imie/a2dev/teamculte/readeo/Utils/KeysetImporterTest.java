@@ -0,0 +1,165 @@
+package com.imie.a2dev.teamculte.readeo.Utils;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Class used to test KeysetImporter methods.
+ */
+public class KeysetImporterTest implements KeysetImporter.KeysetImporterListener {
+    /**
+     * Stores the requested pages not delivered yet ({page, after, to}).
+     */
+    private final List<long[]> pending = new ArrayList<>();
+
+    /**
+     * Stores the keys of the committed pages in commit order.
+     */
+    private final List<Long> committed = new ArrayList<>();
+
+    /**
+     * Stores the maximum number of pages requested and not committed at the same time.
+     */
+    private int maxInFlight;
+
+    /**
+     * Stores the number of times the listener has been notified.
+     */
+    private int notified;
+
+    @Test
+    public void testOrderedCommit() {
+        KeysetImporter<Integer> importer = this.importer(3, 10);
+
+        importer.start(0, 95);
+
+        assertEquals(10, importer.getPageCount());
+        assertEquals(3, this.pending.size());
+
+        this.deliver(importer, 2);
+        this.deliver(importer, 1);
+
+        assertTrue(this.committed.isEmpty());
+
+        while (!this.pending.isEmpty()) {
+            this.deliver(importer, 0);
+
+            while (this.pending.size() > 1) {
+                this.deliver(importer, this.pending.size() - 1);
+            }
+        }
+
+        long expected = 0;
+
+        for (long key : this.committed) {
+            expected = Math.min(expected + 10, 95);
+
+            assertEquals(expected, key);
+        }
+
+        assertEquals(10, this.committed.size());
+        assertTrue(this.maxInFlight <= 3);
+        assertTrue(importer.isFinished());
+        assertEquals(95, importer.getCommittedKey());
+        assertEquals(100, importer.getCommittedRows());
+        assertEquals(1, this.notified);
+    }
+
+    @Test
+    public void testResume() {
+        KeysetImporter<Integer> importer = this.importer(2, 10);
+
+        importer.start(-1, 95);
+
+        for (int i = 0; i < 4; i++) {
+            this.deliver(importer, 0);
+        }
+
+        importer.onPageFailed((int) this.pending.get(0)[0]);
+        this.deliver(importer, 0);
+
+        assertTrue(importer.isFailed());
+        assertFalse(importer.isFinished());
+        assertEquals(4, importer.getCommittedPages());
+        assertEquals(39, importer.getCommittedKey());
+        assertEquals(1, this.notified);
+
+        this.pending.clear();
+
+        KeysetImporter<Integer> resumed = this.importer(2, 10);
+
+        resumed.start(importer.getCommittedKey(), 95);
+
+        assertEquals(39, this.pending.get(0)[1]);
+        assertEquals(49, this.pending.get(0)[2]);
+        assertEquals(6, resumed.getPageCount());
+    }
+
+    @Test
+    public void testEmpty() {
+        KeysetImporter<Integer> importer = this.importer(3, 10);
+
+        importer.start(5, 5);
+
+        assertTrue(importer.isFinished());
+        assertTrue(this.pending.isEmpty());
+        assertEquals(1, this.notified);
+    }
+
+    @Test
+    public void testCancel() {
+        KeysetImporter<Integer> importer = this.importer(3, 10);
+
+        importer.start(0, 95);
+        importer.cancel();
+        this.deliver(importer, 0);
+
+        assertTrue(importer.isFailed());
+        assertTrue(this.committed.isEmpty());
+        assertEquals(1, this.notified);
+    }
+
+    @Override
+    public void onImportFinished(KeysetImporter<?> importer) {
+        this.notified++;
+    }
+
+    /**
+     * Creates an importer whose pages are delivered by the test (a page holds 10 rows).
+     * @param pagesInFlight The maximum number of pages fetched and not committed yet.
+     * @param pageSize The number of ids of a page.
+     * @return The importer.
+     */
+    private KeysetImporter<Integer> importer(int pagesInFlight, int pageSize) {
+        return new KeysetImporter<>(new KeysetImporter.PageSource<Integer>() {
+            @Override
+            public void fetch(KeysetImporter<Integer> importer, int page, long after, long to) {
+                KeysetImporterTest.this.pending.add(new long[]{page, after, to});
+                KeysetImporterTest.this.maxInFlight = Math.max(KeysetImporterTest.this.maxInFlight,
+                                                               page + 1 - KeysetImporterTest.this.committed.size());
+            }
+
+            @Override
+            public int commit(Integer rows, long to) {
+                KeysetImporterTest.this.committed.add(to);
+
+                return rows;
+            }
+        }, pagesInFlight, pageSize, this);
+    }
+
+    /**
+     * Delivers a requested page to the importer.
+     * @param importer The importer.
+     * @param index The index of the page into the requested pages not delivered yet.
+     */
+    private void deliver(KeysetImporter<Integer> importer, int index) {
+        long[] page = this.pending.remove(index);
+
+        importer.onPageFetched((int) page[0], 10);
+    }
+}
@@ -0,0 +1,59 @@
+package com.imie.a2dev.teamculte.readeo.Utils;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.junit.Assert.*;
+
+/**
+ * Class used to test SearchUtils methods.
+ */
+public class SearchUtilsTest {
+    /**
+     * Defines the searchable fields.
+     */
+    private final String[] fields = {"title", "authors", "category"};
+
+    /**
+     * Defines the weight of each field.
+     */
+    private final double[] weights = {3.0, 2.0, 1.0};
+
+    @Test
+    public void testBuildMatchQuery() {
+        assertEquals("lord* of* the* rings*", SearchUtils.buildMatchQuery("  Lord of THE rings ", null, this.fields));
+        assertEquals("title:lord* title:x", SearchUtils.buildMatchQuery("lord x", "title", this.fields));
+        assertEquals("authors:tolk* hob*", SearchUtils.buildMatchQuery("AUTHORS:tolk hob", null, this.fields));
+        assertEquals("unknown* tolk*", SearchUtils.buildMatchQuery("unknown:tolk", null, this.fields));
+        assertEquals("o brien*", SearchUtils.buildMatchQuery("\"O'Brien\"", null, this.fields));
+        assertEquals("and* or* not*", SearchUtils.buildMatchQuery("AND OR -NOT", null, this.fields));
+        assertEquals("émile*", SearchUtils.buildMatchQuery("émile", null, this.fields));
+        assertNull(SearchUtils.buildMatchQuery(" *\"() ", null, this.fields));
+        assertNull(SearchUtils.buildMatchQuery(null, null, this.fields));
+    }
+
+    @Test
+    public void testIsRanked() {
+        assertTrue(SearchUtils.isRanked("lor*"));
+        assertTrue(SearchUtils.isRanked("lo* title:x authors:tol*"));
+        assertFalse(SearchUtils.isRanked("lo* of* x"));
+        assertFalse(SearchUtils.isRanked("authors:to* title:ab"));
+    }
+
+    @Test
+    public void testRank() {
+        // 2 phrases, 3 columns, (hits in the row, hits in all the rows, rows with hits) by phrase and column.
+        int[] values = {2, 3,
+                        1, 2, 2, 0, 4, 3, 0, 0, 0,
+                        0, 1, 1, 2, 4, 2, 1, 5, 5};
+        ByteBuffer matchInfo = ByteBuffer.allocate(values.length * 4).order(ByteOrder.nativeOrder());
+
+        for (int value : values) {
+            matchInfo.putInt(value);
+        }
+
+        assertEquals(3.0 / 2 + 2.0 * 2 / 4 + 1.0 / 5, SearchUtils.rank(matchInfo.array(), this.weights), 1e-9);
+    }
+}
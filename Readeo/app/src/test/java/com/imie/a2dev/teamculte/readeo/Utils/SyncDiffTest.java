@@ -0,0 +1,237 @@
+package com.imie.a2dev.teamculte.readeo.Utils;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Class used to test SyncDiff methods.
+ */
+public class SyncDiffTest {
+    /**
+     * Defines the number of possible keys of the randomized tests (about half of them in each table).
+     */
+    private final int universe = 2000000;
+
+    /**
+     * Defines the number of values of each id of a composite key.
+     */
+    private final int idRange = 200;
+
+    /**
+     * Defines the last update of the entities (ms).
+     */
+    private final long update = 1546300800000L;
+
+    @Test
+    public void testCompute() {
+        SyncSnapshot local = this.snapshot(1, new int[]{1, 2, 4, 5}, this.update, this.update, this.update,
+                                           this.update);
+        SyncSnapshot distant = this.snapshot(1, new int[]{2, 3, 5, 6}, this.update, this.update, this.update + 1,
+                                             this.update);
+        SyncDiff diff = SyncDiff.compute(local, distant);
+
+        this.assertKeys(diff.getToCreate(), 3, 6);
+        this.assertKeys(diff.getToUpdate(), 5);
+        this.assertKeys(diff.getToDelete(), 1, 4);
+    }
+
+    @Test
+    public void testComputeCompositeUnsorted() {
+        SyncSnapshot local = this.snapshot(2, new int[]{2, 1, 1, 3, 1, 2}, this.update, this.update, this.update);
+        SyncSnapshot distant = this.snapshot(2, new int[]{1, 3, 2, 2, 1, 1}, this.update + 1, this.update,
+                                             this.update);
+        SyncDiff diff = SyncDiff.compute(local, distant);
+
+        assertEquals(2, diff.getToCreate().size());
+        assertArrayEquals(new int[]{1, 1}, diff.getToCreate().get(0));
+        assertArrayEquals(new int[]{2, 2}, diff.getToCreate().get(1));
+        assertEquals(1, diff.getToUpdate().size());
+        assertArrayEquals(new int[]{1, 3}, diff.getToUpdate().get(0));
+        assertEquals(2, diff.getToDelete().size());
+        assertArrayEquals(new int[]{1, 2}, diff.getToDelete().get(0));
+        assertArrayEquals(new int[]{2, 1}, diff.getToDelete().get(1));
+    }
+
+    @Test
+    public void testComputeEmpty() {
+        SyncSnapshot distant = this.snapshot(1, new int[]{1, 2}, this.update, this.update);
+        SyncDiff diff = SyncDiff.compute(new SyncSnapshot(1, 0), distant);
+
+        this.assertKeys(diff.getToCreate(), 1, 2);
+        assertEquals(0, diff.getToUpdate().size());
+        assertEquals(0, diff.getToDelete().size());
+    }
+
+    @Test
+    public void testIsEmpty() {
+        SyncSnapshot local = this.snapshot(1, new int[]{1, 2}, this.update + 1, this.update);
+
+        assertTrue(SyncDiff.compute(local, this.snapshot(1, new int[]{1, 2}, this.update, this.update)).isEmpty());
+        assertFalse(SyncDiff.compute(local, this.snapshot(1, new int[]{1, 2}, this.update, this.update + 1)).isEmpty());
+        assertFalse(SyncDiff.compute(local, this.snapshot(1, new int[]{1}, this.update)).isEmpty());
+    }
+
+    @Test
+    public void testRandomizedEquivalence() {
+        for (int width = 1; width <= 3; width++) {
+            this.checkRandomized(width, false, new Random(width));
+        }
+
+        this.checkRandomized(3, true, new Random(42));
+    }
+
+    /**
+     * Checks the diff of random tables against the diff computed from the keys membership.
+     * @param width The number of ids of a key.
+     * @param shuffled true if the local keys are given unsorted.
+     * @param random The random generator.
+     */
+    private void checkRandomized(int width, boolean shuffled, Random random) {
+        Tables tables = new Tables(width, random, shuffled);
+        SyncDiff diff = SyncDiff.compute(tables.local, tables.distant);
+        int[] positions = new int[3];
+
+        for (int key = 0; key < this.universe; key++) {
+            IdBuffer expected;
+
+            if (tables.inLocal[key] && !tables.inDistant[key]) {
+                expected = diff.getToDelete();
+            } else if (!tables.inLocal[key] && tables.inDistant[key]) {
+                expected = diff.getToCreate();
+            } else if (tables.inLocal[key] && tables.updated[key]) {
+                expected = diff.getToUpdate();
+            } else {
+                continue;
+            }
+
+            int position = (expected == diff.getToCreate()) ? 0 : (expected == diff.getToUpdate()) ? 1 : 2;
+
+            assertArrayEquals(this.decode(key, width), expected.get(positions[position]++));
+        }
+
+        assertEquals(diff.getToCreate().size(), positions[0]);
+        assertEquals(diff.getToUpdate().size(), positions[1]);
+        assertEquals(diff.getToDelete().size(), positions[2]);
+    }
+
+    /**
+     * Decodes a key number into its ids (ordered as the key numbers).
+     * @param key The key number.
+     * @param width The number of ids of a key.
+     * @return The ids.
+     */
+    private int[] decode(int key, int width) {
+        int[] ids = new int[width];
+
+        for (int k = width - 1; k >= 0; k--) {
+            ids[k] = (k == 0) ? key : key % this.idRange;
+            key /= this.idRange;
+        }
+
+        return ids;
+    }
+
+    /**
+     * Builds a snapshot from flat keys.
+     * @param width The number of ids of a key.
+     * @param ids The keys, one after another.
+     * @param updates The last updates, one per key.
+     * @return The snapshot.
+     */
+    private SyncSnapshot snapshot(int width, int[] ids, long... updates) {
+        SyncSnapshot snapshot = new SyncSnapshot(width, 1);
+
+        for (int i = 0; i < updates.length; i++) {
+            snapshot.add(Arrays.copyOfRange(ids, i * width, (i + 1) * width), updates[i]);
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * Asserts the single id keys of a buffer.
+     * @param buffer The buffer.
+     * @param ids The expected ids.
+     */
+    private void assertKeys(IdBuffer buffer, int... ids) {
+        assertEquals(ids.length, buffer.size());
+
+        for (int i = 0; i < ids.length; i++) {
+            assertEquals(ids[i], buffer.getId(i, 0));
+        }
+    }
+
+    /**
+     * Class used to generate random local and distant tables from a universe of keys.
+     */
+    private final class Tables {
+        /**
+         * Stores if a key is in the local table.
+         */
+        private final boolean[] inLocal = new boolean[universe];
+
+        /**
+         * Stores if a key is in the distant table.
+         */
+        private final boolean[] inDistant = new boolean[universe];
+
+        /**
+         * Stores if a key is more recent in the distant table.
+         */
+        private final boolean[] updated = new boolean[universe];
+
+        /**
+         * Stores the local snapshot.
+         */
+        private final SyncSnapshot local;
+
+        /**
+         * Stores the distant snapshot.
+         */
+        private final SyncSnapshot distant;
+
+        /**
+         * Tables' constructor generating the tables.
+         * @param width The number of ids of a key.
+         * @param random The random generator.
+         * @param shuffled true if the local keys are shuffled.
+         */
+        private Tables(int width, Random random, boolean shuffled) {
+            int[] localKeys = new int[universe];
+            int localSize = 0;
+
+            this.local = new SyncSnapshot(width, universe / 2);
+            this.distant = new SyncSnapshot(width, universe / 2);
+
+            for (int key = 0; key < universe; key++) {
+                this.inLocal[key] = random.nextBoolean();
+                this.inDistant[key] = random.nextBoolean();
+                this.updated[key] = this.inDistant[key] && random.nextInt(10) == 0;
+
+                if (this.inLocal[key]) {
+                    localKeys[localSize++] = key;
+                }
+
+                if (this.inDistant[key]) {
+                    this.distant.add(SyncDiffTest.this.decode(key, width), update + (this.updated[key] ? 1000 : 0));
+                }
+            }
+
+            for (int i = localSize - 1; shuffled && i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                int key = localKeys[i];
+
+                localKeys[i] = localKeys[j];
+                localKeys[j] = key;
+            }
+
+            for (int i = 0; i < localSize; i++) {
+                this.local.add(SyncDiffTest.this.decode(localKeys[i], width), update);
+            }
+        }
+    }
+}
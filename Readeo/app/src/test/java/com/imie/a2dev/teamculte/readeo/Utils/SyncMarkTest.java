@@ -0,0 +1,48 @@
+package com.imie.a2dev.teamculte.readeo.Utils;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Class used to test SyncMark methods.
+ */
+public class SyncMarkTest {
+    /**
+     * Defines the interval between two full synchronizations (ms).
+     */
+    private final long interval = 1000;
+
+    /**
+     * Stores the test mark.
+     */
+    private SyncMark mark;
+
+    @Before
+    public void setUp() throws Exception {
+        this.mark = new SyncMark();
+    }
+
+    @Test
+    public void testAdvance() {
+        this.mark.advance(5, "2019-01-10 10:00:00");
+        this.mark.advance(3, "2019-02-01 08:30:00");
+        this.mark.advance(4, "2019-01-31 23:59:59");
+        this.mark.advance(2, null);
+
+        assertEquals(5, this.mark.getMaxId());
+        assertEquals("2019-02-01 08:30:00", this.mark.getLastUpdate());
+    }
+
+    @Test
+    public void testNeedsFullSync() {
+        assertTrue(this.mark.needsFullSync(0, this.interval));
+
+        this.mark.advance(1, "2019-01-10 10:00:00");
+        this.mark.setLastFullSync(this.interval);
+
+        assertFalse(this.mark.needsFullSync(this.interval + 1, this.interval));
+        assertTrue(this.mark.needsFullSync(this.interval * 2, this.interval));
+    }
+}
@@ -0,0 +1,187 @@
+package com.imie.a2dev.teamculte.readeo.Utils;
+
+import com.imie.a2dev.teamculte.readeo.Utils.Enums.SyncState;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Class used to test SyncScheduler methods.
+ */
+public class SyncSchedulerTest implements SyncScheduler.SyncSchedulerListener {
+    /**
+     * Stores the tables in starting order.
+     */
+    private final List<String> started = new ArrayList<>();
+
+    /**
+     * Stores the tables in synchronization order.
+     */
+    private final List<String> synced = new ArrayList<>();
+
+    /**
+     * Stores the tables failed or skipped in ending order.
+     */
+    private final List<String> failed = new ArrayList<>();
+
+    /**
+     * Stores the maximum number of tables running at the same time.
+     */
+    private int maxRunning;
+
+    /**
+     * Stores the number of tables running.
+     */
+    private int running;
+
+    /**
+     * Stores if the synchronization is finished.
+     */
+    private boolean finished;
+
+    /**
+     * Stores the test scheduler.
+     */
+    private SyncScheduler scheduler;
+
+    @Before
+    public void setUp() throws Exception {
+        this.scheduler = new SyncScheduler(null, 2, this);
+
+        this.scheduler.addTable("City", this.task("City"));
+        this.scheduler.addTable("Profile", this.task("Profile"));
+        this.scheduler.addTable("BookListType", this.task("BookListType"));
+        this.scheduler.addTable("User", this.task("User"), "City", "Profile");
+        this.scheduler.addTable("BookList", this.task("BookList"), "User", "BookListType", "Book");
+        this.scheduler.addTable("Review", this.task("Review"), "User", "Book");
+    }
+
+    @Test
+    public void testStart() {
+        this.scheduler.start();
+
+        assertEquals(2, this.started.size());
+        assertEquals(SyncState.RUNNING, this.scheduler.getState("City"));
+        assertEquals(SyncState.RUNNING, this.scheduler.getState("Profile"));
+        assertEquals(SyncState.WAITING, this.scheduler.getState("BookListType"));
+        assertNull(this.scheduler.getState("Book"));
+    }
+
+    @Test
+    public void testDependencyOrder() {
+        this.scheduler.start();
+
+        while (!this.scheduler.isFinished()) {
+            this.scheduler.onTableSynced(this.started.get(this.synced.size()));
+        }
+
+        assertTrue(this.finished);
+        assertFalse(this.scheduler.hasFailed());
+        assertTrue(this.maxRunning <= 2);
+        assertEquals(6, this.scheduler.getSyncedCount());
+        assertTrue(this.synced.indexOf("User") > this.synced.indexOf("City"));
+        assertTrue(this.synced.indexOf("User") > this.synced.indexOf("Profile"));
+        assertTrue(this.synced.indexOf("BookList") > this.synced.indexOf("User"));
+        assertTrue(this.synced.indexOf("BookList") > this.synced.indexOf("BookListType"));
+        assertTrue(this.synced.indexOf("Review") > this.synced.indexOf("User"));
+    }
+
+    @Test
+    public void testSynchronousTask() {
+        SyncScheduler synchronous = new SyncScheduler(null, 3, this);
+
+        synchronous.addTable("A", () -> synchronous.onTableSynced("A"));
+        synchronous.addTable("B", () -> synchronous.onTableSynced("B"), "A");
+        synchronous.addTable("C", () -> synchronous.onTableSynced("C"), "B");
+        synchronous.start();
+
+        assertTrue(this.finished);
+        assertEquals(3, synchronous.getSyncedCount());
+    }
+
+    @Test
+    public void testIgnoredSync() {
+        this.scheduler.start();
+        this.scheduler.onTableSynced("User");
+        this.scheduler.onTableSynced("Book");
+
+        assertEquals(0, this.scheduler.getSyncedCount());
+        assertEquals(SyncState.WAITING, this.scheduler.getState("User"));
+    }
+
+    @Test
+    public void testFailedTable() {
+        this.scheduler.start();
+        this.scheduler.onTableFailed("City");
+
+        assertEquals(SyncState.FAILED, this.scheduler.getState("City"));
+        assertEquals(SyncState.SKIPPED, this.scheduler.getState("User"));
+        assertEquals(SyncState.SKIPPED, this.scheduler.getState("BookList"));
+        assertEquals(SyncState.SKIPPED, this.scheduler.getState("Review"));
+        assertFalse(this.started.contains("User"));
+
+        while (!this.scheduler.isFinished()) {
+            this.scheduler.onTableSynced(this.started.get(this.synced.size() + 1));
+        }
+
+        assertTrue(this.finished);
+        assertTrue(this.scheduler.hasFailed());
+        assertEquals(2, this.scheduler.getSyncedCount());
+        assertEquals(4, this.failed.size());
+        assertEquals(0, this.running);
+        assertFalse(this.started.contains("User"));
+        assertFalse(this.started.contains("BookList"));
+        assertFalse(this.started.contains("Review"));
+    }
+
+    @Test
+    public void testIgnoredFailure() {
+        this.scheduler.start();
+        this.scheduler.onTableFailed("User");
+
+        assertFalse(this.scheduler.hasFailed());
+        assertEquals(SyncState.WAITING, this.scheduler.getState("User"));
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testCycle() {
+        this.scheduler.addTable("City", this.task("City"), "Review");
+        this.scheduler.start();
+    }
+
+    @Override
+    public void onTableStateChanged(String table, SyncState state) {
+        if (state == SyncState.RUNNING) {
+            this.running++;
+            this.maxRunning = Math.max(this.maxRunning, this.running);
+        } else if (state == SyncState.DONE) {
+            this.running--;
+            this.synced.add(table);
+        } else {
+            if (state == SyncState.FAILED) {
+                this.running--;
+            }
+
+            this.failed.add(table);
+        }
+    }
+
+    @Override
+    public void onSyncFinished() {
+        this.finished = true;
+    }
+
+    /**
+     * Creates a task recording the start of a table synchronization.
+     * @param table The name of the table.
+     * @return The task.
+     */
+    private Runnable task(final String table) {
+        return () -> this.started.add(table);
+    }
+}
@@ -0,0 +1,91 @@
+package com.imie.a2dev.teamculte.readeo.Utils;
+
+import com.imie.a2dev.teamculte.readeo.DBSchemas.CommonDBSchema;
+
+import org.joda.time.DateTime;
+import org.joda.time.DateTimeZone;
+import org.joda.time.format.DateTimeFormat;
+import org.joda.time.format.DateTimeFormatter;
+import org.junit.Test;
+
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * Class used to test SyncSnapshot methods.
+ */
+public class SyncSnapshotTest {
+    /**
+     * Stores the formatter of the reference dates (UTC).
+     */
+    private final DateTimeFormatter formatter = DateTimeFormat.forPattern(CommonDBSchema.DEFAULT_FORMAT)
+                                                              .withZoneUTC();
+
+    @Test
+    public void testParseMillis() {
+        String[] dates = {"1970-01-01 00:00:00", "2000-02-29 23:59:59", "2019-01-01 12:30:45", "2100-03-01 00:00:01",
+                          "1999-12-31 23:59:59"};
+
+        for (String date : dates) {
+            assertEquals(this.formatter.parseMillis(date), SyncSnapshot.parseMillis(date));
+        }
+
+        Random random = new Random(17);
+
+        for (int i = 0; i < 10000; i++) {
+            long millis = (random.nextLong() & Long.MAX_VALUE) % 4102444800000L / 1000 * 1000;
+            String date = new DateTime(millis, DateTimeZone.UTC).toString(CommonDBSchema.DEFAULT_FORMAT);
+
+            assertEquals(millis, SyncSnapshot.parseMillis(date));
+        }
+
+        assertEquals(Long.MIN_VALUE, SyncSnapshot.parseMillis(null));
+        assertEquals(Long.MIN_VALUE, SyncSnapshot.parseMillis("2019-01-01"));
+        assertEquals(Long.MIN_VALUE, SyncSnapshot.parseMillis("0000-00-00 00:00:00"));
+        assertEquals(Long.MIN_VALUE, SyncSnapshot.parseMillis("2019-13-01 00:00:00"));
+        assertEquals(Long.MIN_VALUE, SyncSnapshot.parseMillis("2019-01-01T00:00:00"));
+        assertEquals(Long.MIN_VALUE, SyncSnapshot.parseMillis("2019-01-01 0a:00:00"));
+    }
+
+    @Test
+    public void testAdd() {
+        SyncSnapshot snapshot = new SyncSnapshot(2, 1);
+        int[] key = new int[2];
+
+        for (int i = 0; i < 100; i++) {
+            key[0] = i;
+            key[1] = -i;
+            snapshot.add(key, i * 1000L);
+        }
+
+        assertEquals(2, snapshot.getWidth());
+        assertEquals(100, snapshot.size());
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, snapshot.getId(i, 0));
+            assertEquals(-i, snapshot.getId(i, 1));
+            assertEquals(i * 1000L, snapshot.getUpdate(i));
+        }
+    }
+
+    @Test
+    public void testSort() {
+        SyncSnapshot snapshot = new SyncSnapshot(2, 4);
+
+        snapshot.add(new int[]{2, 1}, 1);
+        snapshot.add(new int[]{1, 3}, 2);
+        snapshot.add(new int[]{1, 2}, 3);
+        snapshot.add(new int[]{3, 0}, 4);
+        snapshot.sort();
+
+        int[][] expectedIds = {{1, 2}, {1, 3}, {2, 1}, {3, 0}};
+        long[] expectedUpdates = {3, 2, 1, 4};
+
+        for (int i = 0; i < expectedIds.length; i++) {
+            assertEquals(expectedIds[i][0], snapshot.getId(i, 0));
+            assertEquals(expectedIds[i][1], snapshot.getId(i, 1));
+            assertEquals(expectedUpdates[i], snapshot.getUpdate(i));
+        }
+    }
+}
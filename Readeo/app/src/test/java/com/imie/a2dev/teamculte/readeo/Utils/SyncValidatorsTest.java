@@ -0,0 +1,23 @@
+package com.imie.a2dev.teamculte.readeo.Utils;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+/**
+ * Class used to test SyncValidators methods.
+ */
+public class SyncValidatorsTest {
+    /**
+     * Defines the url of the validated response.
+     */
+    private final String url = "http://localhost/cities/read.php?update_query";
+
+    @Test
+    public void testAppliesTo() {
+        assertTrue(new SyncValidators(this.url, "\"etag\"", null).appliesTo(this.url));
+        assertTrue(new SyncValidators(this.url, null, "Tue, 01 Jan 2019 00:00:00 GMT").appliesTo(this.url));
+        assertFalse(new SyncValidators(this.url, null, null).appliesTo(this.url));
+        assertFalse(new SyncValidators(this.url, "\"etag\"", null).appliesTo(this.url.replace("cities", "users")));
+    }
+}
@@ -0,0 +1,35 @@
+package com.imie.a2dev.teamculte.readeo.Utils;
+
+import com.imie.a2dev.teamculte.readeo.APIManager;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.junit.Assert.*;
+
+/**
+ * Class used to test UpdaterUtils methods.
+ */
+public class UpdaterUtilsTest {
+    /**
+     * Defines the API url of the tested entities.
+     */
+    private final String baseUrl = APIManager.API_URL + APIManager.CITIES;
+
+    @Test
+    public void testBuildBatchUrls() {
+        IdBuffer elements = new IdBuffer(1);
+
+        for (int i = 1; i <= 5; i++) {
+            elements.add(new int[]{i}, 0);
+        }
+
+        String prefix = this.baseUrl + APIManager.READ + APIManager.IDS + "=";
+
+        assertEquals(Arrays.asList(prefix + "1,2", prefix + "3,4", prefix + "5"),
+                     UpdaterUtils.buildBatchUrls(this.baseUrl, elements, 2));
+        assertEquals(Arrays.asList(prefix + "1,2,3,4,5"), UpdaterUtils.buildBatchUrls(this.baseUrl, elements, 10));
+        assertTrue(UpdaterUtils.buildBatchUrls(this.baseUrl, new IdBuffer(1), 2).isEmpty());
+    }
+}